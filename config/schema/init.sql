@@ -39,6 +39,34 @@ create table if not exists `project_job`
 );
 create unique index `upk_project_job_id` on project_job (`project_id`, `job_id`);
 create unique index `upk_job_id` on project_job (`job_id`); -- Kuscia，Job unique
+alter table project_job add column initiator_data_table_name  varchar(256) default null;   -- initiator data table name
+alter table project_job add column initiator_data_table_count varchar(16)  default null;   -- initiator data table count level
+alter table project_job add column partner_data_table_name    varchar(256) default null;   -- partner data table name
+alter table project_job add column partner_data_table_count   varchar(16)  default null;   -- partner data table count level
+alter table project_job add column recovery_enabled           tinyint(1) default '0' not null; -- partner recovery enabled
+alter table project_job add column data_table_confirmation    tinyint(1) default '0' not null; -- initiator data table confirmed
+alter table project_job add column initiator_result_receiver  tinyint(1) default '0' not null; -- initiator gets the result
+alter table project_job add column partner_result_receiver    tinyint(1) default '0' not null; -- partner gets the result
+-- copy the job list fields of existing jobs out of the config json, the table name is the path after the last '/'
+update project_job
+set initiator_data_table_name  = substr(json_extract(initiator_config, '$.inputConfig.path'),
+                                        length(rtrim(json_extract(initiator_config, '$.inputConfig.path'),
+                                                     replace(json_extract(initiator_config, '$.inputConfig.path'), '/', ''))) + 1),
+    initiator_data_table_count = json_extract(initiator_config, '$.dataTableCount'),
+    partner_data_table_name    = substr(json_extract(partner_config, '$.inputConfig.path'),
+                                        length(rtrim(json_extract(partner_config, '$.inputConfig.path'),
+                                                     replace(json_extract(partner_config, '$.inputConfig.path'), '/', ''))) + 1),
+    partner_data_table_count   = json_extract(partner_config, '$.dataTableCount'),
+    recovery_enabled           = coalesce(json_extract(partner_config, '$.recoveryConfig.enabled'), 0),
+    data_table_confirmation    = coalesce(json_extract(initiator_config, '$.dataTableConfirmation'), 0),
+    initiator_result_receiver  = coalesce(json_extract(initiator_config, '$.protocolConfig.broadcastResult'), 0) = 1
+                                 or coalesce(json_extract(initiator_config, '$.protocolConfig.role'), '') = 'ROLE_RECEIVER',
+    partner_result_receiver    = coalesce(json_extract(partner_config, '$.protocolConfig.broadcastResult'), 0) = 1
+                                 or coalesce(json_extract(partner_config, '$.protocolConfig.role'), '') = 'ROLE_RECEIVER'
+where initiator_data_table_name is null
+  and json_valid(initiator_config)
+  and json_valid(partner_config);
+create INDEX if not exists `idx_project_job_status` on project_job (`status`, `gmt_create`);
 
 create table if not exists 'user_accounts'
 (
@@ -166,6 +194,12 @@ create table if not exists 'fabric_log'
     gmt_create    datetime   default CURRENT_TIMESTAMP not null, -- create time
     gmt_modified  datetime   default CURRENT_TIMESTAMP not null  -- modified time
 );
+alter table fabric_log add column retry_count integer default '0' not null;   -- failed upload attempts
+alter table fabric_log add column next_retry_time datetime default null;      -- earliest next upload attempt
+create INDEX if not exists `idx_fabric_log_result` on fabric_log (`result`, `next_retry_time`);
+alter table fabric_log add column asset_id varchar(256) default null;         -- ledger asset id
+update fabric_log set asset_id = log_hash where asset_id is null;             -- earlier uploads used the hash as asset id
+create unique INDEX if not exists `uniq_fabric_log_asset_id` on fabric_log (`asset_id`);
 
 create table if not exists 'rsa_encryption_key'
 (
@@ -178,6 +212,40 @@ create table if not exists 'rsa_encryption_key'
     gmt_modified  datetime   default CURRENT_TIMESTAMP not null  -- modified time
 );
 
+create table if not exists 'data_table_statistics'
+(
+    id             integer primary key autoincrement,
+    node_id        varchar(64)  not null,                        -- node id
+    table_name     varchar(256) not null,                        -- data table name
+    file_path      varchar(1000) default null,                   -- data table file path
+    file_size      bigint       default null,                    -- file size in bytes
+    file_modified  bigint       default null,                    -- file last modified time in milliseconds
+    file_inode     varchar(128) default null,                    -- file key, device and inode
+    row_count      bigint       default null,                    -- exact row count
+    data_interval  varchar(16)  default null,                    -- data interval level
+    count_time     datetime     default null,                    -- the time statistics computed
+    gmt_create     datetime     default CURRENT_TIMESTAMP not null, -- create time
+    gmt_modified   datetime     default CURRENT_TIMESTAMP not null  -- modified time
+);
+create unique index `upk_statistics_node_table` on data_table_statistics (`node_id`, `table_name`);
+
+--------------------------------------------------------------------------------------------------------------------------------
+
+create table if not exists 'download_ticket'
+(
+    id             integer primary key autoincrement,
+    hash           varchar(64)  not null,                        -- ticket hash
+    path           varchar(1000) default null,                   -- result file path
+    dir            varchar(1000) default null,                   -- result base directory
+    relative_uri   varchar(1000) default null,                   -- result relative uri
+    remaining_uses integer      default null,                    -- remaining uses, null means unlimited until expired
+    expire_at      bigint       not null,                        -- expiration time in milliseconds
+    gmt_create     datetime     default CURRENT_TIMESTAMP not null, -- create time
+    gmt_modified   datetime     default CURRENT_TIMESTAMP not null  -- modified time
+);
+create unique index `upk_download_ticket_hash` on download_ticket (`hash`);
+create index `key_download_ticket_expire` on download_ticket (`expire_at`);
+
 --------------------------------------------------------------------------------------------------------------------------------
 
 -- resource
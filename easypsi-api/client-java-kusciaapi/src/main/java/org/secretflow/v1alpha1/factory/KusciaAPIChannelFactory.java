@@ -37,6 +37,7 @@ import java.io.IOException;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import static org.secretflow.easypsi.common.constant.KusciaConstants.KUSCIA_PROTOCOL_NOTLS;
 import static org.secretflow.easypsi.common.constant.KusciaConstants.KUSCIA_PROTOCOL_TLS;
@@ -72,30 +73,58 @@ public class KusciaAPIChannelFactory {
         this.protocol = protocol;
     }
 
+    /**
+     * Token interceptor and ssl context, built once and shared by every channel
+     */
+    private volatile ClientInterceptor tokenInterceptor;
+    private volatile SslContext sslContext;
+
     /**
      * Create a new client channel
      *
      * @return a new client
      */
     public ManagedChannel newClientChannel() {
+        return newClientChannel(builder -> {
+        });
+    }
+
+    /**
+     * Create a new client channel, the customizer may tune the builder e.g. with keepalive and interceptors
+     *
+     * @param customizer builder customizer
+     * @return a new client
+     */
+    public ManagedChannel newClientChannel(Consumer<NettyChannelBuilder> customizer) {
+        NettyChannelBuilder builder = NettyChannelBuilder.forTarget(address)
+                .maxRetryAttempts(5)
+                .maxInboundMessageSize(MAX_INBOUND_MESSAGE_SIZE)
+                .withOption(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) TimeUnit.SECONDS.toMillis(10));
+        //notls
+        if (KUSCIA_PROTOCOL_NOTLS.equals(protocol) || ObjectUtils.isEmpty(protocol)) {
+            builder.negotiationType(NegotiationType.PLAINTEXT);
+        } else {
+            //tls and mtls
+            initTls();
+            builder.intercept(tokenInterceptor)
+                    .negotiationType(NegotiationType.TLS)
+                    .sslContext(sslContext);
+        }
+        customizer.accept(builder);
+        return builder.build();
+    }
+
+    private synchronized void initTls() {
+        if (sslContext != null) {
+            return;
+        }
         // load client certs
         try {
-            //notls
-            if (KUSCIA_PROTOCOL_NOTLS.equals(protocol) || ObjectUtils.isEmpty(protocol)) {
-                return NettyChannelBuilder.forTarget(address)
-                        .maxRetryAttempts(5)
-                        .negotiationType(NegotiationType.PLAINTEXT)
-                        .maxInboundMessageSize(MAX_INBOUND_MESSAGE_SIZE)
-                        .withOption(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) TimeUnit.SECONDS.toMillis(10))
-                        .build();
-            }
-
             String token = FileUtils.readFile2String(tokenFile);
 
             Metadata metadata = new Metadata();
             Metadata.Key<String> key = Metadata.Key.of(KusciaAPIConstants.TOKEN_HEADER, Metadata.ASCII_STRING_MARSHALLER);
             metadata.put(key, token);
-            ClientInterceptor tokenInterceptor = MetadataUtils.newAttachHeadersInterceptor(metadata);
             // init ssl context
             SslContextBuilder clientContextBuilder = SslContextBuilder.forClient();
             GrpcSslContexts.configure(clientContextBuilder, SslProvider.OPENSSL);
@@ -103,36 +132,15 @@ public class KusciaAPIChannelFactory {
             X509Certificate[] clientTrustedCaCerts = {CertUtils.loadX509Cert(tlsConfig.getCaFile())};
             //tls
             if (KUSCIA_PROTOCOL_TLS.equals(protocol)) {
-                SslContext sslContext = clientContextBuilder
-                        .trustManager(clientTrustedCaCerts)
-                        .build();
-                return NettyChannelBuilder.forTarget(address)
-                        .maxRetryAttempts(5)
-                        .intercept(tokenInterceptor)
-                        .negotiationType(NegotiationType.TLS)
-                        .sslContext(sslContext)
-                        .maxInboundMessageSize(MAX_INBOUND_MESSAGE_SIZE)
-                        .withOption(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) TimeUnit.SECONDS.toMillis(10))
-                        .build();
+                clientContextBuilder.trustManager(clientTrustedCaCerts);
+            } else {
+                //mtls
+                File certFile = FileUtils.readFile(tlsConfig.getCertFile());
+                File keyFile = FileUtils.readFile(tlsConfig.getKeyFile());
+                clientContextBuilder.keyManager(certFile, keyFile).trustManager(clientTrustedCaCerts);
             }
-
-            //mtls
-            File certFile = FileUtils.readFile(tlsConfig.getCertFile());
-            File keyFile = FileUtils.readFile(tlsConfig.getKeyFile());
-            SslContext sslContext = clientContextBuilder
-                    .keyManager(certFile, keyFile)
-                    .trustManager(clientTrustedCaCerts)
-                    .build();
-
-            // new client channel
-            return NettyChannelBuilder.forTarget(address)
-                    .maxRetryAttempts(5)
-                    .intercept(tokenInterceptor)
-                    .negotiationType(NegotiationType.TLS)
-                    .sslContext(sslContext)
-                    .maxInboundMessageSize(MAX_INBOUND_MESSAGE_SIZE)
-                    .withOption(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) TimeUnit.SECONDS.toMillis(10))
-                    .build();
+            tokenInterceptor = MetadataUtils.newAttachHeadersInterceptor(metadata);
+            sslContext = clientContextBuilder.build();
         } catch (CertificateException | IOException e) {
             throw new RuntimeException(e);
         }
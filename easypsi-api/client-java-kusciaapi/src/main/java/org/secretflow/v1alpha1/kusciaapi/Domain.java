@@ -0,0 +1,14973 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: kuscia/proto/api/v1alpha1/kusciaapi/domain.proto
+
+package org.secretflow.v1alpha1.kusciaapi;
+
+public final class Domain {
+  private Domain() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface CreateDomainRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    boolean hasHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeader getHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder();
+
+    /**
+     * <code>string domain_id = 2;</code>
+     * @return The domainId.
+     */
+    java.lang.String getDomainId();
+    /**
+     * <code>string domain_id = 2;</code>
+     * @return The bytes for domainId.
+     */
+    com.google.protobuf.ByteString
+        getDomainIdBytes();
+
+    /**
+     * <code>string role = 3;</code>
+     * @return The role.
+     */
+    java.lang.String getRole();
+    /**
+     * <code>string role = 3;</code>
+     * @return The bytes for role.
+     */
+    com.google.protobuf.ByteString
+        getRoleBytes();
+
+    /**
+     * <code>string cert = 4;</code>
+     * @return The cert.
+     */
+    java.lang.String getCert();
+    /**
+     * <code>string cert = 4;</code>
+     * @return The bytes for cert.
+     */
+    com.google.protobuf.ByteString
+        getCertBytes();
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 5;</code>
+     * @return Whether the authCenter field is set.
+     */
+    boolean hasAuthCenter();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 5;</code>
+     * @return The authCenter.
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter getAuthCenter();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 5;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenterOrBuilder getAuthCenterOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRequest}
+   */
+  public static final class CreateDomainRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRequest)
+      CreateDomainRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use CreateDomainRequest.newBuilder() to construct.
+    private CreateDomainRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CreateDomainRequest() {
+      domainId_ = "";
+      role_ = "";
+      cert_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new CreateDomainRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest.class, org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest.Builder.class);
+    }
+
+    public static final int HEADER_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    @java.lang.Override
+    public boolean hasHeader() {
+      return header_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+
+    public static final int DOMAIN_ID_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object domainId_ = "";
+    /**
+     * <code>string domain_id = 2;</code>
+     * @return The domainId.
+     */
+    @java.lang.Override
+    public java.lang.String getDomainId() {
+      java.lang.Object ref = domainId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        domainId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string domain_id = 2;</code>
+     * @return The bytes for domainId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDomainIdBytes() {
+      java.lang.Object ref = domainId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        domainId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ROLE_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object role_ = "";
+    /**
+     * <code>string role = 3;</code>
+     * @return The role.
+     */
+    @java.lang.Override
+    public java.lang.String getRole() {
+      java.lang.Object ref = role_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        role_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string role = 3;</code>
+     * @return The bytes for role.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getRoleBytes() {
+      java.lang.Object ref = role_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        role_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CERT_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object cert_ = "";
+    /**
+     * <code>string cert = 4;</code>
+     * @return The cert.
+     */
+    @java.lang.Override
+    public java.lang.String getCert() {
+      java.lang.Object ref = cert_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        cert_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string cert = 4;</code>
+     * @return The bytes for cert.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getCertBytes() {
+      java.lang.Object ref = cert_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        cert_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int AUTH_CENTER_FIELD_NUMBER = 5;
+    private org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter authCenter_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 5;</code>
+     * @return Whether the authCenter field is set.
+     */
+    @java.lang.Override
+    public boolean hasAuthCenter() {
+      return authCenter_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 5;</code>
+     * @return The authCenter.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter getAuthCenter() {
+      return authCenter_ == null ? org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.getDefaultInstance() : authCenter_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 5;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenterOrBuilder getAuthCenterOrBuilder() {
+      return authCenter_ == null ? org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.getDefaultInstance() : authCenter_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (header_ != null) {
+        output.writeMessage(1, getHeader());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domainId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, domainId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(role_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, role_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(cert_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, cert_);
+      }
+      if (authCenter_ != null) {
+        output.writeMessage(5, getAuthCenter());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (header_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getHeader());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domainId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, domainId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(role_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, role_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(cert_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, cert_);
+      }
+      if (authCenter_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, getAuthCenter());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest other = (org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest) obj;
+
+      if (hasHeader() != other.hasHeader()) return false;
+      if (hasHeader()) {
+        if (!getHeader()
+            .equals(other.getHeader())) return false;
+      }
+      if (!getDomainId()
+          .equals(other.getDomainId())) return false;
+      if (!getRole()
+          .equals(other.getRole())) return false;
+      if (!getCert()
+          .equals(other.getCert())) return false;
+      if (hasAuthCenter() != other.hasAuthCenter()) return false;
+      if (hasAuthCenter()) {
+        if (!getAuthCenter()
+            .equals(other.getAuthCenter())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasHeader()) {
+        hash = (37 * hash) + HEADER_FIELD_NUMBER;
+        hash = (53 * hash) + getHeader().hashCode();
+      }
+      hash = (37 * hash) + DOMAIN_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getDomainId().hashCode();
+      hash = (37 * hash) + ROLE_FIELD_NUMBER;
+      hash = (53 * hash) + getRole().hashCode();
+      hash = (37 * hash) + CERT_FIELD_NUMBER;
+      hash = (53 * hash) + getCert().hashCode();
+      if (hasAuthCenter()) {
+        hash = (37 * hash) + AUTH_CENTER_FIELD_NUMBER;
+        hash = (53 * hash) + getAuthCenter().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRequest)
+        org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest.class, org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        domainId_ = "";
+        role_ = "";
+        cert_ = "";
+        authCenter_ = null;
+        if (authCenterBuilder_ != null) {
+          authCenterBuilder_.dispose();
+          authCenterBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest build() {
+        org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest result = new org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.header_ = headerBuilder_ == null
+              ? header_
+              : headerBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.domainId_ = domainId_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.role_ = role_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.cert_ = cert_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.authCenter_ = authCenterBuilder_ == null
+              ? authCenter_
+              : authCenterBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest.getDefaultInstance()) return this;
+        if (other.hasHeader()) {
+          mergeHeader(other.getHeader());
+        }
+        if (!other.getDomainId().isEmpty()) {
+          domainId_ = other.domainId_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getRole().isEmpty()) {
+          role_ = other.role_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (!other.getCert().isEmpty()) {
+          cert_ = other.cert_;
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        if (other.hasAuthCenter()) {
+          mergeAuthCenter(other.getAuthCenter());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getHeaderFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                domainId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                role_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                cert_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 42: {
+                input.readMessage(
+                    getAuthCenterFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 42
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> headerBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return Whether the header field is set.
+       */
+      public boolean hasHeader() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return The header.
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+        if (headerBuilder_ == null) {
+          return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        } else {
+          return headerBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          header_ = value;
+        } else {
+          headerBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(
+          org.secretflow.v1alpha1.common.Common.RequestHeader.Builder builderForValue) {
+        if (headerBuilder_ == null) {
+          header_ = builderForValue.build();
+        } else {
+          headerBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder mergeHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            header_ != null &&
+            header_ != org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance()) {
+            getHeaderBuilder().mergeFrom(value);
+          } else {
+            header_ = value;
+          }
+        } else {
+          headerBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder clearHeader() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader.Builder getHeaderBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getHeaderFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+        if (headerBuilder_ != null) {
+          return headerBuilder_.getMessageOrBuilder();
+        } else {
+          return header_ == null ?
+              org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> 
+          getHeaderFieldBuilder() {
+        if (headerBuilder_ == null) {
+          headerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder>(
+                  getHeader(),
+                  getParentForChildren(),
+                  isClean());
+          header_ = null;
+        }
+        return headerBuilder_;
+      }
+
+      private java.lang.Object domainId_ = "";
+      /**
+       * <code>string domain_id = 2;</code>
+       * @return The domainId.
+       */
+      public java.lang.String getDomainId() {
+        java.lang.Object ref = domainId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          domainId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string domain_id = 2;</code>
+       * @return The bytes for domainId.
+       */
+      public com.google.protobuf.ByteString
+          getDomainIdBytes() {
+        java.lang.Object ref = domainId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          domainId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string domain_id = 2;</code>
+       * @param value The domainId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomainId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        domainId_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string domain_id = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDomainId() {
+        domainId_ = getDefaultInstance().getDomainId();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string domain_id = 2;</code>
+       * @param value The bytes for domainId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomainIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        domainId_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object role_ = "";
+      /**
+       * <code>string role = 3;</code>
+       * @return The role.
+       */
+      public java.lang.String getRole() {
+        java.lang.Object ref = role_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          role_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string role = 3;</code>
+       * @return The bytes for role.
+       */
+      public com.google.protobuf.ByteString
+          getRoleBytes() {
+        java.lang.Object ref = role_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          role_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string role = 3;</code>
+       * @param value The role to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRole(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        role_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string role = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRole() {
+        role_ = getDefaultInstance().getRole();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string role = 3;</code>
+       * @param value The bytes for role to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRoleBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        role_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object cert_ = "";
+      /**
+       * <code>string cert = 4;</code>
+       * @return The cert.
+       */
+      public java.lang.String getCert() {
+        java.lang.Object ref = cert_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          cert_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string cert = 4;</code>
+       * @return The bytes for cert.
+       */
+      public com.google.protobuf.ByteString
+          getCertBytes() {
+        java.lang.Object ref = cert_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          cert_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string cert = 4;</code>
+       * @param value The cert to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCert(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        cert_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string cert = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCert() {
+        cert_ = getDefaultInstance().getCert();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string cert = 4;</code>
+       * @param value The bytes for cert to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCertBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        cert_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+
+      private org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter authCenter_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter, org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.Builder, org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenterOrBuilder> authCenterBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 5;</code>
+       * @return Whether the authCenter field is set.
+       */
+      public boolean hasAuthCenter() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 5;</code>
+       * @return The authCenter.
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter getAuthCenter() {
+        if (authCenterBuilder_ == null) {
+          return authCenter_ == null ? org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.getDefaultInstance() : authCenter_;
+        } else {
+          return authCenterBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 5;</code>
+       */
+      public Builder setAuthCenter(org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter value) {
+        if (authCenterBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          authCenter_ = value;
+        } else {
+          authCenterBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 5;</code>
+       */
+      public Builder setAuthCenter(
+          org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.Builder builderForValue) {
+        if (authCenterBuilder_ == null) {
+          authCenter_ = builderForValue.build();
+        } else {
+          authCenterBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 5;</code>
+       */
+      public Builder mergeAuthCenter(org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter value) {
+        if (authCenterBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) != 0) &&
+            authCenter_ != null &&
+            authCenter_ != org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.getDefaultInstance()) {
+            getAuthCenterBuilder().mergeFrom(value);
+          } else {
+            authCenter_ = value;
+          }
+        } else {
+          authCenterBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 5;</code>
+       */
+      public Builder clearAuthCenter() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        authCenter_ = null;
+        if (authCenterBuilder_ != null) {
+          authCenterBuilder_.dispose();
+          authCenterBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 5;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.Builder getAuthCenterBuilder() {
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return getAuthCenterFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 5;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenterOrBuilder getAuthCenterOrBuilder() {
+        if (authCenterBuilder_ != null) {
+          return authCenterBuilder_.getMessageOrBuilder();
+        } else {
+          return authCenter_ == null ?
+              org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.getDefaultInstance() : authCenter_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 5;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter, org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.Builder, org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenterOrBuilder> 
+          getAuthCenterFieldBuilder() {
+        if (authCenterBuilder_ == null) {
+          authCenterBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter, org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.Builder, org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenterOrBuilder>(
+                  getAuthCenter(),
+                  getParentForChildren(),
+                  isClean());
+          authCenter_ = null;
+        }
+        return authCenterBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRequest)
+    private static final org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CreateDomainRequest>
+        PARSER = new com.google.protobuf.AbstractParser<CreateDomainRequest>() {
+      @java.lang.Override
+      public CreateDomainRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CreateDomainRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CreateDomainRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CreateDomainResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    boolean hasStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    org.secretflow.v1alpha1.common.Common.Status getStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainResponse}
+   */
+  public static final class CreateDomainResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainResponse)
+      CreateDomainResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use CreateDomainResponse.newBuilder() to construct.
+    private CreateDomainResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CreateDomainResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new CreateDomainResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse.class, org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse.Builder.class);
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.Status status_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    @java.lang.Override
+    public boolean hasStatus() {
+      return status_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (status_ != null) {
+        output.writeMessage(1, getStatus());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (status_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getStatus());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse other = (org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse) obj;
+
+      if (hasStatus() != other.hasStatus()) return false;
+      if (hasStatus()) {
+        if (!getStatus()
+            .equals(other.getStatus())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasStatus()) {
+        hash = (37 * hash) + STATUS_FIELD_NUMBER;
+        hash = (53 * hash) + getStatus().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainResponse)
+        org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse.class, org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse build() {
+        org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse result = new org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.status_ = statusBuilder_ == null
+              ? status_
+              : statusBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse.getDefaultInstance()) return this;
+        if (other.hasStatus()) {
+          mergeStatus(other.getStatus());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getStatusFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.Status status_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> statusBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return Whether the status field is set.
+       */
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return The status.
+       */
+      public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+        if (statusBuilder_ == null) {
+          return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        } else {
+          return statusBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          status_ = value;
+        } else {
+          statusBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(
+          org.secretflow.v1alpha1.common.Common.Status.Builder builderForValue) {
+        if (statusBuilder_ == null) {
+          status_ = builderForValue.build();
+        } else {
+          statusBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder mergeStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            status_ != null &&
+            status_ != org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance()) {
+            getStatusBuilder().mergeFrom(value);
+          } else {
+            status_ = value;
+          }
+        } else {
+          statusBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.Status.Builder getStatusBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getStatusFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+        if (statusBuilder_ != null) {
+          return statusBuilder_.getMessageOrBuilder();
+        } else {
+          return status_ == null ?
+              org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> 
+          getStatusFieldBuilder() {
+        if (statusBuilder_ == null) {
+          statusBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder>(
+                  getStatus(),
+                  getParentForChildren(),
+                  isClean());
+          status_ = null;
+        }
+        return statusBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainResponse)
+    private static final org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CreateDomainResponse>
+        PARSER = new com.google.protobuf.AbstractParser<CreateDomainResponse>() {
+      @java.lang.Override
+      public CreateDomainResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CreateDomainResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CreateDomainResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.CreateDomainResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DeleteDomainRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    boolean hasHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeader getHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder();
+
+    /**
+     * <code>string domain_id = 2;</code>
+     * @return The domainId.
+     */
+    java.lang.String getDomainId();
+    /**
+     * <code>string domain_id = 2;</code>
+     * @return The bytes for domainId.
+     */
+    com.google.protobuf.ByteString
+        getDomainIdBytes();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainRequest}
+   */
+  public static final class DeleteDomainRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainRequest)
+      DeleteDomainRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use DeleteDomainRequest.newBuilder() to construct.
+    private DeleteDomainRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DeleteDomainRequest() {
+      domainId_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new DeleteDomainRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest.class, org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest.Builder.class);
+    }
+
+    public static final int HEADER_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    @java.lang.Override
+    public boolean hasHeader() {
+      return header_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+
+    public static final int DOMAIN_ID_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object domainId_ = "";
+    /**
+     * <code>string domain_id = 2;</code>
+     * @return The domainId.
+     */
+    @java.lang.Override
+    public java.lang.String getDomainId() {
+      java.lang.Object ref = domainId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        domainId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string domain_id = 2;</code>
+     * @return The bytes for domainId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDomainIdBytes() {
+      java.lang.Object ref = domainId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        domainId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (header_ != null) {
+        output.writeMessage(1, getHeader());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domainId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, domainId_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (header_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getHeader());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domainId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, domainId_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest other = (org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest) obj;
+
+      if (hasHeader() != other.hasHeader()) return false;
+      if (hasHeader()) {
+        if (!getHeader()
+            .equals(other.getHeader())) return false;
+      }
+      if (!getDomainId()
+          .equals(other.getDomainId())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasHeader()) {
+        hash = (37 * hash) + HEADER_FIELD_NUMBER;
+        hash = (53 * hash) + getHeader().hashCode();
+      }
+      hash = (37 * hash) + DOMAIN_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getDomainId().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainRequest)
+        org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest.class, org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        domainId_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest build() {
+        org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest result = new org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.header_ = headerBuilder_ == null
+              ? header_
+              : headerBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.domainId_ = domainId_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest.getDefaultInstance()) return this;
+        if (other.hasHeader()) {
+          mergeHeader(other.getHeader());
+        }
+        if (!other.getDomainId().isEmpty()) {
+          domainId_ = other.domainId_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getHeaderFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                domainId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> headerBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return Whether the header field is set.
+       */
+      public boolean hasHeader() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return The header.
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+        if (headerBuilder_ == null) {
+          return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        } else {
+          return headerBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          header_ = value;
+        } else {
+          headerBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(
+          org.secretflow.v1alpha1.common.Common.RequestHeader.Builder builderForValue) {
+        if (headerBuilder_ == null) {
+          header_ = builderForValue.build();
+        } else {
+          headerBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder mergeHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            header_ != null &&
+            header_ != org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance()) {
+            getHeaderBuilder().mergeFrom(value);
+          } else {
+            header_ = value;
+          }
+        } else {
+          headerBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder clearHeader() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader.Builder getHeaderBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getHeaderFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+        if (headerBuilder_ != null) {
+          return headerBuilder_.getMessageOrBuilder();
+        } else {
+          return header_ == null ?
+              org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> 
+          getHeaderFieldBuilder() {
+        if (headerBuilder_ == null) {
+          headerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder>(
+                  getHeader(),
+                  getParentForChildren(),
+                  isClean());
+          header_ = null;
+        }
+        return headerBuilder_;
+      }
+
+      private java.lang.Object domainId_ = "";
+      /**
+       * <code>string domain_id = 2;</code>
+       * @return The domainId.
+       */
+      public java.lang.String getDomainId() {
+        java.lang.Object ref = domainId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          domainId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string domain_id = 2;</code>
+       * @return The bytes for domainId.
+       */
+      public com.google.protobuf.ByteString
+          getDomainIdBytes() {
+        java.lang.Object ref = domainId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          domainId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string domain_id = 2;</code>
+       * @param value The domainId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomainId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        domainId_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string domain_id = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDomainId() {
+        domainId_ = getDefaultInstance().getDomainId();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string domain_id = 2;</code>
+       * @param value The bytes for domainId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomainIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        domainId_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainRequest)
+    private static final org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DeleteDomainRequest>
+        PARSER = new com.google.protobuf.AbstractParser<DeleteDomainRequest>() {
+      @java.lang.Override
+      public DeleteDomainRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<DeleteDomainRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DeleteDomainRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DeleteDomainResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    boolean hasStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    org.secretflow.v1alpha1.common.Common.Status getStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainResponse}
+   */
+  public static final class DeleteDomainResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainResponse)
+      DeleteDomainResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use DeleteDomainResponse.newBuilder() to construct.
+    private DeleteDomainResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DeleteDomainResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new DeleteDomainResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse.class, org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse.Builder.class);
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.Status status_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    @java.lang.Override
+    public boolean hasStatus() {
+      return status_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (status_ != null) {
+        output.writeMessage(1, getStatus());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (status_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getStatus());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse other = (org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse) obj;
+
+      if (hasStatus() != other.hasStatus()) return false;
+      if (hasStatus()) {
+        if (!getStatus()
+            .equals(other.getStatus())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasStatus()) {
+        hash = (37 * hash) + STATUS_FIELD_NUMBER;
+        hash = (53 * hash) + getStatus().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainResponse)
+        org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse.class, org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse build() {
+        org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse result = new org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.status_ = statusBuilder_ == null
+              ? status_
+              : statusBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse.getDefaultInstance()) return this;
+        if (other.hasStatus()) {
+          mergeStatus(other.getStatus());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getStatusFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.Status status_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> statusBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return Whether the status field is set.
+       */
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return The status.
+       */
+      public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+        if (statusBuilder_ == null) {
+          return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        } else {
+          return statusBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          status_ = value;
+        } else {
+          statusBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(
+          org.secretflow.v1alpha1.common.Common.Status.Builder builderForValue) {
+        if (statusBuilder_ == null) {
+          status_ = builderForValue.build();
+        } else {
+          statusBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder mergeStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            status_ != null &&
+            status_ != org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance()) {
+            getStatusBuilder().mergeFrom(value);
+          } else {
+            status_ = value;
+          }
+        } else {
+          statusBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.Status.Builder getStatusBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getStatusFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+        if (statusBuilder_ != null) {
+          return statusBuilder_.getMessageOrBuilder();
+        } else {
+          return status_ == null ?
+              org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> 
+          getStatusFieldBuilder() {
+        if (statusBuilder_ == null) {
+          statusBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder>(
+                  getStatus(),
+                  getParentForChildren(),
+                  isClean());
+          status_ = null;
+        }
+        return statusBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainResponse)
+    private static final org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DeleteDomainResponse>
+        PARSER = new com.google.protobuf.AbstractParser<DeleteDomainResponse>() {
+      @java.lang.Override
+      public DeleteDomainResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<DeleteDomainResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DeleteDomainResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.DeleteDomainResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface QueryDomainRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    boolean hasHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeader getHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder();
+
+    /**
+     * <code>string domain_id = 2;</code>
+     * @return The domainId.
+     */
+    java.lang.String getDomainId();
+    /**
+     * <code>string domain_id = 2;</code>
+     * @return The bytes for domainId.
+     */
+    com.google.protobuf.ByteString
+        getDomainIdBytes();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRequest}
+   */
+  public static final class QueryDomainRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRequest)
+      QueryDomainRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use QueryDomainRequest.newBuilder() to construct.
+    private QueryDomainRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private QueryDomainRequest() {
+      domainId_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new QueryDomainRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest.class, org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest.Builder.class);
+    }
+
+    public static final int HEADER_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    @java.lang.Override
+    public boolean hasHeader() {
+      return header_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+
+    public static final int DOMAIN_ID_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object domainId_ = "";
+    /**
+     * <code>string domain_id = 2;</code>
+     * @return The domainId.
+     */
+    @java.lang.Override
+    public java.lang.String getDomainId() {
+      java.lang.Object ref = domainId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        domainId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string domain_id = 2;</code>
+     * @return The bytes for domainId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDomainIdBytes() {
+      java.lang.Object ref = domainId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        domainId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (header_ != null) {
+        output.writeMessage(1, getHeader());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domainId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, domainId_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (header_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getHeader());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domainId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, domainId_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest other = (org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest) obj;
+
+      if (hasHeader() != other.hasHeader()) return false;
+      if (hasHeader()) {
+        if (!getHeader()
+            .equals(other.getHeader())) return false;
+      }
+      if (!getDomainId()
+          .equals(other.getDomainId())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasHeader()) {
+        hash = (37 * hash) + HEADER_FIELD_NUMBER;
+        hash = (53 * hash) + getHeader().hashCode();
+      }
+      hash = (37 * hash) + DOMAIN_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getDomainId().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRequest)
+        org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest.class, org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        domainId_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest build() {
+        org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest result = new org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.header_ = headerBuilder_ == null
+              ? header_
+              : headerBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.domainId_ = domainId_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest.getDefaultInstance()) return this;
+        if (other.hasHeader()) {
+          mergeHeader(other.getHeader());
+        }
+        if (!other.getDomainId().isEmpty()) {
+          domainId_ = other.domainId_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getHeaderFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                domainId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> headerBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return Whether the header field is set.
+       */
+      public boolean hasHeader() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return The header.
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+        if (headerBuilder_ == null) {
+          return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        } else {
+          return headerBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          header_ = value;
+        } else {
+          headerBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(
+          org.secretflow.v1alpha1.common.Common.RequestHeader.Builder builderForValue) {
+        if (headerBuilder_ == null) {
+          header_ = builderForValue.build();
+        } else {
+          headerBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder mergeHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            header_ != null &&
+            header_ != org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance()) {
+            getHeaderBuilder().mergeFrom(value);
+          } else {
+            header_ = value;
+          }
+        } else {
+          headerBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder clearHeader() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader.Builder getHeaderBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getHeaderFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+        if (headerBuilder_ != null) {
+          return headerBuilder_.getMessageOrBuilder();
+        } else {
+          return header_ == null ?
+              org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> 
+          getHeaderFieldBuilder() {
+        if (headerBuilder_ == null) {
+          headerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder>(
+                  getHeader(),
+                  getParentForChildren(),
+                  isClean());
+          header_ = null;
+        }
+        return headerBuilder_;
+      }
+
+      private java.lang.Object domainId_ = "";
+      /**
+       * <code>string domain_id = 2;</code>
+       * @return The domainId.
+       */
+      public java.lang.String getDomainId() {
+        java.lang.Object ref = domainId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          domainId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string domain_id = 2;</code>
+       * @return The bytes for domainId.
+       */
+      public com.google.protobuf.ByteString
+          getDomainIdBytes() {
+        java.lang.Object ref = domainId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          domainId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string domain_id = 2;</code>
+       * @param value The domainId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomainId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        domainId_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string domain_id = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDomainId() {
+        domainId_ = getDefaultInstance().getDomainId();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string domain_id = 2;</code>
+       * @param value The bytes for domainId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomainIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        domainId_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRequest)
+    private static final org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<QueryDomainRequest>
+        PARSER = new com.google.protobuf.AbstractParser<QueryDomainRequest>() {
+      @java.lang.Override
+      public QueryDomainRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<QueryDomainRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<QueryDomainRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface QueryDomainResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    boolean hasStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    org.secretflow.v1alpha1.common.Common.Status getStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder();
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainResponseData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    boolean hasData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainResponseData data = 2;</code>
+     * @return The data.
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData getData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainResponseData data = 2;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseDataOrBuilder getDataOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainResponse}
+   */
+  public static final class QueryDomainResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainResponse)
+      QueryDomainResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use QueryDomainResponse.newBuilder() to construct.
+    private QueryDomainResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private QueryDomainResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new QueryDomainResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse.class, org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse.Builder.class);
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.Status status_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    @java.lang.Override
+    public boolean hasStatus() {
+      return status_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+
+    public static final int DATA_FIELD_NUMBER = 2;
+    private org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData data_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainResponseData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    @java.lang.Override
+    public boolean hasData() {
+      return data_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainResponseData data = 2;</code>
+     * @return The data.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData getData() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData.getDefaultInstance() : data_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainResponseData data = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseDataOrBuilder getDataOrBuilder() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData.getDefaultInstance() : data_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (status_ != null) {
+        output.writeMessage(1, getStatus());
+      }
+      if (data_ != null) {
+        output.writeMessage(2, getData());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (status_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getStatus());
+      }
+      if (data_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getData());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse other = (org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse) obj;
+
+      if (hasStatus() != other.hasStatus()) return false;
+      if (hasStatus()) {
+        if (!getStatus()
+            .equals(other.getStatus())) return false;
+      }
+      if (hasData() != other.hasData()) return false;
+      if (hasData()) {
+        if (!getData()
+            .equals(other.getData())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasStatus()) {
+        hash = (37 * hash) + STATUS_FIELD_NUMBER;
+        hash = (53 * hash) + getStatus().hashCode();
+      }
+      if (hasData()) {
+        hash = (37 * hash) + DATA_FIELD_NUMBER;
+        hash = (53 * hash) + getData().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainResponse)
+        org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse.class, org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse build() {
+        org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse result = new org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.status_ = statusBuilder_ == null
+              ? status_
+              : statusBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.data_ = dataBuilder_ == null
+              ? data_
+              : dataBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse.getDefaultInstance()) return this;
+        if (other.hasStatus()) {
+          mergeStatus(other.getStatus());
+        }
+        if (other.hasData()) {
+          mergeData(other.getData());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getStatusFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getDataFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.Status status_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> statusBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return Whether the status field is set.
+       */
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return The status.
+       */
+      public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+        if (statusBuilder_ == null) {
+          return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        } else {
+          return statusBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          status_ = value;
+        } else {
+          statusBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(
+          org.secretflow.v1alpha1.common.Common.Status.Builder builderForValue) {
+        if (statusBuilder_ == null) {
+          status_ = builderForValue.build();
+        } else {
+          statusBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder mergeStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            status_ != null &&
+            status_ != org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance()) {
+            getStatusBuilder().mergeFrom(value);
+          } else {
+            status_ = value;
+          }
+        } else {
+          statusBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.Status.Builder getStatusBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getStatusFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+        if (statusBuilder_ != null) {
+          return statusBuilder_.getMessageOrBuilder();
+        } else {
+          return status_ == null ?
+              org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> 
+          getStatusFieldBuilder() {
+        if (statusBuilder_ == null) {
+          statusBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder>(
+                  getStatus(),
+                  getParentForChildren(),
+                  isClean());
+          status_ = null;
+        }
+        return statusBuilder_;
+      }
+
+      private org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData data_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData, org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseDataOrBuilder> dataBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainResponseData data = 2;</code>
+       * @return Whether the data field is set.
+       */
+      public boolean hasData() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainResponseData data = 2;</code>
+       * @return The data.
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData getData() {
+        if (dataBuilder_ == null) {
+          return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData.getDefaultInstance() : data_;
+        } else {
+          return dataBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainResponseData data = 2;</code>
+       */
+      public Builder setData(org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData value) {
+        if (dataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          data_ = value;
+        } else {
+          dataBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainResponseData data = 2;</code>
+       */
+      public Builder setData(
+          org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData.Builder builderForValue) {
+        if (dataBuilder_ == null) {
+          data_ = builderForValue.build();
+        } else {
+          dataBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainResponseData data = 2;</code>
+       */
+      public Builder mergeData(org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData value) {
+        if (dataBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            data_ != null &&
+            data_ != org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData.getDefaultInstance()) {
+            getDataBuilder().mergeFrom(value);
+          } else {
+            data_ = value;
+          }
+        } else {
+          dataBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainResponseData data = 2;</code>
+       */
+      public Builder clearData() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainResponseData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData.Builder getDataBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getDataFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainResponseData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseDataOrBuilder getDataOrBuilder() {
+        if (dataBuilder_ != null) {
+          return dataBuilder_.getMessageOrBuilder();
+        } else {
+          return data_ == null ?
+              org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData.getDefaultInstance() : data_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainResponseData data = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData, org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseDataOrBuilder> 
+          getDataFieldBuilder() {
+        if (dataBuilder_ == null) {
+          dataBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData, org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseDataOrBuilder>(
+                  getData(),
+                  getParentForChildren(),
+                  isClean());
+          data_ = null;
+        }
+        return dataBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainResponse)
+    private static final org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<QueryDomainResponse>
+        PARSER = new com.google.protobuf.AbstractParser<QueryDomainResponse>() {
+      @java.lang.Override
+      public QueryDomainResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<QueryDomainResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<QueryDomainResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface QueryDomainResponseDataOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainResponseData)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string domain_id = 1;</code>
+     * @return The domainId.
+     */
+    java.lang.String getDomainId();
+    /**
+     * <code>string domain_id = 1;</code>
+     * @return The bytes for domainId.
+     */
+    com.google.protobuf.ByteString
+        getDomainIdBytes();
+
+    /**
+     * <code>string role = 2;</code>
+     * @return The role.
+     */
+    java.lang.String getRole();
+    /**
+     * <code>string role = 2;</code>
+     * @return The bytes for role.
+     */
+    com.google.protobuf.ByteString
+        getRoleBytes();
+
+    /**
+     * <code>string cert = 3;</code>
+     * @return The cert.
+     */
+    java.lang.String getCert();
+    /**
+     * <code>string cert = 3;</code>
+     * @return The bytes for cert.
+     */
+    com.google.protobuf.ByteString
+        getCertBytes();
+
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 4;</code>
+     */
+    java.util.List<org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus> 
+        getNodeStatusesList();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 4;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus getNodeStatuses(int index);
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 4;</code>
+     */
+    int getNodeStatusesCount();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 4;</code>
+     */
+    java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatusOrBuilder> 
+        getNodeStatusesOrBuilderList();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 4;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatusOrBuilder getNodeStatusesOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 5;</code>
+     */
+    java.util.List<org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus> 
+        getDeployTokenStatusesList();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 5;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus getDeployTokenStatuses(int index);
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 5;</code>
+     */
+    int getDeployTokenStatusesCount();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 5;</code>
+     */
+    java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatusOrBuilder> 
+        getDeployTokenStatusesOrBuilderList();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 5;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatusOrBuilder getDeployTokenStatusesOrBuilder(
+        int index);
+
+    /**
+     * <code>map&lt;string, string&gt; annotations = 6;</code>
+     */
+    int getAnnotationsCount();
+    /**
+     * <code>map&lt;string, string&gt; annotations = 6;</code>
+     */
+    boolean containsAnnotations(
+        java.lang.String key);
+    /**
+     * Use {@link #getAnnotationsMap()} instead.
+     */
+    @java.lang.Deprecated
+    java.util.Map<java.lang.String, java.lang.String>
+    getAnnotations();
+    /**
+     * <code>map&lt;string, string&gt; annotations = 6;</code>
+     */
+    java.util.Map<java.lang.String, java.lang.String>
+    getAnnotationsMap();
+    /**
+     * <code>map&lt;string, string&gt; annotations = 6;</code>
+     */
+    /* nullable */
+java.lang.String getAnnotationsOrDefault(
+        java.lang.String key,
+        /* nullable */
+java.lang.String defaultValue);
+    /**
+     * <code>map&lt;string, string&gt; annotations = 6;</code>
+     */
+    java.lang.String getAnnotationsOrThrow(
+        java.lang.String key);
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 7;</code>
+     * @return Whether the authCenter field is set.
+     */
+    boolean hasAuthCenter();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 7;</code>
+     * @return The authCenter.
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter getAuthCenter();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 7;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenterOrBuilder getAuthCenterOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainResponseData}
+   */
+  public static final class QueryDomainResponseData extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainResponseData)
+      QueryDomainResponseDataOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use QueryDomainResponseData.newBuilder() to construct.
+    private QueryDomainResponseData(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private QueryDomainResponseData() {
+      domainId_ = "";
+      role_ = "";
+      cert_ = "";
+      nodeStatuses_ = java.util.Collections.emptyList();
+      deployTokenStatuses_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new QueryDomainResponseData();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainResponseData_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    @java.lang.Override
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 6:
+          return internalGetAnnotations();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainResponseData_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData.class, org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData.Builder.class);
+    }
+
+    public static final int DOMAIN_ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object domainId_ = "";
+    /**
+     * <code>string domain_id = 1;</code>
+     * @return The domainId.
+     */
+    @java.lang.Override
+    public java.lang.String getDomainId() {
+      java.lang.Object ref = domainId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        domainId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string domain_id = 1;</code>
+     * @return The bytes for domainId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDomainIdBytes() {
+      java.lang.Object ref = domainId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        domainId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ROLE_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object role_ = "";
+    /**
+     * <code>string role = 2;</code>
+     * @return The role.
+     */
+    @java.lang.Override
+    public java.lang.String getRole() {
+      java.lang.Object ref = role_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        role_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string role = 2;</code>
+     * @return The bytes for role.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getRoleBytes() {
+      java.lang.Object ref = role_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        role_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CERT_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object cert_ = "";
+    /**
+     * <code>string cert = 3;</code>
+     * @return The cert.
+     */
+    @java.lang.Override
+    public java.lang.String getCert() {
+      java.lang.Object ref = cert_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        cert_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string cert = 3;</code>
+     * @return The bytes for cert.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getCertBytes() {
+      java.lang.Object ref = cert_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        cert_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int NODE_STATUSES_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus> nodeStatuses_;
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus> getNodeStatusesList() {
+      return nodeStatuses_;
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatusOrBuilder> 
+        getNodeStatusesOrBuilderList() {
+      return nodeStatuses_;
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 4;</code>
+     */
+    @java.lang.Override
+    public int getNodeStatusesCount() {
+      return nodeStatuses_.size();
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 4;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus getNodeStatuses(int index) {
+      return nodeStatuses_.get(index);
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 4;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatusOrBuilder getNodeStatusesOrBuilder(
+        int index) {
+      return nodeStatuses_.get(index);
+    }
+
+    public static final int DEPLOY_TOKEN_STATUSES_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus> deployTokenStatuses_;
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 5;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus> getDeployTokenStatusesList() {
+      return deployTokenStatuses_;
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 5;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatusOrBuilder> 
+        getDeployTokenStatusesOrBuilderList() {
+      return deployTokenStatuses_;
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 5;</code>
+     */
+    @java.lang.Override
+    public int getDeployTokenStatusesCount() {
+      return deployTokenStatuses_.size();
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 5;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus getDeployTokenStatuses(int index) {
+      return deployTokenStatuses_.get(index);
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 5;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatusOrBuilder getDeployTokenStatusesOrBuilder(
+        int index) {
+      return deployTokenStatuses_.get(index);
+    }
+
+    public static final int ANNOTATIONS_FIELD_NUMBER = 6;
+    private static final class AnnotationsDefaultEntryHolder {
+      static final com.google.protobuf.MapEntry<
+          java.lang.String, java.lang.String> defaultEntry =
+              com.google.protobuf.MapEntry
+              .<java.lang.String, java.lang.String>newDefaultInstance(
+                  org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainResponseData_AnnotationsEntry_descriptor, 
+                  com.google.protobuf.WireFormat.FieldType.STRING,
+                  "",
+                  com.google.protobuf.WireFormat.FieldType.STRING,
+                  "");
+    }
+    @SuppressWarnings("serial")
+    private com.google.protobuf.MapField<
+        java.lang.String, java.lang.String> annotations_;
+    private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+    internalGetAnnotations() {
+      if (annotations_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            AnnotationsDefaultEntryHolder.defaultEntry);
+      }
+      return annotations_;
+    }
+    public int getAnnotationsCount() {
+      return internalGetAnnotations().getMap().size();
+    }
+    /**
+     * <code>map&lt;string, string&gt; annotations = 6;</code>
+     */
+    @java.lang.Override
+    public boolean containsAnnotations(
+        java.lang.String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      return internalGetAnnotations().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getAnnotationsMap()} instead.
+     */
+    @java.lang.Override
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, java.lang.String> getAnnotations() {
+      return getAnnotationsMap();
+    }
+    /**
+     * <code>map&lt;string, string&gt; annotations = 6;</code>
+     */
+    @java.lang.Override
+    public java.util.Map<java.lang.String, java.lang.String> getAnnotationsMap() {
+      return internalGetAnnotations().getMap();
+    }
+    /**
+     * <code>map&lt;string, string&gt; annotations = 6;</code>
+     */
+    @java.lang.Override
+    public /* nullable */
+java.lang.String getAnnotationsOrDefault(
+        java.lang.String key,
+        /* nullable */
+java.lang.String defaultValue) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetAnnotations().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <code>map&lt;string, string&gt; annotations = 6;</code>
+     */
+    @java.lang.Override
+    public java.lang.String getAnnotationsOrThrow(
+        java.lang.String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      java.util.Map<java.lang.String, java.lang.String> map =
+          internalGetAnnotations().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public static final int AUTH_CENTER_FIELD_NUMBER = 7;
+    private org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter authCenter_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 7;</code>
+     * @return Whether the authCenter field is set.
+     */
+    @java.lang.Override
+    public boolean hasAuthCenter() {
+      return authCenter_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 7;</code>
+     * @return The authCenter.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter getAuthCenter() {
+      return authCenter_ == null ? org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.getDefaultInstance() : authCenter_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 7;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenterOrBuilder getAuthCenterOrBuilder() {
+      return authCenter_ == null ? org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.getDefaultInstance() : authCenter_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domainId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, domainId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(role_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, role_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(cert_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, cert_);
+      }
+      for (int i = 0; i < nodeStatuses_.size(); i++) {
+        output.writeMessage(4, nodeStatuses_.get(i));
+      }
+      for (int i = 0; i < deployTokenStatuses_.size(); i++) {
+        output.writeMessage(5, deployTokenStatuses_.get(i));
+      }
+      com.google.protobuf.GeneratedMessageV3
+        .serializeStringMapTo(
+          output,
+          internalGetAnnotations(),
+          AnnotationsDefaultEntryHolder.defaultEntry,
+          6);
+      if (authCenter_ != null) {
+        output.writeMessage(7, getAuthCenter());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domainId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, domainId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(role_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, role_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(cert_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, cert_);
+      }
+      for (int i = 0; i < nodeStatuses_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, nodeStatuses_.get(i));
+      }
+      for (int i = 0; i < deployTokenStatuses_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, deployTokenStatuses_.get(i));
+      }
+      for (java.util.Map.Entry<java.lang.String, java.lang.String> entry
+           : internalGetAnnotations().getMap().entrySet()) {
+        com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+        annotations__ = AnnotationsDefaultEntryHolder.defaultEntry.newBuilderForType()
+            .setKey(entry.getKey())
+            .setValue(entry.getValue())
+            .build();
+        size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(6, annotations__);
+      }
+      if (authCenter_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, getAuthCenter());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData other = (org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData) obj;
+
+      if (!getDomainId()
+          .equals(other.getDomainId())) return false;
+      if (!getRole()
+          .equals(other.getRole())) return false;
+      if (!getCert()
+          .equals(other.getCert())) return false;
+      if (!getNodeStatusesList()
+          .equals(other.getNodeStatusesList())) return false;
+      if (!getDeployTokenStatusesList()
+          .equals(other.getDeployTokenStatusesList())) return false;
+      if (!internalGetAnnotations().equals(
+          other.internalGetAnnotations())) return false;
+      if (hasAuthCenter() != other.hasAuthCenter()) return false;
+      if (hasAuthCenter()) {
+        if (!getAuthCenter()
+            .equals(other.getAuthCenter())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + DOMAIN_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getDomainId().hashCode();
+      hash = (37 * hash) + ROLE_FIELD_NUMBER;
+      hash = (53 * hash) + getRole().hashCode();
+      hash = (37 * hash) + CERT_FIELD_NUMBER;
+      hash = (53 * hash) + getCert().hashCode();
+      if (getNodeStatusesCount() > 0) {
+        hash = (37 * hash) + NODE_STATUSES_FIELD_NUMBER;
+        hash = (53 * hash) + getNodeStatusesList().hashCode();
+      }
+      if (getDeployTokenStatusesCount() > 0) {
+        hash = (37 * hash) + DEPLOY_TOKEN_STATUSES_FIELD_NUMBER;
+        hash = (53 * hash) + getDeployTokenStatusesList().hashCode();
+      }
+      if (!internalGetAnnotations().getMap().isEmpty()) {
+        hash = (37 * hash) + ANNOTATIONS_FIELD_NUMBER;
+        hash = (53 * hash) + internalGetAnnotations().hashCode();
+      }
+      if (hasAuthCenter()) {
+        hash = (37 * hash) + AUTH_CENTER_FIELD_NUMBER;
+        hash = (53 * hash) + getAuthCenter().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainResponseData}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainResponseData)
+        org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseDataOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainResponseData_descriptor;
+      }
+
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapField internalGetMapField(
+          int number) {
+        switch (number) {
+          case 6:
+            return internalGetAnnotations();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapField internalGetMutableMapField(
+          int number) {
+        switch (number) {
+          case 6:
+            return internalGetMutableAnnotations();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainResponseData_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData.class, org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        domainId_ = "";
+        role_ = "";
+        cert_ = "";
+        if (nodeStatusesBuilder_ == null) {
+          nodeStatuses_ = java.util.Collections.emptyList();
+        } else {
+          nodeStatuses_ = null;
+          nodeStatusesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        if (deployTokenStatusesBuilder_ == null) {
+          deployTokenStatuses_ = java.util.Collections.emptyList();
+        } else {
+          deployTokenStatuses_ = null;
+          deployTokenStatusesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000010);
+        internalGetMutableAnnotations().clear();
+        authCenter_ = null;
+        if (authCenterBuilder_ != null) {
+          authCenterBuilder_.dispose();
+          authCenterBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainResponseData_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData build() {
+        org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData result = new org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData result) {
+        if (nodeStatusesBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0)) {
+            nodeStatuses_ = java.util.Collections.unmodifiableList(nodeStatuses_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.nodeStatuses_ = nodeStatuses_;
+        } else {
+          result.nodeStatuses_ = nodeStatusesBuilder_.build();
+        }
+        if (deployTokenStatusesBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) != 0)) {
+            deployTokenStatuses_ = java.util.Collections.unmodifiableList(deployTokenStatuses_);
+            bitField0_ = (bitField0_ & ~0x00000010);
+          }
+          result.deployTokenStatuses_ = deployTokenStatuses_;
+        } else {
+          result.deployTokenStatuses_ = deployTokenStatusesBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.domainId_ = domainId_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.role_ = role_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.cert_ = cert_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.annotations_ = internalGetAnnotations();
+          result.annotations_.makeImmutable();
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.authCenter_ = authCenterBuilder_ == null
+              ? authCenter_
+              : authCenterBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData.getDefaultInstance()) return this;
+        if (!other.getDomainId().isEmpty()) {
+          domainId_ = other.domainId_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getRole().isEmpty()) {
+          role_ = other.role_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getCert().isEmpty()) {
+          cert_ = other.cert_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (nodeStatusesBuilder_ == null) {
+          if (!other.nodeStatuses_.isEmpty()) {
+            if (nodeStatuses_.isEmpty()) {
+              nodeStatuses_ = other.nodeStatuses_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureNodeStatusesIsMutable();
+              nodeStatuses_.addAll(other.nodeStatuses_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.nodeStatuses_.isEmpty()) {
+            if (nodeStatusesBuilder_.isEmpty()) {
+              nodeStatusesBuilder_.dispose();
+              nodeStatusesBuilder_ = null;
+              nodeStatuses_ = other.nodeStatuses_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              nodeStatusesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getNodeStatusesFieldBuilder() : null;
+            } else {
+              nodeStatusesBuilder_.addAllMessages(other.nodeStatuses_);
+            }
+          }
+        }
+        if (deployTokenStatusesBuilder_ == null) {
+          if (!other.deployTokenStatuses_.isEmpty()) {
+            if (deployTokenStatuses_.isEmpty()) {
+              deployTokenStatuses_ = other.deployTokenStatuses_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+            } else {
+              ensureDeployTokenStatusesIsMutable();
+              deployTokenStatuses_.addAll(other.deployTokenStatuses_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.deployTokenStatuses_.isEmpty()) {
+            if (deployTokenStatusesBuilder_.isEmpty()) {
+              deployTokenStatusesBuilder_.dispose();
+              deployTokenStatusesBuilder_ = null;
+              deployTokenStatuses_ = other.deployTokenStatuses_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+              deployTokenStatusesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getDeployTokenStatusesFieldBuilder() : null;
+            } else {
+              deployTokenStatusesBuilder_.addAllMessages(other.deployTokenStatuses_);
+            }
+          }
+        }
+        internalGetMutableAnnotations().mergeFrom(
+            other.internalGetAnnotations());
+        bitField0_ |= 0x00000020;
+        if (other.hasAuthCenter()) {
+          mergeAuthCenter(other.getAuthCenter());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                domainId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                role_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                cert_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus m =
+                    input.readMessage(
+                        org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus.parser(),
+                        extensionRegistry);
+                if (nodeStatusesBuilder_ == null) {
+                  ensureNodeStatusesIsMutable();
+                  nodeStatuses_.add(m);
+                } else {
+                  nodeStatusesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 34
+              case 42: {
+                org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus m =
+                    input.readMessage(
+                        org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus.parser(),
+                        extensionRegistry);
+                if (deployTokenStatusesBuilder_ == null) {
+                  ensureDeployTokenStatusesIsMutable();
+                  deployTokenStatuses_.add(m);
+                } else {
+                  deployTokenStatusesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 42
+              case 50: {
+                com.google.protobuf.MapEntry<java.lang.String, java.lang.String>
+                annotations__ = input.readMessage(
+                    AnnotationsDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+                internalGetMutableAnnotations().getMutableMap().put(
+                    annotations__.getKey(), annotations__.getValue());
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 50
+              case 58: {
+                input.readMessage(
+                    getAuthCenterFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 58
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object domainId_ = "";
+      /**
+       * <code>string domain_id = 1;</code>
+       * @return The domainId.
+       */
+      public java.lang.String getDomainId() {
+        java.lang.Object ref = domainId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          domainId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string domain_id = 1;</code>
+       * @return The bytes for domainId.
+       */
+      public com.google.protobuf.ByteString
+          getDomainIdBytes() {
+        java.lang.Object ref = domainId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          domainId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string domain_id = 1;</code>
+       * @param value The domainId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomainId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        domainId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string domain_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDomainId() {
+        domainId_ = getDefaultInstance().getDomainId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string domain_id = 1;</code>
+       * @param value The bytes for domainId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomainIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        domainId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object role_ = "";
+      /**
+       * <code>string role = 2;</code>
+       * @return The role.
+       */
+      public java.lang.String getRole() {
+        java.lang.Object ref = role_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          role_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string role = 2;</code>
+       * @return The bytes for role.
+       */
+      public com.google.protobuf.ByteString
+          getRoleBytes() {
+        java.lang.Object ref = role_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          role_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string role = 2;</code>
+       * @param value The role to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRole(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        role_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string role = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRole() {
+        role_ = getDefaultInstance().getRole();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string role = 2;</code>
+       * @param value The bytes for role to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRoleBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        role_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object cert_ = "";
+      /**
+       * <code>string cert = 3;</code>
+       * @return The cert.
+       */
+      public java.lang.String getCert() {
+        java.lang.Object ref = cert_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          cert_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string cert = 3;</code>
+       * @return The bytes for cert.
+       */
+      public com.google.protobuf.ByteString
+          getCertBytes() {
+        java.lang.Object ref = cert_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          cert_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string cert = 3;</code>
+       * @param value The cert to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCert(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        cert_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string cert = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCert() {
+        cert_ = getDefaultInstance().getCert();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string cert = 3;</code>
+       * @param value The bytes for cert to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCertBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        cert_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus> nodeStatuses_ =
+        java.util.Collections.emptyList();
+      private void ensureNodeStatusesIsMutable() {
+        if (!((bitField0_ & 0x00000008) != 0)) {
+          nodeStatuses_ = new java.util.ArrayList<org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus>(nodeStatuses_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus, org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus.Builder, org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatusOrBuilder> nodeStatusesBuilder_;
+
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 4;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus> getNodeStatusesList() {
+        if (nodeStatusesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(nodeStatuses_);
+        } else {
+          return nodeStatusesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 4;</code>
+       */
+      public int getNodeStatusesCount() {
+        if (nodeStatusesBuilder_ == null) {
+          return nodeStatuses_.size();
+        } else {
+          return nodeStatusesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 4;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus getNodeStatuses(int index) {
+        if (nodeStatusesBuilder_ == null) {
+          return nodeStatuses_.get(index);
+        } else {
+          return nodeStatusesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 4;</code>
+       */
+      public Builder setNodeStatuses(
+          int index, org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus value) {
+        if (nodeStatusesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNodeStatusesIsMutable();
+          nodeStatuses_.set(index, value);
+          onChanged();
+        } else {
+          nodeStatusesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 4;</code>
+       */
+      public Builder setNodeStatuses(
+          int index, org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus.Builder builderForValue) {
+        if (nodeStatusesBuilder_ == null) {
+          ensureNodeStatusesIsMutable();
+          nodeStatuses_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          nodeStatusesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 4;</code>
+       */
+      public Builder addNodeStatuses(org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus value) {
+        if (nodeStatusesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNodeStatusesIsMutable();
+          nodeStatuses_.add(value);
+          onChanged();
+        } else {
+          nodeStatusesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 4;</code>
+       */
+      public Builder addNodeStatuses(
+          int index, org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus value) {
+        if (nodeStatusesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNodeStatusesIsMutable();
+          nodeStatuses_.add(index, value);
+          onChanged();
+        } else {
+          nodeStatusesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 4;</code>
+       */
+      public Builder addNodeStatuses(
+          org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus.Builder builderForValue) {
+        if (nodeStatusesBuilder_ == null) {
+          ensureNodeStatusesIsMutable();
+          nodeStatuses_.add(builderForValue.build());
+          onChanged();
+        } else {
+          nodeStatusesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 4;</code>
+       */
+      public Builder addNodeStatuses(
+          int index, org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus.Builder builderForValue) {
+        if (nodeStatusesBuilder_ == null) {
+          ensureNodeStatusesIsMutable();
+          nodeStatuses_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          nodeStatusesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 4;</code>
+       */
+      public Builder addAllNodeStatuses(
+          java.lang.Iterable<? extends org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus> values) {
+        if (nodeStatusesBuilder_ == null) {
+          ensureNodeStatusesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, nodeStatuses_);
+          onChanged();
+        } else {
+          nodeStatusesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 4;</code>
+       */
+      public Builder clearNodeStatuses() {
+        if (nodeStatusesBuilder_ == null) {
+          nodeStatuses_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          nodeStatusesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 4;</code>
+       */
+      public Builder removeNodeStatuses(int index) {
+        if (nodeStatusesBuilder_ == null) {
+          ensureNodeStatusesIsMutable();
+          nodeStatuses_.remove(index);
+          onChanged();
+        } else {
+          nodeStatusesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 4;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus.Builder getNodeStatusesBuilder(
+          int index) {
+        return getNodeStatusesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 4;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatusOrBuilder getNodeStatusesOrBuilder(
+          int index) {
+        if (nodeStatusesBuilder_ == null) {
+          return nodeStatuses_.get(index);  } else {
+          return nodeStatusesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 4;</code>
+       */
+      public java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatusOrBuilder> 
+           getNodeStatusesOrBuilderList() {
+        if (nodeStatusesBuilder_ != null) {
+          return nodeStatusesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(nodeStatuses_);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 4;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus.Builder addNodeStatusesBuilder() {
+        return getNodeStatusesFieldBuilder().addBuilder(
+            org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 4;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus.Builder addNodeStatusesBuilder(
+          int index) {
+        return getNodeStatusesFieldBuilder().addBuilder(
+            index, org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 4;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus.Builder> 
+           getNodeStatusesBuilderList() {
+        return getNodeStatusesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus, org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus.Builder, org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatusOrBuilder> 
+          getNodeStatusesFieldBuilder() {
+        if (nodeStatusesBuilder_ == null) {
+          nodeStatusesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus, org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus.Builder, org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatusOrBuilder>(
+                  nodeStatuses_,
+                  ((bitField0_ & 0x00000008) != 0),
+                  getParentForChildren(),
+                  isClean());
+          nodeStatuses_ = null;
+        }
+        return nodeStatusesBuilder_;
+      }
+
+      private java.util.List<org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus> deployTokenStatuses_ =
+        java.util.Collections.emptyList();
+      private void ensureDeployTokenStatusesIsMutable() {
+        if (!((bitField0_ & 0x00000010) != 0)) {
+          deployTokenStatuses_ = new java.util.ArrayList<org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus>(deployTokenStatuses_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus, org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus.Builder, org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatusOrBuilder> deployTokenStatusesBuilder_;
+
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 5;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus> getDeployTokenStatusesList() {
+        if (deployTokenStatusesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(deployTokenStatuses_);
+        } else {
+          return deployTokenStatusesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 5;</code>
+       */
+      public int getDeployTokenStatusesCount() {
+        if (deployTokenStatusesBuilder_ == null) {
+          return deployTokenStatuses_.size();
+        } else {
+          return deployTokenStatusesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 5;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus getDeployTokenStatuses(int index) {
+        if (deployTokenStatusesBuilder_ == null) {
+          return deployTokenStatuses_.get(index);
+        } else {
+          return deployTokenStatusesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 5;</code>
+       */
+      public Builder setDeployTokenStatuses(
+          int index, org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus value) {
+        if (deployTokenStatusesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDeployTokenStatusesIsMutable();
+          deployTokenStatuses_.set(index, value);
+          onChanged();
+        } else {
+          deployTokenStatusesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 5;</code>
+       */
+      public Builder setDeployTokenStatuses(
+          int index, org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus.Builder builderForValue) {
+        if (deployTokenStatusesBuilder_ == null) {
+          ensureDeployTokenStatusesIsMutable();
+          deployTokenStatuses_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          deployTokenStatusesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 5;</code>
+       */
+      public Builder addDeployTokenStatuses(org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus value) {
+        if (deployTokenStatusesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDeployTokenStatusesIsMutable();
+          deployTokenStatuses_.add(value);
+          onChanged();
+        } else {
+          deployTokenStatusesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 5;</code>
+       */
+      public Builder addDeployTokenStatuses(
+          int index, org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus value) {
+        if (deployTokenStatusesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDeployTokenStatusesIsMutable();
+          deployTokenStatuses_.add(index, value);
+          onChanged();
+        } else {
+          deployTokenStatusesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 5;</code>
+       */
+      public Builder addDeployTokenStatuses(
+          org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus.Builder builderForValue) {
+        if (deployTokenStatusesBuilder_ == null) {
+          ensureDeployTokenStatusesIsMutable();
+          deployTokenStatuses_.add(builderForValue.build());
+          onChanged();
+        } else {
+          deployTokenStatusesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 5;</code>
+       */
+      public Builder addDeployTokenStatuses(
+          int index, org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus.Builder builderForValue) {
+        if (deployTokenStatusesBuilder_ == null) {
+          ensureDeployTokenStatusesIsMutable();
+          deployTokenStatuses_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          deployTokenStatusesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 5;</code>
+       */
+      public Builder addAllDeployTokenStatuses(
+          java.lang.Iterable<? extends org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus> values) {
+        if (deployTokenStatusesBuilder_ == null) {
+          ensureDeployTokenStatusesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, deployTokenStatuses_);
+          onChanged();
+        } else {
+          deployTokenStatusesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 5;</code>
+       */
+      public Builder clearDeployTokenStatuses() {
+        if (deployTokenStatusesBuilder_ == null) {
+          deployTokenStatuses_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+          onChanged();
+        } else {
+          deployTokenStatusesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 5;</code>
+       */
+      public Builder removeDeployTokenStatuses(int index) {
+        if (deployTokenStatusesBuilder_ == null) {
+          ensureDeployTokenStatusesIsMutable();
+          deployTokenStatuses_.remove(index);
+          onChanged();
+        } else {
+          deployTokenStatusesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 5;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus.Builder getDeployTokenStatusesBuilder(
+          int index) {
+        return getDeployTokenStatusesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 5;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatusOrBuilder getDeployTokenStatusesOrBuilder(
+          int index) {
+        if (deployTokenStatusesBuilder_ == null) {
+          return deployTokenStatuses_.get(index);  } else {
+          return deployTokenStatusesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 5;</code>
+       */
+      public java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatusOrBuilder> 
+           getDeployTokenStatusesOrBuilderList() {
+        if (deployTokenStatusesBuilder_ != null) {
+          return deployTokenStatusesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(deployTokenStatuses_);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 5;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus.Builder addDeployTokenStatusesBuilder() {
+        return getDeployTokenStatusesFieldBuilder().addBuilder(
+            org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 5;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus.Builder addDeployTokenStatusesBuilder(
+          int index) {
+        return getDeployTokenStatusesFieldBuilder().addBuilder(
+            index, org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 5;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus.Builder> 
+           getDeployTokenStatusesBuilderList() {
+        return getDeployTokenStatusesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus, org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus.Builder, org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatusOrBuilder> 
+          getDeployTokenStatusesFieldBuilder() {
+        if (deployTokenStatusesBuilder_ == null) {
+          deployTokenStatusesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus, org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus.Builder, org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatusOrBuilder>(
+                  deployTokenStatuses_,
+                  ((bitField0_ & 0x00000010) != 0),
+                  getParentForChildren(),
+                  isClean());
+          deployTokenStatuses_ = null;
+        }
+        return deployTokenStatusesBuilder_;
+      }
+
+      private com.google.protobuf.MapField<
+          java.lang.String, java.lang.String> annotations_;
+      private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+          internalGetAnnotations() {
+        if (annotations_ == null) {
+          return com.google.protobuf.MapField.emptyMapField(
+              AnnotationsDefaultEntryHolder.defaultEntry);
+        }
+        return annotations_;
+      }
+      private com.google.protobuf.MapField<java.lang.String, java.lang.String>
+          internalGetMutableAnnotations() {
+        if (annotations_ == null) {
+          annotations_ = com.google.protobuf.MapField.newMapField(
+              AnnotationsDefaultEntryHolder.defaultEntry);
+        }
+        if (!annotations_.isMutable()) {
+          annotations_ = annotations_.copy();
+        }
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return annotations_;
+      }
+      public int getAnnotationsCount() {
+        return internalGetAnnotations().getMap().size();
+      }
+      /**
+       * <code>map&lt;string, string&gt; annotations = 6;</code>
+       */
+      @java.lang.Override
+      public boolean containsAnnotations(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        return internalGetAnnotations().getMap().containsKey(key);
+      }
+      /**
+       * Use {@link #getAnnotationsMap()} instead.
+       */
+      @java.lang.Override
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, java.lang.String> getAnnotations() {
+        return getAnnotationsMap();
+      }
+      /**
+       * <code>map&lt;string, string&gt; annotations = 6;</code>
+       */
+      @java.lang.Override
+      public java.util.Map<java.lang.String, java.lang.String> getAnnotationsMap() {
+        return internalGetAnnotations().getMap();
+      }
+      /**
+       * <code>map&lt;string, string&gt; annotations = 6;</code>
+       */
+      @java.lang.Override
+      public /* nullable */
+java.lang.String getAnnotationsOrDefault(
+          java.lang.String key,
+          /* nullable */
+java.lang.String defaultValue) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        java.util.Map<java.lang.String, java.lang.String> map =
+            internalGetAnnotations().getMap();
+        return map.containsKey(key) ? map.get(key) : defaultValue;
+      }
+      /**
+       * <code>map&lt;string, string&gt; annotations = 6;</code>
+       */
+      @java.lang.Override
+      public java.lang.String getAnnotationsOrThrow(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        java.util.Map<java.lang.String, java.lang.String> map =
+            internalGetAnnotations().getMap();
+        if (!map.containsKey(key)) {
+          throw new java.lang.IllegalArgumentException();
+        }
+        return map.get(key);
+      }
+      public Builder clearAnnotations() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        internalGetMutableAnnotations().getMutableMap()
+            .clear();
+        return this;
+      }
+      /**
+       * <code>map&lt;string, string&gt; annotations = 6;</code>
+       */
+      public Builder removeAnnotations(
+          java.lang.String key) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        internalGetMutableAnnotations().getMutableMap()
+            .remove(key);
+        return this;
+      }
+      /**
+       * Use alternate mutation accessors instead.
+       */
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.String, java.lang.String>
+          getMutableAnnotations() {
+        bitField0_ |= 0x00000020;
+        return internalGetMutableAnnotations().getMutableMap();
+      }
+      /**
+       * <code>map&lt;string, string&gt; annotations = 6;</code>
+       */
+      public Builder putAnnotations(
+          java.lang.String key,
+          java.lang.String value) {
+        if (key == null) { throw new NullPointerException("map key"); }
+        if (value == null) { throw new NullPointerException("map value"); }
+        internalGetMutableAnnotations().getMutableMap()
+            .put(key, value);
+        bitField0_ |= 0x00000020;
+        return this;
+      }
+      /**
+       * <code>map&lt;string, string&gt; annotations = 6;</code>
+       */
+      public Builder putAllAnnotations(
+          java.util.Map<java.lang.String, java.lang.String> values) {
+        internalGetMutableAnnotations().getMutableMap()
+            .putAll(values);
+        bitField0_ |= 0x00000020;
+        return this;
+      }
+
+      private org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter authCenter_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter, org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.Builder, org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenterOrBuilder> authCenterBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 7;</code>
+       * @return Whether the authCenter field is set.
+       */
+      public boolean hasAuthCenter() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 7;</code>
+       * @return The authCenter.
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter getAuthCenter() {
+        if (authCenterBuilder_ == null) {
+          return authCenter_ == null ? org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.getDefaultInstance() : authCenter_;
+        } else {
+          return authCenterBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 7;</code>
+       */
+      public Builder setAuthCenter(org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter value) {
+        if (authCenterBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          authCenter_ = value;
+        } else {
+          authCenterBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 7;</code>
+       */
+      public Builder setAuthCenter(
+          org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.Builder builderForValue) {
+        if (authCenterBuilder_ == null) {
+          authCenter_ = builderForValue.build();
+        } else {
+          authCenterBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 7;</code>
+       */
+      public Builder mergeAuthCenter(org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter value) {
+        if (authCenterBuilder_ == null) {
+          if (((bitField0_ & 0x00000040) != 0) &&
+            authCenter_ != null &&
+            authCenter_ != org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.getDefaultInstance()) {
+            getAuthCenterBuilder().mergeFrom(value);
+          } else {
+            authCenter_ = value;
+          }
+        } else {
+          authCenterBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 7;</code>
+       */
+      public Builder clearAuthCenter() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        authCenter_ = null;
+        if (authCenterBuilder_ != null) {
+          authCenterBuilder_.dispose();
+          authCenterBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 7;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.Builder getAuthCenterBuilder() {
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return getAuthCenterFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 7;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenterOrBuilder getAuthCenterOrBuilder() {
+        if (authCenterBuilder_ != null) {
+          return authCenterBuilder_.getMessageOrBuilder();
+        } else {
+          return authCenter_ == null ?
+              org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.getDefaultInstance() : authCenter_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 7;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter, org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.Builder, org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenterOrBuilder> 
+          getAuthCenterFieldBuilder() {
+        if (authCenterBuilder_ == null) {
+          authCenterBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter, org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.Builder, org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenterOrBuilder>(
+                  getAuthCenter(),
+                  getParentForChildren(),
+                  isClean());
+          authCenter_ = null;
+        }
+        return authCenterBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainResponseData)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainResponseData)
+    private static final org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<QueryDomainResponseData>
+        PARSER = new com.google.protobuf.AbstractParser<QueryDomainResponseData>() {
+      @java.lang.Override
+      public QueryDomainResponseData parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<QueryDomainResponseData> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<QueryDomainResponseData> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.QueryDomainResponseData getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface NodeStatusOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <code>string status = 2;</code>
+     * @return The status.
+     */
+    java.lang.String getStatus();
+    /**
+     * <code>string status = 2;</code>
+     * @return The bytes for status.
+     */
+    com.google.protobuf.ByteString
+        getStatusBytes();
+
+    /**
+     * <code>string version = 3;</code>
+     * @return The version.
+     */
+    java.lang.String getVersion();
+    /**
+     * <code>string version = 3;</code>
+     * @return The bytes for version.
+     */
+    com.google.protobuf.ByteString
+        getVersionBytes();
+
+    /**
+     * <code>string last_heartbeat_time = 4;</code>
+     * @return The lastHeartbeatTime.
+     */
+    java.lang.String getLastHeartbeatTime();
+    /**
+     * <code>string last_heartbeat_time = 4;</code>
+     * @return The bytes for lastHeartbeatTime.
+     */
+    com.google.protobuf.ByteString
+        getLastHeartbeatTimeBytes();
+
+    /**
+     * <code>string last_transition_time = 5;</code>
+     * @return The lastTransitionTime.
+     */
+    java.lang.String getLastTransitionTime();
+    /**
+     * <code>string last_transition_time = 5;</code>
+     * @return The bytes for lastTransitionTime.
+     */
+    com.google.protobuf.ByteString
+        getLastTransitionTimeBytes();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus}
+   */
+  public static final class NodeStatus extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus)
+      NodeStatusOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use NodeStatus.newBuilder() to construct.
+    private NodeStatus(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private NodeStatus() {
+      name_ = "";
+      status_ = "";
+      version_ = "";
+      lastHeartbeatTime_ = "";
+      lastTransitionTime_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new NodeStatus();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_NodeStatus_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_NodeStatus_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus.class, org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus.Builder.class);
+    }
+
+    public static final int NAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object name_ = "";
+    /**
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object status_ = "";
+    /**
+     * <code>string status = 2;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public java.lang.String getStatus() {
+      java.lang.Object ref = status_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        status_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string status = 2;</code>
+     * @return The bytes for status.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getStatusBytes() {
+      java.lang.Object ref = status_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        status_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int VERSION_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object version_ = "";
+    /**
+     * <code>string version = 3;</code>
+     * @return The version.
+     */
+    @java.lang.Override
+    public java.lang.String getVersion() {
+      java.lang.Object ref = version_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        version_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string version = 3;</code>
+     * @return The bytes for version.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getVersionBytes() {
+      java.lang.Object ref = version_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        version_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LAST_HEARTBEAT_TIME_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object lastHeartbeatTime_ = "";
+    /**
+     * <code>string last_heartbeat_time = 4;</code>
+     * @return The lastHeartbeatTime.
+     */
+    @java.lang.Override
+    public java.lang.String getLastHeartbeatTime() {
+      java.lang.Object ref = lastHeartbeatTime_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        lastHeartbeatTime_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string last_heartbeat_time = 4;</code>
+     * @return The bytes for lastHeartbeatTime.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getLastHeartbeatTimeBytes() {
+      java.lang.Object ref = lastHeartbeatTime_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        lastHeartbeatTime_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LAST_TRANSITION_TIME_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object lastTransitionTime_ = "";
+    /**
+     * <code>string last_transition_time = 5;</code>
+     * @return The lastTransitionTime.
+     */
+    @java.lang.Override
+    public java.lang.String getLastTransitionTime() {
+      java.lang.Object ref = lastTransitionTime_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        lastTransitionTime_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string last_transition_time = 5;</code>
+     * @return The bytes for lastTransitionTime.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getLastTransitionTimeBytes() {
+      java.lang.Object ref = lastTransitionTime_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        lastTransitionTime_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(status_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, status_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(version_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, version_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(lastHeartbeatTime_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, lastHeartbeatTime_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(lastTransitionTime_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 5, lastTransitionTime_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(status_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, status_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(version_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, version_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(lastHeartbeatTime_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, lastHeartbeatTime_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(lastTransitionTime_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, lastTransitionTime_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus other = (org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus) obj;
+
+      if (!getName()
+          .equals(other.getName())) return false;
+      if (!getStatus()
+          .equals(other.getStatus())) return false;
+      if (!getVersion()
+          .equals(other.getVersion())) return false;
+      if (!getLastHeartbeatTime()
+          .equals(other.getLastHeartbeatTime())) return false;
+      if (!getLastTransitionTime()
+          .equals(other.getLastTransitionTime())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (37 * hash) + STATUS_FIELD_NUMBER;
+      hash = (53 * hash) + getStatus().hashCode();
+      hash = (37 * hash) + VERSION_FIELD_NUMBER;
+      hash = (53 * hash) + getVersion().hashCode();
+      hash = (37 * hash) + LAST_HEARTBEAT_TIME_FIELD_NUMBER;
+      hash = (53 * hash) + getLastHeartbeatTime().hashCode();
+      hash = (37 * hash) + LAST_TRANSITION_TIME_FIELD_NUMBER;
+      hash = (53 * hash) + getLastTransitionTime().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus)
+        org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatusOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_NodeStatus_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_NodeStatus_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus.class, org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        name_ = "";
+        status_ = "";
+        version_ = "";
+        lastHeartbeatTime_ = "";
+        lastTransitionTime_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_NodeStatus_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus build() {
+        org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus result = new org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.name_ = name_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.status_ = status_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.version_ = version_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.lastHeartbeatTime_ = lastHeartbeatTime_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.lastTransitionTime_ = lastTransitionTime_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus.getDefaultInstance()) return this;
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getStatus().isEmpty()) {
+          status_ = other.status_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getVersion().isEmpty()) {
+          version_ = other.version_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (!other.getLastHeartbeatTime().isEmpty()) {
+          lastHeartbeatTime_ = other.lastHeartbeatTime_;
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        if (!other.getLastTransitionTime().isEmpty()) {
+          lastTransitionTime_ = other.lastTransitionTime_;
+          bitField0_ |= 0x00000010;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                name_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                status_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                version_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                lastHeartbeatTime_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 42: {
+                lastTransitionTime_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 42
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object name_ = "";
+      /**
+       * <code>string name = 1;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        name_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        name_ = getDefaultInstance().getName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        name_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object status_ = "";
+      /**
+       * <code>string status = 2;</code>
+       * @return The status.
+       */
+      public java.lang.String getStatus() {
+        java.lang.Object ref = status_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          status_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string status = 2;</code>
+       * @return The bytes for status.
+       */
+      public com.google.protobuf.ByteString
+          getStatusBytes() {
+        java.lang.Object ref = status_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          status_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string status = 2;</code>
+       * @param value The status to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStatus(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        status_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string status = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStatus() {
+        status_ = getDefaultInstance().getStatus();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string status = 2;</code>
+       * @param value The bytes for status to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStatusBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        status_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object version_ = "";
+      /**
+       * <code>string version = 3;</code>
+       * @return The version.
+       */
+      public java.lang.String getVersion() {
+        java.lang.Object ref = version_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          version_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string version = 3;</code>
+       * @return The bytes for version.
+       */
+      public com.google.protobuf.ByteString
+          getVersionBytes() {
+        java.lang.Object ref = version_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          version_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string version = 3;</code>
+       * @param value The version to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVersion(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        version_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string version = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVersion() {
+        version_ = getDefaultInstance().getVersion();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string version = 3;</code>
+       * @param value The bytes for version to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVersionBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        version_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object lastHeartbeatTime_ = "";
+      /**
+       * <code>string last_heartbeat_time = 4;</code>
+       * @return The lastHeartbeatTime.
+       */
+      public java.lang.String getLastHeartbeatTime() {
+        java.lang.Object ref = lastHeartbeatTime_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          lastHeartbeatTime_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string last_heartbeat_time = 4;</code>
+       * @return The bytes for lastHeartbeatTime.
+       */
+      public com.google.protobuf.ByteString
+          getLastHeartbeatTimeBytes() {
+        java.lang.Object ref = lastHeartbeatTime_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          lastHeartbeatTime_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string last_heartbeat_time = 4;</code>
+       * @param value The lastHeartbeatTime to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLastHeartbeatTime(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        lastHeartbeatTime_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string last_heartbeat_time = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLastHeartbeatTime() {
+        lastHeartbeatTime_ = getDefaultInstance().getLastHeartbeatTime();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string last_heartbeat_time = 4;</code>
+       * @param value The bytes for lastHeartbeatTime to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLastHeartbeatTimeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        lastHeartbeatTime_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object lastTransitionTime_ = "";
+      /**
+       * <code>string last_transition_time = 5;</code>
+       * @return The lastTransitionTime.
+       */
+      public java.lang.String getLastTransitionTime() {
+        java.lang.Object ref = lastTransitionTime_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          lastTransitionTime_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string last_transition_time = 5;</code>
+       * @return The bytes for lastTransitionTime.
+       */
+      public com.google.protobuf.ByteString
+          getLastTransitionTimeBytes() {
+        java.lang.Object ref = lastTransitionTime_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          lastTransitionTime_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string last_transition_time = 5;</code>
+       * @param value The lastTransitionTime to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLastTransitionTime(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        lastTransitionTime_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string last_transition_time = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLastTransitionTime() {
+        lastTransitionTime_ = getDefaultInstance().getLastTransitionTime();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string last_transition_time = 5;</code>
+       * @param value The bytes for lastTransitionTime to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLastTransitionTimeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        lastTransitionTime_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus)
+    private static final org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<NodeStatus>
+        PARSER = new com.google.protobuf.AbstractParser<NodeStatus>() {
+      @java.lang.Override
+      public NodeStatus parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<NodeStatus> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<NodeStatus> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface UpdateDomainRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.UpdateDomainRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    boolean hasHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeader getHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder();
+
+    /**
+     * <code>string domain_id = 2;</code>
+     * @return The domainId.
+     */
+    java.lang.String getDomainId();
+    /**
+     * <code>string domain_id = 2;</code>
+     * @return The bytes for domainId.
+     */
+    com.google.protobuf.ByteString
+        getDomainIdBytes();
+
+    /**
+     * <code>string role = 3;</code>
+     * @return The role.
+     */
+    java.lang.String getRole();
+    /**
+     * <code>string role = 3;</code>
+     * @return The bytes for role.
+     */
+    com.google.protobuf.ByteString
+        getRoleBytes();
+
+    /**
+     * <code>string cert = 4;</code>
+     * @return The cert.
+     */
+    java.lang.String getCert();
+    /**
+     * <code>string cert = 4;</code>
+     * @return The bytes for cert.
+     */
+    com.google.protobuf.ByteString
+        getCertBytes();
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 5;</code>
+     * @return Whether the authCenter field is set.
+     */
+    boolean hasAuthCenter();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 5;</code>
+     * @return The authCenter.
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter getAuthCenter();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 5;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenterOrBuilder getAuthCenterOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.UpdateDomainRequest}
+   */
+  public static final class UpdateDomainRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.UpdateDomainRequest)
+      UpdateDomainRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use UpdateDomainRequest.newBuilder() to construct.
+    private UpdateDomainRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private UpdateDomainRequest() {
+      domainId_ = "";
+      role_ = "";
+      cert_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new UpdateDomainRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest.class, org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest.Builder.class);
+    }
+
+    public static final int HEADER_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    @java.lang.Override
+    public boolean hasHeader() {
+      return header_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+
+    public static final int DOMAIN_ID_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object domainId_ = "";
+    /**
+     * <code>string domain_id = 2;</code>
+     * @return The domainId.
+     */
+    @java.lang.Override
+    public java.lang.String getDomainId() {
+      java.lang.Object ref = domainId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        domainId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string domain_id = 2;</code>
+     * @return The bytes for domainId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDomainIdBytes() {
+      java.lang.Object ref = domainId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        domainId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ROLE_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object role_ = "";
+    /**
+     * <code>string role = 3;</code>
+     * @return The role.
+     */
+    @java.lang.Override
+    public java.lang.String getRole() {
+      java.lang.Object ref = role_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        role_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string role = 3;</code>
+     * @return The bytes for role.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getRoleBytes() {
+      java.lang.Object ref = role_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        role_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CERT_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object cert_ = "";
+    /**
+     * <code>string cert = 4;</code>
+     * @return The cert.
+     */
+    @java.lang.Override
+    public java.lang.String getCert() {
+      java.lang.Object ref = cert_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        cert_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string cert = 4;</code>
+     * @return The bytes for cert.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getCertBytes() {
+      java.lang.Object ref = cert_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        cert_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int AUTH_CENTER_FIELD_NUMBER = 5;
+    private org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter authCenter_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 5;</code>
+     * @return Whether the authCenter field is set.
+     */
+    @java.lang.Override
+    public boolean hasAuthCenter() {
+      return authCenter_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 5;</code>
+     * @return The authCenter.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter getAuthCenter() {
+      return authCenter_ == null ? org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.getDefaultInstance() : authCenter_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 5;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenterOrBuilder getAuthCenterOrBuilder() {
+      return authCenter_ == null ? org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.getDefaultInstance() : authCenter_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (header_ != null) {
+        output.writeMessage(1, getHeader());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domainId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, domainId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(role_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, role_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(cert_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, cert_);
+      }
+      if (authCenter_ != null) {
+        output.writeMessage(5, getAuthCenter());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (header_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getHeader());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domainId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, domainId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(role_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, role_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(cert_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, cert_);
+      }
+      if (authCenter_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, getAuthCenter());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest other = (org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest) obj;
+
+      if (hasHeader() != other.hasHeader()) return false;
+      if (hasHeader()) {
+        if (!getHeader()
+            .equals(other.getHeader())) return false;
+      }
+      if (!getDomainId()
+          .equals(other.getDomainId())) return false;
+      if (!getRole()
+          .equals(other.getRole())) return false;
+      if (!getCert()
+          .equals(other.getCert())) return false;
+      if (hasAuthCenter() != other.hasAuthCenter()) return false;
+      if (hasAuthCenter()) {
+        if (!getAuthCenter()
+            .equals(other.getAuthCenter())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasHeader()) {
+        hash = (37 * hash) + HEADER_FIELD_NUMBER;
+        hash = (53 * hash) + getHeader().hashCode();
+      }
+      hash = (37 * hash) + DOMAIN_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getDomainId().hashCode();
+      hash = (37 * hash) + ROLE_FIELD_NUMBER;
+      hash = (53 * hash) + getRole().hashCode();
+      hash = (37 * hash) + CERT_FIELD_NUMBER;
+      hash = (53 * hash) + getCert().hashCode();
+      if (hasAuthCenter()) {
+        hash = (37 * hash) + AUTH_CENTER_FIELD_NUMBER;
+        hash = (53 * hash) + getAuthCenter().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.UpdateDomainRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.UpdateDomainRequest)
+        org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest.class, org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        domainId_ = "";
+        role_ = "";
+        cert_ = "";
+        authCenter_ = null;
+        if (authCenterBuilder_ != null) {
+          authCenterBuilder_.dispose();
+          authCenterBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest build() {
+        org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest result = new org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.header_ = headerBuilder_ == null
+              ? header_
+              : headerBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.domainId_ = domainId_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.role_ = role_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.cert_ = cert_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.authCenter_ = authCenterBuilder_ == null
+              ? authCenter_
+              : authCenterBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest.getDefaultInstance()) return this;
+        if (other.hasHeader()) {
+          mergeHeader(other.getHeader());
+        }
+        if (!other.getDomainId().isEmpty()) {
+          domainId_ = other.domainId_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getRole().isEmpty()) {
+          role_ = other.role_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (!other.getCert().isEmpty()) {
+          cert_ = other.cert_;
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        if (other.hasAuthCenter()) {
+          mergeAuthCenter(other.getAuthCenter());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getHeaderFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                domainId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                role_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                cert_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 42: {
+                input.readMessage(
+                    getAuthCenterFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 42
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> headerBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return Whether the header field is set.
+       */
+      public boolean hasHeader() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return The header.
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+        if (headerBuilder_ == null) {
+          return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        } else {
+          return headerBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          header_ = value;
+        } else {
+          headerBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(
+          org.secretflow.v1alpha1.common.Common.RequestHeader.Builder builderForValue) {
+        if (headerBuilder_ == null) {
+          header_ = builderForValue.build();
+        } else {
+          headerBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder mergeHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            header_ != null &&
+            header_ != org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance()) {
+            getHeaderBuilder().mergeFrom(value);
+          } else {
+            header_ = value;
+          }
+        } else {
+          headerBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder clearHeader() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader.Builder getHeaderBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getHeaderFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+        if (headerBuilder_ != null) {
+          return headerBuilder_.getMessageOrBuilder();
+        } else {
+          return header_ == null ?
+              org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> 
+          getHeaderFieldBuilder() {
+        if (headerBuilder_ == null) {
+          headerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder>(
+                  getHeader(),
+                  getParentForChildren(),
+                  isClean());
+          header_ = null;
+        }
+        return headerBuilder_;
+      }
+
+      private java.lang.Object domainId_ = "";
+      /**
+       * <code>string domain_id = 2;</code>
+       * @return The domainId.
+       */
+      public java.lang.String getDomainId() {
+        java.lang.Object ref = domainId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          domainId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string domain_id = 2;</code>
+       * @return The bytes for domainId.
+       */
+      public com.google.protobuf.ByteString
+          getDomainIdBytes() {
+        java.lang.Object ref = domainId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          domainId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string domain_id = 2;</code>
+       * @param value The domainId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomainId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        domainId_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string domain_id = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDomainId() {
+        domainId_ = getDefaultInstance().getDomainId();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string domain_id = 2;</code>
+       * @param value The bytes for domainId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomainIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        domainId_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object role_ = "";
+      /**
+       * <code>string role = 3;</code>
+       * @return The role.
+       */
+      public java.lang.String getRole() {
+        java.lang.Object ref = role_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          role_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string role = 3;</code>
+       * @return The bytes for role.
+       */
+      public com.google.protobuf.ByteString
+          getRoleBytes() {
+        java.lang.Object ref = role_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          role_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string role = 3;</code>
+       * @param value The role to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRole(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        role_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string role = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRole() {
+        role_ = getDefaultInstance().getRole();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string role = 3;</code>
+       * @param value The bytes for role to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRoleBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        role_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object cert_ = "";
+      /**
+       * <code>string cert = 4;</code>
+       * @return The cert.
+       */
+      public java.lang.String getCert() {
+        java.lang.Object ref = cert_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          cert_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string cert = 4;</code>
+       * @return The bytes for cert.
+       */
+      public com.google.protobuf.ByteString
+          getCertBytes() {
+        java.lang.Object ref = cert_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          cert_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string cert = 4;</code>
+       * @param value The cert to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCert(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        cert_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string cert = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCert() {
+        cert_ = getDefaultInstance().getCert();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string cert = 4;</code>
+       * @param value The bytes for cert to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCertBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        cert_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+
+      private org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter authCenter_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter, org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.Builder, org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenterOrBuilder> authCenterBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 5;</code>
+       * @return Whether the authCenter field is set.
+       */
+      public boolean hasAuthCenter() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 5;</code>
+       * @return The authCenter.
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter getAuthCenter() {
+        if (authCenterBuilder_ == null) {
+          return authCenter_ == null ? org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.getDefaultInstance() : authCenter_;
+        } else {
+          return authCenterBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 5;</code>
+       */
+      public Builder setAuthCenter(org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter value) {
+        if (authCenterBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          authCenter_ = value;
+        } else {
+          authCenterBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 5;</code>
+       */
+      public Builder setAuthCenter(
+          org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.Builder builderForValue) {
+        if (authCenterBuilder_ == null) {
+          authCenter_ = builderForValue.build();
+        } else {
+          authCenterBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 5;</code>
+       */
+      public Builder mergeAuthCenter(org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter value) {
+        if (authCenterBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) != 0) &&
+            authCenter_ != null &&
+            authCenter_ != org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.getDefaultInstance()) {
+            getAuthCenterBuilder().mergeFrom(value);
+          } else {
+            authCenter_ = value;
+          }
+        } else {
+          authCenterBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 5;</code>
+       */
+      public Builder clearAuthCenter() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        authCenter_ = null;
+        if (authCenterBuilder_ != null) {
+          authCenterBuilder_.dispose();
+          authCenterBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 5;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.Builder getAuthCenterBuilder() {
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return getAuthCenterFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 5;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenterOrBuilder getAuthCenterOrBuilder() {
+        if (authCenterBuilder_ != null) {
+          return authCenterBuilder_.getMessageOrBuilder();
+        } else {
+          return authCenter_ == null ?
+              org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.getDefaultInstance() : authCenter_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter auth_center = 5;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter, org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.Builder, org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenterOrBuilder> 
+          getAuthCenterFieldBuilder() {
+        if (authCenterBuilder_ == null) {
+          authCenterBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter, org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.Builder, org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenterOrBuilder>(
+                  getAuthCenter(),
+                  getParentForChildren(),
+                  isClean());
+          authCenter_ = null;
+        }
+        return authCenterBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.UpdateDomainRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.UpdateDomainRequest)
+    private static final org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<UpdateDomainRequest>
+        PARSER = new com.google.protobuf.AbstractParser<UpdateDomainRequest>() {
+      @java.lang.Override
+      public UpdateDomainRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<UpdateDomainRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<UpdateDomainRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface UpdateDomainResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.UpdateDomainResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    boolean hasStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    org.secretflow.v1alpha1.common.Common.Status getStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.UpdateDomainResponse}
+   */
+  public static final class UpdateDomainResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.UpdateDomainResponse)
+      UpdateDomainResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use UpdateDomainResponse.newBuilder() to construct.
+    private UpdateDomainResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private UpdateDomainResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new UpdateDomainResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse.class, org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse.Builder.class);
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.Status status_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    @java.lang.Override
+    public boolean hasStatus() {
+      return status_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (status_ != null) {
+        output.writeMessage(1, getStatus());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (status_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getStatus());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse other = (org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse) obj;
+
+      if (hasStatus() != other.hasStatus()) return false;
+      if (hasStatus()) {
+        if (!getStatus()
+            .equals(other.getStatus())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasStatus()) {
+        hash = (37 * hash) + STATUS_FIELD_NUMBER;
+        hash = (53 * hash) + getStatus().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.UpdateDomainResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.UpdateDomainResponse)
+        org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse.class, org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse build() {
+        org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse result = new org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.status_ = statusBuilder_ == null
+              ? status_
+              : statusBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse.getDefaultInstance()) return this;
+        if (other.hasStatus()) {
+          mergeStatus(other.getStatus());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getStatusFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.Status status_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> statusBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return Whether the status field is set.
+       */
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return The status.
+       */
+      public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+        if (statusBuilder_ == null) {
+          return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        } else {
+          return statusBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          status_ = value;
+        } else {
+          statusBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(
+          org.secretflow.v1alpha1.common.Common.Status.Builder builderForValue) {
+        if (statusBuilder_ == null) {
+          status_ = builderForValue.build();
+        } else {
+          statusBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder mergeStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            status_ != null &&
+            status_ != org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance()) {
+            getStatusBuilder().mergeFrom(value);
+          } else {
+            status_ = value;
+          }
+        } else {
+          statusBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.Status.Builder getStatusBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getStatusFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+        if (statusBuilder_ != null) {
+          return statusBuilder_.getMessageOrBuilder();
+        } else {
+          return status_ == null ?
+              org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> 
+          getStatusFieldBuilder() {
+        if (statusBuilder_ == null) {
+          statusBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder>(
+                  getStatus(),
+                  getParentForChildren(),
+                  isClean());
+          status_ = null;
+        }
+        return statusBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.UpdateDomainResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.UpdateDomainResponse)
+    private static final org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<UpdateDomainResponse>
+        PARSER = new com.google.protobuf.AbstractParser<UpdateDomainResponse>() {
+      @java.lang.Override
+      public UpdateDomainResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<UpdateDomainResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<UpdateDomainResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.UpdateDomainResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BatchQueryDomainStatusRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    boolean hasHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeader getHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder();
+
+    /**
+     * <code>repeated string domain_ids = 2;</code>
+     * @return A list containing the domainIds.
+     */
+    java.util.List<java.lang.String>
+        getDomainIdsList();
+    /**
+     * <code>repeated string domain_ids = 2;</code>
+     * @return The count of domainIds.
+     */
+    int getDomainIdsCount();
+    /**
+     * <code>repeated string domain_ids = 2;</code>
+     * @param index The index of the element to return.
+     * @return The domainIds at the given index.
+     */
+    java.lang.String getDomainIds(int index);
+    /**
+     * <code>repeated string domain_ids = 2;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the domainIds at the given index.
+     */
+    com.google.protobuf.ByteString
+        getDomainIdsBytes(int index);
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusRequest}
+   */
+  public static final class BatchQueryDomainStatusRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusRequest)
+      BatchQueryDomainStatusRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BatchQueryDomainStatusRequest.newBuilder() to construct.
+    private BatchQueryDomainStatusRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BatchQueryDomainStatusRequest() {
+      domainIds_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BatchQueryDomainStatusRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainStatusRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainStatusRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest.class, org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest.Builder.class);
+    }
+
+    public static final int HEADER_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    @java.lang.Override
+    public boolean hasHeader() {
+      return header_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+
+    public static final int DOMAIN_IDS_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList domainIds_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <code>repeated string domain_ids = 2;</code>
+     * @return A list containing the domainIds.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getDomainIdsList() {
+      return domainIds_;
+    }
+    /**
+     * <code>repeated string domain_ids = 2;</code>
+     * @return The count of domainIds.
+     */
+    public int getDomainIdsCount() {
+      return domainIds_.size();
+    }
+    /**
+     * <code>repeated string domain_ids = 2;</code>
+     * @param index The index of the element to return.
+     * @return The domainIds at the given index.
+     */
+    public java.lang.String getDomainIds(int index) {
+      return domainIds_.get(index);
+    }
+    /**
+     * <code>repeated string domain_ids = 2;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the domainIds at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getDomainIdsBytes(int index) {
+      return domainIds_.getByteString(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (header_ != null) {
+        output.writeMessage(1, getHeader());
+      }
+      for (int i = 0; i < domainIds_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, domainIds_.getRaw(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (header_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getHeader());
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < domainIds_.size(); i++) {
+          dataSize += computeStringSizeNoTag(domainIds_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getDomainIdsList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest other = (org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest) obj;
+
+      if (hasHeader() != other.hasHeader()) return false;
+      if (hasHeader()) {
+        if (!getHeader()
+            .equals(other.getHeader())) return false;
+      }
+      if (!getDomainIdsList()
+          .equals(other.getDomainIdsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasHeader()) {
+        hash = (37 * hash) + HEADER_FIELD_NUMBER;
+        hash = (53 * hash) + getHeader().hashCode();
+      }
+      if (getDomainIdsCount() > 0) {
+        hash = (37 * hash) + DOMAIN_IDS_FIELD_NUMBER;
+        hash = (53 * hash) + getDomainIdsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusRequest)
+        org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainStatusRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainStatusRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest.class, org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        domainIds_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainStatusRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest build() {
+        org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest result = new org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.header_ = headerBuilder_ == null
+              ? header_
+              : headerBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          domainIds_.makeImmutable();
+          result.domainIds_ = domainIds_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest.getDefaultInstance()) return this;
+        if (other.hasHeader()) {
+          mergeHeader(other.getHeader());
+        }
+        if (!other.domainIds_.isEmpty()) {
+          if (domainIds_.isEmpty()) {
+            domainIds_ = other.domainIds_;
+            bitField0_ |= 0x00000002;
+          } else {
+            ensureDomainIdsIsMutable();
+            domainIds_.addAll(other.domainIds_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getHeaderFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureDomainIdsIsMutable();
+                domainIds_.add(s);
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> headerBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return Whether the header field is set.
+       */
+      public boolean hasHeader() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return The header.
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+        if (headerBuilder_ == null) {
+          return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        } else {
+          return headerBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          header_ = value;
+        } else {
+          headerBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(
+          org.secretflow.v1alpha1.common.Common.RequestHeader.Builder builderForValue) {
+        if (headerBuilder_ == null) {
+          header_ = builderForValue.build();
+        } else {
+          headerBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder mergeHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            header_ != null &&
+            header_ != org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance()) {
+            getHeaderBuilder().mergeFrom(value);
+          } else {
+            header_ = value;
+          }
+        } else {
+          headerBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder clearHeader() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader.Builder getHeaderBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getHeaderFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+        if (headerBuilder_ != null) {
+          return headerBuilder_.getMessageOrBuilder();
+        } else {
+          return header_ == null ?
+              org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> 
+          getHeaderFieldBuilder() {
+        if (headerBuilder_ == null) {
+          headerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder>(
+                  getHeader(),
+                  getParentForChildren(),
+                  isClean());
+          header_ = null;
+        }
+        return headerBuilder_;
+      }
+
+      private com.google.protobuf.LazyStringArrayList domainIds_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureDomainIdsIsMutable() {
+        if (!domainIds_.isModifiable()) {
+          domainIds_ = new com.google.protobuf.LazyStringArrayList(domainIds_);
+        }
+        bitField0_ |= 0x00000002;
+      }
+      /**
+       * <code>repeated string domain_ids = 2;</code>
+       * @return A list containing the domainIds.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getDomainIdsList() {
+        domainIds_.makeImmutable();
+        return domainIds_;
+      }
+      /**
+       * <code>repeated string domain_ids = 2;</code>
+       * @return The count of domainIds.
+       */
+      public int getDomainIdsCount() {
+        return domainIds_.size();
+      }
+      /**
+       * <code>repeated string domain_ids = 2;</code>
+       * @param index The index of the element to return.
+       * @return The domainIds at the given index.
+       */
+      public java.lang.String getDomainIds(int index) {
+        return domainIds_.get(index);
+      }
+      /**
+       * <code>repeated string domain_ids = 2;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the domainIds at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getDomainIdsBytes(int index) {
+        return domainIds_.getByteString(index);
+      }
+      /**
+       * <code>repeated string domain_ids = 2;</code>
+       * @param index The index to set the value at.
+       * @param value The domainIds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomainIds(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureDomainIdsIsMutable();
+        domainIds_.set(index, value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string domain_ids = 2;</code>
+       * @param value The domainIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addDomainIds(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureDomainIdsIsMutable();
+        domainIds_.add(value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string domain_ids = 2;</code>
+       * @param values The domainIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllDomainIds(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureDomainIdsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, domainIds_);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string domain_ids = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDomainIds() {
+        domainIds_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string domain_ids = 2;</code>
+       * @param value The bytes of the domainIds to add.
+       * @return This builder for chaining.
+       */
+      public Builder addDomainIdsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        ensureDomainIdsIsMutable();
+        domainIds_.add(value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusRequest)
+    private static final org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BatchQueryDomainStatusRequest>
+        PARSER = new com.google.protobuf.AbstractParser<BatchQueryDomainStatusRequest>() {
+      @java.lang.Override
+      public BatchQueryDomainStatusRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<BatchQueryDomainStatusRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BatchQueryDomainStatusRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BatchQueryDomainStatusResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    boolean hasStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    org.secretflow.v1alpha1.common.Common.Status getStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder();
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusResponseData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    boolean hasData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusResponseData data = 2;</code>
+     * @return The data.
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData getData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusResponseData data = 2;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseDataOrBuilder getDataOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusResponse}
+   */
+  public static final class BatchQueryDomainStatusResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusResponse)
+      BatchQueryDomainStatusResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BatchQueryDomainStatusResponse.newBuilder() to construct.
+    private BatchQueryDomainStatusResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BatchQueryDomainStatusResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BatchQueryDomainStatusResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainStatusResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainStatusResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse.class, org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse.Builder.class);
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.Status status_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    @java.lang.Override
+    public boolean hasStatus() {
+      return status_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+
+    public static final int DATA_FIELD_NUMBER = 2;
+    private org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData data_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusResponseData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    @java.lang.Override
+    public boolean hasData() {
+      return data_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusResponseData data = 2;</code>
+     * @return The data.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData getData() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData.getDefaultInstance() : data_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusResponseData data = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseDataOrBuilder getDataOrBuilder() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData.getDefaultInstance() : data_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (status_ != null) {
+        output.writeMessage(1, getStatus());
+      }
+      if (data_ != null) {
+        output.writeMessage(2, getData());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (status_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getStatus());
+      }
+      if (data_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getData());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse other = (org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse) obj;
+
+      if (hasStatus() != other.hasStatus()) return false;
+      if (hasStatus()) {
+        if (!getStatus()
+            .equals(other.getStatus())) return false;
+      }
+      if (hasData() != other.hasData()) return false;
+      if (hasData()) {
+        if (!getData()
+            .equals(other.getData())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasStatus()) {
+        hash = (37 * hash) + STATUS_FIELD_NUMBER;
+        hash = (53 * hash) + getStatus().hashCode();
+      }
+      if (hasData()) {
+        hash = (37 * hash) + DATA_FIELD_NUMBER;
+        hash = (53 * hash) + getData().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusResponse)
+        org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainStatusResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainStatusResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse.class, org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainStatusResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse build() {
+        org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse result = new org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.status_ = statusBuilder_ == null
+              ? status_
+              : statusBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.data_ = dataBuilder_ == null
+              ? data_
+              : dataBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse.getDefaultInstance()) return this;
+        if (other.hasStatus()) {
+          mergeStatus(other.getStatus());
+        }
+        if (other.hasData()) {
+          mergeData(other.getData());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getStatusFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getDataFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.Status status_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> statusBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return Whether the status field is set.
+       */
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return The status.
+       */
+      public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+        if (statusBuilder_ == null) {
+          return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        } else {
+          return statusBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          status_ = value;
+        } else {
+          statusBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(
+          org.secretflow.v1alpha1.common.Common.Status.Builder builderForValue) {
+        if (statusBuilder_ == null) {
+          status_ = builderForValue.build();
+        } else {
+          statusBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder mergeStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            status_ != null &&
+            status_ != org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance()) {
+            getStatusBuilder().mergeFrom(value);
+          } else {
+            status_ = value;
+          }
+        } else {
+          statusBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.Status.Builder getStatusBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getStatusFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+        if (statusBuilder_ != null) {
+          return statusBuilder_.getMessageOrBuilder();
+        } else {
+          return status_ == null ?
+              org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> 
+          getStatusFieldBuilder() {
+        if (statusBuilder_ == null) {
+          statusBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder>(
+                  getStatus(),
+                  getParentForChildren(),
+                  isClean());
+          status_ = null;
+        }
+        return statusBuilder_;
+      }
+
+      private org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData data_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData, org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseDataOrBuilder> dataBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusResponseData data = 2;</code>
+       * @return Whether the data field is set.
+       */
+      public boolean hasData() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusResponseData data = 2;</code>
+       * @return The data.
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData getData() {
+        if (dataBuilder_ == null) {
+          return data_ == null ? org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData.getDefaultInstance() : data_;
+        } else {
+          return dataBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusResponseData data = 2;</code>
+       */
+      public Builder setData(org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData value) {
+        if (dataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          data_ = value;
+        } else {
+          dataBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusResponseData data = 2;</code>
+       */
+      public Builder setData(
+          org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData.Builder builderForValue) {
+        if (dataBuilder_ == null) {
+          data_ = builderForValue.build();
+        } else {
+          dataBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusResponseData data = 2;</code>
+       */
+      public Builder mergeData(org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData value) {
+        if (dataBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            data_ != null &&
+            data_ != org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData.getDefaultInstance()) {
+            getDataBuilder().mergeFrom(value);
+          } else {
+            data_ = value;
+          }
+        } else {
+          dataBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusResponseData data = 2;</code>
+       */
+      public Builder clearData() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusResponseData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData.Builder getDataBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getDataFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusResponseData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseDataOrBuilder getDataOrBuilder() {
+        if (dataBuilder_ != null) {
+          return dataBuilder_.getMessageOrBuilder();
+        } else {
+          return data_ == null ?
+              org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData.getDefaultInstance() : data_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusResponseData data = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData, org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseDataOrBuilder> 
+          getDataFieldBuilder() {
+        if (dataBuilder_ == null) {
+          dataBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData, org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseDataOrBuilder>(
+                  getData(),
+                  getParentForChildren(),
+                  isClean());
+          data_ = null;
+        }
+        return dataBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusResponse)
+    private static final org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BatchQueryDomainStatusResponse>
+        PARSER = new com.google.protobuf.AbstractParser<BatchQueryDomainStatusResponse>() {
+      @java.lang.Override
+      public BatchQueryDomainStatusResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<BatchQueryDomainStatusResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BatchQueryDomainStatusResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BatchQueryDomainStatusResponseDataOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusResponseData)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus domains = 1;</code>
+     */
+    java.util.List<org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus> 
+        getDomainsList();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus domains = 1;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus getDomains(int index);
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus domains = 1;</code>
+     */
+    int getDomainsCount();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus domains = 1;</code>
+     */
+    java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatusOrBuilder> 
+        getDomainsOrBuilderList();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus domains = 1;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatusOrBuilder getDomainsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusResponseData}
+   */
+  public static final class BatchQueryDomainStatusResponseData extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusResponseData)
+      BatchQueryDomainStatusResponseDataOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BatchQueryDomainStatusResponseData.newBuilder() to construct.
+    private BatchQueryDomainStatusResponseData(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BatchQueryDomainStatusResponseData() {
+      domains_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BatchQueryDomainStatusResponseData();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainStatusResponseData_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainStatusResponseData_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData.class, org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData.Builder.class);
+    }
+
+    public static final int DOMAINS_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus> domains_;
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus domains = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus> getDomainsList() {
+      return domains_;
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus domains = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatusOrBuilder> 
+        getDomainsOrBuilderList() {
+      return domains_;
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus domains = 1;</code>
+     */
+    @java.lang.Override
+    public int getDomainsCount() {
+      return domains_.size();
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus domains = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus getDomains(int index) {
+      return domains_.get(index);
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus domains = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatusOrBuilder getDomainsOrBuilder(
+        int index) {
+      return domains_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < domains_.size(); i++) {
+        output.writeMessage(1, domains_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < domains_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, domains_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData other = (org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData) obj;
+
+      if (!getDomainsList()
+          .equals(other.getDomainsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getDomainsCount() > 0) {
+        hash = (37 * hash) + DOMAINS_FIELD_NUMBER;
+        hash = (53 * hash) + getDomainsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusResponseData}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusResponseData)
+        org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseDataOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainStatusResponseData_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainStatusResponseData_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData.class, org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        if (domainsBuilder_ == null) {
+          domains_ = java.util.Collections.emptyList();
+        } else {
+          domains_ = null;
+          domainsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainStatusResponseData_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData build() {
+        org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData result = new org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData result) {
+        if (domainsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            domains_ = java.util.Collections.unmodifiableList(domains_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.domains_ = domains_;
+        } else {
+          result.domains_ = domainsBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData result) {
+        int from_bitField0_ = bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData.getDefaultInstance()) return this;
+        if (domainsBuilder_ == null) {
+          if (!other.domains_.isEmpty()) {
+            if (domains_.isEmpty()) {
+              domains_ = other.domains_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureDomainsIsMutable();
+              domains_.addAll(other.domains_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.domains_.isEmpty()) {
+            if (domainsBuilder_.isEmpty()) {
+              domainsBuilder_.dispose();
+              domainsBuilder_ = null;
+              domains_ = other.domains_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              domainsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getDomainsFieldBuilder() : null;
+            } else {
+              domainsBuilder_.addAllMessages(other.domains_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus m =
+                    input.readMessage(
+                        org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus.parser(),
+                        extensionRegistry);
+                if (domainsBuilder_ == null) {
+                  ensureDomainsIsMutable();
+                  domains_.add(m);
+                } else {
+                  domainsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus> domains_ =
+        java.util.Collections.emptyList();
+      private void ensureDomainsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          domains_ = new java.util.ArrayList<org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus>(domains_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus, org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus.Builder, org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatusOrBuilder> domainsBuilder_;
+
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus domains = 1;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus> getDomainsList() {
+        if (domainsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(domains_);
+        } else {
+          return domainsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus domains = 1;</code>
+       */
+      public int getDomainsCount() {
+        if (domainsBuilder_ == null) {
+          return domains_.size();
+        } else {
+          return domainsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus domains = 1;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus getDomains(int index) {
+        if (domainsBuilder_ == null) {
+          return domains_.get(index);
+        } else {
+          return domainsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus domains = 1;</code>
+       */
+      public Builder setDomains(
+          int index, org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus value) {
+        if (domainsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDomainsIsMutable();
+          domains_.set(index, value);
+          onChanged();
+        } else {
+          domainsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus domains = 1;</code>
+       */
+      public Builder setDomains(
+          int index, org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus.Builder builderForValue) {
+        if (domainsBuilder_ == null) {
+          ensureDomainsIsMutable();
+          domains_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          domainsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus domains = 1;</code>
+       */
+      public Builder addDomains(org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus value) {
+        if (domainsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDomainsIsMutable();
+          domains_.add(value);
+          onChanged();
+        } else {
+          domainsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus domains = 1;</code>
+       */
+      public Builder addDomains(
+          int index, org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus value) {
+        if (domainsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDomainsIsMutable();
+          domains_.add(index, value);
+          onChanged();
+        } else {
+          domainsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus domains = 1;</code>
+       */
+      public Builder addDomains(
+          org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus.Builder builderForValue) {
+        if (domainsBuilder_ == null) {
+          ensureDomainsIsMutable();
+          domains_.add(builderForValue.build());
+          onChanged();
+        } else {
+          domainsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus domains = 1;</code>
+       */
+      public Builder addDomains(
+          int index, org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus.Builder builderForValue) {
+        if (domainsBuilder_ == null) {
+          ensureDomainsIsMutable();
+          domains_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          domainsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus domains = 1;</code>
+       */
+      public Builder addAllDomains(
+          java.lang.Iterable<? extends org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus> values) {
+        if (domainsBuilder_ == null) {
+          ensureDomainsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, domains_);
+          onChanged();
+        } else {
+          domainsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus domains = 1;</code>
+       */
+      public Builder clearDomains() {
+        if (domainsBuilder_ == null) {
+          domains_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          domainsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus domains = 1;</code>
+       */
+      public Builder removeDomains(int index) {
+        if (domainsBuilder_ == null) {
+          ensureDomainsIsMutable();
+          domains_.remove(index);
+          onChanged();
+        } else {
+          domainsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus domains = 1;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus.Builder getDomainsBuilder(
+          int index) {
+        return getDomainsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus domains = 1;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatusOrBuilder getDomainsOrBuilder(
+          int index) {
+        if (domainsBuilder_ == null) {
+          return domains_.get(index);  } else {
+          return domainsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus domains = 1;</code>
+       */
+      public java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatusOrBuilder> 
+           getDomainsOrBuilderList() {
+        if (domainsBuilder_ != null) {
+          return domainsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(domains_);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus domains = 1;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus.Builder addDomainsBuilder() {
+        return getDomainsFieldBuilder().addBuilder(
+            org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus domains = 1;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus.Builder addDomainsBuilder(
+          int index) {
+        return getDomainsFieldBuilder().addBuilder(
+            index, org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus domains = 1;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus.Builder> 
+           getDomainsBuilderList() {
+        return getDomainsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus, org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus.Builder, org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatusOrBuilder> 
+          getDomainsFieldBuilder() {
+        if (domainsBuilder_ == null) {
+          domainsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus, org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus.Builder, org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatusOrBuilder>(
+                  domains_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          domains_ = null;
+        }
+        return domainsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusResponseData)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainStatusResponseData)
+    private static final org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BatchQueryDomainStatusResponseData>
+        PARSER = new com.google.protobuf.AbstractParser<BatchQueryDomainStatusResponseData>() {
+      @java.lang.Override
+      public BatchQueryDomainStatusResponseData parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<BatchQueryDomainStatusResponseData> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BatchQueryDomainStatusResponseData> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.BatchQueryDomainStatusResponseData getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DomainStatusOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string domain_id = 1;</code>
+     * @return The domainId.
+     */
+    java.lang.String getDomainId();
+    /**
+     * <code>string domain_id = 1;</code>
+     * @return The bytes for domainId.
+     */
+    com.google.protobuf.ByteString
+        getDomainIdBytes();
+
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 2;</code>
+     */
+    java.util.List<org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus> 
+        getNodeStatusesList();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 2;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus getNodeStatuses(int index);
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 2;</code>
+     */
+    int getNodeStatusesCount();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 2;</code>
+     */
+    java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatusOrBuilder> 
+        getNodeStatusesOrBuilderList();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 2;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatusOrBuilder getNodeStatusesOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 3;</code>
+     */
+    java.util.List<org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus> 
+        getDeployTokenStatusesList();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 3;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus getDeployTokenStatuses(int index);
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 3;</code>
+     */
+    int getDeployTokenStatusesCount();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 3;</code>
+     */
+    java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatusOrBuilder> 
+        getDeployTokenStatusesOrBuilderList();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 3;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatusOrBuilder getDeployTokenStatusesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus}
+   */
+  public static final class DomainStatus extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus)
+      DomainStatusOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use DomainStatus.newBuilder() to construct.
+    private DomainStatus(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DomainStatus() {
+      domainId_ = "";
+      nodeStatuses_ = java.util.Collections.emptyList();
+      deployTokenStatuses_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new DomainStatus();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainStatus_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainStatus_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus.class, org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus.Builder.class);
+    }
+
+    public static final int DOMAIN_ID_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object domainId_ = "";
+    /**
+     * <code>string domain_id = 1;</code>
+     * @return The domainId.
+     */
+    @java.lang.Override
+    public java.lang.String getDomainId() {
+      java.lang.Object ref = domainId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        domainId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string domain_id = 1;</code>
+     * @return The bytes for domainId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDomainIdBytes() {
+      java.lang.Object ref = domainId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        domainId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int NODE_STATUSES_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus> nodeStatuses_;
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus> getNodeStatusesList() {
+      return nodeStatuses_;
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatusOrBuilder> 
+        getNodeStatusesOrBuilderList() {
+      return nodeStatuses_;
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 2;</code>
+     */
+    @java.lang.Override
+    public int getNodeStatusesCount() {
+      return nodeStatuses_.size();
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus getNodeStatuses(int index) {
+      return nodeStatuses_.get(index);
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatusOrBuilder getNodeStatusesOrBuilder(
+        int index) {
+      return nodeStatuses_.get(index);
+    }
+
+    public static final int DEPLOY_TOKEN_STATUSES_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus> deployTokenStatuses_;
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus> getDeployTokenStatusesList() {
+      return deployTokenStatuses_;
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatusOrBuilder> 
+        getDeployTokenStatusesOrBuilderList() {
+      return deployTokenStatuses_;
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 3;</code>
+     */
+    @java.lang.Override
+    public int getDeployTokenStatusesCount() {
+      return deployTokenStatuses_.size();
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 3;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus getDeployTokenStatuses(int index) {
+      return deployTokenStatuses_.get(index);
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 3;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatusOrBuilder getDeployTokenStatusesOrBuilder(
+        int index) {
+      return deployTokenStatuses_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domainId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, domainId_);
+      }
+      for (int i = 0; i < nodeStatuses_.size(); i++) {
+        output.writeMessage(2, nodeStatuses_.get(i));
+      }
+      for (int i = 0; i < deployTokenStatuses_.size(); i++) {
+        output.writeMessage(3, deployTokenStatuses_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(domainId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, domainId_);
+      }
+      for (int i = 0; i < nodeStatuses_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, nodeStatuses_.get(i));
+      }
+      for (int i = 0; i < deployTokenStatuses_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, deployTokenStatuses_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus other = (org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus) obj;
+
+      if (!getDomainId()
+          .equals(other.getDomainId())) return false;
+      if (!getNodeStatusesList()
+          .equals(other.getNodeStatusesList())) return false;
+      if (!getDeployTokenStatusesList()
+          .equals(other.getDeployTokenStatusesList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + DOMAIN_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getDomainId().hashCode();
+      if (getNodeStatusesCount() > 0) {
+        hash = (37 * hash) + NODE_STATUSES_FIELD_NUMBER;
+        hash = (53 * hash) + getNodeStatusesList().hashCode();
+      }
+      if (getDeployTokenStatusesCount() > 0) {
+        hash = (37 * hash) + DEPLOY_TOKEN_STATUSES_FIELD_NUMBER;
+        hash = (53 * hash) + getDeployTokenStatusesList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus)
+        org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatusOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainStatus_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainStatus_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus.class, org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        domainId_ = "";
+        if (nodeStatusesBuilder_ == null) {
+          nodeStatuses_ = java.util.Collections.emptyList();
+        } else {
+          nodeStatuses_ = null;
+          nodeStatusesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (deployTokenStatusesBuilder_ == null) {
+          deployTokenStatuses_ = java.util.Collections.emptyList();
+        } else {
+          deployTokenStatuses_ = null;
+          deployTokenStatusesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainStatus_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus build() {
+        org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus result = new org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus result) {
+        if (nodeStatusesBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            nodeStatuses_ = java.util.Collections.unmodifiableList(nodeStatuses_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.nodeStatuses_ = nodeStatuses_;
+        } else {
+          result.nodeStatuses_ = nodeStatusesBuilder_.build();
+        }
+        if (deployTokenStatusesBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0)) {
+            deployTokenStatuses_ = java.util.Collections.unmodifiableList(deployTokenStatuses_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.deployTokenStatuses_ = deployTokenStatuses_;
+        } else {
+          result.deployTokenStatuses_ = deployTokenStatusesBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.domainId_ = domainId_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus.getDefaultInstance()) return this;
+        if (!other.getDomainId().isEmpty()) {
+          domainId_ = other.domainId_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (nodeStatusesBuilder_ == null) {
+          if (!other.nodeStatuses_.isEmpty()) {
+            if (nodeStatuses_.isEmpty()) {
+              nodeStatuses_ = other.nodeStatuses_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureNodeStatusesIsMutable();
+              nodeStatuses_.addAll(other.nodeStatuses_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.nodeStatuses_.isEmpty()) {
+            if (nodeStatusesBuilder_.isEmpty()) {
+              nodeStatusesBuilder_.dispose();
+              nodeStatusesBuilder_ = null;
+              nodeStatuses_ = other.nodeStatuses_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              nodeStatusesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getNodeStatusesFieldBuilder() : null;
+            } else {
+              nodeStatusesBuilder_.addAllMessages(other.nodeStatuses_);
+            }
+          }
+        }
+        if (deployTokenStatusesBuilder_ == null) {
+          if (!other.deployTokenStatuses_.isEmpty()) {
+            if (deployTokenStatuses_.isEmpty()) {
+              deployTokenStatuses_ = other.deployTokenStatuses_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureDeployTokenStatusesIsMutable();
+              deployTokenStatuses_.addAll(other.deployTokenStatuses_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.deployTokenStatuses_.isEmpty()) {
+            if (deployTokenStatusesBuilder_.isEmpty()) {
+              deployTokenStatusesBuilder_.dispose();
+              deployTokenStatusesBuilder_ = null;
+              deployTokenStatuses_ = other.deployTokenStatuses_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              deployTokenStatusesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getDeployTokenStatusesFieldBuilder() : null;
+            } else {
+              deployTokenStatusesBuilder_.addAllMessages(other.deployTokenStatuses_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                domainId_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus m =
+                    input.readMessage(
+                        org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus.parser(),
+                        extensionRegistry);
+                if (nodeStatusesBuilder_ == null) {
+                  ensureNodeStatusesIsMutable();
+                  nodeStatuses_.add(m);
+                } else {
+                  nodeStatusesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 18
+              case 26: {
+                org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus m =
+                    input.readMessage(
+                        org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus.parser(),
+                        extensionRegistry);
+                if (deployTokenStatusesBuilder_ == null) {
+                  ensureDeployTokenStatusesIsMutable();
+                  deployTokenStatuses_.add(m);
+                } else {
+                  deployTokenStatusesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object domainId_ = "";
+      /**
+       * <code>string domain_id = 1;</code>
+       * @return The domainId.
+       */
+      public java.lang.String getDomainId() {
+        java.lang.Object ref = domainId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          domainId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string domain_id = 1;</code>
+       * @return The bytes for domainId.
+       */
+      public com.google.protobuf.ByteString
+          getDomainIdBytes() {
+        java.lang.Object ref = domainId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          domainId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string domain_id = 1;</code>
+       * @param value The domainId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomainId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        domainId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string domain_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDomainId() {
+        domainId_ = getDefaultInstance().getDomainId();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string domain_id = 1;</code>
+       * @param value The bytes for domainId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDomainIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        domainId_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus> nodeStatuses_ =
+        java.util.Collections.emptyList();
+      private void ensureNodeStatusesIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          nodeStatuses_ = new java.util.ArrayList<org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus>(nodeStatuses_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus, org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus.Builder, org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatusOrBuilder> nodeStatusesBuilder_;
+
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 2;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus> getNodeStatusesList() {
+        if (nodeStatusesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(nodeStatuses_);
+        } else {
+          return nodeStatusesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 2;</code>
+       */
+      public int getNodeStatusesCount() {
+        if (nodeStatusesBuilder_ == null) {
+          return nodeStatuses_.size();
+        } else {
+          return nodeStatusesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus getNodeStatuses(int index) {
+        if (nodeStatusesBuilder_ == null) {
+          return nodeStatuses_.get(index);
+        } else {
+          return nodeStatusesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 2;</code>
+       */
+      public Builder setNodeStatuses(
+          int index, org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus value) {
+        if (nodeStatusesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNodeStatusesIsMutable();
+          nodeStatuses_.set(index, value);
+          onChanged();
+        } else {
+          nodeStatusesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 2;</code>
+       */
+      public Builder setNodeStatuses(
+          int index, org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus.Builder builderForValue) {
+        if (nodeStatusesBuilder_ == null) {
+          ensureNodeStatusesIsMutable();
+          nodeStatuses_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          nodeStatusesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 2;</code>
+       */
+      public Builder addNodeStatuses(org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus value) {
+        if (nodeStatusesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNodeStatusesIsMutable();
+          nodeStatuses_.add(value);
+          onChanged();
+        } else {
+          nodeStatusesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 2;</code>
+       */
+      public Builder addNodeStatuses(
+          int index, org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus value) {
+        if (nodeStatusesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureNodeStatusesIsMutable();
+          nodeStatuses_.add(index, value);
+          onChanged();
+        } else {
+          nodeStatusesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 2;</code>
+       */
+      public Builder addNodeStatuses(
+          org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus.Builder builderForValue) {
+        if (nodeStatusesBuilder_ == null) {
+          ensureNodeStatusesIsMutable();
+          nodeStatuses_.add(builderForValue.build());
+          onChanged();
+        } else {
+          nodeStatusesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 2;</code>
+       */
+      public Builder addNodeStatuses(
+          int index, org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus.Builder builderForValue) {
+        if (nodeStatusesBuilder_ == null) {
+          ensureNodeStatusesIsMutable();
+          nodeStatuses_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          nodeStatusesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 2;</code>
+       */
+      public Builder addAllNodeStatuses(
+          java.lang.Iterable<? extends org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus> values) {
+        if (nodeStatusesBuilder_ == null) {
+          ensureNodeStatusesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, nodeStatuses_);
+          onChanged();
+        } else {
+          nodeStatusesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 2;</code>
+       */
+      public Builder clearNodeStatuses() {
+        if (nodeStatusesBuilder_ == null) {
+          nodeStatuses_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          nodeStatusesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 2;</code>
+       */
+      public Builder removeNodeStatuses(int index) {
+        if (nodeStatusesBuilder_ == null) {
+          ensureNodeStatusesIsMutable();
+          nodeStatuses_.remove(index);
+          onChanged();
+        } else {
+          nodeStatusesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus.Builder getNodeStatusesBuilder(
+          int index) {
+        return getNodeStatusesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatusOrBuilder getNodeStatusesOrBuilder(
+          int index) {
+        if (nodeStatusesBuilder_ == null) {
+          return nodeStatuses_.get(index);  } else {
+          return nodeStatusesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 2;</code>
+       */
+      public java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatusOrBuilder> 
+           getNodeStatusesOrBuilderList() {
+        if (nodeStatusesBuilder_ != null) {
+          return nodeStatusesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(nodeStatuses_);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus.Builder addNodeStatusesBuilder() {
+        return getNodeStatusesFieldBuilder().addBuilder(
+            org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus.Builder addNodeStatusesBuilder(
+          int index) {
+        return getNodeStatusesFieldBuilder().addBuilder(
+            index, org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.NodeStatus node_statuses = 2;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus.Builder> 
+           getNodeStatusesBuilderList() {
+        return getNodeStatusesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus, org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus.Builder, org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatusOrBuilder> 
+          getNodeStatusesFieldBuilder() {
+        if (nodeStatusesBuilder_ == null) {
+          nodeStatusesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus, org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatus.Builder, org.secretflow.v1alpha1.kusciaapi.Domain.NodeStatusOrBuilder>(
+                  nodeStatuses_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          nodeStatuses_ = null;
+        }
+        return nodeStatusesBuilder_;
+      }
+
+      private java.util.List<org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus> deployTokenStatuses_ =
+        java.util.Collections.emptyList();
+      private void ensureDeployTokenStatusesIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          deployTokenStatuses_ = new java.util.ArrayList<org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus>(deployTokenStatuses_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus, org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus.Builder, org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatusOrBuilder> deployTokenStatusesBuilder_;
+
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 3;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus> getDeployTokenStatusesList() {
+        if (deployTokenStatusesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(deployTokenStatuses_);
+        } else {
+          return deployTokenStatusesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 3;</code>
+       */
+      public int getDeployTokenStatusesCount() {
+        if (deployTokenStatusesBuilder_ == null) {
+          return deployTokenStatuses_.size();
+        } else {
+          return deployTokenStatusesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 3;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus getDeployTokenStatuses(int index) {
+        if (deployTokenStatusesBuilder_ == null) {
+          return deployTokenStatuses_.get(index);
+        } else {
+          return deployTokenStatusesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 3;</code>
+       */
+      public Builder setDeployTokenStatuses(
+          int index, org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus value) {
+        if (deployTokenStatusesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDeployTokenStatusesIsMutable();
+          deployTokenStatuses_.set(index, value);
+          onChanged();
+        } else {
+          deployTokenStatusesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 3;</code>
+       */
+      public Builder setDeployTokenStatuses(
+          int index, org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus.Builder builderForValue) {
+        if (deployTokenStatusesBuilder_ == null) {
+          ensureDeployTokenStatusesIsMutable();
+          deployTokenStatuses_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          deployTokenStatusesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 3;</code>
+       */
+      public Builder addDeployTokenStatuses(org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus value) {
+        if (deployTokenStatusesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDeployTokenStatusesIsMutable();
+          deployTokenStatuses_.add(value);
+          onChanged();
+        } else {
+          deployTokenStatusesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 3;</code>
+       */
+      public Builder addDeployTokenStatuses(
+          int index, org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus value) {
+        if (deployTokenStatusesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDeployTokenStatusesIsMutable();
+          deployTokenStatuses_.add(index, value);
+          onChanged();
+        } else {
+          deployTokenStatusesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 3;</code>
+       */
+      public Builder addDeployTokenStatuses(
+          org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus.Builder builderForValue) {
+        if (deployTokenStatusesBuilder_ == null) {
+          ensureDeployTokenStatusesIsMutable();
+          deployTokenStatuses_.add(builderForValue.build());
+          onChanged();
+        } else {
+          deployTokenStatusesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 3;</code>
+       */
+      public Builder addDeployTokenStatuses(
+          int index, org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus.Builder builderForValue) {
+        if (deployTokenStatusesBuilder_ == null) {
+          ensureDeployTokenStatusesIsMutable();
+          deployTokenStatuses_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          deployTokenStatusesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 3;</code>
+       */
+      public Builder addAllDeployTokenStatuses(
+          java.lang.Iterable<? extends org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus> values) {
+        if (deployTokenStatusesBuilder_ == null) {
+          ensureDeployTokenStatusesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, deployTokenStatuses_);
+          onChanged();
+        } else {
+          deployTokenStatusesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 3;</code>
+       */
+      public Builder clearDeployTokenStatuses() {
+        if (deployTokenStatusesBuilder_ == null) {
+          deployTokenStatuses_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          deployTokenStatusesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 3;</code>
+       */
+      public Builder removeDeployTokenStatuses(int index) {
+        if (deployTokenStatusesBuilder_ == null) {
+          ensureDeployTokenStatusesIsMutable();
+          deployTokenStatuses_.remove(index);
+          onChanged();
+        } else {
+          deployTokenStatusesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 3;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus.Builder getDeployTokenStatusesBuilder(
+          int index) {
+        return getDeployTokenStatusesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 3;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatusOrBuilder getDeployTokenStatusesOrBuilder(
+          int index) {
+        if (deployTokenStatusesBuilder_ == null) {
+          return deployTokenStatuses_.get(index);  } else {
+          return deployTokenStatusesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 3;</code>
+       */
+      public java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatusOrBuilder> 
+           getDeployTokenStatusesOrBuilderList() {
+        if (deployTokenStatusesBuilder_ != null) {
+          return deployTokenStatusesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(deployTokenStatuses_);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 3;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus.Builder addDeployTokenStatusesBuilder() {
+        return getDeployTokenStatusesFieldBuilder().addBuilder(
+            org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 3;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus.Builder addDeployTokenStatusesBuilder(
+          int index) {
+        return getDeployTokenStatusesFieldBuilder().addBuilder(
+            index, org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus deploy_token_statuses = 3;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus.Builder> 
+           getDeployTokenStatusesBuilderList() {
+        return getDeployTokenStatusesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus, org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus.Builder, org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatusOrBuilder> 
+          getDeployTokenStatusesFieldBuilder() {
+        if (deployTokenStatusesBuilder_ == null) {
+          deployTokenStatusesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus, org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus.Builder, org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatusOrBuilder>(
+                  deployTokenStatuses_,
+                  ((bitField0_ & 0x00000004) != 0),
+                  getParentForChildren(),
+                  isClean());
+          deployTokenStatuses_ = null;
+        }
+        return deployTokenStatusesBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.DomainStatus)
+    private static final org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DomainStatus>
+        PARSER = new com.google.protobuf.AbstractParser<DomainStatus>() {
+      @java.lang.Override
+      public DomainStatus parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<DomainStatus> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DomainStatus> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.DomainStatus getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DeployTokenStatusOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * deploy token
+     * </pre>
+     *
+     * <code>string token = 1;</code>
+     * @return The token.
+     */
+    java.lang.String getToken();
+    /**
+     * <pre>
+     * deploy token
+     * </pre>
+     *
+     * <code>string token = 1;</code>
+     * @return The bytes for token.
+     */
+    com.google.protobuf.ByteString
+        getTokenBytes();
+
+    /**
+     * <pre>
+     * used or unused
+     * </pre>
+     *
+     * <code>string state = 2;</code>
+     * @return The state.
+     */
+    java.lang.String getState();
+    /**
+     * <pre>
+     * used or unused
+     * </pre>
+     *
+     * <code>string state = 2;</code>
+     * @return The bytes for state.
+     */
+    com.google.protobuf.ByteString
+        getStateBytes();
+
+    /**
+     * <code>string last_transition_time = 3;</code>
+     * @return The lastTransitionTime.
+     */
+    java.lang.String getLastTransitionTime();
+    /**
+     * <code>string last_transition_time = 3;</code>
+     * @return The bytes for lastTransitionTime.
+     */
+    com.google.protobuf.ByteString
+        getLastTransitionTimeBytes();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus}
+   */
+  public static final class DeployTokenStatus extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus)
+      DeployTokenStatusOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use DeployTokenStatus.newBuilder() to construct.
+    private DeployTokenStatus(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DeployTokenStatus() {
+      token_ = "";
+      state_ = "";
+      lastTransitionTime_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new DeployTokenStatus();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeployTokenStatus_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeployTokenStatus_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus.class, org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus.Builder.class);
+    }
+
+    public static final int TOKEN_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object token_ = "";
+    /**
+     * <pre>
+     * deploy token
+     * </pre>
+     *
+     * <code>string token = 1;</code>
+     * @return The token.
+     */
+    @java.lang.Override
+    public java.lang.String getToken() {
+      java.lang.Object ref = token_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        token_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * deploy token
+     * </pre>
+     *
+     * <code>string token = 1;</code>
+     * @return The bytes for token.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTokenBytes() {
+      java.lang.Object ref = token_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        token_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int STATE_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object state_ = "";
+    /**
+     * <pre>
+     * used or unused
+     * </pre>
+     *
+     * <code>string state = 2;</code>
+     * @return The state.
+     */
+    @java.lang.Override
+    public java.lang.String getState() {
+      java.lang.Object ref = state_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        state_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * used or unused
+     * </pre>
+     *
+     * <code>string state = 2;</code>
+     * @return The bytes for state.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getStateBytes() {
+      java.lang.Object ref = state_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        state_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LAST_TRANSITION_TIME_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object lastTransitionTime_ = "";
+    /**
+     * <code>string last_transition_time = 3;</code>
+     * @return The lastTransitionTime.
+     */
+    @java.lang.Override
+    public java.lang.String getLastTransitionTime() {
+      java.lang.Object ref = lastTransitionTime_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        lastTransitionTime_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string last_transition_time = 3;</code>
+     * @return The bytes for lastTransitionTime.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getLastTransitionTimeBytes() {
+      java.lang.Object ref = lastTransitionTime_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        lastTransitionTime_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(token_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, token_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(state_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, state_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(lastTransitionTime_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, lastTransitionTime_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(token_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, token_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(state_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, state_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(lastTransitionTime_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, lastTransitionTime_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus other = (org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus) obj;
+
+      if (!getToken()
+          .equals(other.getToken())) return false;
+      if (!getState()
+          .equals(other.getState())) return false;
+      if (!getLastTransitionTime()
+          .equals(other.getLastTransitionTime())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + TOKEN_FIELD_NUMBER;
+      hash = (53 * hash) + getToken().hashCode();
+      hash = (37 * hash) + STATE_FIELD_NUMBER;
+      hash = (53 * hash) + getState().hashCode();
+      hash = (37 * hash) + LAST_TRANSITION_TIME_FIELD_NUMBER;
+      hash = (53 * hash) + getLastTransitionTime().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus)
+        org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatusOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeployTokenStatus_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeployTokenStatus_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus.class, org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        token_ = "";
+        state_ = "";
+        lastTransitionTime_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeployTokenStatus_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus build() {
+        org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus result = new org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.token_ = token_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.state_ = state_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.lastTransitionTime_ = lastTransitionTime_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus.getDefaultInstance()) return this;
+        if (!other.getToken().isEmpty()) {
+          token_ = other.token_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getState().isEmpty()) {
+          state_ = other.state_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getLastTransitionTime().isEmpty()) {
+          lastTransitionTime_ = other.lastTransitionTime_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                token_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                state_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                lastTransitionTime_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object token_ = "";
+      /**
+       * <pre>
+       * deploy token
+       * </pre>
+       *
+       * <code>string token = 1;</code>
+       * @return The token.
+       */
+      public java.lang.String getToken() {
+        java.lang.Object ref = token_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          token_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * deploy token
+       * </pre>
+       *
+       * <code>string token = 1;</code>
+       * @return The bytes for token.
+       */
+      public com.google.protobuf.ByteString
+          getTokenBytes() {
+        java.lang.Object ref = token_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          token_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * deploy token
+       * </pre>
+       *
+       * <code>string token = 1;</code>
+       * @param value The token to set.
+       * @return This builder for chaining.
+       */
+      public Builder setToken(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        token_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * deploy token
+       * </pre>
+       *
+       * <code>string token = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearToken() {
+        token_ = getDefaultInstance().getToken();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * deploy token
+       * </pre>
+       *
+       * <code>string token = 1;</code>
+       * @param value The bytes for token to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTokenBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        token_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object state_ = "";
+      /**
+       * <pre>
+       * used or unused
+       * </pre>
+       *
+       * <code>string state = 2;</code>
+       * @return The state.
+       */
+      public java.lang.String getState() {
+        java.lang.Object ref = state_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          state_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * used or unused
+       * </pre>
+       *
+       * <code>string state = 2;</code>
+       * @return The bytes for state.
+       */
+      public com.google.protobuf.ByteString
+          getStateBytes() {
+        java.lang.Object ref = state_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          state_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * used or unused
+       * </pre>
+       *
+       * <code>string state = 2;</code>
+       * @param value The state to set.
+       * @return This builder for chaining.
+       */
+      public Builder setState(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        state_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * used or unused
+       * </pre>
+       *
+       * <code>string state = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearState() {
+        state_ = getDefaultInstance().getState();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * used or unused
+       * </pre>
+       *
+       * <code>string state = 2;</code>
+       * @param value The bytes for state to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStateBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        state_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object lastTransitionTime_ = "";
+      /**
+       * <code>string last_transition_time = 3;</code>
+       * @return The lastTransitionTime.
+       */
+      public java.lang.String getLastTransitionTime() {
+        java.lang.Object ref = lastTransitionTime_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          lastTransitionTime_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string last_transition_time = 3;</code>
+       * @return The bytes for lastTransitionTime.
+       */
+      public com.google.protobuf.ByteString
+          getLastTransitionTimeBytes() {
+        java.lang.Object ref = lastTransitionTime_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          lastTransitionTime_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string last_transition_time = 3;</code>
+       * @param value The lastTransitionTime to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLastTransitionTime(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        lastTransitionTime_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string last_transition_time = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLastTransitionTime() {
+        lastTransitionTime_ = getDefaultInstance().getLastTransitionTime();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string last_transition_time = 3;</code>
+       * @param value The bytes for lastTransitionTime to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLastTransitionTimeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        lastTransitionTime_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.DeployTokenStatus)
+    private static final org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DeployTokenStatus>
+        PARSER = new com.google.protobuf.AbstractParser<DeployTokenStatus>() {
+      @java.lang.Override
+      public DeployTokenStatus parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<DeployTokenStatus> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DeployTokenStatus> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.DeployTokenStatus getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface AuthCenterOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Token
+     * </pre>
+     *
+     * <code>string authentication_type = 1;</code>
+     * @return The authenticationType.
+     */
+    java.lang.String getAuthenticationType();
+    /**
+     * <pre>
+     * Token
+     * </pre>
+     *
+     * <code>string authentication_type = 1;</code>
+     * @return The bytes for authenticationType.
+     */
+    com.google.protobuf.ByteString
+        getAuthenticationTypeBytes();
+
+    /**
+     * <pre>
+     * UID-RSA-GEN
+     * </pre>
+     *
+     * <code>string token_gen_method = 2;</code>
+     * @return The tokenGenMethod.
+     */
+    java.lang.String getTokenGenMethod();
+    /**
+     * <pre>
+     * UID-RSA-GEN
+     * </pre>
+     *
+     * <code>string token_gen_method = 2;</code>
+     * @return The bytes for tokenGenMethod.
+     */
+    com.google.protobuf.ByteString
+        getTokenGenMethodBytes();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter}
+   */
+  public static final class AuthCenter extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter)
+      AuthCenterOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use AuthCenter.newBuilder() to construct.
+    private AuthCenter(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private AuthCenter() {
+      authenticationType_ = "";
+      tokenGenMethod_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new AuthCenter();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_AuthCenter_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_AuthCenter_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.class, org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.Builder.class);
+    }
+
+    public static final int AUTHENTICATION_TYPE_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object authenticationType_ = "";
+    /**
+     * <pre>
+     * Token
+     * </pre>
+     *
+     * <code>string authentication_type = 1;</code>
+     * @return The authenticationType.
+     */
+    @java.lang.Override
+    public java.lang.String getAuthenticationType() {
+      java.lang.Object ref = authenticationType_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        authenticationType_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Token
+     * </pre>
+     *
+     * <code>string authentication_type = 1;</code>
+     * @return The bytes for authenticationType.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getAuthenticationTypeBytes() {
+      java.lang.Object ref = authenticationType_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        authenticationType_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TOKEN_GEN_METHOD_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object tokenGenMethod_ = "";
+    /**
+     * <pre>
+     * UID-RSA-GEN
+     * </pre>
+     *
+     * <code>string token_gen_method = 2;</code>
+     * @return The tokenGenMethod.
+     */
+    @java.lang.Override
+    public java.lang.String getTokenGenMethod() {
+      java.lang.Object ref = tokenGenMethod_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        tokenGenMethod_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * UID-RSA-GEN
+     * </pre>
+     *
+     * <code>string token_gen_method = 2;</code>
+     * @return The bytes for tokenGenMethod.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTokenGenMethodBytes() {
+      java.lang.Object ref = tokenGenMethod_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        tokenGenMethod_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(authenticationType_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, authenticationType_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(tokenGenMethod_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, tokenGenMethod_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(authenticationType_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, authenticationType_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(tokenGenMethod_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, tokenGenMethod_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter other = (org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter) obj;
+
+      if (!getAuthenticationType()
+          .equals(other.getAuthenticationType())) return false;
+      if (!getTokenGenMethod()
+          .equals(other.getTokenGenMethod())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + AUTHENTICATION_TYPE_FIELD_NUMBER;
+      hash = (53 * hash) + getAuthenticationType().hashCode();
+      hash = (37 * hash) + TOKEN_GEN_METHOD_FIELD_NUMBER;
+      hash = (53 * hash) + getTokenGenMethod().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter)
+        org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenterOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_AuthCenter_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_AuthCenter_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.class, org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        authenticationType_ = "";
+        tokenGenMethod_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_AuthCenter_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter build() {
+        org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter result = new org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.authenticationType_ = authenticationType_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.tokenGenMethod_ = tokenGenMethod_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter.getDefaultInstance()) return this;
+        if (!other.getAuthenticationType().isEmpty()) {
+          authenticationType_ = other.authenticationType_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getTokenGenMethod().isEmpty()) {
+          tokenGenMethod_ = other.tokenGenMethod_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                authenticationType_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                tokenGenMethod_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object authenticationType_ = "";
+      /**
+       * <pre>
+       * Token
+       * </pre>
+       *
+       * <code>string authentication_type = 1;</code>
+       * @return The authenticationType.
+       */
+      public java.lang.String getAuthenticationType() {
+        java.lang.Object ref = authenticationType_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          authenticationType_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Token
+       * </pre>
+       *
+       * <code>string authentication_type = 1;</code>
+       * @return The bytes for authenticationType.
+       */
+      public com.google.protobuf.ByteString
+          getAuthenticationTypeBytes() {
+        java.lang.Object ref = authenticationType_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          authenticationType_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Token
+       * </pre>
+       *
+       * <code>string authentication_type = 1;</code>
+       * @param value The authenticationType to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAuthenticationType(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        authenticationType_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Token
+       * </pre>
+       *
+       * <code>string authentication_type = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAuthenticationType() {
+        authenticationType_ = getDefaultInstance().getAuthenticationType();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Token
+       * </pre>
+       *
+       * <code>string authentication_type = 1;</code>
+       * @param value The bytes for authenticationType to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAuthenticationTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        authenticationType_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object tokenGenMethod_ = "";
+      /**
+       * <pre>
+       * UID-RSA-GEN
+       * </pre>
+       *
+       * <code>string token_gen_method = 2;</code>
+       * @return The tokenGenMethod.
+       */
+      public java.lang.String getTokenGenMethod() {
+        java.lang.Object ref = tokenGenMethod_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          tokenGenMethod_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * UID-RSA-GEN
+       * </pre>
+       *
+       * <code>string token_gen_method = 2;</code>
+       * @return The bytes for tokenGenMethod.
+       */
+      public com.google.protobuf.ByteString
+          getTokenGenMethodBytes() {
+        java.lang.Object ref = tokenGenMethod_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          tokenGenMethod_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * UID-RSA-GEN
+       * </pre>
+       *
+       * <code>string token_gen_method = 2;</code>
+       * @param value The tokenGenMethod to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTokenGenMethod(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        tokenGenMethod_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * UID-RSA-GEN
+       * </pre>
+       *
+       * <code>string token_gen_method = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTokenGenMethod() {
+        tokenGenMethod_ = getDefaultInstance().getTokenGenMethod();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * UID-RSA-GEN
+       * </pre>
+       *
+       * <code>string token_gen_method = 2;</code>
+       * @param value The bytes for tokenGenMethod to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTokenGenMethodBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        tokenGenMethod_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.AuthCenter)
+    private static final org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<AuthCenter>
+        PARSER = new com.google.protobuf.AbstractParser<AuthCenter>() {
+      @java.lang.Override
+      public AuthCenter parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<AuthCenter> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<AuthCenter> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.Domain.AuthCenter getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainResponseData_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainResponseData_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainResponseData_AnnotationsEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainResponseData_AnnotationsEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_NodeStatus_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_NodeStatus_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainStatusRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainStatusRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainStatusResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainStatusResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainStatusResponseData_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainStatusResponseData_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainStatus_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainStatus_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeployTokenStatus_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeployTokenStatus_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_AuthCenter_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_AuthCenter_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n0kuscia/proto/api/v1alpha1/kusciaapi/do" +
+      "main.proto\022#kuscia.proto.api.v1alpha1.ku" +
+      "sciaapi\032&kuscia/proto/api/v1alpha1/commo" +
+      "n.proto\"\304\001\n\023CreateDomainRequest\0228\n\006heade" +
+      "r\030\001 \001(\0132(.kuscia.proto.api.v1alpha1.Requ" +
+      "estHeader\022\021\n\tdomain_id\030\002 \001(\t\022\014\n\004role\030\003 \001" +
+      "(\t\022\014\n\004cert\030\004 \001(\t\022D\n\013auth_center\030\005 \001(\0132/." +
+      "kuscia.proto.api.v1alpha1.kusciaapi.Auth" +
+      "Center\"I\n\024CreateDomainResponse\0221\n\006status" +
+      "\030\001 \001(\0132!.kuscia.proto.api.v1alpha1.Statu" +
+      "s\"b\n\023DeleteDomainRequest\0228\n\006header\030\001 \001(\013" +
+      "2(.kuscia.proto.api.v1alpha1.RequestHead" +
+      "er\022\021\n\tdomain_id\030\002 \001(\t\"I\n\024DeleteDomainRes" +
+      "ponse\0221\n\006status\030\001 \001(\0132!.kuscia.proto.api" +
+      ".v1alpha1.Status\"a\n\022QueryDomainRequest\0228" +
+      "\n\006header\030\001 \001(\0132(.kuscia.proto.api.v1alph" +
+      "a1.RequestHeader\022\021\n\tdomain_id\030\002 \001(\t\"\224\001\n\023" +
+      "QueryDomainResponse\0221\n\006status\030\001 \001(\0132!.ku" +
+      "scia.proto.api.v1alpha1.Status\022J\n\004data\030\002" +
+      " \001(\0132<.kuscia.proto.api.v1alpha1.kusciaa" +
+      "pi.QueryDomainResponseData\"\305\003\n\027QueryDoma" +
+      "inResponseData\022\021\n\tdomain_id\030\001 \001(\t\022\014\n\004rol" +
+      "e\030\002 \001(\t\022\014\n\004cert\030\003 \001(\t\022F\n\rnode_statuses\030\004" +
+      " \003(\0132/.kuscia.proto.api.v1alpha1.kusciaa" +
+      "pi.NodeStatus\022U\n\025deploy_token_statuses\030\005" +
+      " \003(\01326.kuscia.proto.api.v1alpha1.kusciaa" +
+      "pi.DeployTokenStatus\022b\n\013annotations\030\006 \003(" +
+      "\0132M.kuscia.proto.api.v1alpha1.kusciaapi." +
+      "QueryDomainResponseData.AnnotationsEntry" +
+      "\022D\n\013auth_center\030\007 \001(\0132/.kuscia.proto.api" +
+      ".v1alpha1.kusciaapi.AuthCenter\0322\n\020Annota" +
+      "tionsEntry\022\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\t:\002" +
+      "8\001\"v\n\nNodeStatus\022\014\n\004name\030\001 \001(\t\022\016\n\006status" +
+      "\030\002 \001(\t\022\017\n\007version\030\003 \001(\t\022\033\n\023last_heartbea" +
+      "t_time\030\004 \001(\t\022\034\n\024last_transition_time\030\005 \001" +
+      "(\t\"\304\001\n\023UpdateDomainRequest\0228\n\006header\030\001 \001" +
+      "(\0132(.kuscia.proto.api.v1alpha1.RequestHe" +
+      "ader\022\021\n\tdomain_id\030\002 \001(\t\022\014\n\004role\030\003 \001(\t\022\014\n" +
+      "\004cert\030\004 \001(\t\022D\n\013auth_center\030\005 \001(\0132/.kusci" +
+      "a.proto.api.v1alpha1.kusciaapi.AuthCente" +
+      "r\"I\n\024UpdateDomainResponse\0221\n\006status\030\001 \001(" +
+      "\0132!.kuscia.proto.api.v1alpha1.Status\"m\n\035" +
+      "BatchQueryDomainStatusRequest\0228\n\006header\030" +
+      "\001 \001(\0132(.kuscia.proto.api.v1alpha1.Reques" +
+      "tHeader\022\022\n\ndomain_ids\030\002 \003(\t\"\252\001\n\036BatchQue" +
+      "ryDomainStatusResponse\0221\n\006status\030\001 \001(\0132!" +
+      ".kuscia.proto.api.v1alpha1.Status\022U\n\004dat" +
+      "a\030\002 \001(\0132G.kuscia.proto.api.v1alpha1.kusc" +
+      "iaapi.BatchQueryDomainStatusResponseData" +
+      "\"h\n\"BatchQueryDomainStatusResponseData\022B" +
+      "\n\007domains\030\001 \003(\01321.kuscia.proto.api.v1alp" +
+      "ha1.kusciaapi.DomainStatus\"\300\001\n\014DomainSta" +
+      "tus\022\021\n\tdomain_id\030\001 \001(\t\022F\n\rnode_statuses\030" +
+      "\002 \003(\0132/.kuscia.proto.api.v1alpha1.kuscia" +
+      "api.NodeStatus\022U\n\025deploy_token_statuses\030" +
+      "\003 \003(\01326.kuscia.proto.api.v1alpha1.kuscia" +
+      "api.DeployTokenStatus\"O\n\021DeployTokenStat" +
+      "us\022\r\n\005token\030\001 \001(\t\022\r\n\005state\030\002 \001(\t\022\034\n\024last" +
+      "_transition_time\030\003 \001(\t\"C\n\nAuthCenter\022\033\n\023" +
+      "authentication_type\030\001 \001(\t\022\030\n\020token_gen_m" +
+      "ethod\030\002 \001(\t2\310\005\n\rDomainService\022\203\001\n\014Create" +
+      "Domain\0228.kuscia.proto.api.v1alpha1.kusci" +
+      "aapi.CreateDomainRequest\0329.kuscia.proto." +
+      "api.v1alpha1.kusciaapi.CreateDomainRespo" +
+      "nse\022\200\001\n\013QueryDomain\0227.kuscia.proto.api.v" +
+      "1alpha1.kusciaapi.QueryDomainRequest\0328.k" +
+      "uscia.proto.api.v1alpha1.kusciaapi.Query" +
+      "DomainResponse\022\203\001\n\014UpdateDomain\0228.kuscia" +
+      ".proto.api.v1alpha1.kusciaapi.UpdateDoma" +
+      "inRequest\0329.kuscia.proto.api.v1alpha1.ku" +
+      "sciaapi.UpdateDomainResponse\022\203\001\n\014DeleteD" +
+      "omain\0228.kuscia.proto.api.v1alpha1.kuscia" +
+      "api.DeleteDomainRequest\0329.kuscia.proto.a" +
+      "pi.v1alpha1.kusciaapi.DeleteDomainRespon" +
+      "se\022\241\001\n\026BatchQueryDomainStatus\022B.kuscia.p" +
+      "roto.api.v1alpha1.kusciaapi.BatchQueryDo" +
+      "mainStatusRequest\032C.kuscia.proto.api.v1a" +
+      "lpha1.kusciaapi.BatchQueryDomainStatusRe" +
+      "sponseB^\n!org.secretflow.v1alpha1.kuscia" +
+      "apiZ9github.com/secretflow/kuscia/proto/" +
+      "api/v1alpha1/kusciaapib\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          org.secretflow.v1alpha1.common.Common.getDescriptor(),
+        });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRequest_descriptor,
+        new java.lang.String[] { "Header", "DomainId", "Role", "Cert", "AuthCenter", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainResponse_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainResponse_descriptor,
+        new java.lang.String[] { "Status", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainRequest_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainRequest_descriptor,
+        new java.lang.String[] { "Header", "DomainId", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainResponse_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainResponse_descriptor,
+        new java.lang.String[] { "Status", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRequest_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRequest_descriptor,
+        new java.lang.String[] { "Header", "DomainId", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainResponse_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainResponse_descriptor,
+        new java.lang.String[] { "Status", "Data", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainResponseData_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainResponseData_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainResponseData_descriptor,
+        new java.lang.String[] { "DomainId", "Role", "Cert", "NodeStatuses", "DeployTokenStatuses", "Annotations", "AuthCenter", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainResponseData_AnnotationsEntry_descriptor =
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainResponseData_descriptor.getNestedTypes().get(0);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainResponseData_AnnotationsEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainResponseData_AnnotationsEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_NodeStatus_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_NodeStatus_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_NodeStatus_descriptor,
+        new java.lang.String[] { "Name", "Status", "Version", "LastHeartbeatTime", "LastTransitionTime", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainRequest_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainRequest_descriptor,
+        new java.lang.String[] { "Header", "DomainId", "Role", "Cert", "AuthCenter", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainResponse_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_UpdateDomainResponse_descriptor,
+        new java.lang.String[] { "Status", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainStatusRequest_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainStatusRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainStatusRequest_descriptor,
+        new java.lang.String[] { "Header", "DomainIds", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainStatusResponse_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainStatusResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainStatusResponse_descriptor,
+        new java.lang.String[] { "Status", "Data", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainStatusResponseData_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainStatusResponseData_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainStatusResponseData_descriptor,
+        new java.lang.String[] { "Domains", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainStatus_descriptor =
+      getDescriptor().getMessageTypes().get(13);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainStatus_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainStatus_descriptor,
+        new java.lang.String[] { "DomainId", "NodeStatuses", "DeployTokenStatuses", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeployTokenStatus_descriptor =
+      getDescriptor().getMessageTypes().get(14);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeployTokenStatus_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeployTokenStatus_descriptor,
+        new java.lang.String[] { "Token", "State", "LastTransitionTime", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_AuthCenter_descriptor =
+      getDescriptor().getMessageTypes().get(15);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_AuthCenter_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_AuthCenter_descriptor,
+        new java.lang.String[] { "AuthenticationType", "TokenGenMethod", });
+    org.secretflow.v1alpha1.common.Common.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,16466 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: kuscia/proto/api/v1alpha1/kusciaapi/domain_route.proto
+
+package org.secretflow.v1alpha1.kusciaapi;
+
+public final class DomainRoute {
+  private DomainRoute() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  /**
+   * Protobuf enum {@code kuscia.proto.api.v1alpha1.kusciaapi.AuthenticationType}
+   */
+  public enum AuthenticationType
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>Token = 0;</code>
+     */
+    Token(0),
+    /**
+     * <code>MTLS = 1;</code>
+     */
+    MTLS(1),
+    UNRECOGNIZED(-1),
+    ;
+
+    /**
+     * <code>Token = 0;</code>
+     */
+    public static final int Token_VALUE = 0;
+    /**
+     * <code>MTLS = 1;</code>
+     */
+    public static final int MTLS_VALUE = 1;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static AuthenticationType valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static AuthenticationType forNumber(int value) {
+      switch (value) {
+        case 0: return Token;
+        case 1: return MTLS;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<AuthenticationType>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        AuthenticationType> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<AuthenticationType>() {
+            public AuthenticationType findValueByNumber(int number) {
+              return AuthenticationType.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
+      }
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final AuthenticationType[] VALUES = values();
+
+    public static AuthenticationType valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private AuthenticationType(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:kuscia.proto.api.v1alpha1.kusciaapi.AuthenticationType)
+  }
+
+  public interface CreateDomainRouteRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    boolean hasHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeader getHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder();
+
+    /**
+     * <code>string authentication_type = 2;</code>
+     * @return The authenticationType.
+     */
+    java.lang.String getAuthenticationType();
+    /**
+     * <code>string authentication_type = 2;</code>
+     * @return The bytes for authenticationType.
+     */
+    com.google.protobuf.ByteString
+        getAuthenticationTypeBytes();
+
+    /**
+     * <code>string destination = 3;</code>
+     * @return The destination.
+     */
+    java.lang.String getDestination();
+    /**
+     * <code>string destination = 3;</code>
+     * @return The bytes for destination.
+     */
+    com.google.protobuf.ByteString
+        getDestinationBytes();
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint endpoint = 4;</code>
+     * @return Whether the endpoint field is set.
+     */
+    boolean hasEndpoint();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint endpoint = 4;</code>
+     * @return The endpoint.
+     */
+    org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint getEndpoint();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint endpoint = 4;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpointOrBuilder getEndpointOrBuilder();
+
+    /**
+     * <code>string source = 5;</code>
+     * @return The source.
+     */
+    java.lang.String getSource();
+    /**
+     * <code>string source = 5;</code>
+     * @return The bytes for source.
+     */
+    com.google.protobuf.ByteString
+        getSourceBytes();
+
+    /**
+     * <pre>
+     * option
+     * </pre>
+     *
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig token_config = 6;</code>
+     * @return Whether the tokenConfig field is set.
+     */
+    boolean hasTokenConfig();
+    /**
+     * <pre>
+     * option
+     * </pre>
+     *
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig token_config = 6;</code>
+     * @return The tokenConfig.
+     */
+    org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig getTokenConfig();
+    /**
+     * <pre>
+     * option
+     * </pre>
+     *
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig token_config = 6;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfigOrBuilder getTokenConfigOrBuilder();
+
+    /**
+     * <pre>
+     * option
+     * </pre>
+     *
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig mtls_config = 7;</code>
+     * @return Whether the mtlsConfig field is set.
+     */
+    boolean hasMtlsConfig();
+    /**
+     * <pre>
+     * option
+     * </pre>
+     *
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig mtls_config = 7;</code>
+     * @return The mtlsConfig.
+     */
+    org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig getMtlsConfig();
+    /**
+     * <pre>
+     * option
+     * </pre>
+     *
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig mtls_config = 7;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfigOrBuilder getMtlsConfigOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteRequest}
+   */
+  public static final class CreateDomainRouteRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteRequest)
+      CreateDomainRouteRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use CreateDomainRouteRequest.newBuilder() to construct.
+    private CreateDomainRouteRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CreateDomainRouteRequest() {
+      authenticationType_ = "";
+      destination_ = "";
+      source_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new CreateDomainRouteRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRouteRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRouteRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest.Builder.class);
+    }
+
+    public static final int HEADER_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    @java.lang.Override
+    public boolean hasHeader() {
+      return header_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+
+    public static final int AUTHENTICATION_TYPE_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object authenticationType_ = "";
+    /**
+     * <code>string authentication_type = 2;</code>
+     * @return The authenticationType.
+     */
+    @java.lang.Override
+    public java.lang.String getAuthenticationType() {
+      java.lang.Object ref = authenticationType_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        authenticationType_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string authentication_type = 2;</code>
+     * @return The bytes for authenticationType.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getAuthenticationTypeBytes() {
+      java.lang.Object ref = authenticationType_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        authenticationType_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DESTINATION_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object destination_ = "";
+    /**
+     * <code>string destination = 3;</code>
+     * @return The destination.
+     */
+    @java.lang.Override
+    public java.lang.String getDestination() {
+      java.lang.Object ref = destination_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        destination_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string destination = 3;</code>
+     * @return The bytes for destination.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDestinationBytes() {
+      java.lang.Object ref = destination_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        destination_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ENDPOINT_FIELD_NUMBER = 4;
+    private org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint endpoint_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint endpoint = 4;</code>
+     * @return Whether the endpoint field is set.
+     */
+    @java.lang.Override
+    public boolean hasEndpoint() {
+      return endpoint_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint endpoint = 4;</code>
+     * @return The endpoint.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint getEndpoint() {
+      return endpoint_ == null ? org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint.getDefaultInstance() : endpoint_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint endpoint = 4;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpointOrBuilder getEndpointOrBuilder() {
+      return endpoint_ == null ? org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint.getDefaultInstance() : endpoint_;
+    }
+
+    public static final int SOURCE_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object source_ = "";
+    /**
+     * <code>string source = 5;</code>
+     * @return The source.
+     */
+    @java.lang.Override
+    public java.lang.String getSource() {
+      java.lang.Object ref = source_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        source_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string source = 5;</code>
+     * @return The bytes for source.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getSourceBytes() {
+      java.lang.Object ref = source_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        source_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TOKEN_CONFIG_FIELD_NUMBER = 6;
+    private org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig tokenConfig_;
+    /**
+     * <pre>
+     * option
+     * </pre>
+     *
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig token_config = 6;</code>
+     * @return Whether the tokenConfig field is set.
+     */
+    @java.lang.Override
+    public boolean hasTokenConfig() {
+      return tokenConfig_ != null;
+    }
+    /**
+     * <pre>
+     * option
+     * </pre>
+     *
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig token_config = 6;</code>
+     * @return The tokenConfig.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig getTokenConfig() {
+      return tokenConfig_ == null ? org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig.getDefaultInstance() : tokenConfig_;
+    }
+    /**
+     * <pre>
+     * option
+     * </pre>
+     *
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig token_config = 6;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfigOrBuilder getTokenConfigOrBuilder() {
+      return tokenConfig_ == null ? org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig.getDefaultInstance() : tokenConfig_;
+    }
+
+    public static final int MTLS_CONFIG_FIELD_NUMBER = 7;
+    private org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig mtlsConfig_;
+    /**
+     * <pre>
+     * option
+     * </pre>
+     *
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig mtls_config = 7;</code>
+     * @return Whether the mtlsConfig field is set.
+     */
+    @java.lang.Override
+    public boolean hasMtlsConfig() {
+      return mtlsConfig_ != null;
+    }
+    /**
+     * <pre>
+     * option
+     * </pre>
+     *
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig mtls_config = 7;</code>
+     * @return The mtlsConfig.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig getMtlsConfig() {
+      return mtlsConfig_ == null ? org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig.getDefaultInstance() : mtlsConfig_;
+    }
+    /**
+     * <pre>
+     * option
+     * </pre>
+     *
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig mtls_config = 7;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfigOrBuilder getMtlsConfigOrBuilder() {
+      return mtlsConfig_ == null ? org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig.getDefaultInstance() : mtlsConfig_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (header_ != null) {
+        output.writeMessage(1, getHeader());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(authenticationType_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, authenticationType_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(destination_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, destination_);
+      }
+      if (endpoint_ != null) {
+        output.writeMessage(4, getEndpoint());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(source_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 5, source_);
+      }
+      if (tokenConfig_ != null) {
+        output.writeMessage(6, getTokenConfig());
+      }
+      if (mtlsConfig_ != null) {
+        output.writeMessage(7, getMtlsConfig());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (header_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getHeader());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(authenticationType_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, authenticationType_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(destination_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, destination_);
+      }
+      if (endpoint_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, getEndpoint());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(source_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, source_);
+      }
+      if (tokenConfig_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, getTokenConfig());
+      }
+      if (mtlsConfig_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, getMtlsConfig());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest other = (org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest) obj;
+
+      if (hasHeader() != other.hasHeader()) return false;
+      if (hasHeader()) {
+        if (!getHeader()
+            .equals(other.getHeader())) return false;
+      }
+      if (!getAuthenticationType()
+          .equals(other.getAuthenticationType())) return false;
+      if (!getDestination()
+          .equals(other.getDestination())) return false;
+      if (hasEndpoint() != other.hasEndpoint()) return false;
+      if (hasEndpoint()) {
+        if (!getEndpoint()
+            .equals(other.getEndpoint())) return false;
+      }
+      if (!getSource()
+          .equals(other.getSource())) return false;
+      if (hasTokenConfig() != other.hasTokenConfig()) return false;
+      if (hasTokenConfig()) {
+        if (!getTokenConfig()
+            .equals(other.getTokenConfig())) return false;
+      }
+      if (hasMtlsConfig() != other.hasMtlsConfig()) return false;
+      if (hasMtlsConfig()) {
+        if (!getMtlsConfig()
+            .equals(other.getMtlsConfig())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasHeader()) {
+        hash = (37 * hash) + HEADER_FIELD_NUMBER;
+        hash = (53 * hash) + getHeader().hashCode();
+      }
+      hash = (37 * hash) + AUTHENTICATION_TYPE_FIELD_NUMBER;
+      hash = (53 * hash) + getAuthenticationType().hashCode();
+      hash = (37 * hash) + DESTINATION_FIELD_NUMBER;
+      hash = (53 * hash) + getDestination().hashCode();
+      if (hasEndpoint()) {
+        hash = (37 * hash) + ENDPOINT_FIELD_NUMBER;
+        hash = (53 * hash) + getEndpoint().hashCode();
+      }
+      hash = (37 * hash) + SOURCE_FIELD_NUMBER;
+      hash = (53 * hash) + getSource().hashCode();
+      if (hasTokenConfig()) {
+        hash = (37 * hash) + TOKEN_CONFIG_FIELD_NUMBER;
+        hash = (53 * hash) + getTokenConfig().hashCode();
+      }
+      if (hasMtlsConfig()) {
+        hash = (37 * hash) + MTLS_CONFIG_FIELD_NUMBER;
+        hash = (53 * hash) + getMtlsConfig().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteRequest)
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRouteRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRouteRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        authenticationType_ = "";
+        destination_ = "";
+        endpoint_ = null;
+        if (endpointBuilder_ != null) {
+          endpointBuilder_.dispose();
+          endpointBuilder_ = null;
+        }
+        source_ = "";
+        tokenConfig_ = null;
+        if (tokenConfigBuilder_ != null) {
+          tokenConfigBuilder_.dispose();
+          tokenConfigBuilder_ = null;
+        }
+        mtlsConfig_ = null;
+        if (mtlsConfigBuilder_ != null) {
+          mtlsConfigBuilder_.dispose();
+          mtlsConfigBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRouteRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest build() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest result = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.header_ = headerBuilder_ == null
+              ? header_
+              : headerBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.authenticationType_ = authenticationType_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.destination_ = destination_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.endpoint_ = endpointBuilder_ == null
+              ? endpoint_
+              : endpointBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.source_ = source_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.tokenConfig_ = tokenConfigBuilder_ == null
+              ? tokenConfig_
+              : tokenConfigBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.mtlsConfig_ = mtlsConfigBuilder_ == null
+              ? mtlsConfig_
+              : mtlsConfigBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest.getDefaultInstance()) return this;
+        if (other.hasHeader()) {
+          mergeHeader(other.getHeader());
+        }
+        if (!other.getAuthenticationType().isEmpty()) {
+          authenticationType_ = other.authenticationType_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getDestination().isEmpty()) {
+          destination_ = other.destination_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (other.hasEndpoint()) {
+          mergeEndpoint(other.getEndpoint());
+        }
+        if (!other.getSource().isEmpty()) {
+          source_ = other.source_;
+          bitField0_ |= 0x00000010;
+          onChanged();
+        }
+        if (other.hasTokenConfig()) {
+          mergeTokenConfig(other.getTokenConfig());
+        }
+        if (other.hasMtlsConfig()) {
+          mergeMtlsConfig(other.getMtlsConfig());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getHeaderFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                authenticationType_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                destination_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                input.readMessage(
+                    getEndpointFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 42: {
+                source_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 42
+              case 50: {
+                input.readMessage(
+                    getTokenConfigFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 50
+              case 58: {
+                input.readMessage(
+                    getMtlsConfigFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 58
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> headerBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return Whether the header field is set.
+       */
+      public boolean hasHeader() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return The header.
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+        if (headerBuilder_ == null) {
+          return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        } else {
+          return headerBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          header_ = value;
+        } else {
+          headerBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(
+          org.secretflow.v1alpha1.common.Common.RequestHeader.Builder builderForValue) {
+        if (headerBuilder_ == null) {
+          header_ = builderForValue.build();
+        } else {
+          headerBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder mergeHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            header_ != null &&
+            header_ != org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance()) {
+            getHeaderBuilder().mergeFrom(value);
+          } else {
+            header_ = value;
+          }
+        } else {
+          headerBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder clearHeader() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader.Builder getHeaderBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getHeaderFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+        if (headerBuilder_ != null) {
+          return headerBuilder_.getMessageOrBuilder();
+        } else {
+          return header_ == null ?
+              org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> 
+          getHeaderFieldBuilder() {
+        if (headerBuilder_ == null) {
+          headerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder>(
+                  getHeader(),
+                  getParentForChildren(),
+                  isClean());
+          header_ = null;
+        }
+        return headerBuilder_;
+      }
+
+      private java.lang.Object authenticationType_ = "";
+      /**
+       * <code>string authentication_type = 2;</code>
+       * @return The authenticationType.
+       */
+      public java.lang.String getAuthenticationType() {
+        java.lang.Object ref = authenticationType_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          authenticationType_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string authentication_type = 2;</code>
+       * @return The bytes for authenticationType.
+       */
+      public com.google.protobuf.ByteString
+          getAuthenticationTypeBytes() {
+        java.lang.Object ref = authenticationType_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          authenticationType_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string authentication_type = 2;</code>
+       * @param value The authenticationType to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAuthenticationType(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        authenticationType_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string authentication_type = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAuthenticationType() {
+        authenticationType_ = getDefaultInstance().getAuthenticationType();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string authentication_type = 2;</code>
+       * @param value The bytes for authenticationType to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAuthenticationTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        authenticationType_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object destination_ = "";
+      /**
+       * <code>string destination = 3;</code>
+       * @return The destination.
+       */
+      public java.lang.String getDestination() {
+        java.lang.Object ref = destination_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          destination_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string destination = 3;</code>
+       * @return The bytes for destination.
+       */
+      public com.google.protobuf.ByteString
+          getDestinationBytes() {
+        java.lang.Object ref = destination_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          destination_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string destination = 3;</code>
+       * @param value The destination to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDestination(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        destination_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string destination = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDestination() {
+        destination_ = getDefaultInstance().getDestination();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string destination = 3;</code>
+       * @param value The bytes for destination to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDestinationBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        destination_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint endpoint_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint, org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpointOrBuilder> endpointBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint endpoint = 4;</code>
+       * @return Whether the endpoint field is set.
+       */
+      public boolean hasEndpoint() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint endpoint = 4;</code>
+       * @return The endpoint.
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint getEndpoint() {
+        if (endpointBuilder_ == null) {
+          return endpoint_ == null ? org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint.getDefaultInstance() : endpoint_;
+        } else {
+          return endpointBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint endpoint = 4;</code>
+       */
+      public Builder setEndpoint(org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint value) {
+        if (endpointBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          endpoint_ = value;
+        } else {
+          endpointBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint endpoint = 4;</code>
+       */
+      public Builder setEndpoint(
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint.Builder builderForValue) {
+        if (endpointBuilder_ == null) {
+          endpoint_ = builderForValue.build();
+        } else {
+          endpointBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint endpoint = 4;</code>
+       */
+      public Builder mergeEndpoint(org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint value) {
+        if (endpointBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0) &&
+            endpoint_ != null &&
+            endpoint_ != org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint.getDefaultInstance()) {
+            getEndpointBuilder().mergeFrom(value);
+          } else {
+            endpoint_ = value;
+          }
+        } else {
+          endpointBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint endpoint = 4;</code>
+       */
+      public Builder clearEndpoint() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        endpoint_ = null;
+        if (endpointBuilder_ != null) {
+          endpointBuilder_.dispose();
+          endpointBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint endpoint = 4;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint.Builder getEndpointBuilder() {
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return getEndpointFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint endpoint = 4;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpointOrBuilder getEndpointOrBuilder() {
+        if (endpointBuilder_ != null) {
+          return endpointBuilder_.getMessageOrBuilder();
+        } else {
+          return endpoint_ == null ?
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint.getDefaultInstance() : endpoint_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint endpoint = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint, org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpointOrBuilder> 
+          getEndpointFieldBuilder() {
+        if (endpointBuilder_ == null) {
+          endpointBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint, org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpointOrBuilder>(
+                  getEndpoint(),
+                  getParentForChildren(),
+                  isClean());
+          endpoint_ = null;
+        }
+        return endpointBuilder_;
+      }
+
+      private java.lang.Object source_ = "";
+      /**
+       * <code>string source = 5;</code>
+       * @return The source.
+       */
+      public java.lang.String getSource() {
+        java.lang.Object ref = source_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          source_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string source = 5;</code>
+       * @return The bytes for source.
+       */
+      public com.google.protobuf.ByteString
+          getSourceBytes() {
+        java.lang.Object ref = source_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          source_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string source = 5;</code>
+       * @param value The source to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSource(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        source_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string source = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSource() {
+        source_ = getDefaultInstance().getSource();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string source = 5;</code>
+       * @param value The bytes for source to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSourceBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        source_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+
+      private org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig tokenConfig_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig, org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfigOrBuilder> tokenConfigBuilder_;
+      /**
+       * <pre>
+       * option
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig token_config = 6;</code>
+       * @return Whether the tokenConfig field is set.
+       */
+      public boolean hasTokenConfig() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <pre>
+       * option
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig token_config = 6;</code>
+       * @return The tokenConfig.
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig getTokenConfig() {
+        if (tokenConfigBuilder_ == null) {
+          return tokenConfig_ == null ? org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig.getDefaultInstance() : tokenConfig_;
+        } else {
+          return tokenConfigBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * option
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig token_config = 6;</code>
+       */
+      public Builder setTokenConfig(org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig value) {
+        if (tokenConfigBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          tokenConfig_ = value;
+        } else {
+          tokenConfigBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * option
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig token_config = 6;</code>
+       */
+      public Builder setTokenConfig(
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig.Builder builderForValue) {
+        if (tokenConfigBuilder_ == null) {
+          tokenConfig_ = builderForValue.build();
+        } else {
+          tokenConfigBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * option
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig token_config = 6;</code>
+       */
+      public Builder mergeTokenConfig(org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig value) {
+        if (tokenConfigBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) != 0) &&
+            tokenConfig_ != null &&
+            tokenConfig_ != org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig.getDefaultInstance()) {
+            getTokenConfigBuilder().mergeFrom(value);
+          } else {
+            tokenConfig_ = value;
+          }
+        } else {
+          tokenConfigBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * option
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig token_config = 6;</code>
+       */
+      public Builder clearTokenConfig() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        tokenConfig_ = null;
+        if (tokenConfigBuilder_ != null) {
+          tokenConfigBuilder_.dispose();
+          tokenConfigBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * option
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig token_config = 6;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig.Builder getTokenConfigBuilder() {
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return getTokenConfigFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * option
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig token_config = 6;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfigOrBuilder getTokenConfigOrBuilder() {
+        if (tokenConfigBuilder_ != null) {
+          return tokenConfigBuilder_.getMessageOrBuilder();
+        } else {
+          return tokenConfig_ == null ?
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig.getDefaultInstance() : tokenConfig_;
+        }
+      }
+      /**
+       * <pre>
+       * option
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig token_config = 6;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig, org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfigOrBuilder> 
+          getTokenConfigFieldBuilder() {
+        if (tokenConfigBuilder_ == null) {
+          tokenConfigBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig, org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfigOrBuilder>(
+                  getTokenConfig(),
+                  getParentForChildren(),
+                  isClean());
+          tokenConfig_ = null;
+        }
+        return tokenConfigBuilder_;
+      }
+
+      private org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig mtlsConfig_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig, org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfigOrBuilder> mtlsConfigBuilder_;
+      /**
+       * <pre>
+       * option
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig mtls_config = 7;</code>
+       * @return Whether the mtlsConfig field is set.
+       */
+      public boolean hasMtlsConfig() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <pre>
+       * option
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig mtls_config = 7;</code>
+       * @return The mtlsConfig.
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig getMtlsConfig() {
+        if (mtlsConfigBuilder_ == null) {
+          return mtlsConfig_ == null ? org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig.getDefaultInstance() : mtlsConfig_;
+        } else {
+          return mtlsConfigBuilder_.getMessage();
+        }
+      }
+      /**
+       * <pre>
+       * option
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig mtls_config = 7;</code>
+       */
+      public Builder setMtlsConfig(org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig value) {
+        if (mtlsConfigBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          mtlsConfig_ = value;
+        } else {
+          mtlsConfigBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * option
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig mtls_config = 7;</code>
+       */
+      public Builder setMtlsConfig(
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig.Builder builderForValue) {
+        if (mtlsConfigBuilder_ == null) {
+          mtlsConfig_ = builderForValue.build();
+        } else {
+          mtlsConfigBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * option
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig mtls_config = 7;</code>
+       */
+      public Builder mergeMtlsConfig(org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig value) {
+        if (mtlsConfigBuilder_ == null) {
+          if (((bitField0_ & 0x00000040) != 0) &&
+            mtlsConfig_ != null &&
+            mtlsConfig_ != org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig.getDefaultInstance()) {
+            getMtlsConfigBuilder().mergeFrom(value);
+          } else {
+            mtlsConfig_ = value;
+          }
+        } else {
+          mtlsConfigBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * option
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig mtls_config = 7;</code>
+       */
+      public Builder clearMtlsConfig() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        mtlsConfig_ = null;
+        if (mtlsConfigBuilder_ != null) {
+          mtlsConfigBuilder_.dispose();
+          mtlsConfigBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * option
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig mtls_config = 7;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig.Builder getMtlsConfigBuilder() {
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return getMtlsConfigFieldBuilder().getBuilder();
+      }
+      /**
+       * <pre>
+       * option
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig mtls_config = 7;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfigOrBuilder getMtlsConfigOrBuilder() {
+        if (mtlsConfigBuilder_ != null) {
+          return mtlsConfigBuilder_.getMessageOrBuilder();
+        } else {
+          return mtlsConfig_ == null ?
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig.getDefaultInstance() : mtlsConfig_;
+        }
+      }
+      /**
+       * <pre>
+       * option
+       * </pre>
+       *
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig mtls_config = 7;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig, org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfigOrBuilder> 
+          getMtlsConfigFieldBuilder() {
+        if (mtlsConfigBuilder_ == null) {
+          mtlsConfigBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig, org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfigOrBuilder>(
+                  getMtlsConfig(),
+                  getParentForChildren(),
+                  isClean());
+          mtlsConfig_ = null;
+        }
+        return mtlsConfigBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteRequest)
+    private static final org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CreateDomainRouteRequest>
+        PARSER = new com.google.protobuf.AbstractParser<CreateDomainRouteRequest>() {
+      @java.lang.Override
+      public CreateDomainRouteRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CreateDomainRouteRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CreateDomainRouteRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface RouteEndpointOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string host = 1;</code>
+     * @return The host.
+     */
+    java.lang.String getHost();
+    /**
+     * <code>string host = 1;</code>
+     * @return The bytes for host.
+     */
+    com.google.protobuf.ByteString
+        getHostBytes();
+
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort ports = 2;</code>
+     */
+    java.util.List<org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort> 
+        getPortsList();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort ports = 2;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort getPorts(int index);
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort ports = 2;</code>
+     */
+    int getPortsCount();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort ports = 2;</code>
+     */
+    java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPortOrBuilder> 
+        getPortsOrBuilderList();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort ports = 2;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPortOrBuilder getPortsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint}
+   */
+  public static final class RouteEndpoint extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint)
+      RouteEndpointOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use RouteEndpoint.newBuilder() to construct.
+    private RouteEndpoint(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private RouteEndpoint() {
+      host_ = "";
+      ports_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new RouteEndpoint();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_RouteEndpoint_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_RouteEndpoint_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint.Builder.class);
+    }
+
+    public static final int HOST_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object host_ = "";
+    /**
+     * <code>string host = 1;</code>
+     * @return The host.
+     */
+    @java.lang.Override
+    public java.lang.String getHost() {
+      java.lang.Object ref = host_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        host_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string host = 1;</code>
+     * @return The bytes for host.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getHostBytes() {
+      java.lang.Object ref = host_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        host_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PORTS_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort> ports_;
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort ports = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort> getPortsList() {
+      return ports_;
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort ports = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPortOrBuilder> 
+        getPortsOrBuilderList() {
+      return ports_;
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort ports = 2;</code>
+     */
+    @java.lang.Override
+    public int getPortsCount() {
+      return ports_.size();
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort ports = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort getPorts(int index) {
+      return ports_.get(index);
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort ports = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPortOrBuilder getPortsOrBuilder(
+        int index) {
+      return ports_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(host_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, host_);
+      }
+      for (int i = 0; i < ports_.size(); i++) {
+        output.writeMessage(2, ports_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(host_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, host_);
+      }
+      for (int i = 0; i < ports_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, ports_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint other = (org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint) obj;
+
+      if (!getHost()
+          .equals(other.getHost())) return false;
+      if (!getPortsList()
+          .equals(other.getPortsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + HOST_FIELD_NUMBER;
+      hash = (53 * hash) + getHost().hashCode();
+      if (getPortsCount() > 0) {
+        hash = (37 * hash) + PORTS_FIELD_NUMBER;
+        hash = (53 * hash) + getPortsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint)
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpointOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_RouteEndpoint_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_RouteEndpoint_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        host_ = "";
+        if (portsBuilder_ == null) {
+          ports_ = java.util.Collections.emptyList();
+        } else {
+          ports_ = null;
+          portsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_RouteEndpoint_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint build() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint result = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint result) {
+        if (portsBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            ports_ = java.util.Collections.unmodifiableList(ports_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.ports_ = ports_;
+        } else {
+          result.ports_ = portsBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.host_ = host_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint.getDefaultInstance()) return this;
+        if (!other.getHost().isEmpty()) {
+          host_ = other.host_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (portsBuilder_ == null) {
+          if (!other.ports_.isEmpty()) {
+            if (ports_.isEmpty()) {
+              ports_ = other.ports_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensurePortsIsMutable();
+              ports_.addAll(other.ports_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.ports_.isEmpty()) {
+            if (portsBuilder_.isEmpty()) {
+              portsBuilder_.dispose();
+              portsBuilder_ = null;
+              ports_ = other.ports_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              portsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getPortsFieldBuilder() : null;
+            } else {
+              portsBuilder_.addAllMessages(other.ports_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                host_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort m =
+                    input.readMessage(
+                        org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort.parser(),
+                        extensionRegistry);
+                if (portsBuilder_ == null) {
+                  ensurePortsIsMutable();
+                  ports_.add(m);
+                } else {
+                  portsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object host_ = "";
+      /**
+       * <code>string host = 1;</code>
+       * @return The host.
+       */
+      public java.lang.String getHost() {
+        java.lang.Object ref = host_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          host_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string host = 1;</code>
+       * @return The bytes for host.
+       */
+      public com.google.protobuf.ByteString
+          getHostBytes() {
+        java.lang.Object ref = host_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          host_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string host = 1;</code>
+       * @param value The host to set.
+       * @return This builder for chaining.
+       */
+      public Builder setHost(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        host_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string host = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearHost() {
+        host_ = getDefaultInstance().getHost();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string host = 1;</code>
+       * @param value The bytes for host to set.
+       * @return This builder for chaining.
+       */
+      public Builder setHostBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        host_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort> ports_ =
+        java.util.Collections.emptyList();
+      private void ensurePortsIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          ports_ = new java.util.ArrayList<org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort>(ports_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort, org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPortOrBuilder> portsBuilder_;
+
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort ports = 2;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort> getPortsList() {
+        if (portsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(ports_);
+        } else {
+          return portsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort ports = 2;</code>
+       */
+      public int getPortsCount() {
+        if (portsBuilder_ == null) {
+          return ports_.size();
+        } else {
+          return portsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort ports = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort getPorts(int index) {
+        if (portsBuilder_ == null) {
+          return ports_.get(index);
+        } else {
+          return portsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort ports = 2;</code>
+       */
+      public Builder setPorts(
+          int index, org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort value) {
+        if (portsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePortsIsMutable();
+          ports_.set(index, value);
+          onChanged();
+        } else {
+          portsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort ports = 2;</code>
+       */
+      public Builder setPorts(
+          int index, org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort.Builder builderForValue) {
+        if (portsBuilder_ == null) {
+          ensurePortsIsMutable();
+          ports_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          portsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort ports = 2;</code>
+       */
+      public Builder addPorts(org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort value) {
+        if (portsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePortsIsMutable();
+          ports_.add(value);
+          onChanged();
+        } else {
+          portsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort ports = 2;</code>
+       */
+      public Builder addPorts(
+          int index, org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort value) {
+        if (portsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePortsIsMutable();
+          ports_.add(index, value);
+          onChanged();
+        } else {
+          portsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort ports = 2;</code>
+       */
+      public Builder addPorts(
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort.Builder builderForValue) {
+        if (portsBuilder_ == null) {
+          ensurePortsIsMutable();
+          ports_.add(builderForValue.build());
+          onChanged();
+        } else {
+          portsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort ports = 2;</code>
+       */
+      public Builder addPorts(
+          int index, org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort.Builder builderForValue) {
+        if (portsBuilder_ == null) {
+          ensurePortsIsMutable();
+          ports_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          portsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort ports = 2;</code>
+       */
+      public Builder addAllPorts(
+          java.lang.Iterable<? extends org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort> values) {
+        if (portsBuilder_ == null) {
+          ensurePortsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, ports_);
+          onChanged();
+        } else {
+          portsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort ports = 2;</code>
+       */
+      public Builder clearPorts() {
+        if (portsBuilder_ == null) {
+          ports_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          portsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort ports = 2;</code>
+       */
+      public Builder removePorts(int index) {
+        if (portsBuilder_ == null) {
+          ensurePortsIsMutable();
+          ports_.remove(index);
+          onChanged();
+        } else {
+          portsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort ports = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort.Builder getPortsBuilder(
+          int index) {
+        return getPortsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort ports = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPortOrBuilder getPortsOrBuilder(
+          int index) {
+        if (portsBuilder_ == null) {
+          return ports_.get(index);  } else {
+          return portsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort ports = 2;</code>
+       */
+      public java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPortOrBuilder> 
+           getPortsOrBuilderList() {
+        if (portsBuilder_ != null) {
+          return portsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(ports_);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort ports = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort.Builder addPortsBuilder() {
+        return getPortsFieldBuilder().addBuilder(
+            org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort ports = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort.Builder addPortsBuilder(
+          int index) {
+        return getPortsFieldBuilder().addBuilder(
+            index, org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort ports = 2;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort.Builder> 
+           getPortsBuilderList() {
+        return getPortsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort, org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPortOrBuilder> 
+          getPortsFieldBuilder() {
+        if (portsBuilder_ == null) {
+          portsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort, org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPortOrBuilder>(
+                  ports_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          ports_ = null;
+        }
+        return portsBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint)
+    private static final org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<RouteEndpoint>
+        PARSER = new com.google.protobuf.AbstractParser<RouteEndpoint>() {
+      @java.lang.Override
+      public RouteEndpoint parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<RouteEndpoint> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<RouteEndpoint> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface EndpointPortOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <code>int32 port = 2;</code>
+     * @return The port.
+     */
+    int getPort();
+
+    /**
+     * <code>string protocol = 3;</code>
+     * @return The protocol.
+     */
+    java.lang.String getProtocol();
+    /**
+     * <code>string protocol = 3;</code>
+     * @return The bytes for protocol.
+     */
+    com.google.protobuf.ByteString
+        getProtocolBytes();
+
+    /**
+     * <code>bool isTLS = 4;</code>
+     * @return The isTLS.
+     */
+    boolean getIsTLS();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort}
+   */
+  public static final class EndpointPort extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort)
+      EndpointPortOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use EndpointPort.newBuilder() to construct.
+    private EndpointPort(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private EndpointPort() {
+      name_ = "";
+      protocol_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new EndpointPort();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_EndpointPort_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_EndpointPort_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort.Builder.class);
+    }
+
+    public static final int NAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object name_ = "";
+    /**
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PORT_FIELD_NUMBER = 2;
+    private int port_ = 0;
+    /**
+     * <code>int32 port = 2;</code>
+     * @return The port.
+     */
+    @java.lang.Override
+    public int getPort() {
+      return port_;
+    }
+
+    public static final int PROTOCOL_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object protocol_ = "";
+    /**
+     * <code>string protocol = 3;</code>
+     * @return The protocol.
+     */
+    @java.lang.Override
+    public java.lang.String getProtocol() {
+      java.lang.Object ref = protocol_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        protocol_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string protocol = 3;</code>
+     * @return The bytes for protocol.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getProtocolBytes() {
+      java.lang.Object ref = protocol_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        protocol_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ISTLS_FIELD_NUMBER = 4;
+    private boolean isTLS_ = false;
+    /**
+     * <code>bool isTLS = 4;</code>
+     * @return The isTLS.
+     */
+    @java.lang.Override
+    public boolean getIsTLS() {
+      return isTLS_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+      }
+      if (port_ != 0) {
+        output.writeInt32(2, port_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(protocol_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, protocol_);
+      }
+      if (isTLS_ != false) {
+        output.writeBool(4, isTLS_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+      }
+      if (port_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, port_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(protocol_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, protocol_);
+      }
+      if (isTLS_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(4, isTLS_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort other = (org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort) obj;
+
+      if (!getName()
+          .equals(other.getName())) return false;
+      if (getPort()
+          != other.getPort()) return false;
+      if (!getProtocol()
+          .equals(other.getProtocol())) return false;
+      if (getIsTLS()
+          != other.getIsTLS()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (37 * hash) + PORT_FIELD_NUMBER;
+      hash = (53 * hash) + getPort();
+      hash = (37 * hash) + PROTOCOL_FIELD_NUMBER;
+      hash = (53 * hash) + getProtocol().hashCode();
+      hash = (37 * hash) + ISTLS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getIsTLS());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort)
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPortOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_EndpointPort_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_EndpointPort_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        name_ = "";
+        port_ = 0;
+        protocol_ = "";
+        isTLS_ = false;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_EndpointPort_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort build() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort result = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.name_ = name_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.port_ = port_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.protocol_ = protocol_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.isTLS_ = isTLS_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort.getDefaultInstance()) return this;
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.getPort() != 0) {
+          setPort(other.getPort());
+        }
+        if (!other.getProtocol().isEmpty()) {
+          protocol_ = other.protocol_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (other.getIsTLS() != false) {
+          setIsTLS(other.getIsTLS());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                name_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                port_ = input.readInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 26: {
+                protocol_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 32: {
+                isTLS_ = input.readBool();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object name_ = "";
+      /**
+       * <code>string name = 1;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        name_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        name_ = getDefaultInstance().getName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        name_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private int port_ ;
+      /**
+       * <code>int32 port = 2;</code>
+       * @return The port.
+       */
+      @java.lang.Override
+      public int getPort() {
+        return port_;
+      }
+      /**
+       * <code>int32 port = 2;</code>
+       * @param value The port to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPort(int value) {
+
+        port_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 port = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPort() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        port_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object protocol_ = "";
+      /**
+       * <code>string protocol = 3;</code>
+       * @return The protocol.
+       */
+      public java.lang.String getProtocol() {
+        java.lang.Object ref = protocol_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          protocol_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string protocol = 3;</code>
+       * @return The bytes for protocol.
+       */
+      public com.google.protobuf.ByteString
+          getProtocolBytes() {
+        java.lang.Object ref = protocol_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          protocol_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string protocol = 3;</code>
+       * @param value The protocol to set.
+       * @return This builder for chaining.
+       */
+      public Builder setProtocol(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        protocol_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string protocol = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearProtocol() {
+        protocol_ = getDefaultInstance().getProtocol();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string protocol = 3;</code>
+       * @param value The bytes for protocol to set.
+       * @return This builder for chaining.
+       */
+      public Builder setProtocolBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        protocol_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private boolean isTLS_ ;
+      /**
+       * <code>bool isTLS = 4;</code>
+       * @return The isTLS.
+       */
+      @java.lang.Override
+      public boolean getIsTLS() {
+        return isTLS_;
+      }
+      /**
+       * <code>bool isTLS = 4;</code>
+       * @param value The isTLS to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIsTLS(boolean value) {
+
+        isTLS_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool isTLS = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIsTLS() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        isTLS_ = false;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.EndpointPort)
+    private static final org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<EndpointPort>
+        PARSER = new com.google.protobuf.AbstractParser<EndpointPort>() {
+      @java.lang.Override
+      public EndpointPort parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<EndpointPort> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<EndpointPort> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.EndpointPort getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface TokenConfigOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string destination_public_key = 1;</code>
+     * @return The destinationPublicKey.
+     */
+    java.lang.String getDestinationPublicKey();
+    /**
+     * <code>string destination_public_key = 1;</code>
+     * @return The bytes for destinationPublicKey.
+     */
+    com.google.protobuf.ByteString
+        getDestinationPublicKeyBytes();
+
+    /**
+     * <code>int64 rolling_update_period = 2;</code>
+     * @return The rollingUpdatePeriod.
+     */
+    long getRollingUpdatePeriod();
+
+    /**
+     * <code>string source_public_key = 3;</code>
+     * @return The sourcePublicKey.
+     */
+    java.lang.String getSourcePublicKey();
+    /**
+     * <code>string source_public_key = 3;</code>
+     * @return The bytes for sourcePublicKey.
+     */
+    com.google.protobuf.ByteString
+        getSourcePublicKeyBytes();
+
+    /**
+     * <code>string token_gen_method = 4;</code>
+     * @return The tokenGenMethod.
+     */
+    java.lang.String getTokenGenMethod();
+    /**
+     * <code>string token_gen_method = 4;</code>
+     * @return The bytes for tokenGenMethod.
+     */
+    com.google.protobuf.ByteString
+        getTokenGenMethodBytes();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig}
+   */
+  public static final class TokenConfig extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig)
+      TokenConfigOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use TokenConfig.newBuilder() to construct.
+    private TokenConfig(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private TokenConfig() {
+      destinationPublicKey_ = "";
+      sourcePublicKey_ = "";
+      tokenGenMethod_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new TokenConfig();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_TokenConfig_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_TokenConfig_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig.Builder.class);
+    }
+
+    public static final int DESTINATION_PUBLIC_KEY_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object destinationPublicKey_ = "";
+    /**
+     * <code>string destination_public_key = 1;</code>
+     * @return The destinationPublicKey.
+     */
+    @java.lang.Override
+    public java.lang.String getDestinationPublicKey() {
+      java.lang.Object ref = destinationPublicKey_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        destinationPublicKey_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string destination_public_key = 1;</code>
+     * @return The bytes for destinationPublicKey.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDestinationPublicKeyBytes() {
+      java.lang.Object ref = destinationPublicKey_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        destinationPublicKey_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ROLLING_UPDATE_PERIOD_FIELD_NUMBER = 2;
+    private long rollingUpdatePeriod_ = 0L;
+    /**
+     * <code>int64 rolling_update_period = 2;</code>
+     * @return The rollingUpdatePeriod.
+     */
+    @java.lang.Override
+    public long getRollingUpdatePeriod() {
+      return rollingUpdatePeriod_;
+    }
+
+    public static final int SOURCE_PUBLIC_KEY_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object sourcePublicKey_ = "";
+    /**
+     * <code>string source_public_key = 3;</code>
+     * @return The sourcePublicKey.
+     */
+    @java.lang.Override
+    public java.lang.String getSourcePublicKey() {
+      java.lang.Object ref = sourcePublicKey_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        sourcePublicKey_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string source_public_key = 3;</code>
+     * @return The bytes for sourcePublicKey.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getSourcePublicKeyBytes() {
+      java.lang.Object ref = sourcePublicKey_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        sourcePublicKey_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TOKEN_GEN_METHOD_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object tokenGenMethod_ = "";
+    /**
+     * <code>string token_gen_method = 4;</code>
+     * @return The tokenGenMethod.
+     */
+    @java.lang.Override
+    public java.lang.String getTokenGenMethod() {
+      java.lang.Object ref = tokenGenMethod_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        tokenGenMethod_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string token_gen_method = 4;</code>
+     * @return The bytes for tokenGenMethod.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTokenGenMethodBytes() {
+      java.lang.Object ref = tokenGenMethod_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        tokenGenMethod_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(destinationPublicKey_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, destinationPublicKey_);
+      }
+      if (rollingUpdatePeriod_ != 0L) {
+        output.writeInt64(2, rollingUpdatePeriod_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(sourcePublicKey_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, sourcePublicKey_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(tokenGenMethod_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, tokenGenMethod_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(destinationPublicKey_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, destinationPublicKey_);
+      }
+      if (rollingUpdatePeriod_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, rollingUpdatePeriod_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(sourcePublicKey_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, sourcePublicKey_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(tokenGenMethod_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, tokenGenMethod_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig other = (org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig) obj;
+
+      if (!getDestinationPublicKey()
+          .equals(other.getDestinationPublicKey())) return false;
+      if (getRollingUpdatePeriod()
+          != other.getRollingUpdatePeriod()) return false;
+      if (!getSourcePublicKey()
+          .equals(other.getSourcePublicKey())) return false;
+      if (!getTokenGenMethod()
+          .equals(other.getTokenGenMethod())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + DESTINATION_PUBLIC_KEY_FIELD_NUMBER;
+      hash = (53 * hash) + getDestinationPublicKey().hashCode();
+      hash = (37 * hash) + ROLLING_UPDATE_PERIOD_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getRollingUpdatePeriod());
+      hash = (37 * hash) + SOURCE_PUBLIC_KEY_FIELD_NUMBER;
+      hash = (53 * hash) + getSourcePublicKey().hashCode();
+      hash = (37 * hash) + TOKEN_GEN_METHOD_FIELD_NUMBER;
+      hash = (53 * hash) + getTokenGenMethod().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig)
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfigOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_TokenConfig_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_TokenConfig_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        destinationPublicKey_ = "";
+        rollingUpdatePeriod_ = 0L;
+        sourcePublicKey_ = "";
+        tokenGenMethod_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_TokenConfig_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig build() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig result = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.destinationPublicKey_ = destinationPublicKey_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.rollingUpdatePeriod_ = rollingUpdatePeriod_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.sourcePublicKey_ = sourcePublicKey_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.tokenGenMethod_ = tokenGenMethod_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig.getDefaultInstance()) return this;
+        if (!other.getDestinationPublicKey().isEmpty()) {
+          destinationPublicKey_ = other.destinationPublicKey_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.getRollingUpdatePeriod() != 0L) {
+          setRollingUpdatePeriod(other.getRollingUpdatePeriod());
+        }
+        if (!other.getSourcePublicKey().isEmpty()) {
+          sourcePublicKey_ = other.sourcePublicKey_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (!other.getTokenGenMethod().isEmpty()) {
+          tokenGenMethod_ = other.tokenGenMethod_;
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                destinationPublicKey_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                rollingUpdatePeriod_ = input.readInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 26: {
+                sourcePublicKey_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                tokenGenMethod_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object destinationPublicKey_ = "";
+      /**
+       * <code>string destination_public_key = 1;</code>
+       * @return The destinationPublicKey.
+       */
+      public java.lang.String getDestinationPublicKey() {
+        java.lang.Object ref = destinationPublicKey_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          destinationPublicKey_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string destination_public_key = 1;</code>
+       * @return The bytes for destinationPublicKey.
+       */
+      public com.google.protobuf.ByteString
+          getDestinationPublicKeyBytes() {
+        java.lang.Object ref = destinationPublicKey_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          destinationPublicKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string destination_public_key = 1;</code>
+       * @param value The destinationPublicKey to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDestinationPublicKey(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        destinationPublicKey_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string destination_public_key = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDestinationPublicKey() {
+        destinationPublicKey_ = getDefaultInstance().getDestinationPublicKey();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string destination_public_key = 1;</code>
+       * @param value The bytes for destinationPublicKey to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDestinationPublicKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        destinationPublicKey_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private long rollingUpdatePeriod_ ;
+      /**
+       * <code>int64 rolling_update_period = 2;</code>
+       * @return The rollingUpdatePeriod.
+       */
+      @java.lang.Override
+      public long getRollingUpdatePeriod() {
+        return rollingUpdatePeriod_;
+      }
+      /**
+       * <code>int64 rolling_update_period = 2;</code>
+       * @param value The rollingUpdatePeriod to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRollingUpdatePeriod(long value) {
+
+        rollingUpdatePeriod_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 rolling_update_period = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRollingUpdatePeriod() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        rollingUpdatePeriod_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object sourcePublicKey_ = "";
+      /**
+       * <code>string source_public_key = 3;</code>
+       * @return The sourcePublicKey.
+       */
+      public java.lang.String getSourcePublicKey() {
+        java.lang.Object ref = sourcePublicKey_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          sourcePublicKey_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string source_public_key = 3;</code>
+       * @return The bytes for sourcePublicKey.
+       */
+      public com.google.protobuf.ByteString
+          getSourcePublicKeyBytes() {
+        java.lang.Object ref = sourcePublicKey_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          sourcePublicKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string source_public_key = 3;</code>
+       * @param value The sourcePublicKey to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSourcePublicKey(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        sourcePublicKey_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string source_public_key = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSourcePublicKey() {
+        sourcePublicKey_ = getDefaultInstance().getSourcePublicKey();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string source_public_key = 3;</code>
+       * @param value The bytes for sourcePublicKey to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSourcePublicKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        sourcePublicKey_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object tokenGenMethod_ = "";
+      /**
+       * <code>string token_gen_method = 4;</code>
+       * @return The tokenGenMethod.
+       */
+      public java.lang.String getTokenGenMethod() {
+        java.lang.Object ref = tokenGenMethod_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          tokenGenMethod_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string token_gen_method = 4;</code>
+       * @return The bytes for tokenGenMethod.
+       */
+      public com.google.protobuf.ByteString
+          getTokenGenMethodBytes() {
+        java.lang.Object ref = tokenGenMethod_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          tokenGenMethod_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string token_gen_method = 4;</code>
+       * @param value The tokenGenMethod to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTokenGenMethod(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        tokenGenMethod_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string token_gen_method = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTokenGenMethod() {
+        tokenGenMethod_ = getDefaultInstance().getTokenGenMethod();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string token_gen_method = 4;</code>
+       * @param value The bytes for tokenGenMethod to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTokenGenMethodBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        tokenGenMethod_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig)
+    private static final org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<TokenConfig>
+        PARSER = new com.google.protobuf.AbstractParser<TokenConfig>() {
+      @java.lang.Override
+      public TokenConfig parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<TokenConfig> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TokenConfig> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface MTLSConfigOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string tls_ca = 1;</code>
+     * @return The tlsCa.
+     */
+    java.lang.String getTlsCa();
+    /**
+     * <code>string tls_ca = 1;</code>
+     * @return The bytes for tlsCa.
+     */
+    com.google.protobuf.ByteString
+        getTlsCaBytes();
+
+    /**
+     * <code>string source_client_private_key = 2;</code>
+     * @return The sourceClientPrivateKey.
+     */
+    java.lang.String getSourceClientPrivateKey();
+    /**
+     * <code>string source_client_private_key = 2;</code>
+     * @return The bytes for sourceClientPrivateKey.
+     */
+    com.google.protobuf.ByteString
+        getSourceClientPrivateKeyBytes();
+
+    /**
+     * <code>string source_client_cert = 3;</code>
+     * @return The sourceClientCert.
+     */
+    java.lang.String getSourceClientCert();
+    /**
+     * <code>string source_client_cert = 3;</code>
+     * @return The bytes for sourceClientCert.
+     */
+    com.google.protobuf.ByteString
+        getSourceClientCertBytes();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig}
+   */
+  public static final class MTLSConfig extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig)
+      MTLSConfigOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use MTLSConfig.newBuilder() to construct.
+    private MTLSConfig(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private MTLSConfig() {
+      tlsCa_ = "";
+      sourceClientPrivateKey_ = "";
+      sourceClientCert_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new MTLSConfig();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_MTLSConfig_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_MTLSConfig_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig.Builder.class);
+    }
+
+    public static final int TLS_CA_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object tlsCa_ = "";
+    /**
+     * <code>string tls_ca = 1;</code>
+     * @return The tlsCa.
+     */
+    @java.lang.Override
+    public java.lang.String getTlsCa() {
+      java.lang.Object ref = tlsCa_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        tlsCa_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string tls_ca = 1;</code>
+     * @return The bytes for tlsCa.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTlsCaBytes() {
+      java.lang.Object ref = tlsCa_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        tlsCa_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SOURCE_CLIENT_PRIVATE_KEY_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object sourceClientPrivateKey_ = "";
+    /**
+     * <code>string source_client_private_key = 2;</code>
+     * @return The sourceClientPrivateKey.
+     */
+    @java.lang.Override
+    public java.lang.String getSourceClientPrivateKey() {
+      java.lang.Object ref = sourceClientPrivateKey_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        sourceClientPrivateKey_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string source_client_private_key = 2;</code>
+     * @return The bytes for sourceClientPrivateKey.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getSourceClientPrivateKeyBytes() {
+      java.lang.Object ref = sourceClientPrivateKey_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        sourceClientPrivateKey_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SOURCE_CLIENT_CERT_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object sourceClientCert_ = "";
+    /**
+     * <code>string source_client_cert = 3;</code>
+     * @return The sourceClientCert.
+     */
+    @java.lang.Override
+    public java.lang.String getSourceClientCert() {
+      java.lang.Object ref = sourceClientCert_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        sourceClientCert_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string source_client_cert = 3;</code>
+     * @return The bytes for sourceClientCert.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getSourceClientCertBytes() {
+      java.lang.Object ref = sourceClientCert_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        sourceClientCert_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(tlsCa_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, tlsCa_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(sourceClientPrivateKey_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, sourceClientPrivateKey_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(sourceClientCert_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, sourceClientCert_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(tlsCa_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, tlsCa_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(sourceClientPrivateKey_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, sourceClientPrivateKey_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(sourceClientCert_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, sourceClientCert_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig other = (org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig) obj;
+
+      if (!getTlsCa()
+          .equals(other.getTlsCa())) return false;
+      if (!getSourceClientPrivateKey()
+          .equals(other.getSourceClientPrivateKey())) return false;
+      if (!getSourceClientCert()
+          .equals(other.getSourceClientCert())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + TLS_CA_FIELD_NUMBER;
+      hash = (53 * hash) + getTlsCa().hashCode();
+      hash = (37 * hash) + SOURCE_CLIENT_PRIVATE_KEY_FIELD_NUMBER;
+      hash = (53 * hash) + getSourceClientPrivateKey().hashCode();
+      hash = (37 * hash) + SOURCE_CLIENT_CERT_FIELD_NUMBER;
+      hash = (53 * hash) + getSourceClientCert().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig)
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfigOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_MTLSConfig_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_MTLSConfig_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        tlsCa_ = "";
+        sourceClientPrivateKey_ = "";
+        sourceClientCert_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_MTLSConfig_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig build() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig result = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.tlsCa_ = tlsCa_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.sourceClientPrivateKey_ = sourceClientPrivateKey_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.sourceClientCert_ = sourceClientCert_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig.getDefaultInstance()) return this;
+        if (!other.getTlsCa().isEmpty()) {
+          tlsCa_ = other.tlsCa_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getSourceClientPrivateKey().isEmpty()) {
+          sourceClientPrivateKey_ = other.sourceClientPrivateKey_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getSourceClientCert().isEmpty()) {
+          sourceClientCert_ = other.sourceClientCert_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                tlsCa_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                sourceClientPrivateKey_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                sourceClientCert_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object tlsCa_ = "";
+      /**
+       * <code>string tls_ca = 1;</code>
+       * @return The tlsCa.
+       */
+      public java.lang.String getTlsCa() {
+        java.lang.Object ref = tlsCa_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          tlsCa_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string tls_ca = 1;</code>
+       * @return The bytes for tlsCa.
+       */
+      public com.google.protobuf.ByteString
+          getTlsCaBytes() {
+        java.lang.Object ref = tlsCa_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          tlsCa_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string tls_ca = 1;</code>
+       * @param value The tlsCa to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTlsCa(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        tlsCa_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string tls_ca = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTlsCa() {
+        tlsCa_ = getDefaultInstance().getTlsCa();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string tls_ca = 1;</code>
+       * @param value The bytes for tlsCa to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTlsCaBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        tlsCa_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object sourceClientPrivateKey_ = "";
+      /**
+       * <code>string source_client_private_key = 2;</code>
+       * @return The sourceClientPrivateKey.
+       */
+      public java.lang.String getSourceClientPrivateKey() {
+        java.lang.Object ref = sourceClientPrivateKey_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          sourceClientPrivateKey_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string source_client_private_key = 2;</code>
+       * @return The bytes for sourceClientPrivateKey.
+       */
+      public com.google.protobuf.ByteString
+          getSourceClientPrivateKeyBytes() {
+        java.lang.Object ref = sourceClientPrivateKey_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          sourceClientPrivateKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string source_client_private_key = 2;</code>
+       * @param value The sourceClientPrivateKey to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSourceClientPrivateKey(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        sourceClientPrivateKey_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string source_client_private_key = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSourceClientPrivateKey() {
+        sourceClientPrivateKey_ = getDefaultInstance().getSourceClientPrivateKey();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string source_client_private_key = 2;</code>
+       * @param value The bytes for sourceClientPrivateKey to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSourceClientPrivateKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        sourceClientPrivateKey_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object sourceClientCert_ = "";
+      /**
+       * <code>string source_client_cert = 3;</code>
+       * @return The sourceClientCert.
+       */
+      public java.lang.String getSourceClientCert() {
+        java.lang.Object ref = sourceClientCert_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          sourceClientCert_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string source_client_cert = 3;</code>
+       * @return The bytes for sourceClientCert.
+       */
+      public com.google.protobuf.ByteString
+          getSourceClientCertBytes() {
+        java.lang.Object ref = sourceClientCert_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          sourceClientCert_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string source_client_cert = 3;</code>
+       * @param value The sourceClientCert to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSourceClientCert(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        sourceClientCert_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string source_client_cert = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSourceClientCert() {
+        sourceClientCert_ = getDefaultInstance().getSourceClientCert();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string source_client_cert = 3;</code>
+       * @param value The bytes for sourceClientCert to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSourceClientCertBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        sourceClientCert_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig)
+    private static final org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<MTLSConfig>
+        PARSER = new com.google.protobuf.AbstractParser<MTLSConfig>() {
+      @java.lang.Override
+      public MTLSConfig parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<MTLSConfig> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<MTLSConfig> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CreateDomainRouteResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    boolean hasStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    org.secretflow.v1alpha1.common.Common.Status getStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder();
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteResponseData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    boolean hasData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteResponseData data = 2;</code>
+     * @return The data.
+     */
+    org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData getData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteResponseData data = 2;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseDataOrBuilder getDataOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteResponse}
+   */
+  public static final class CreateDomainRouteResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteResponse)
+      CreateDomainRouteResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use CreateDomainRouteResponse.newBuilder() to construct.
+    private CreateDomainRouteResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CreateDomainRouteResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new CreateDomainRouteResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRouteResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRouteResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse.Builder.class);
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.Status status_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    @java.lang.Override
+    public boolean hasStatus() {
+      return status_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+
+    public static final int DATA_FIELD_NUMBER = 2;
+    private org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData data_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteResponseData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    @java.lang.Override
+    public boolean hasData() {
+      return data_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteResponseData data = 2;</code>
+     * @return The data.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData getData() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData.getDefaultInstance() : data_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteResponseData data = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseDataOrBuilder getDataOrBuilder() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData.getDefaultInstance() : data_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (status_ != null) {
+        output.writeMessage(1, getStatus());
+      }
+      if (data_ != null) {
+        output.writeMessage(2, getData());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (status_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getStatus());
+      }
+      if (data_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getData());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse other = (org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse) obj;
+
+      if (hasStatus() != other.hasStatus()) return false;
+      if (hasStatus()) {
+        if (!getStatus()
+            .equals(other.getStatus())) return false;
+      }
+      if (hasData() != other.hasData()) return false;
+      if (hasData()) {
+        if (!getData()
+            .equals(other.getData())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasStatus()) {
+        hash = (37 * hash) + STATUS_FIELD_NUMBER;
+        hash = (53 * hash) + getStatus().hashCode();
+      }
+      if (hasData()) {
+        hash = (37 * hash) + DATA_FIELD_NUMBER;
+        hash = (53 * hash) + getData().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteResponse)
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRouteResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRouteResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRouteResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse build() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse result = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.status_ = statusBuilder_ == null
+              ? status_
+              : statusBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.data_ = dataBuilder_ == null
+              ? data_
+              : dataBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse.getDefaultInstance()) return this;
+        if (other.hasStatus()) {
+          mergeStatus(other.getStatus());
+        }
+        if (other.hasData()) {
+          mergeData(other.getData());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getStatusFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getDataFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.Status status_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> statusBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return Whether the status field is set.
+       */
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return The status.
+       */
+      public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+        if (statusBuilder_ == null) {
+          return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        } else {
+          return statusBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          status_ = value;
+        } else {
+          statusBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(
+          org.secretflow.v1alpha1.common.Common.Status.Builder builderForValue) {
+        if (statusBuilder_ == null) {
+          status_ = builderForValue.build();
+        } else {
+          statusBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder mergeStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            status_ != null &&
+            status_ != org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance()) {
+            getStatusBuilder().mergeFrom(value);
+          } else {
+            status_ = value;
+          }
+        } else {
+          statusBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.Status.Builder getStatusBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getStatusFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+        if (statusBuilder_ != null) {
+          return statusBuilder_.getMessageOrBuilder();
+        } else {
+          return status_ == null ?
+              org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> 
+          getStatusFieldBuilder() {
+        if (statusBuilder_ == null) {
+          statusBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder>(
+                  getStatus(),
+                  getParentForChildren(),
+                  isClean());
+          status_ = null;
+        }
+        return statusBuilder_;
+      }
+
+      private org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData data_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData, org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseDataOrBuilder> dataBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteResponseData data = 2;</code>
+       * @return Whether the data field is set.
+       */
+      public boolean hasData() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteResponseData data = 2;</code>
+       * @return The data.
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData getData() {
+        if (dataBuilder_ == null) {
+          return data_ == null ? org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData.getDefaultInstance() : data_;
+        } else {
+          return dataBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteResponseData data = 2;</code>
+       */
+      public Builder setData(org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData value) {
+        if (dataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          data_ = value;
+        } else {
+          dataBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteResponseData data = 2;</code>
+       */
+      public Builder setData(
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData.Builder builderForValue) {
+        if (dataBuilder_ == null) {
+          data_ = builderForValue.build();
+        } else {
+          dataBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteResponseData data = 2;</code>
+       */
+      public Builder mergeData(org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData value) {
+        if (dataBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            data_ != null &&
+            data_ != org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData.getDefaultInstance()) {
+            getDataBuilder().mergeFrom(value);
+          } else {
+            data_ = value;
+          }
+        } else {
+          dataBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteResponseData data = 2;</code>
+       */
+      public Builder clearData() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteResponseData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData.Builder getDataBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getDataFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteResponseData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseDataOrBuilder getDataOrBuilder() {
+        if (dataBuilder_ != null) {
+          return dataBuilder_.getMessageOrBuilder();
+        } else {
+          return data_ == null ?
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData.getDefaultInstance() : data_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteResponseData data = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData, org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseDataOrBuilder> 
+          getDataFieldBuilder() {
+        if (dataBuilder_ == null) {
+          dataBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData, org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseDataOrBuilder>(
+                  getData(),
+                  getParentForChildren(),
+                  isClean());
+          data_ = null;
+        }
+        return dataBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteResponse)
+    private static final org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CreateDomainRouteResponse>
+        PARSER = new com.google.protobuf.AbstractParser<CreateDomainRouteResponse>() {
+      @java.lang.Override
+      public CreateDomainRouteResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CreateDomainRouteResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CreateDomainRouteResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CreateDomainRouteResponseDataOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteResponseData)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteResponseData}
+   */
+  public static final class CreateDomainRouteResponseData extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteResponseData)
+      CreateDomainRouteResponseDataOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use CreateDomainRouteResponseData.newBuilder() to construct.
+    private CreateDomainRouteResponseData(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CreateDomainRouteResponseData() {
+      name_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new CreateDomainRouteResponseData();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRouteResponseData_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRouteResponseData_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData.Builder.class);
+    }
+
+    public static final int NAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object name_ = "";
+    /**
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData other = (org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData) obj;
+
+      if (!getName()
+          .equals(other.getName())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteResponseData}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteResponseData)
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseDataOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRouteResponseData_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRouteResponseData_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        name_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRouteResponseData_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData build() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData result = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.name_ = name_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData.getDefaultInstance()) return this;
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                name_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object name_ = "";
+      /**
+       * <code>string name = 1;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        name_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        name_ = getDefaultInstance().getName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        name_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteResponseData)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.CreateDomainRouteResponseData)
+    private static final org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CreateDomainRouteResponseData>
+        PARSER = new com.google.protobuf.AbstractParser<CreateDomainRouteResponseData>() {
+      @java.lang.Override
+      public CreateDomainRouteResponseData parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CreateDomainRouteResponseData> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CreateDomainRouteResponseData> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.CreateDomainRouteResponseData getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DeleteDomainRouteRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainRouteRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    boolean hasHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeader getHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder();
+
+    /**
+     * <code>string destination = 3;</code>
+     * @return The destination.
+     */
+    java.lang.String getDestination();
+    /**
+     * <code>string destination = 3;</code>
+     * @return The bytes for destination.
+     */
+    com.google.protobuf.ByteString
+        getDestinationBytes();
+
+    /**
+     * <code>string source = 2;</code>
+     * @return The source.
+     */
+    java.lang.String getSource();
+    /**
+     * <code>string source = 2;</code>
+     * @return The bytes for source.
+     */
+    com.google.protobuf.ByteString
+        getSourceBytes();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainRouteRequest}
+   */
+  public static final class DeleteDomainRouteRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainRouteRequest)
+      DeleteDomainRouteRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use DeleteDomainRouteRequest.newBuilder() to construct.
+    private DeleteDomainRouteRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DeleteDomainRouteRequest() {
+      destination_ = "";
+      source_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new DeleteDomainRouteRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainRouteRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainRouteRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest.Builder.class);
+    }
+
+    public static final int HEADER_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    @java.lang.Override
+    public boolean hasHeader() {
+      return header_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+
+    public static final int DESTINATION_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object destination_ = "";
+    /**
+     * <code>string destination = 3;</code>
+     * @return The destination.
+     */
+    @java.lang.Override
+    public java.lang.String getDestination() {
+      java.lang.Object ref = destination_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        destination_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string destination = 3;</code>
+     * @return The bytes for destination.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDestinationBytes() {
+      java.lang.Object ref = destination_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        destination_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SOURCE_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object source_ = "";
+    /**
+     * <code>string source = 2;</code>
+     * @return The source.
+     */
+    @java.lang.Override
+    public java.lang.String getSource() {
+      java.lang.Object ref = source_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        source_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string source = 2;</code>
+     * @return The bytes for source.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getSourceBytes() {
+      java.lang.Object ref = source_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        source_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (header_ != null) {
+        output.writeMessage(1, getHeader());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(source_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, source_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(destination_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, destination_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (header_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getHeader());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(source_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, source_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(destination_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, destination_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest other = (org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest) obj;
+
+      if (hasHeader() != other.hasHeader()) return false;
+      if (hasHeader()) {
+        if (!getHeader()
+            .equals(other.getHeader())) return false;
+      }
+      if (!getDestination()
+          .equals(other.getDestination())) return false;
+      if (!getSource()
+          .equals(other.getSource())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasHeader()) {
+        hash = (37 * hash) + HEADER_FIELD_NUMBER;
+        hash = (53 * hash) + getHeader().hashCode();
+      }
+      hash = (37 * hash) + DESTINATION_FIELD_NUMBER;
+      hash = (53 * hash) + getDestination().hashCode();
+      hash = (37 * hash) + SOURCE_FIELD_NUMBER;
+      hash = (53 * hash) + getSource().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainRouteRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainRouteRequest)
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainRouteRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainRouteRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        destination_ = "";
+        source_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainRouteRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest build() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest result = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.header_ = headerBuilder_ == null
+              ? header_
+              : headerBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.destination_ = destination_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.source_ = source_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest.getDefaultInstance()) return this;
+        if (other.hasHeader()) {
+          mergeHeader(other.getHeader());
+        }
+        if (!other.getDestination().isEmpty()) {
+          destination_ = other.destination_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getSource().isEmpty()) {
+          source_ = other.source_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getHeaderFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                source_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 18
+              case 26: {
+                destination_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> headerBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return Whether the header field is set.
+       */
+      public boolean hasHeader() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return The header.
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+        if (headerBuilder_ == null) {
+          return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        } else {
+          return headerBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          header_ = value;
+        } else {
+          headerBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(
+          org.secretflow.v1alpha1.common.Common.RequestHeader.Builder builderForValue) {
+        if (headerBuilder_ == null) {
+          header_ = builderForValue.build();
+        } else {
+          headerBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder mergeHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            header_ != null &&
+            header_ != org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance()) {
+            getHeaderBuilder().mergeFrom(value);
+          } else {
+            header_ = value;
+          }
+        } else {
+          headerBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder clearHeader() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader.Builder getHeaderBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getHeaderFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+        if (headerBuilder_ != null) {
+          return headerBuilder_.getMessageOrBuilder();
+        } else {
+          return header_ == null ?
+              org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> 
+          getHeaderFieldBuilder() {
+        if (headerBuilder_ == null) {
+          headerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder>(
+                  getHeader(),
+                  getParentForChildren(),
+                  isClean());
+          header_ = null;
+        }
+        return headerBuilder_;
+      }
+
+      private java.lang.Object destination_ = "";
+      /**
+       * <code>string destination = 3;</code>
+       * @return The destination.
+       */
+      public java.lang.String getDestination() {
+        java.lang.Object ref = destination_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          destination_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string destination = 3;</code>
+       * @return The bytes for destination.
+       */
+      public com.google.protobuf.ByteString
+          getDestinationBytes() {
+        java.lang.Object ref = destination_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          destination_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string destination = 3;</code>
+       * @param value The destination to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDestination(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        destination_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string destination = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDestination() {
+        destination_ = getDefaultInstance().getDestination();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string destination = 3;</code>
+       * @param value The bytes for destination to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDestinationBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        destination_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object source_ = "";
+      /**
+       * <code>string source = 2;</code>
+       * @return The source.
+       */
+      public java.lang.String getSource() {
+        java.lang.Object ref = source_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          source_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string source = 2;</code>
+       * @return The bytes for source.
+       */
+      public com.google.protobuf.ByteString
+          getSourceBytes() {
+        java.lang.Object ref = source_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          source_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string source = 2;</code>
+       * @param value The source to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSource(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        source_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string source = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSource() {
+        source_ = getDefaultInstance().getSource();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string source = 2;</code>
+       * @param value The bytes for source to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSourceBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        source_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainRouteRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainRouteRequest)
+    private static final org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DeleteDomainRouteRequest>
+        PARSER = new com.google.protobuf.AbstractParser<DeleteDomainRouteRequest>() {
+      @java.lang.Override
+      public DeleteDomainRouteRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<DeleteDomainRouteRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DeleteDomainRouteRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DeleteDomainRouteResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainRouteResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    boolean hasStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    org.secretflow.v1alpha1.common.Common.Status getStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainRouteResponse}
+   */
+  public static final class DeleteDomainRouteResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainRouteResponse)
+      DeleteDomainRouteResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use DeleteDomainRouteResponse.newBuilder() to construct.
+    private DeleteDomainRouteResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DeleteDomainRouteResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new DeleteDomainRouteResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainRouteResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainRouteResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse.Builder.class);
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.Status status_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    @java.lang.Override
+    public boolean hasStatus() {
+      return status_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (status_ != null) {
+        output.writeMessage(1, getStatus());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (status_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getStatus());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse other = (org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse) obj;
+
+      if (hasStatus() != other.hasStatus()) return false;
+      if (hasStatus()) {
+        if (!getStatus()
+            .equals(other.getStatus())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasStatus()) {
+        hash = (37 * hash) + STATUS_FIELD_NUMBER;
+        hash = (53 * hash) + getStatus().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainRouteResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainRouteResponse)
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainRouteResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainRouteResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainRouteResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse build() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse result = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.status_ = statusBuilder_ == null
+              ? status_
+              : statusBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse.getDefaultInstance()) return this;
+        if (other.hasStatus()) {
+          mergeStatus(other.getStatus());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getStatusFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.Status status_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> statusBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return Whether the status field is set.
+       */
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return The status.
+       */
+      public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+        if (statusBuilder_ == null) {
+          return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        } else {
+          return statusBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          status_ = value;
+        } else {
+          statusBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(
+          org.secretflow.v1alpha1.common.Common.Status.Builder builderForValue) {
+        if (statusBuilder_ == null) {
+          status_ = builderForValue.build();
+        } else {
+          statusBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder mergeStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            status_ != null &&
+            status_ != org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance()) {
+            getStatusBuilder().mergeFrom(value);
+          } else {
+            status_ = value;
+          }
+        } else {
+          statusBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.Status.Builder getStatusBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getStatusFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+        if (statusBuilder_ != null) {
+          return statusBuilder_.getMessageOrBuilder();
+        } else {
+          return status_ == null ?
+              org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> 
+          getStatusFieldBuilder() {
+        if (statusBuilder_ == null) {
+          statusBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder>(
+                  getStatus(),
+                  getParentForChildren(),
+                  isClean());
+          status_ = null;
+        }
+        return statusBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainRouteResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.DeleteDomainRouteResponse)
+    private static final org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DeleteDomainRouteResponse>
+        PARSER = new com.google.protobuf.AbstractParser<DeleteDomainRouteResponse>() {
+      @java.lang.Override
+      public DeleteDomainRouteResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<DeleteDomainRouteResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DeleteDomainRouteResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.DeleteDomainRouteResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface QueryDomainRouteRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    boolean hasHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeader getHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder();
+
+    /**
+     * <code>string destination = 2;</code>
+     * @return The destination.
+     */
+    java.lang.String getDestination();
+    /**
+     * <code>string destination = 2;</code>
+     * @return The bytes for destination.
+     */
+    com.google.protobuf.ByteString
+        getDestinationBytes();
+
+    /**
+     * <code>string source = 3;</code>
+     * @return The source.
+     */
+    java.lang.String getSource();
+    /**
+     * <code>string source = 3;</code>
+     * @return The bytes for source.
+     */
+    com.google.protobuf.ByteString
+        getSourceBytes();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteRequest}
+   */
+  public static final class QueryDomainRouteRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteRequest)
+      QueryDomainRouteRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use QueryDomainRouteRequest.newBuilder() to construct.
+    private QueryDomainRouteRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private QueryDomainRouteRequest() {
+      destination_ = "";
+      source_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new QueryDomainRouteRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRouteRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRouteRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest.Builder.class);
+    }
+
+    public static final int HEADER_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    @java.lang.Override
+    public boolean hasHeader() {
+      return header_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+
+    public static final int DESTINATION_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object destination_ = "";
+    /**
+     * <code>string destination = 2;</code>
+     * @return The destination.
+     */
+    @java.lang.Override
+    public java.lang.String getDestination() {
+      java.lang.Object ref = destination_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        destination_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string destination = 2;</code>
+     * @return The bytes for destination.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDestinationBytes() {
+      java.lang.Object ref = destination_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        destination_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SOURCE_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object source_ = "";
+    /**
+     * <code>string source = 3;</code>
+     * @return The source.
+     */
+    @java.lang.Override
+    public java.lang.String getSource() {
+      java.lang.Object ref = source_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        source_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string source = 3;</code>
+     * @return The bytes for source.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getSourceBytes() {
+      java.lang.Object ref = source_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        source_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (header_ != null) {
+        output.writeMessage(1, getHeader());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(destination_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, destination_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(source_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, source_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (header_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getHeader());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(destination_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, destination_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(source_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, source_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest other = (org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest) obj;
+
+      if (hasHeader() != other.hasHeader()) return false;
+      if (hasHeader()) {
+        if (!getHeader()
+            .equals(other.getHeader())) return false;
+      }
+      if (!getDestination()
+          .equals(other.getDestination())) return false;
+      if (!getSource()
+          .equals(other.getSource())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasHeader()) {
+        hash = (37 * hash) + HEADER_FIELD_NUMBER;
+        hash = (53 * hash) + getHeader().hashCode();
+      }
+      hash = (37 * hash) + DESTINATION_FIELD_NUMBER;
+      hash = (53 * hash) + getDestination().hashCode();
+      hash = (37 * hash) + SOURCE_FIELD_NUMBER;
+      hash = (53 * hash) + getSource().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteRequest)
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRouteRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRouteRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        destination_ = "";
+        source_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRouteRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest build() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest result = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.header_ = headerBuilder_ == null
+              ? header_
+              : headerBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.destination_ = destination_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.source_ = source_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest.getDefaultInstance()) return this;
+        if (other.hasHeader()) {
+          mergeHeader(other.getHeader());
+        }
+        if (!other.getDestination().isEmpty()) {
+          destination_ = other.destination_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getSource().isEmpty()) {
+          source_ = other.source_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getHeaderFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                destination_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                source_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> headerBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return Whether the header field is set.
+       */
+      public boolean hasHeader() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return The header.
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+        if (headerBuilder_ == null) {
+          return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        } else {
+          return headerBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          header_ = value;
+        } else {
+          headerBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(
+          org.secretflow.v1alpha1.common.Common.RequestHeader.Builder builderForValue) {
+        if (headerBuilder_ == null) {
+          header_ = builderForValue.build();
+        } else {
+          headerBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder mergeHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            header_ != null &&
+            header_ != org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance()) {
+            getHeaderBuilder().mergeFrom(value);
+          } else {
+            header_ = value;
+          }
+        } else {
+          headerBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder clearHeader() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader.Builder getHeaderBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getHeaderFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+        if (headerBuilder_ != null) {
+          return headerBuilder_.getMessageOrBuilder();
+        } else {
+          return header_ == null ?
+              org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> 
+          getHeaderFieldBuilder() {
+        if (headerBuilder_ == null) {
+          headerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder>(
+                  getHeader(),
+                  getParentForChildren(),
+                  isClean());
+          header_ = null;
+        }
+        return headerBuilder_;
+      }
+
+      private java.lang.Object destination_ = "";
+      /**
+       * <code>string destination = 2;</code>
+       * @return The destination.
+       */
+      public java.lang.String getDestination() {
+        java.lang.Object ref = destination_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          destination_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string destination = 2;</code>
+       * @return The bytes for destination.
+       */
+      public com.google.protobuf.ByteString
+          getDestinationBytes() {
+        java.lang.Object ref = destination_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          destination_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string destination = 2;</code>
+       * @param value The destination to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDestination(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        destination_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string destination = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDestination() {
+        destination_ = getDefaultInstance().getDestination();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string destination = 2;</code>
+       * @param value The bytes for destination to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDestinationBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        destination_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object source_ = "";
+      /**
+       * <code>string source = 3;</code>
+       * @return The source.
+       */
+      public java.lang.String getSource() {
+        java.lang.Object ref = source_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          source_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string source = 3;</code>
+       * @return The bytes for source.
+       */
+      public com.google.protobuf.ByteString
+          getSourceBytes() {
+        java.lang.Object ref = source_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          source_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string source = 3;</code>
+       * @param value The source to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSource(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        source_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string source = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSource() {
+        source_ = getDefaultInstance().getSource();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string source = 3;</code>
+       * @param value The bytes for source to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSourceBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        source_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteRequest)
+    private static final org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<QueryDomainRouteRequest>
+        PARSER = new com.google.protobuf.AbstractParser<QueryDomainRouteRequest>() {
+      @java.lang.Override
+      public QueryDomainRouteRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<QueryDomainRouteRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<QueryDomainRouteRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface QueryDomainRouteResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    boolean hasStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    org.secretflow.v1alpha1.common.Common.Status getStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder();
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteResponseData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    boolean hasData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteResponseData data = 2;</code>
+     * @return The data.
+     */
+    org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData getData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteResponseData data = 2;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseDataOrBuilder getDataOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteResponse}
+   */
+  public static final class QueryDomainRouteResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteResponse)
+      QueryDomainRouteResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use QueryDomainRouteResponse.newBuilder() to construct.
+    private QueryDomainRouteResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private QueryDomainRouteResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new QueryDomainRouteResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRouteResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRouteResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse.Builder.class);
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.Status status_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    @java.lang.Override
+    public boolean hasStatus() {
+      return status_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+
+    public static final int DATA_FIELD_NUMBER = 2;
+    private org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData data_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteResponseData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    @java.lang.Override
+    public boolean hasData() {
+      return data_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteResponseData data = 2;</code>
+     * @return The data.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData getData() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData.getDefaultInstance() : data_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteResponseData data = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseDataOrBuilder getDataOrBuilder() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData.getDefaultInstance() : data_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (status_ != null) {
+        output.writeMessage(1, getStatus());
+      }
+      if (data_ != null) {
+        output.writeMessage(2, getData());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (status_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getStatus());
+      }
+      if (data_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getData());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse other = (org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse) obj;
+
+      if (hasStatus() != other.hasStatus()) return false;
+      if (hasStatus()) {
+        if (!getStatus()
+            .equals(other.getStatus())) return false;
+      }
+      if (hasData() != other.hasData()) return false;
+      if (hasData()) {
+        if (!getData()
+            .equals(other.getData())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasStatus()) {
+        hash = (37 * hash) + STATUS_FIELD_NUMBER;
+        hash = (53 * hash) + getStatus().hashCode();
+      }
+      if (hasData()) {
+        hash = (37 * hash) + DATA_FIELD_NUMBER;
+        hash = (53 * hash) + getData().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteResponse)
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRouteResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRouteResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRouteResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse build() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse result = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.status_ = statusBuilder_ == null
+              ? status_
+              : statusBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.data_ = dataBuilder_ == null
+              ? data_
+              : dataBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse.getDefaultInstance()) return this;
+        if (other.hasStatus()) {
+          mergeStatus(other.getStatus());
+        }
+        if (other.hasData()) {
+          mergeData(other.getData());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getStatusFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getDataFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.Status status_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> statusBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return Whether the status field is set.
+       */
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return The status.
+       */
+      public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+        if (statusBuilder_ == null) {
+          return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        } else {
+          return statusBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          status_ = value;
+        } else {
+          statusBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(
+          org.secretflow.v1alpha1.common.Common.Status.Builder builderForValue) {
+        if (statusBuilder_ == null) {
+          status_ = builderForValue.build();
+        } else {
+          statusBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder mergeStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            status_ != null &&
+            status_ != org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance()) {
+            getStatusBuilder().mergeFrom(value);
+          } else {
+            status_ = value;
+          }
+        } else {
+          statusBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.Status.Builder getStatusBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getStatusFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+        if (statusBuilder_ != null) {
+          return statusBuilder_.getMessageOrBuilder();
+        } else {
+          return status_ == null ?
+              org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> 
+          getStatusFieldBuilder() {
+        if (statusBuilder_ == null) {
+          statusBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder>(
+                  getStatus(),
+                  getParentForChildren(),
+                  isClean());
+          status_ = null;
+        }
+        return statusBuilder_;
+      }
+
+      private org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData data_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData, org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseDataOrBuilder> dataBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteResponseData data = 2;</code>
+       * @return Whether the data field is set.
+       */
+      public boolean hasData() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteResponseData data = 2;</code>
+       * @return The data.
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData getData() {
+        if (dataBuilder_ == null) {
+          return data_ == null ? org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData.getDefaultInstance() : data_;
+        } else {
+          return dataBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteResponseData data = 2;</code>
+       */
+      public Builder setData(org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData value) {
+        if (dataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          data_ = value;
+        } else {
+          dataBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteResponseData data = 2;</code>
+       */
+      public Builder setData(
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData.Builder builderForValue) {
+        if (dataBuilder_ == null) {
+          data_ = builderForValue.build();
+        } else {
+          dataBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteResponseData data = 2;</code>
+       */
+      public Builder mergeData(org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData value) {
+        if (dataBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            data_ != null &&
+            data_ != org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData.getDefaultInstance()) {
+            getDataBuilder().mergeFrom(value);
+          } else {
+            data_ = value;
+          }
+        } else {
+          dataBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteResponseData data = 2;</code>
+       */
+      public Builder clearData() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteResponseData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData.Builder getDataBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getDataFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteResponseData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseDataOrBuilder getDataOrBuilder() {
+        if (dataBuilder_ != null) {
+          return dataBuilder_.getMessageOrBuilder();
+        } else {
+          return data_ == null ?
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData.getDefaultInstance() : data_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteResponseData data = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData, org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseDataOrBuilder> 
+          getDataFieldBuilder() {
+        if (dataBuilder_ == null) {
+          dataBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData, org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseDataOrBuilder>(
+                  getData(),
+                  getParentForChildren(),
+                  isClean());
+          data_ = null;
+        }
+        return dataBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteResponse)
+    private static final org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<QueryDomainRouteResponse>
+        PARSER = new com.google.protobuf.AbstractParser<QueryDomainRouteResponse>() {
+      @java.lang.Override
+      public QueryDomainRouteResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<QueryDomainRouteResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<QueryDomainRouteResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface QueryDomainRouteResponseDataOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteResponseData)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <code>string authentication_type = 2;</code>
+     * @return The authenticationType.
+     */
+    java.lang.String getAuthenticationType();
+    /**
+     * <code>string authentication_type = 2;</code>
+     * @return The bytes for authenticationType.
+     */
+    com.google.protobuf.ByteString
+        getAuthenticationTypeBytes();
+
+    /**
+     * <code>string destination = 3;</code>
+     * @return The destination.
+     */
+    java.lang.String getDestination();
+    /**
+     * <code>string destination = 3;</code>
+     * @return The bytes for destination.
+     */
+    com.google.protobuf.ByteString
+        getDestinationBytes();
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint endpoint = 4;</code>
+     * @return Whether the endpoint field is set.
+     */
+    boolean hasEndpoint();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint endpoint = 4;</code>
+     * @return The endpoint.
+     */
+    org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint getEndpoint();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint endpoint = 4;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpointOrBuilder getEndpointOrBuilder();
+
+    /**
+     * <code>string source = 5;</code>
+     * @return The source.
+     */
+    java.lang.String getSource();
+    /**
+     * <code>string source = 5;</code>
+     * @return The bytes for source.
+     */
+    com.google.protobuf.ByteString
+        getSourceBytes();
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig token_config = 6;</code>
+     * @return Whether the tokenConfig field is set.
+     */
+    boolean hasTokenConfig();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig token_config = 6;</code>
+     * @return The tokenConfig.
+     */
+    org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig getTokenConfig();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig token_config = 6;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfigOrBuilder getTokenConfigOrBuilder();
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig mtls_config = 7;</code>
+     * @return Whether the mtlsConfig field is set.
+     */
+    boolean hasMtlsConfig();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig mtls_config = 7;</code>
+     * @return The mtlsConfig.
+     */
+    org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig getMtlsConfig();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig mtls_config = 7;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfigOrBuilder getMtlsConfigOrBuilder();
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus status = 8;</code>
+     * @return Whether the status field is set.
+     */
+    boolean hasStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus status = 8;</code>
+     * @return The status.
+     */
+    org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus getStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus status = 8;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatusOrBuilder getStatusOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteResponseData}
+   */
+  public static final class QueryDomainRouteResponseData extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteResponseData)
+      QueryDomainRouteResponseDataOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use QueryDomainRouteResponseData.newBuilder() to construct.
+    private QueryDomainRouteResponseData(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private QueryDomainRouteResponseData() {
+      name_ = "";
+      authenticationType_ = "";
+      destination_ = "";
+      source_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new QueryDomainRouteResponseData();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRouteResponseData_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRouteResponseData_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData.Builder.class);
+    }
+
+    public static final int NAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object name_ = "";
+    /**
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int AUTHENTICATION_TYPE_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object authenticationType_ = "";
+    /**
+     * <code>string authentication_type = 2;</code>
+     * @return The authenticationType.
+     */
+    @java.lang.Override
+    public java.lang.String getAuthenticationType() {
+      java.lang.Object ref = authenticationType_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        authenticationType_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string authentication_type = 2;</code>
+     * @return The bytes for authenticationType.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getAuthenticationTypeBytes() {
+      java.lang.Object ref = authenticationType_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        authenticationType_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DESTINATION_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object destination_ = "";
+    /**
+     * <code>string destination = 3;</code>
+     * @return The destination.
+     */
+    @java.lang.Override
+    public java.lang.String getDestination() {
+      java.lang.Object ref = destination_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        destination_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string destination = 3;</code>
+     * @return The bytes for destination.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDestinationBytes() {
+      java.lang.Object ref = destination_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        destination_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ENDPOINT_FIELD_NUMBER = 4;
+    private org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint endpoint_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint endpoint = 4;</code>
+     * @return Whether the endpoint field is set.
+     */
+    @java.lang.Override
+    public boolean hasEndpoint() {
+      return endpoint_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint endpoint = 4;</code>
+     * @return The endpoint.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint getEndpoint() {
+      return endpoint_ == null ? org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint.getDefaultInstance() : endpoint_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint endpoint = 4;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpointOrBuilder getEndpointOrBuilder() {
+      return endpoint_ == null ? org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint.getDefaultInstance() : endpoint_;
+    }
+
+    public static final int SOURCE_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object source_ = "";
+    /**
+     * <code>string source = 5;</code>
+     * @return The source.
+     */
+    @java.lang.Override
+    public java.lang.String getSource() {
+      java.lang.Object ref = source_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        source_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string source = 5;</code>
+     * @return The bytes for source.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getSourceBytes() {
+      java.lang.Object ref = source_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        source_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TOKEN_CONFIG_FIELD_NUMBER = 6;
+    private org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig tokenConfig_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig token_config = 6;</code>
+     * @return Whether the tokenConfig field is set.
+     */
+    @java.lang.Override
+    public boolean hasTokenConfig() {
+      return tokenConfig_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig token_config = 6;</code>
+     * @return The tokenConfig.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig getTokenConfig() {
+      return tokenConfig_ == null ? org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig.getDefaultInstance() : tokenConfig_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig token_config = 6;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfigOrBuilder getTokenConfigOrBuilder() {
+      return tokenConfig_ == null ? org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig.getDefaultInstance() : tokenConfig_;
+    }
+
+    public static final int MTLS_CONFIG_FIELD_NUMBER = 7;
+    private org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig mtlsConfig_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig mtls_config = 7;</code>
+     * @return Whether the mtlsConfig field is set.
+     */
+    @java.lang.Override
+    public boolean hasMtlsConfig() {
+      return mtlsConfig_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig mtls_config = 7;</code>
+     * @return The mtlsConfig.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig getMtlsConfig() {
+      return mtlsConfig_ == null ? org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig.getDefaultInstance() : mtlsConfig_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig mtls_config = 7;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfigOrBuilder getMtlsConfigOrBuilder() {
+      return mtlsConfig_ == null ? org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig.getDefaultInstance() : mtlsConfig_;
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 8;
+    private org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus status_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus status = 8;</code>
+     * @return Whether the status field is set.
+     */
+    @java.lang.Override
+    public boolean hasStatus() {
+      return status_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus status = 8;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus getStatus() {
+      return status_ == null ? org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus.getDefaultInstance() : status_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus status = 8;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatusOrBuilder getStatusOrBuilder() {
+      return status_ == null ? org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus.getDefaultInstance() : status_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(authenticationType_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, authenticationType_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(destination_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, destination_);
+      }
+      if (endpoint_ != null) {
+        output.writeMessage(4, getEndpoint());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(source_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 5, source_);
+      }
+      if (tokenConfig_ != null) {
+        output.writeMessage(6, getTokenConfig());
+      }
+      if (mtlsConfig_ != null) {
+        output.writeMessage(7, getMtlsConfig());
+      }
+      if (status_ != null) {
+        output.writeMessage(8, getStatus());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(authenticationType_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, authenticationType_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(destination_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, destination_);
+      }
+      if (endpoint_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, getEndpoint());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(source_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, source_);
+      }
+      if (tokenConfig_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, getTokenConfig());
+      }
+      if (mtlsConfig_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, getMtlsConfig());
+      }
+      if (status_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(8, getStatus());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData other = (org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData) obj;
+
+      if (!getName()
+          .equals(other.getName())) return false;
+      if (!getAuthenticationType()
+          .equals(other.getAuthenticationType())) return false;
+      if (!getDestination()
+          .equals(other.getDestination())) return false;
+      if (hasEndpoint() != other.hasEndpoint()) return false;
+      if (hasEndpoint()) {
+        if (!getEndpoint()
+            .equals(other.getEndpoint())) return false;
+      }
+      if (!getSource()
+          .equals(other.getSource())) return false;
+      if (hasTokenConfig() != other.hasTokenConfig()) return false;
+      if (hasTokenConfig()) {
+        if (!getTokenConfig()
+            .equals(other.getTokenConfig())) return false;
+      }
+      if (hasMtlsConfig() != other.hasMtlsConfig()) return false;
+      if (hasMtlsConfig()) {
+        if (!getMtlsConfig()
+            .equals(other.getMtlsConfig())) return false;
+      }
+      if (hasStatus() != other.hasStatus()) return false;
+      if (hasStatus()) {
+        if (!getStatus()
+            .equals(other.getStatus())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (37 * hash) + AUTHENTICATION_TYPE_FIELD_NUMBER;
+      hash = (53 * hash) + getAuthenticationType().hashCode();
+      hash = (37 * hash) + DESTINATION_FIELD_NUMBER;
+      hash = (53 * hash) + getDestination().hashCode();
+      if (hasEndpoint()) {
+        hash = (37 * hash) + ENDPOINT_FIELD_NUMBER;
+        hash = (53 * hash) + getEndpoint().hashCode();
+      }
+      hash = (37 * hash) + SOURCE_FIELD_NUMBER;
+      hash = (53 * hash) + getSource().hashCode();
+      if (hasTokenConfig()) {
+        hash = (37 * hash) + TOKEN_CONFIG_FIELD_NUMBER;
+        hash = (53 * hash) + getTokenConfig().hashCode();
+      }
+      if (hasMtlsConfig()) {
+        hash = (37 * hash) + MTLS_CONFIG_FIELD_NUMBER;
+        hash = (53 * hash) + getMtlsConfig().hashCode();
+      }
+      if (hasStatus()) {
+        hash = (37 * hash) + STATUS_FIELD_NUMBER;
+        hash = (53 * hash) + getStatus().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteResponseData}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteResponseData)
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseDataOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRouteResponseData_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRouteResponseData_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        name_ = "";
+        authenticationType_ = "";
+        destination_ = "";
+        endpoint_ = null;
+        if (endpointBuilder_ != null) {
+          endpointBuilder_.dispose();
+          endpointBuilder_ = null;
+        }
+        source_ = "";
+        tokenConfig_ = null;
+        if (tokenConfigBuilder_ != null) {
+          tokenConfigBuilder_.dispose();
+          tokenConfigBuilder_ = null;
+        }
+        mtlsConfig_ = null;
+        if (mtlsConfigBuilder_ != null) {
+          mtlsConfigBuilder_.dispose();
+          mtlsConfigBuilder_ = null;
+        }
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRouteResponseData_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData build() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData result = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.name_ = name_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.authenticationType_ = authenticationType_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.destination_ = destination_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.endpoint_ = endpointBuilder_ == null
+              ? endpoint_
+              : endpointBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.source_ = source_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.tokenConfig_ = tokenConfigBuilder_ == null
+              ? tokenConfig_
+              : tokenConfigBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.mtlsConfig_ = mtlsConfigBuilder_ == null
+              ? mtlsConfig_
+              : mtlsConfigBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.status_ = statusBuilder_ == null
+              ? status_
+              : statusBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData.getDefaultInstance()) return this;
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getAuthenticationType().isEmpty()) {
+          authenticationType_ = other.authenticationType_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getDestination().isEmpty()) {
+          destination_ = other.destination_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (other.hasEndpoint()) {
+          mergeEndpoint(other.getEndpoint());
+        }
+        if (!other.getSource().isEmpty()) {
+          source_ = other.source_;
+          bitField0_ |= 0x00000010;
+          onChanged();
+        }
+        if (other.hasTokenConfig()) {
+          mergeTokenConfig(other.getTokenConfig());
+        }
+        if (other.hasMtlsConfig()) {
+          mergeMtlsConfig(other.getMtlsConfig());
+        }
+        if (other.hasStatus()) {
+          mergeStatus(other.getStatus());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                name_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                authenticationType_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                destination_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                input.readMessage(
+                    getEndpointFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 42: {
+                source_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 42
+              case 50: {
+                input.readMessage(
+                    getTokenConfigFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 50
+              case 58: {
+                input.readMessage(
+                    getMtlsConfigFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 58
+              case 66: {
+                input.readMessage(
+                    getStatusFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 66
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object name_ = "";
+      /**
+       * <code>string name = 1;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        name_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        name_ = getDefaultInstance().getName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        name_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object authenticationType_ = "";
+      /**
+       * <code>string authentication_type = 2;</code>
+       * @return The authenticationType.
+       */
+      public java.lang.String getAuthenticationType() {
+        java.lang.Object ref = authenticationType_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          authenticationType_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string authentication_type = 2;</code>
+       * @return The bytes for authenticationType.
+       */
+      public com.google.protobuf.ByteString
+          getAuthenticationTypeBytes() {
+        java.lang.Object ref = authenticationType_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          authenticationType_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string authentication_type = 2;</code>
+       * @param value The authenticationType to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAuthenticationType(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        authenticationType_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string authentication_type = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAuthenticationType() {
+        authenticationType_ = getDefaultInstance().getAuthenticationType();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string authentication_type = 2;</code>
+       * @param value The bytes for authenticationType to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAuthenticationTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        authenticationType_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object destination_ = "";
+      /**
+       * <code>string destination = 3;</code>
+       * @return The destination.
+       */
+      public java.lang.String getDestination() {
+        java.lang.Object ref = destination_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          destination_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string destination = 3;</code>
+       * @return The bytes for destination.
+       */
+      public com.google.protobuf.ByteString
+          getDestinationBytes() {
+        java.lang.Object ref = destination_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          destination_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string destination = 3;</code>
+       * @param value The destination to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDestination(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        destination_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string destination = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDestination() {
+        destination_ = getDefaultInstance().getDestination();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string destination = 3;</code>
+       * @param value The bytes for destination to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDestinationBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        destination_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint endpoint_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint, org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpointOrBuilder> endpointBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint endpoint = 4;</code>
+       * @return Whether the endpoint field is set.
+       */
+      public boolean hasEndpoint() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint endpoint = 4;</code>
+       * @return The endpoint.
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint getEndpoint() {
+        if (endpointBuilder_ == null) {
+          return endpoint_ == null ? org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint.getDefaultInstance() : endpoint_;
+        } else {
+          return endpointBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint endpoint = 4;</code>
+       */
+      public Builder setEndpoint(org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint value) {
+        if (endpointBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          endpoint_ = value;
+        } else {
+          endpointBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint endpoint = 4;</code>
+       */
+      public Builder setEndpoint(
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint.Builder builderForValue) {
+        if (endpointBuilder_ == null) {
+          endpoint_ = builderForValue.build();
+        } else {
+          endpointBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint endpoint = 4;</code>
+       */
+      public Builder mergeEndpoint(org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint value) {
+        if (endpointBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0) &&
+            endpoint_ != null &&
+            endpoint_ != org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint.getDefaultInstance()) {
+            getEndpointBuilder().mergeFrom(value);
+          } else {
+            endpoint_ = value;
+          }
+        } else {
+          endpointBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint endpoint = 4;</code>
+       */
+      public Builder clearEndpoint() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        endpoint_ = null;
+        if (endpointBuilder_ != null) {
+          endpointBuilder_.dispose();
+          endpointBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint endpoint = 4;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint.Builder getEndpointBuilder() {
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return getEndpointFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint endpoint = 4;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpointOrBuilder getEndpointOrBuilder() {
+        if (endpointBuilder_ != null) {
+          return endpointBuilder_.getMessageOrBuilder();
+        } else {
+          return endpoint_ == null ?
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint.getDefaultInstance() : endpoint_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteEndpoint endpoint = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint, org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpointOrBuilder> 
+          getEndpointFieldBuilder() {
+        if (endpointBuilder_ == null) {
+          endpointBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint, org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpoint.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteEndpointOrBuilder>(
+                  getEndpoint(),
+                  getParentForChildren(),
+                  isClean());
+          endpoint_ = null;
+        }
+        return endpointBuilder_;
+      }
+
+      private java.lang.Object source_ = "";
+      /**
+       * <code>string source = 5;</code>
+       * @return The source.
+       */
+      public java.lang.String getSource() {
+        java.lang.Object ref = source_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          source_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string source = 5;</code>
+       * @return The bytes for source.
+       */
+      public com.google.protobuf.ByteString
+          getSourceBytes() {
+        java.lang.Object ref = source_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          source_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string source = 5;</code>
+       * @param value The source to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSource(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        source_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string source = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSource() {
+        source_ = getDefaultInstance().getSource();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string source = 5;</code>
+       * @param value The bytes for source to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSourceBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        source_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+
+      private org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig tokenConfig_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig, org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfigOrBuilder> tokenConfigBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig token_config = 6;</code>
+       * @return Whether the tokenConfig field is set.
+       */
+      public boolean hasTokenConfig() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig token_config = 6;</code>
+       * @return The tokenConfig.
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig getTokenConfig() {
+        if (tokenConfigBuilder_ == null) {
+          return tokenConfig_ == null ? org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig.getDefaultInstance() : tokenConfig_;
+        } else {
+          return tokenConfigBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig token_config = 6;</code>
+       */
+      public Builder setTokenConfig(org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig value) {
+        if (tokenConfigBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          tokenConfig_ = value;
+        } else {
+          tokenConfigBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig token_config = 6;</code>
+       */
+      public Builder setTokenConfig(
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig.Builder builderForValue) {
+        if (tokenConfigBuilder_ == null) {
+          tokenConfig_ = builderForValue.build();
+        } else {
+          tokenConfigBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig token_config = 6;</code>
+       */
+      public Builder mergeTokenConfig(org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig value) {
+        if (tokenConfigBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) != 0) &&
+            tokenConfig_ != null &&
+            tokenConfig_ != org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig.getDefaultInstance()) {
+            getTokenConfigBuilder().mergeFrom(value);
+          } else {
+            tokenConfig_ = value;
+          }
+        } else {
+          tokenConfigBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig token_config = 6;</code>
+       */
+      public Builder clearTokenConfig() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        tokenConfig_ = null;
+        if (tokenConfigBuilder_ != null) {
+          tokenConfigBuilder_.dispose();
+          tokenConfigBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig token_config = 6;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig.Builder getTokenConfigBuilder() {
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return getTokenConfigFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig token_config = 6;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfigOrBuilder getTokenConfigOrBuilder() {
+        if (tokenConfigBuilder_ != null) {
+          return tokenConfigBuilder_.getMessageOrBuilder();
+        } else {
+          return tokenConfig_ == null ?
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig.getDefaultInstance() : tokenConfig_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.TokenConfig token_config = 6;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig, org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfigOrBuilder> 
+          getTokenConfigFieldBuilder() {
+        if (tokenConfigBuilder_ == null) {
+          tokenConfigBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig, org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfig.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.TokenConfigOrBuilder>(
+                  getTokenConfig(),
+                  getParentForChildren(),
+                  isClean());
+          tokenConfig_ = null;
+        }
+        return tokenConfigBuilder_;
+      }
+
+      private org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig mtlsConfig_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig, org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfigOrBuilder> mtlsConfigBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig mtls_config = 7;</code>
+       * @return Whether the mtlsConfig field is set.
+       */
+      public boolean hasMtlsConfig() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig mtls_config = 7;</code>
+       * @return The mtlsConfig.
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig getMtlsConfig() {
+        if (mtlsConfigBuilder_ == null) {
+          return mtlsConfig_ == null ? org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig.getDefaultInstance() : mtlsConfig_;
+        } else {
+          return mtlsConfigBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig mtls_config = 7;</code>
+       */
+      public Builder setMtlsConfig(org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig value) {
+        if (mtlsConfigBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          mtlsConfig_ = value;
+        } else {
+          mtlsConfigBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig mtls_config = 7;</code>
+       */
+      public Builder setMtlsConfig(
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig.Builder builderForValue) {
+        if (mtlsConfigBuilder_ == null) {
+          mtlsConfig_ = builderForValue.build();
+        } else {
+          mtlsConfigBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig mtls_config = 7;</code>
+       */
+      public Builder mergeMtlsConfig(org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig value) {
+        if (mtlsConfigBuilder_ == null) {
+          if (((bitField0_ & 0x00000040) != 0) &&
+            mtlsConfig_ != null &&
+            mtlsConfig_ != org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig.getDefaultInstance()) {
+            getMtlsConfigBuilder().mergeFrom(value);
+          } else {
+            mtlsConfig_ = value;
+          }
+        } else {
+          mtlsConfigBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig mtls_config = 7;</code>
+       */
+      public Builder clearMtlsConfig() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        mtlsConfig_ = null;
+        if (mtlsConfigBuilder_ != null) {
+          mtlsConfigBuilder_.dispose();
+          mtlsConfigBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig mtls_config = 7;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig.Builder getMtlsConfigBuilder() {
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return getMtlsConfigFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig mtls_config = 7;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfigOrBuilder getMtlsConfigOrBuilder() {
+        if (mtlsConfigBuilder_ != null) {
+          return mtlsConfigBuilder_.getMessageOrBuilder();
+        } else {
+          return mtlsConfig_ == null ?
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig.getDefaultInstance() : mtlsConfig_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.MTLSConfig mtls_config = 7;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig, org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfigOrBuilder> 
+          getMtlsConfigFieldBuilder() {
+        if (mtlsConfigBuilder_ == null) {
+          mtlsConfigBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig, org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfig.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.MTLSConfigOrBuilder>(
+                  getMtlsConfig(),
+                  getParentForChildren(),
+                  isClean());
+          mtlsConfig_ = null;
+        }
+        return mtlsConfigBuilder_;
+      }
+
+      private org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus status_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus, org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatusOrBuilder> statusBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus status = 8;</code>
+       * @return Whether the status field is set.
+       */
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000080) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus status = 8;</code>
+       * @return The status.
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus getStatus() {
+        if (statusBuilder_ == null) {
+          return status_ == null ? org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus.getDefaultInstance() : status_;
+        } else {
+          return statusBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus status = 8;</code>
+       */
+      public Builder setStatus(org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus value) {
+        if (statusBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          status_ = value;
+        } else {
+          statusBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus status = 8;</code>
+       */
+      public Builder setStatus(
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus.Builder builderForValue) {
+        if (statusBuilder_ == null) {
+          status_ = builderForValue.build();
+        } else {
+          statusBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus status = 8;</code>
+       */
+      public Builder mergeStatus(org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus value) {
+        if (statusBuilder_ == null) {
+          if (((bitField0_ & 0x00000080) != 0) &&
+            status_ != null &&
+            status_ != org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus.getDefaultInstance()) {
+            getStatusBuilder().mergeFrom(value);
+          } else {
+            status_ = value;
+          }
+        } else {
+          statusBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus status = 8;</code>
+       */
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus status = 8;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus.Builder getStatusBuilder() {
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return getStatusFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus status = 8;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatusOrBuilder getStatusOrBuilder() {
+        if (statusBuilder_ != null) {
+          return statusBuilder_.getMessageOrBuilder();
+        } else {
+          return status_ == null ?
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus.getDefaultInstance() : status_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus status = 8;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus, org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatusOrBuilder> 
+          getStatusFieldBuilder() {
+        if (statusBuilder_ == null) {
+          statusBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus, org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatusOrBuilder>(
+                  getStatus(),
+                  getParentForChildren(),
+                  isClean());
+          status_ = null;
+        }
+        return statusBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteResponseData)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.QueryDomainRouteResponseData)
+    private static final org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<QueryDomainRouteResponseData>
+        PARSER = new com.google.protobuf.AbstractParser<QueryDomainRouteResponseData>() {
+      @java.lang.Override
+      public QueryDomainRouteResponseData parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<QueryDomainRouteResponseData> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<QueryDomainRouteResponseData> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.QueryDomainRouteResponseData getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface RouteStatusOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * Succeeded or Failed
+     * </pre>
+     *
+     * <code>string status = 1;</code>
+     * @return The status.
+     */
+    java.lang.String getStatus();
+    /**
+     * <pre>
+     * Succeeded or Failed
+     * </pre>
+     *
+     * <code>string status = 1;</code>
+     * @return The bytes for status.
+     */
+    com.google.protobuf.ByteString
+        getStatusBytes();
+
+    /**
+     * <code>string reason = 2;</code>
+     * @return The reason.
+     */
+    java.lang.String getReason();
+    /**
+     * <code>string reason = 2;</code>
+     * @return The bytes for reason.
+     */
+    com.google.protobuf.ByteString
+        getReasonBytes();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus}
+   */
+  public static final class RouteStatus extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus)
+      RouteStatusOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use RouteStatus.newBuilder() to construct.
+    private RouteStatus(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private RouteStatus() {
+      status_ = "";
+      reason_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new RouteStatus();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_RouteStatus_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_RouteStatus_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus.Builder.class);
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object status_ = "";
+    /**
+     * <pre>
+     * Succeeded or Failed
+     * </pre>
+     *
+     * <code>string status = 1;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public java.lang.String getStatus() {
+      java.lang.Object ref = status_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        status_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * Succeeded or Failed
+     * </pre>
+     *
+     * <code>string status = 1;</code>
+     * @return The bytes for status.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getStatusBytes() {
+      java.lang.Object ref = status_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        status_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int REASON_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object reason_ = "";
+    /**
+     * <code>string reason = 2;</code>
+     * @return The reason.
+     */
+    @java.lang.Override
+    public java.lang.String getReason() {
+      java.lang.Object ref = reason_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        reason_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string reason = 2;</code>
+     * @return The bytes for reason.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getReasonBytes() {
+      java.lang.Object ref = reason_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        reason_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(status_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, status_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(reason_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, reason_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(status_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, status_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(reason_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, reason_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus other = (org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus) obj;
+
+      if (!getStatus()
+          .equals(other.getStatus())) return false;
+      if (!getReason()
+          .equals(other.getReason())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + STATUS_FIELD_NUMBER;
+      hash = (53 * hash) + getStatus().hashCode();
+      hash = (37 * hash) + REASON_FIELD_NUMBER;
+      hash = (53 * hash) + getReason().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus)
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatusOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_RouteStatus_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_RouteStatus_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        status_ = "";
+        reason_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_RouteStatus_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus build() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus result = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.status_ = status_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.reason_ = reason_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus.getDefaultInstance()) return this;
+        if (!other.getStatus().isEmpty()) {
+          status_ = other.status_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getReason().isEmpty()) {
+          reason_ = other.reason_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                status_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                reason_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object status_ = "";
+      /**
+       * <pre>
+       * Succeeded or Failed
+       * </pre>
+       *
+       * <code>string status = 1;</code>
+       * @return The status.
+       */
+      public java.lang.String getStatus() {
+        java.lang.Object ref = status_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          status_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Succeeded or Failed
+       * </pre>
+       *
+       * <code>string status = 1;</code>
+       * @return The bytes for status.
+       */
+      public com.google.protobuf.ByteString
+          getStatusBytes() {
+        java.lang.Object ref = status_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          status_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * Succeeded or Failed
+       * </pre>
+       *
+       * <code>string status = 1;</code>
+       * @param value The status to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStatus(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        status_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Succeeded or Failed
+       * </pre>
+       *
+       * <code>string status = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStatus() {
+        status_ = getDefaultInstance().getStatus();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Succeeded or Failed
+       * </pre>
+       *
+       * <code>string status = 1;</code>
+       * @param value The bytes for status to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStatusBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        status_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object reason_ = "";
+      /**
+       * <code>string reason = 2;</code>
+       * @return The reason.
+       */
+      public java.lang.String getReason() {
+        java.lang.Object ref = reason_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          reason_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string reason = 2;</code>
+       * @return The bytes for reason.
+       */
+      public com.google.protobuf.ByteString
+          getReasonBytes() {
+        java.lang.Object ref = reason_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          reason_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string reason = 2;</code>
+       * @param value The reason to set.
+       * @return This builder for chaining.
+       */
+      public Builder setReason(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        reason_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string reason = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearReason() {
+        reason_ = getDefaultInstance().getReason();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string reason = 2;</code>
+       * @param value The bytes for reason to set.
+       * @return This builder for chaining.
+       */
+      public Builder setReasonBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        reason_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus)
+    private static final org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<RouteStatus>
+        PARSER = new com.google.protobuf.AbstractParser<RouteStatus>() {
+      @java.lang.Override
+      public RouteStatus parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<RouteStatus> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<RouteStatus> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BatchQueryDomainRouteStatusRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    boolean hasHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeader getHeader();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder();
+
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey route_keys = 2;</code>
+     */
+    java.util.List<org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey> 
+        getRouteKeysList();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey route_keys = 2;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey getRouteKeys(int index);
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey route_keys = 2;</code>
+     */
+    int getRouteKeysCount();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey route_keys = 2;</code>
+     */
+    java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKeyOrBuilder> 
+        getRouteKeysOrBuilderList();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey route_keys = 2;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKeyOrBuilder getRouteKeysOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusRequest}
+   */
+  public static final class BatchQueryDomainRouteStatusRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusRequest)
+      BatchQueryDomainRouteStatusRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BatchQueryDomainRouteStatusRequest.newBuilder() to construct.
+    private BatchQueryDomainRouteStatusRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BatchQueryDomainRouteStatusRequest() {
+      routeKeys_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BatchQueryDomainRouteStatusRequest();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainRouteStatusRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainRouteStatusRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest.Builder.class);
+    }
+
+    public static final int HEADER_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return Whether the header field is set.
+     */
+    @java.lang.Override
+    public boolean hasHeader() {
+      return header_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     * @return The header.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+      return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+    }
+
+    public static final int ROUTE_KEYS_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey> routeKeys_;
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey route_keys = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey> getRouteKeysList() {
+      return routeKeys_;
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey route_keys = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKeyOrBuilder> 
+        getRouteKeysOrBuilderList() {
+      return routeKeys_;
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey route_keys = 2;</code>
+     */
+    @java.lang.Override
+    public int getRouteKeysCount() {
+      return routeKeys_.size();
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey route_keys = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey getRouteKeys(int index) {
+      return routeKeys_.get(index);
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey route_keys = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKeyOrBuilder getRouteKeysOrBuilder(
+        int index) {
+      return routeKeys_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (header_ != null) {
+        output.writeMessage(1, getHeader());
+      }
+      for (int i = 0; i < routeKeys_.size(); i++) {
+        output.writeMessage(2, routeKeys_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (header_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getHeader());
+      }
+      for (int i = 0; i < routeKeys_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, routeKeys_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest other = (org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest) obj;
+
+      if (hasHeader() != other.hasHeader()) return false;
+      if (hasHeader()) {
+        if (!getHeader()
+            .equals(other.getHeader())) return false;
+      }
+      if (!getRouteKeysList()
+          .equals(other.getRouteKeysList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasHeader()) {
+        hash = (37 * hash) + HEADER_FIELD_NUMBER;
+        hash = (53 * hash) + getHeader().hashCode();
+      }
+      if (getRouteKeysCount() > 0) {
+        hash = (37 * hash) + ROUTE_KEYS_FIELD_NUMBER;
+        hash = (53 * hash) + getRouteKeysList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusRequest)
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainRouteStatusRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainRouteStatusRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        if (routeKeysBuilder_ == null) {
+          routeKeys_ = java.util.Collections.emptyList();
+        } else {
+          routeKeys_ = null;
+          routeKeysBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainRouteStatusRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest build() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest result = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest result) {
+        if (routeKeysBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            routeKeys_ = java.util.Collections.unmodifiableList(routeKeys_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.routeKeys_ = routeKeys_;
+        } else {
+          result.routeKeys_ = routeKeysBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.header_ = headerBuilder_ == null
+              ? header_
+              : headerBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest.getDefaultInstance()) return this;
+        if (other.hasHeader()) {
+          mergeHeader(other.getHeader());
+        }
+        if (routeKeysBuilder_ == null) {
+          if (!other.routeKeys_.isEmpty()) {
+            if (routeKeys_.isEmpty()) {
+              routeKeys_ = other.routeKeys_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureRouteKeysIsMutable();
+              routeKeys_.addAll(other.routeKeys_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.routeKeys_.isEmpty()) {
+            if (routeKeysBuilder_.isEmpty()) {
+              routeKeysBuilder_.dispose();
+              routeKeysBuilder_ = null;
+              routeKeys_ = other.routeKeys_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              routeKeysBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getRouteKeysFieldBuilder() : null;
+            } else {
+              routeKeysBuilder_.addAllMessages(other.routeKeys_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getHeaderFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey m =
+                    input.readMessage(
+                        org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey.parser(),
+                        extensionRegistry);
+                if (routeKeysBuilder_ == null) {
+                  ensureRouteKeysIsMutable();
+                  routeKeys_.add(m);
+                } else {
+                  routeKeysBuilder_.addMessage(m);
+                }
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.RequestHeader header_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> headerBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return Whether the header field is set.
+       */
+      public boolean hasHeader() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       * @return The header.
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader getHeader() {
+        if (headerBuilder_ == null) {
+          return header_ == null ? org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        } else {
+          return headerBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          header_ = value;
+        } else {
+          headerBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder setHeader(
+          org.secretflow.v1alpha1.common.Common.RequestHeader.Builder builderForValue) {
+        if (headerBuilder_ == null) {
+          header_ = builderForValue.build();
+        } else {
+          headerBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder mergeHeader(org.secretflow.v1alpha1.common.Common.RequestHeader value) {
+        if (headerBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            header_ != null &&
+            header_ != org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance()) {
+            getHeaderBuilder().mergeFrom(value);
+          } else {
+            header_ = value;
+          }
+        } else {
+          headerBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public Builder clearHeader() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        header_ = null;
+        if (headerBuilder_ != null) {
+          headerBuilder_.dispose();
+          headerBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeader.Builder getHeaderBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getHeaderFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder getHeaderOrBuilder() {
+        if (headerBuilder_ != null) {
+          return headerBuilder_.getMessageOrBuilder();
+        } else {
+          return header_ == null ?
+              org.secretflow.v1alpha1.common.Common.RequestHeader.getDefaultInstance() : header_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.RequestHeader header = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder> 
+          getHeaderFieldBuilder() {
+        if (headerBuilder_ == null) {
+          headerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.RequestHeader, org.secretflow.v1alpha1.common.Common.RequestHeader.Builder, org.secretflow.v1alpha1.common.Common.RequestHeaderOrBuilder>(
+                  getHeader(),
+                  getParentForChildren(),
+                  isClean());
+          header_ = null;
+        }
+        return headerBuilder_;
+      }
+
+      private java.util.List<org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey> routeKeys_ =
+        java.util.Collections.emptyList();
+      private void ensureRouteKeysIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          routeKeys_ = new java.util.ArrayList<org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey>(routeKeys_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey, org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKeyOrBuilder> routeKeysBuilder_;
+
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey route_keys = 2;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey> getRouteKeysList() {
+        if (routeKeysBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(routeKeys_);
+        } else {
+          return routeKeysBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey route_keys = 2;</code>
+       */
+      public int getRouteKeysCount() {
+        if (routeKeysBuilder_ == null) {
+          return routeKeys_.size();
+        } else {
+          return routeKeysBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey route_keys = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey getRouteKeys(int index) {
+        if (routeKeysBuilder_ == null) {
+          return routeKeys_.get(index);
+        } else {
+          return routeKeysBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey route_keys = 2;</code>
+       */
+      public Builder setRouteKeys(
+          int index, org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey value) {
+        if (routeKeysBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRouteKeysIsMutable();
+          routeKeys_.set(index, value);
+          onChanged();
+        } else {
+          routeKeysBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey route_keys = 2;</code>
+       */
+      public Builder setRouteKeys(
+          int index, org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey.Builder builderForValue) {
+        if (routeKeysBuilder_ == null) {
+          ensureRouteKeysIsMutable();
+          routeKeys_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          routeKeysBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey route_keys = 2;</code>
+       */
+      public Builder addRouteKeys(org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey value) {
+        if (routeKeysBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRouteKeysIsMutable();
+          routeKeys_.add(value);
+          onChanged();
+        } else {
+          routeKeysBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey route_keys = 2;</code>
+       */
+      public Builder addRouteKeys(
+          int index, org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey value) {
+        if (routeKeysBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRouteKeysIsMutable();
+          routeKeys_.add(index, value);
+          onChanged();
+        } else {
+          routeKeysBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey route_keys = 2;</code>
+       */
+      public Builder addRouteKeys(
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey.Builder builderForValue) {
+        if (routeKeysBuilder_ == null) {
+          ensureRouteKeysIsMutable();
+          routeKeys_.add(builderForValue.build());
+          onChanged();
+        } else {
+          routeKeysBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey route_keys = 2;</code>
+       */
+      public Builder addRouteKeys(
+          int index, org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey.Builder builderForValue) {
+        if (routeKeysBuilder_ == null) {
+          ensureRouteKeysIsMutable();
+          routeKeys_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          routeKeysBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey route_keys = 2;</code>
+       */
+      public Builder addAllRouteKeys(
+          java.lang.Iterable<? extends org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey> values) {
+        if (routeKeysBuilder_ == null) {
+          ensureRouteKeysIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, routeKeys_);
+          onChanged();
+        } else {
+          routeKeysBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey route_keys = 2;</code>
+       */
+      public Builder clearRouteKeys() {
+        if (routeKeysBuilder_ == null) {
+          routeKeys_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          routeKeysBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey route_keys = 2;</code>
+       */
+      public Builder removeRouteKeys(int index) {
+        if (routeKeysBuilder_ == null) {
+          ensureRouteKeysIsMutable();
+          routeKeys_.remove(index);
+          onChanged();
+        } else {
+          routeKeysBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey route_keys = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey.Builder getRouteKeysBuilder(
+          int index) {
+        return getRouteKeysFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey route_keys = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKeyOrBuilder getRouteKeysOrBuilder(
+          int index) {
+        if (routeKeysBuilder_ == null) {
+          return routeKeys_.get(index);  } else {
+          return routeKeysBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey route_keys = 2;</code>
+       */
+      public java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKeyOrBuilder> 
+           getRouteKeysOrBuilderList() {
+        if (routeKeysBuilder_ != null) {
+          return routeKeysBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(routeKeys_);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey route_keys = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey.Builder addRouteKeysBuilder() {
+        return getRouteKeysFieldBuilder().addBuilder(
+            org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey route_keys = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey.Builder addRouteKeysBuilder(
+          int index) {
+        return getRouteKeysFieldBuilder().addBuilder(
+            index, org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey route_keys = 2;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey.Builder> 
+           getRouteKeysBuilderList() {
+        return getRouteKeysFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey, org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKeyOrBuilder> 
+          getRouteKeysFieldBuilder() {
+        if (routeKeysBuilder_ == null) {
+          routeKeysBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey, org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKeyOrBuilder>(
+                  routeKeys_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          routeKeys_ = null;
+        }
+        return routeKeysBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusRequest)
+    private static final org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BatchQueryDomainRouteStatusRequest>
+        PARSER = new com.google.protobuf.AbstractParser<BatchQueryDomainRouteStatusRequest>() {
+      @java.lang.Override
+      public BatchQueryDomainRouteStatusRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<BatchQueryDomainRouteStatusRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BatchQueryDomainRouteStatusRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DomainRouteKeyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string source = 1;</code>
+     * @return The source.
+     */
+    java.lang.String getSource();
+    /**
+     * <code>string source = 1;</code>
+     * @return The bytes for source.
+     */
+    com.google.protobuf.ByteString
+        getSourceBytes();
+
+    /**
+     * <code>string destination = 2;</code>
+     * @return The destination.
+     */
+    java.lang.String getDestination();
+    /**
+     * <code>string destination = 2;</code>
+     * @return The bytes for destination.
+     */
+    com.google.protobuf.ByteString
+        getDestinationBytes();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey}
+   */
+  public static final class DomainRouteKey extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey)
+      DomainRouteKeyOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use DomainRouteKey.newBuilder() to construct.
+    private DomainRouteKey(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DomainRouteKey() {
+      source_ = "";
+      destination_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new DomainRouteKey();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainRouteKey_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainRouteKey_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey.Builder.class);
+    }
+
+    public static final int SOURCE_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object source_ = "";
+    /**
+     * <code>string source = 1;</code>
+     * @return The source.
+     */
+    @java.lang.Override
+    public java.lang.String getSource() {
+      java.lang.Object ref = source_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        source_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string source = 1;</code>
+     * @return The bytes for source.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getSourceBytes() {
+      java.lang.Object ref = source_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        source_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DESTINATION_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object destination_ = "";
+    /**
+     * <code>string destination = 2;</code>
+     * @return The destination.
+     */
+    @java.lang.Override
+    public java.lang.String getDestination() {
+      java.lang.Object ref = destination_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        destination_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string destination = 2;</code>
+     * @return The bytes for destination.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDestinationBytes() {
+      java.lang.Object ref = destination_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        destination_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(source_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, source_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(destination_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, destination_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(source_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, source_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(destination_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, destination_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey other = (org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey) obj;
+
+      if (!getSource()
+          .equals(other.getSource())) return false;
+      if (!getDestination()
+          .equals(other.getDestination())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SOURCE_FIELD_NUMBER;
+      hash = (53 * hash) + getSource().hashCode();
+      hash = (37 * hash) + DESTINATION_FIELD_NUMBER;
+      hash = (53 * hash) + getDestination().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey)
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKeyOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainRouteKey_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainRouteKey_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        source_ = "";
+        destination_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainRouteKey_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey build() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey result = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.source_ = source_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.destination_ = destination_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey.getDefaultInstance()) return this;
+        if (!other.getSource().isEmpty()) {
+          source_ = other.source_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getDestination().isEmpty()) {
+          destination_ = other.destination_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                source_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                destination_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object source_ = "";
+      /**
+       * <code>string source = 1;</code>
+       * @return The source.
+       */
+      public java.lang.String getSource() {
+        java.lang.Object ref = source_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          source_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string source = 1;</code>
+       * @return The bytes for source.
+       */
+      public com.google.protobuf.ByteString
+          getSourceBytes() {
+        java.lang.Object ref = source_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          source_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string source = 1;</code>
+       * @param value The source to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSource(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        source_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string source = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSource() {
+        source_ = getDefaultInstance().getSource();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string source = 1;</code>
+       * @param value The bytes for source to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSourceBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        source_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object destination_ = "";
+      /**
+       * <code>string destination = 2;</code>
+       * @return The destination.
+       */
+      public java.lang.String getDestination() {
+        java.lang.Object ref = destination_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          destination_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string destination = 2;</code>
+       * @return The bytes for destination.
+       */
+      public com.google.protobuf.ByteString
+          getDestinationBytes() {
+        java.lang.Object ref = destination_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          destination_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string destination = 2;</code>
+       * @param value The destination to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDestination(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        destination_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string destination = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDestination() {
+        destination_ = getDefaultInstance().getDestination();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string destination = 2;</code>
+       * @param value The bytes for destination to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDestinationBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        destination_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteKey)
+    private static final org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DomainRouteKey>
+        PARSER = new com.google.protobuf.AbstractParser<DomainRouteKey>() {
+      @java.lang.Override
+      public DomainRouteKey parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<DomainRouteKey> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DomainRouteKey> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteKey getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BatchQueryDomainRouteStatusResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    boolean hasStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    org.secretflow.v1alpha1.common.Common.Status getStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder();
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusResponseData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    boolean hasData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusResponseData data = 2;</code>
+     * @return The data.
+     */
+    org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData getData();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusResponseData data = 2;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseDataOrBuilder getDataOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusResponse}
+   */
+  public static final class BatchQueryDomainRouteStatusResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusResponse)
+      BatchQueryDomainRouteStatusResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BatchQueryDomainRouteStatusResponse.newBuilder() to construct.
+    private BatchQueryDomainRouteStatusResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BatchQueryDomainRouteStatusResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BatchQueryDomainRouteStatusResponse();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainRouteStatusResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainRouteStatusResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse.Builder.class);
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 1;
+    private org.secretflow.v1alpha1.common.Common.Status status_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return Whether the status field is set.
+     */
+    @java.lang.Override
+    public boolean hasStatus() {
+      return status_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+      return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+    }
+
+    public static final int DATA_FIELD_NUMBER = 2;
+    private org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData data_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusResponseData data = 2;</code>
+     * @return Whether the data field is set.
+     */
+    @java.lang.Override
+    public boolean hasData() {
+      return data_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusResponseData data = 2;</code>
+     * @return The data.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData getData() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData.getDefaultInstance() : data_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusResponseData data = 2;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseDataOrBuilder getDataOrBuilder() {
+      return data_ == null ? org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData.getDefaultInstance() : data_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (status_ != null) {
+        output.writeMessage(1, getStatus());
+      }
+      if (data_ != null) {
+        output.writeMessage(2, getData());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (status_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getStatus());
+      }
+      if (data_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getData());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse other = (org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse) obj;
+
+      if (hasStatus() != other.hasStatus()) return false;
+      if (hasStatus()) {
+        if (!getStatus()
+            .equals(other.getStatus())) return false;
+      }
+      if (hasData() != other.hasData()) return false;
+      if (hasData()) {
+        if (!getData()
+            .equals(other.getData())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasStatus()) {
+        hash = (37 * hash) + STATUS_FIELD_NUMBER;
+        hash = (53 * hash) + getStatus().hashCode();
+      }
+      if (hasData()) {
+        hash = (37 * hash) + DATA_FIELD_NUMBER;
+        hash = (53 * hash) + getData().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusResponse)
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainRouteStatusResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainRouteStatusResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainRouteStatusResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse build() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse result = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.status_ = statusBuilder_ == null
+              ? status_
+              : statusBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.data_ = dataBuilder_ == null
+              ? data_
+              : dataBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse.getDefaultInstance()) return this;
+        if (other.hasStatus()) {
+          mergeStatus(other.getStatus());
+        }
+        if (other.hasData()) {
+          mergeData(other.getData());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getStatusFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getDataFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private org.secretflow.v1alpha1.common.Common.Status status_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> statusBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return Whether the status field is set.
+       */
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       * @return The status.
+       */
+      public org.secretflow.v1alpha1.common.Common.Status getStatus() {
+        if (statusBuilder_ == null) {
+          return status_ == null ? org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        } else {
+          return statusBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          status_ = value;
+        } else {
+          statusBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder setStatus(
+          org.secretflow.v1alpha1.common.Common.Status.Builder builderForValue) {
+        if (statusBuilder_ == null) {
+          status_ = builderForValue.build();
+        } else {
+          statusBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder mergeStatus(org.secretflow.v1alpha1.common.Common.Status value) {
+        if (statusBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+            status_ != null &&
+            status_ != org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance()) {
+            getStatusBuilder().mergeFrom(value);
+          } else {
+            status_ = value;
+          }
+        } else {
+          statusBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.Status.Builder getStatusBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getStatusFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      public org.secretflow.v1alpha1.common.Common.StatusOrBuilder getStatusOrBuilder() {
+        if (statusBuilder_ != null) {
+          return statusBuilder_.getMessageOrBuilder();
+        } else {
+          return status_ == null ?
+              org.secretflow.v1alpha1.common.Common.Status.getDefaultInstance() : status_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.Status status = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder> 
+          getStatusFieldBuilder() {
+        if (statusBuilder_ == null) {
+          statusBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.common.Common.Status, org.secretflow.v1alpha1.common.Common.Status.Builder, org.secretflow.v1alpha1.common.Common.StatusOrBuilder>(
+                  getStatus(),
+                  getParentForChildren(),
+                  isClean());
+          status_ = null;
+        }
+        return statusBuilder_;
+      }
+
+      private org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData data_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData, org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseDataOrBuilder> dataBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusResponseData data = 2;</code>
+       * @return Whether the data field is set.
+       */
+      public boolean hasData() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusResponseData data = 2;</code>
+       * @return The data.
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData getData() {
+        if (dataBuilder_ == null) {
+          return data_ == null ? org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData.getDefaultInstance() : data_;
+        } else {
+          return dataBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusResponseData data = 2;</code>
+       */
+      public Builder setData(org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData value) {
+        if (dataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          data_ = value;
+        } else {
+          dataBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusResponseData data = 2;</code>
+       */
+      public Builder setData(
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData.Builder builderForValue) {
+        if (dataBuilder_ == null) {
+          data_ = builderForValue.build();
+        } else {
+          dataBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusResponseData data = 2;</code>
+       */
+      public Builder mergeData(org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData value) {
+        if (dataBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            data_ != null &&
+            data_ != org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData.getDefaultInstance()) {
+            getDataBuilder().mergeFrom(value);
+          } else {
+            data_ = value;
+          }
+        } else {
+          dataBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusResponseData data = 2;</code>
+       */
+      public Builder clearData() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        data_ = null;
+        if (dataBuilder_ != null) {
+          dataBuilder_.dispose();
+          dataBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusResponseData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData.Builder getDataBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getDataFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusResponseData data = 2;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseDataOrBuilder getDataOrBuilder() {
+        if (dataBuilder_ != null) {
+          return dataBuilder_.getMessageOrBuilder();
+        } else {
+          return data_ == null ?
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData.getDefaultInstance() : data_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusResponseData data = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData, org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseDataOrBuilder> 
+          getDataFieldBuilder() {
+        if (dataBuilder_ == null) {
+          dataBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData, org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseDataOrBuilder>(
+                  getData(),
+                  getParentForChildren(),
+                  isClean());
+          data_ = null;
+        }
+        return dataBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusResponse)
+    private static final org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BatchQueryDomainRouteStatusResponse>
+        PARSER = new com.google.protobuf.AbstractParser<BatchQueryDomainRouteStatusResponse>() {
+      @java.lang.Override
+      public BatchQueryDomainRouteStatusResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<BatchQueryDomainRouteStatusResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BatchQueryDomainRouteStatusResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface BatchQueryDomainRouteStatusResponseDataOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusResponseData)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus routes = 1;</code>
+     */
+    java.util.List<org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus> 
+        getRoutesList();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus routes = 1;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus getRoutes(int index);
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus routes = 1;</code>
+     */
+    int getRoutesCount();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus routes = 1;</code>
+     */
+    java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatusOrBuilder> 
+        getRoutesOrBuilderList();
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus routes = 1;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatusOrBuilder getRoutesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusResponseData}
+   */
+  public static final class BatchQueryDomainRouteStatusResponseData extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusResponseData)
+      BatchQueryDomainRouteStatusResponseDataOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use BatchQueryDomainRouteStatusResponseData.newBuilder() to construct.
+    private BatchQueryDomainRouteStatusResponseData(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private BatchQueryDomainRouteStatusResponseData() {
+      routes_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new BatchQueryDomainRouteStatusResponseData();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainRouteStatusResponseData_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainRouteStatusResponseData_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData.Builder.class);
+    }
+
+    public static final int ROUTES_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private java.util.List<org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus> routes_;
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus routes = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus> getRoutesList() {
+      return routes_;
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus routes = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatusOrBuilder> 
+        getRoutesOrBuilderList() {
+      return routes_;
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus routes = 1;</code>
+     */
+    @java.lang.Override
+    public int getRoutesCount() {
+      return routes_.size();
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus routes = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus getRoutes(int index) {
+      return routes_.get(index);
+    }
+    /**
+     * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus routes = 1;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatusOrBuilder getRoutesOrBuilder(
+        int index) {
+      return routes_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < routes_.size(); i++) {
+        output.writeMessage(1, routes_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < routes_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, routes_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData other = (org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData) obj;
+
+      if (!getRoutesList()
+          .equals(other.getRoutesList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getRoutesCount() > 0) {
+        hash = (37 * hash) + ROUTES_FIELD_NUMBER;
+        hash = (53 * hash) + getRoutesList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusResponseData}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusResponseData)
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseDataOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainRouteStatusResponseData_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainRouteStatusResponseData_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        if (routesBuilder_ == null) {
+          routes_ = java.util.Collections.emptyList();
+        } else {
+          routes_ = null;
+          routesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainRouteStatusResponseData_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData build() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData result = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData result) {
+        if (routesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            routes_ = java.util.Collections.unmodifiableList(routes_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.routes_ = routes_;
+        } else {
+          result.routes_ = routesBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData result) {
+        int from_bitField0_ = bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData.getDefaultInstance()) return this;
+        if (routesBuilder_ == null) {
+          if (!other.routes_.isEmpty()) {
+            if (routes_.isEmpty()) {
+              routes_ = other.routes_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureRoutesIsMutable();
+              routes_.addAll(other.routes_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.routes_.isEmpty()) {
+            if (routesBuilder_.isEmpty()) {
+              routesBuilder_.dispose();
+              routesBuilder_ = null;
+              routes_ = other.routes_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              routesBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getRoutesFieldBuilder() : null;
+            } else {
+              routesBuilder_.addAllMessages(other.routes_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus m =
+                    input.readMessage(
+                        org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus.parser(),
+                        extensionRegistry);
+                if (routesBuilder_ == null) {
+                  ensureRoutesIsMutable();
+                  routes_.add(m);
+                } else {
+                  routesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus> routes_ =
+        java.util.Collections.emptyList();
+      private void ensureRoutesIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          routes_ = new java.util.ArrayList<org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus>(routes_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus, org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatusOrBuilder> routesBuilder_;
+
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus routes = 1;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus> getRoutesList() {
+        if (routesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(routes_);
+        } else {
+          return routesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus routes = 1;</code>
+       */
+      public int getRoutesCount() {
+        if (routesBuilder_ == null) {
+          return routes_.size();
+        } else {
+          return routesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus routes = 1;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus getRoutes(int index) {
+        if (routesBuilder_ == null) {
+          return routes_.get(index);
+        } else {
+          return routesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus routes = 1;</code>
+       */
+      public Builder setRoutes(
+          int index, org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus value) {
+        if (routesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRoutesIsMutable();
+          routes_.set(index, value);
+          onChanged();
+        } else {
+          routesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus routes = 1;</code>
+       */
+      public Builder setRoutes(
+          int index, org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus.Builder builderForValue) {
+        if (routesBuilder_ == null) {
+          ensureRoutesIsMutable();
+          routes_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          routesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus routes = 1;</code>
+       */
+      public Builder addRoutes(org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus value) {
+        if (routesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRoutesIsMutable();
+          routes_.add(value);
+          onChanged();
+        } else {
+          routesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus routes = 1;</code>
+       */
+      public Builder addRoutes(
+          int index, org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus value) {
+        if (routesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRoutesIsMutable();
+          routes_.add(index, value);
+          onChanged();
+        } else {
+          routesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus routes = 1;</code>
+       */
+      public Builder addRoutes(
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus.Builder builderForValue) {
+        if (routesBuilder_ == null) {
+          ensureRoutesIsMutable();
+          routes_.add(builderForValue.build());
+          onChanged();
+        } else {
+          routesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus routes = 1;</code>
+       */
+      public Builder addRoutes(
+          int index, org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus.Builder builderForValue) {
+        if (routesBuilder_ == null) {
+          ensureRoutesIsMutable();
+          routes_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          routesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus routes = 1;</code>
+       */
+      public Builder addAllRoutes(
+          java.lang.Iterable<? extends org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus> values) {
+        if (routesBuilder_ == null) {
+          ensureRoutesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, routes_);
+          onChanged();
+        } else {
+          routesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus routes = 1;</code>
+       */
+      public Builder clearRoutes() {
+        if (routesBuilder_ == null) {
+          routes_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          routesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus routes = 1;</code>
+       */
+      public Builder removeRoutes(int index) {
+        if (routesBuilder_ == null) {
+          ensureRoutesIsMutable();
+          routes_.remove(index);
+          onChanged();
+        } else {
+          routesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus routes = 1;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus.Builder getRoutesBuilder(
+          int index) {
+        return getRoutesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus routes = 1;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatusOrBuilder getRoutesOrBuilder(
+          int index) {
+        if (routesBuilder_ == null) {
+          return routes_.get(index);  } else {
+          return routesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus routes = 1;</code>
+       */
+      public java.util.List<? extends org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatusOrBuilder> 
+           getRoutesOrBuilderList() {
+        if (routesBuilder_ != null) {
+          return routesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(routes_);
+        }
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus routes = 1;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus.Builder addRoutesBuilder() {
+        return getRoutesFieldBuilder().addBuilder(
+            org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus routes = 1;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus.Builder addRoutesBuilder(
+          int index) {
+        return getRoutesFieldBuilder().addBuilder(
+            index, org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus routes = 1;</code>
+       */
+      public java.util.List<org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus.Builder> 
+           getRoutesBuilderList() {
+        return getRoutesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus, org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatusOrBuilder> 
+          getRoutesFieldBuilder() {
+        if (routesBuilder_ == null) {
+          routesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus, org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatusOrBuilder>(
+                  routes_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          routes_ = null;
+        }
+        return routesBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusResponseData)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.BatchQueryDomainRouteStatusResponseData)
+    private static final org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<BatchQueryDomainRouteStatusResponseData>
+        PARSER = new com.google.protobuf.AbstractParser<BatchQueryDomainRouteStatusResponseData>() {
+      @java.lang.Override
+      public BatchQueryDomainRouteStatusResponseData parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<BatchQueryDomainRouteStatusResponseData> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BatchQueryDomainRouteStatusResponseData> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.BatchQueryDomainRouteStatusResponseData getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DomainRouteStatusOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <code>string destination = 2;</code>
+     * @return The destination.
+     */
+    java.lang.String getDestination();
+    /**
+     * <code>string destination = 2;</code>
+     * @return The bytes for destination.
+     */
+    com.google.protobuf.ByteString
+        getDestinationBytes();
+
+    /**
+     * <code>string source = 3;</code>
+     * @return The source.
+     */
+    java.lang.String getSource();
+    /**
+     * <code>string source = 3;</code>
+     * @return The bytes for source.
+     */
+    com.google.protobuf.ByteString
+        getSourceBytes();
+
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus status = 4;</code>
+     * @return Whether the status field is set.
+     */
+    boolean hasStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus status = 4;</code>
+     * @return The status.
+     */
+    org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus getStatus();
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus status = 4;</code>
+     */
+    org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatusOrBuilder getStatusOrBuilder();
+  }
+  /**
+   * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus}
+   */
+  public static final class DomainRouteStatus extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus)
+      DomainRouteStatusOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use DomainRouteStatus.newBuilder() to construct.
+    private DomainRouteStatus(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DomainRouteStatus() {
+      name_ = "";
+      destination_ = "";
+      source_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new DomainRouteStatus();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainRouteStatus_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainRouteStatus_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus.Builder.class);
+    }
+
+    public static final int NAME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object name_ = "";
+    /**
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DESTINATION_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object destination_ = "";
+    /**
+     * <code>string destination = 2;</code>
+     * @return The destination.
+     */
+    @java.lang.Override
+    public java.lang.String getDestination() {
+      java.lang.Object ref = destination_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        destination_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string destination = 2;</code>
+     * @return The bytes for destination.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDestinationBytes() {
+      java.lang.Object ref = destination_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        destination_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SOURCE_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object source_ = "";
+    /**
+     * <code>string source = 3;</code>
+     * @return The source.
+     */
+    @java.lang.Override
+    public java.lang.String getSource() {
+      java.lang.Object ref = source_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        source_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string source = 3;</code>
+     * @return The bytes for source.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getSourceBytes() {
+      java.lang.Object ref = source_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        source_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int STATUS_FIELD_NUMBER = 4;
+    private org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus status_;
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus status = 4;</code>
+     * @return Whether the status field is set.
+     */
+    @java.lang.Override
+    public boolean hasStatus() {
+      return status_ != null;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus status = 4;</code>
+     * @return The status.
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus getStatus() {
+      return status_ == null ? org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus.getDefaultInstance() : status_;
+    }
+    /**
+     * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus status = 4;</code>
+     */
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatusOrBuilder getStatusOrBuilder() {
+      return status_ == null ? org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus.getDefaultInstance() : status_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(destination_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, destination_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(source_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, source_);
+      }
+      if (status_ != null) {
+        output.writeMessage(4, getStatus());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(destination_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, destination_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(source_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, source_);
+      }
+      if (status_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, getStatus());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus)) {
+        return super.equals(obj);
+      }
+      org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus other = (org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus) obj;
+
+      if (!getName()
+          .equals(other.getName())) return false;
+      if (!getDestination()
+          .equals(other.getDestination())) return false;
+      if (!getSource()
+          .equals(other.getSource())) return false;
+      if (hasStatus() != other.hasStatus()) return false;
+      if (hasStatus()) {
+        if (!getStatus()
+            .equals(other.getStatus())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (37 * hash) + DESTINATION_FIELD_NUMBER;
+      hash = (53 * hash) + getDestination().hashCode();
+      hash = (37 * hash) + SOURCE_FIELD_NUMBER;
+      hash = (53 * hash) + getSource().hashCode();
+      if (hasStatus()) {
+        hash = (37 * hash) + STATUS_FIELD_NUMBER;
+        hash = (53 * hash) + getStatus().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus)
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatusOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainRouteStatus_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainRouteStatus_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus.class, org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus.Builder.class);
+      }
+
+      // Construct using org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        name_ = "";
+        destination_ = "";
+        source_ = "";
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainRouteStatus_descriptor;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus getDefaultInstanceForType() {
+        return org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus build() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus buildPartial() {
+        org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus result = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.name_ = name_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.destination_ = destination_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.source_ = source_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.status_ = statusBuilder_ == null
+              ? status_
+              : statusBuilder_.build();
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus) {
+          return mergeFrom((org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus other) {
+        if (other == org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus.getDefaultInstance()) return this;
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.getDestination().isEmpty()) {
+          destination_ = other.destination_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (!other.getSource().isEmpty()) {
+          source_ = other.source_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (other.hasStatus()) {
+          mergeStatus(other.getStatus());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                name_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                destination_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                source_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                input.readMessage(
+                    getStatusFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object name_ = "";
+      /**
+       * <code>string name = 1;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        name_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        name_ = getDefaultInstance().getName();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        name_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object destination_ = "";
+      /**
+       * <code>string destination = 2;</code>
+       * @return The destination.
+       */
+      public java.lang.String getDestination() {
+        java.lang.Object ref = destination_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          destination_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string destination = 2;</code>
+       * @return The bytes for destination.
+       */
+      public com.google.protobuf.ByteString
+          getDestinationBytes() {
+        java.lang.Object ref = destination_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          destination_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string destination = 2;</code>
+       * @param value The destination to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDestination(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        destination_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string destination = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDestination() {
+        destination_ = getDefaultInstance().getDestination();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string destination = 2;</code>
+       * @param value The bytes for destination to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDestinationBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        destination_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object source_ = "";
+      /**
+       * <code>string source = 3;</code>
+       * @return The source.
+       */
+      public java.lang.String getSource() {
+        java.lang.Object ref = source_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          source_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string source = 3;</code>
+       * @return The bytes for source.
+       */
+      public com.google.protobuf.ByteString
+          getSourceBytes() {
+        java.lang.Object ref = source_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          source_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string source = 3;</code>
+       * @param value The source to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSource(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        source_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string source = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSource() {
+        source_ = getDefaultInstance().getSource();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string source = 3;</code>
+       * @param value The bytes for source to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSourceBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        source_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus status_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus, org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatusOrBuilder> statusBuilder_;
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus status = 4;</code>
+       * @return Whether the status field is set.
+       */
+      public boolean hasStatus() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus status = 4;</code>
+       * @return The status.
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus getStatus() {
+        if (statusBuilder_ == null) {
+          return status_ == null ? org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus.getDefaultInstance() : status_;
+        } else {
+          return statusBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus status = 4;</code>
+       */
+      public Builder setStatus(org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus value) {
+        if (statusBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          status_ = value;
+        } else {
+          statusBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus status = 4;</code>
+       */
+      public Builder setStatus(
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus.Builder builderForValue) {
+        if (statusBuilder_ == null) {
+          status_ = builderForValue.build();
+        } else {
+          statusBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus status = 4;</code>
+       */
+      public Builder mergeStatus(org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus value) {
+        if (statusBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) != 0) &&
+            status_ != null &&
+            status_ != org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus.getDefaultInstance()) {
+            getStatusBuilder().mergeFrom(value);
+          } else {
+            status_ = value;
+          }
+        } else {
+          statusBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus status = 4;</code>
+       */
+      public Builder clearStatus() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        status_ = null;
+        if (statusBuilder_ != null) {
+          statusBuilder_.dispose();
+          statusBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus status = 4;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus.Builder getStatusBuilder() {
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return getStatusFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus status = 4;</code>
+       */
+      public org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatusOrBuilder getStatusOrBuilder() {
+        if (statusBuilder_ != null) {
+          return statusBuilder_.getMessageOrBuilder();
+        } else {
+          return status_ == null ?
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus.getDefaultInstance() : status_;
+        }
+      }
+      /**
+       * <code>.kuscia.proto.api.v1alpha1.kusciaapi.RouteStatus status = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus, org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatusOrBuilder> 
+          getStatusFieldBuilder() {
+        if (statusBuilder_ == null) {
+          statusBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus, org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatus.Builder, org.secretflow.v1alpha1.kusciaapi.DomainRoute.RouteStatusOrBuilder>(
+                  getStatus(),
+                  getParentForChildren(),
+                  isClean());
+          status_ = null;
+        }
+        return statusBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus)
+    }
+
+    // @@protoc_insertion_point(class_scope:kuscia.proto.api.v1alpha1.kusciaapi.DomainRouteStatus)
+    private static final org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus();
+    }
+
+    public static org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DomainRouteStatus>
+        PARSER = new com.google.protobuf.AbstractParser<DomainRouteStatus>() {
+      @java.lang.Override
+      public DomainRouteStatus parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<DomainRouteStatus> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DomainRouteStatus> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.secretflow.v1alpha1.kusciaapi.DomainRoute.DomainRouteStatus getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRouteRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRouteRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_RouteEndpoint_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_RouteEndpoint_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_EndpointPort_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_EndpointPort_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_TokenConfig_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_TokenConfig_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_MTLSConfig_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_MTLSConfig_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRouteResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRouteResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRouteResponseData_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRouteResponseData_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainRouteRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainRouteRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainRouteResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainRouteResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRouteRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRouteRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRouteResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRouteResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRouteResponseData_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRouteResponseData_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_RouteStatus_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_RouteStatus_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainRouteStatusRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainRouteStatusRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainRouteKey_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainRouteKey_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainRouteStatusResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainRouteStatusResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainRouteStatusResponseData_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainRouteStatusResponseData_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainRouteStatus_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainRouteStatus_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n6kuscia/proto/api/v1alpha1/kusciaapi/do" +
+      "main_route.proto\022#kuscia.proto.api.v1alp" +
+      "ha1.kusciaapi\032&kuscia/proto/api/v1alpha1" +
+      "/common.proto\"\352\002\n\030CreateDomainRouteReque" +
+      "st\0228\n\006header\030\001 \001(\0132(.kuscia.proto.api.v1" +
+      "alpha1.RequestHeader\022\033\n\023authentication_t" +
+      "ype\030\002 \001(\t\022\023\n\013destination\030\003 \001(\t\022D\n\010endpoi" +
+      "nt\030\004 \001(\01322.kuscia.proto.api.v1alpha1.kus" +
+      "ciaapi.RouteEndpoint\022\016\n\006source\030\005 \001(\t\022F\n\014" +
+      "token_config\030\006 \001(\01320.kuscia.proto.api.v1" +
+      "alpha1.kusciaapi.TokenConfig\022D\n\013mtls_con" +
+      "fig\030\007 \001(\0132/.kuscia.proto.api.v1alpha1.ku" +
+      "sciaapi.MTLSConfig\"_\n\rRouteEndpoint\022\014\n\004h" +
+      "ost\030\001 \001(\t\022@\n\005ports\030\002 \003(\01321.kuscia.proto." +
+      "api.v1alpha1.kusciaapi.EndpointPort\"K\n\014E" +
+      "ndpointPort\022\014\n\004name\030\001 \001(\t\022\014\n\004port\030\002 \001(\005\022" +
+      "\020\n\010protocol\030\003 \001(\t\022\r\n\005isTLS\030\004 \001(\010\"\201\001\n\013Tok" +
+      "enConfig\022\036\n\026destination_public_key\030\001 \001(\t" +
+      "\022\035\n\025rolling_update_period\030\002 \001(\003\022\031\n\021sourc" +
+      "e_public_key\030\003 \001(\t\022\030\n\020token_gen_method\030\004" +
+      " \001(\t\"[\n\nMTLSConfig\022\016\n\006tls_ca\030\001 \001(\t\022!\n\031so" +
+      "urce_client_private_key\030\002 \001(\t\022\032\n\022source_" +
+      "client_cert\030\003 \001(\t\"\240\001\n\031CreateDomainRouteR" +
+      "esponse\0221\n\006status\030\001 \001(\0132!.kuscia.proto.a" +
+      "pi.v1alpha1.Status\022P\n\004data\030\002 \001(\0132B.kusci" +
+      "a.proto.api.v1alpha1.kusciaapi.CreateDom" +
+      "ainRouteResponseData\"-\n\035CreateDomainRout" +
+      "eResponseData\022\014\n\004name\030\001 \001(\t\"y\n\030DeleteDom" +
+      "ainRouteRequest\0228\n\006header\030\001 \001(\0132(.kuscia" +
+      ".proto.api.v1alpha1.RequestHeader\022\023\n\013des" +
+      "tination\030\003 \001(\t\022\016\n\006source\030\002 \001(\t\"N\n\031Delete" +
+      "DomainRouteResponse\0221\n\006status\030\001 \001(\0132!.ku" +
+      "scia.proto.api.v1alpha1.Status\"x\n\027QueryD" +
+      "omainRouteRequest\0228\n\006header\030\001 \001(\0132(.kusc" +
+      "ia.proto.api.v1alpha1.RequestHeader\022\023\n\013d" +
+      "estination\030\002 \001(\t\022\016\n\006source\030\003 \001(\t\"\236\001\n\030Que" +
+      "ryDomainRouteResponse\0221\n\006status\030\001 \001(\0132!." +
+      "kuscia.proto.api.v1alpha1.Status\022O\n\004data" +
+      "\030\002 \001(\0132A.kuscia.proto.api.v1alpha1.kusci" +
+      "aapi.QueryDomainRouteResponseData\"\204\003\n\034Qu" +
+      "eryDomainRouteResponseData\022\014\n\004name\030\001 \001(\t" +
+      "\022\033\n\023authentication_type\030\002 \001(\t\022\023\n\013destina" +
+      "tion\030\003 \001(\t\022D\n\010endpoint\030\004 \001(\01322.kuscia.pr" +
+      "oto.api.v1alpha1.kusciaapi.RouteEndpoint" +
+      "\022\016\n\006source\030\005 \001(\t\022F\n\014token_config\030\006 \001(\01320" +
+      ".kuscia.proto.api.v1alpha1.kusciaapi.Tok" +
+      "enConfig\022D\n\013mtls_config\030\007 \001(\0132/.kuscia.p" +
+      "roto.api.v1alpha1.kusciaapi.MTLSConfig\022@" +
+      "\n\006status\030\010 \001(\01320.kuscia.proto.api.v1alph" +
+      "a1.kusciaapi.RouteStatus\"-\n\013RouteStatus\022" +
+      "\016\n\006status\030\001 \001(\t\022\016\n\006reason\030\002 \001(\t\"\247\001\n\"Batc" +
+      "hQueryDomainRouteStatusRequest\0228\n\006header" +
+      "\030\001 \001(\0132(.kuscia.proto.api.v1alpha1.Reque" +
+      "stHeader\022G\n\nroute_keys\030\002 \003(\01323.kuscia.pr" +
+      "oto.api.v1alpha1.kusciaapi.DomainRouteKe" +
+      "y\"5\n\016DomainRouteKey\022\016\n\006source\030\001 \001(\t\022\023\n\013d" +
+      "estination\030\002 \001(\t\"\264\001\n#BatchQueryDomainRou" +
+      "teStatusResponse\0221\n\006status\030\001 \001(\0132!.kusci" +
+      "a.proto.api.v1alpha1.Status\022Z\n\004data\030\002 \001(" +
+      "\0132L.kuscia.proto.api.v1alpha1.kusciaapi." +
+      "BatchQueryDomainRouteStatusResponseData\"" +
+      "q\n\'BatchQueryDomainRouteStatusResponseDa" +
+      "ta\022F\n\006routes\030\001 \003(\01326.kuscia.proto.api.v1" +
+      "alpha1.kusciaapi.DomainRouteStatus\"\210\001\n\021D" +
+      "omainRouteStatus\022\014\n\004name\030\001 \001(\t\022\023\n\013destin" +
+      "ation\030\002 \001(\t\022\016\n\006source\030\003 \001(\t\022@\n\006status\030\004 " +
+      "\001(\01320.kuscia.proto.api.v1alpha1.kusciaap" +
+      "i.RouteStatus*)\n\022AuthenticationType\022\t\n\005T" +
+      "oken\020\000\022\010\n\004MTLS\020\0012\203\005\n\022DomainRouteService\022" +
+      "\222\001\n\021CreateDomainRoute\022=.kuscia.proto.api" +
+      ".v1alpha1.kusciaapi.CreateDomainRouteReq" +
+      "uest\032>.kuscia.proto.api.v1alpha1.kusciaa" +
+      "pi.CreateDomainRouteResponse\022\222\001\n\021DeleteD" +
+      "omainRoute\022=.kuscia.proto.api.v1alpha1.k" +
+      "usciaapi.DeleteDomainRouteRequest\032>.kusc" +
+      "ia.proto.api.v1alpha1.kusciaapi.DeleteDo" +
+      "mainRouteResponse\022\217\001\n\020QueryDomainRoute\022<" +
+      ".kuscia.proto.api.v1alpha1.kusciaapi.Que" +
+      "ryDomainRouteRequest\032=.kuscia.proto.api." +
+      "v1alpha1.kusciaapi.QueryDomainRouteRespo" +
+      "nse\022\260\001\n\033BatchQueryDomainRouteStatus\022G.ku" +
+      "scia.proto.api.v1alpha1.kusciaapi.BatchQ" +
+      "ueryDomainRouteStatusRequest\032H.kuscia.pr" +
+      "oto.api.v1alpha1.kusciaapi.BatchQueryDom" +
+      "ainRouteStatusResponseB^\n!org.secretflow" +
+      ".v1alpha1.kusciaapiZ9github.com/secretfl" +
+      "ow/kuscia/proto/api/v1alpha1/kusciaapib\006" +
+      "proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          org.secretflow.v1alpha1.common.Common.getDescriptor(),
+        });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRouteRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRouteRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRouteRequest_descriptor,
+        new java.lang.String[] { "Header", "AuthenticationType", "Destination", "Endpoint", "Source", "TokenConfig", "MtlsConfig", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_RouteEndpoint_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_RouteEndpoint_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_RouteEndpoint_descriptor,
+        new java.lang.String[] { "Host", "Ports", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_EndpointPort_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_EndpointPort_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_EndpointPort_descriptor,
+        new java.lang.String[] { "Name", "Port", "Protocol", "IsTLS", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_TokenConfig_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_TokenConfig_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_TokenConfig_descriptor,
+        new java.lang.String[] { "DestinationPublicKey", "RollingUpdatePeriod", "SourcePublicKey", "TokenGenMethod", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_MTLSConfig_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_MTLSConfig_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_MTLSConfig_descriptor,
+        new java.lang.String[] { "TlsCa", "SourceClientPrivateKey", "SourceClientCert", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRouteResponse_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRouteResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRouteResponse_descriptor,
+        new java.lang.String[] { "Status", "Data", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRouteResponseData_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRouteResponseData_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_CreateDomainRouteResponseData_descriptor,
+        new java.lang.String[] { "Name", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainRouteRequest_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainRouteRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainRouteRequest_descriptor,
+        new java.lang.String[] { "Header", "Destination", "Source", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainRouteResponse_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainRouteResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DeleteDomainRouteResponse_descriptor,
+        new java.lang.String[] { "Status", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRouteRequest_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRouteRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRouteRequest_descriptor,
+        new java.lang.String[] { "Header", "Destination", "Source", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRouteResponse_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRouteResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRouteResponse_descriptor,
+        new java.lang.String[] { "Status", "Data", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRouteResponseData_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRouteResponseData_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_QueryDomainRouteResponseData_descriptor,
+        new java.lang.String[] { "Name", "AuthenticationType", "Destination", "Endpoint", "Source", "TokenConfig", "MtlsConfig", "Status", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_RouteStatus_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_RouteStatus_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_RouteStatus_descriptor,
+        new java.lang.String[] { "Status", "Reason", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainRouteStatusRequest_descriptor =
+      getDescriptor().getMessageTypes().get(13);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainRouteStatusRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainRouteStatusRequest_descriptor,
+        new java.lang.String[] { "Header", "RouteKeys", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainRouteKey_descriptor =
+      getDescriptor().getMessageTypes().get(14);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainRouteKey_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainRouteKey_descriptor,
+        new java.lang.String[] { "Source", "Destination", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainRouteStatusResponse_descriptor =
+      getDescriptor().getMessageTypes().get(15);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainRouteStatusResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainRouteStatusResponse_descriptor,
+        new java.lang.String[] { "Status", "Data", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainRouteStatusResponseData_descriptor =
+      getDescriptor().getMessageTypes().get(16);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainRouteStatusResponseData_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_BatchQueryDomainRouteStatusResponseData_descriptor,
+        new java.lang.String[] { "Routes", });
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainRouteStatus_descriptor =
+      getDescriptor().getMessageTypes().get(17);
+    internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainRouteStatus_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_kuscia_proto_api_v1alpha1_kusciaapi_DomainRouteStatus_descriptor,
+        new java.lang.String[] { "Name", "Destination", "Source", "Status", });
+    org.secretflow.v1alpha1.common.Common.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
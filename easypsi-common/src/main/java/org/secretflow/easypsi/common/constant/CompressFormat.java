@@ -0,0 +1,52 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.common.constant;
+
+/**
+ * Archive format of downloaded directory results
+ *
+ * @author agent
+ * @date 2026/10/17
+ */
+public enum CompressFormat {
+    GZIP(".tar.gz", -1),
+    ZSTD(".tar.zst", 3),
+    ;
+
+    /**
+     * File name suffix
+     */
+    private final String suffix;
+
+    /**
+     * Level used when none is configured
+     */
+    private final int defaultLevel;
+
+    CompressFormat(String suffix, int defaultLevel) {
+        this.suffix = suffix;
+        this.defaultLevel = defaultLevel;
+    }
+
+    public String getSuffix() {
+        return suffix;
+    }
+
+    public int getDefaultLevel() {
+        return defaultLevel;
+    }
+}
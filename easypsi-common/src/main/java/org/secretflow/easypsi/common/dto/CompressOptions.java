@@ -0,0 +1,63 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.common.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.secretflow.easypsi.common.constant.CompressFormat;
+
+/**
+ * Compress options of directory downloads
+ *
+ * @author agent
+ * @date 2026/10/17
+ */
+@Getter
+@Builder
+public class CompressOptions {
+
+    public static final CompressOptions DEFAULT = CompressOptions.builder().build();
+
+    /**
+     * Archive format
+     */
+    @Builder.Default
+    private CompressFormat format = CompressFormat.GZIP;
+
+    /**
+     * Compression level of the format, -1 for the format default
+     */
+    @Builder.Default
+    private int level = -1;
+
+    /**
+     * Compression thread count, 1 or less compresses on the calling thread
+     */
+    @Builder.Default
+    private int parallelism = 1;
+
+    /**
+     * Whether a directory is archived straight into the response instead of being packaged on disk first,
+     * on by default like easypsi.compress.streaming
+     */
+    @Builder.Default
+    private boolean streaming = true;
+
+    public int getEffectiveLevel() {
+        return level < 0 ? format.getDefaultLevel() : level;
+    }
+}
@@ -40,4 +40,14 @@ public class DownloadInfo {
      * File path
      */
     private String filePath;
+
+    /**
+     * Whether the file path is a directory to be archived while it is sent
+     */
+    private boolean streaming;
+
+    /**
+     * Compress options of a streaming directory
+     */
+    private CompressOptions compressOptions;
 }
\ No newline at end of file
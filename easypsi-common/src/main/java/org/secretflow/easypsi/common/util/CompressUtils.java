@@ -16,12 +16,18 @@
 
 package org.secretflow.easypsi.common.util;
 
+import com.github.luben.zstd.ZstdOutputStream;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipParameters;
 import org.apache.commons.compress.utils.IOUtils;
+import org.apache.commons.io.output.CloseShieldOutputStream;
+import org.secretflow.easypsi.common.constant.CompressFormat;
+import org.secretflow.easypsi.common.dto.CompressOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.CollectionUtils;
@@ -29,10 +35,11 @@ import org.springframework.util.CollectionUtils;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Enumeration;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.zip.GZIPOutputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -86,26 +93,82 @@ public class CompressUtils {
     public static File pack(List<File> files, String inPutPath, File target) throws IOException {
         try (FileOutputStream out = new FileOutputStream(target)) {
             try (BufferedOutputStream bos = new BufferedOutputStream(out, BUFFER_SIZE)) {
-                try (TarArchiveOutputStream os = new TarArchiveOutputStream(bos)) {
-                    // Solve the problem of file name too long
-                    os.setLongFileMode(TarArchiveOutputStream.LONGFILE_GNU);
-                    for (File file : files) {
-                        // Remove the directory in front of the file
-                        os.putArchiveEntry(new TarArchiveEntry(file, file.getAbsolutePath().replace(inPutPath, "")));
-                        try (FileInputStream fis = new FileInputStream(file)) {
-                            IOUtils.copy(fis, os);
-                            os.closeArchiveEntry();
-                        }
-                    }
-                } catch (Exception e) {
-                    LOGGER.error(e.getMessage());
-                    throw new RuntimeException(e);
-                }
+                writeTar(files, inPutPath, bos);
             }
         }
         return target;
     }
 
+    /**
+     * Write files as a tar archive into the output stream, the output stream is finished but not closed
+     *
+     * @param files     The collection of files to compress
+     * @param inPutPath The directory prefix removed from entry names
+     * @param out       The output stream
+     */
+    public static void writeTar(List<File> files, String inPutPath, OutputStream out) throws IOException {
+        TarArchiveOutputStream os = new TarArchiveOutputStream(out);
+        // Solve the problem of file name too long
+        os.setLongFileMode(TarArchiveOutputStream.LONGFILE_GNU);
+        os.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
+        for (File file : files) {
+            // Remove the directory in front of the file
+            os.putArchiveEntry(new TarArchiveEntry(file, file.getAbsolutePath().replace(inPutPath, "")));
+            try (FileInputStream fis = new FileInputStream(file)) {
+                IOUtils.copy(fis, os, BUFFER_SIZE);
+            }
+            os.closeArchiveEntry();
+        }
+        os.finish();
+    }
+
+    /**
+     * Write files as a tar.gz archive into the output stream in a single pass, the output stream is not closed
+     *
+     * @param files       The collection of files to compress
+     * @param inPutPath   The directory prefix removed from entry names
+     * @param out         The output stream
+     * @param level       The deflate level, -1 for default
+     * @param parallelism The compression thread count, 1 or less compresses on the calling thread
+     */
+    public static void writeTarGz(List<File> files, String inPutPath, OutputStream out, int level, int parallelism) throws IOException {
+        try (OutputStream gzip = gzipOutputStream(CloseShieldOutputStream.wrap(out), level, parallelism);
+             BufferedOutputStream bos = new BufferedOutputStream(gzip, BUFFER_SIZE)) {
+            writeTar(files, inPutPath, bos);
+        }
+    }
+
+    /**
+     * Write files as an archive of the configured format into the output stream in a single pass, the output stream is not closed
+     *
+     * @param files     The collection of files to compress
+     * @param inPutPath The directory prefix removed from entry names
+     * @param out       The output stream
+     * @param options   The compress options
+     */
+    public static void writeArchive(List<File> files, String inPutPath, OutputStream out, CompressOptions options) throws IOException {
+        if (options.getFormat() == CompressFormat.ZSTD) {
+            try (ZstdOutputStream zstd = new ZstdOutputStream(CloseShieldOutputStream.wrap(out), options.getEffectiveLevel());
+                 BufferedOutputStream bos = new BufferedOutputStream(zstd, BUFFER_SIZE)) {
+                if (options.getParallelism() > 1) {
+                    zstd.setWorkers(options.getParallelism());
+                }
+                writeTar(files, inPutPath, bos);
+            }
+            return;
+        }
+        writeTarGz(files, inPutPath, out, options.getEffectiveLevel(), options.getParallelism());
+    }
+
+    private static OutputStream gzipOutputStream(OutputStream out, int level, int parallelism) throws IOException {
+        if (parallelism > 1) {
+            return new ParallelGzipOutputStream(out, level, parallelism);
+        }
+        GzipParameters parameters = new GzipParameters();
+        parameters.setCompressionLevel(level);
+        return new GzipCompressorOutputStream(out, parameters);
+    }
+
     /**
      * Compress source file list to target
      *
@@ -115,6 +178,19 @@ public class CompressUtils {
      * @throws Exception
      */
     public static void compress(String source, String target, String fileName) throws Exception {
+        compress(source, target, fileName, CompressOptions.DEFAULT);
+    }
+
+    /**
+     * Compress source file list to target with the given compress options
+     *
+     * @param source
+     * @param target
+     * @param fileName
+     * @param options
+     * @throws Exception
+     */
+    public static void compress(String source, String target, String fileName, CompressOptions options) throws Exception {
 
         List<File> list = getFiles(source);
         if (CollectionUtils.isEmpty(list)) {
@@ -126,7 +202,7 @@ public class CompressUtils {
             file.mkdirs();
         }
 
-        compressTar(list, source, target, fileName);
+        compressTar(list, source, target, fileName, options);
 
 
     }
@@ -139,27 +215,42 @@ public class CompressUtils {
      * @param fileName
      */
     public static File compressTar(List<File> list, String inPutPath, String outPutPath, String fileName) throws Exception {
-        File outPutFile = new File(outPutPath + File.separator + fileName + ".tar.gz");
-        File tempTar = new File("temp.tar");
-        try (FileInputStream fis = new FileInputStream(pack(list, inPutPath, tempTar))) {
-            try (BufferedInputStream bis = new BufferedInputStream(fis, BUFFER_SIZE)) {
-                try (FileOutputStream fos = new FileOutputStream(outPutFile)) {
-                    try (GZIPOutputStream gzp = new GZIPOutputStream(fos)) {
-                        int count;
-                        byte[] data = new byte[BUFFER_SIZE];
-                        while ((count = bis.read(data, 0, BUFFER_SIZE)) != -1) {
-                            gzp.write(data, 0, count);
-                        }
-                    }
-                }
-            }
-        }
+        return compressTar(list, inPutPath, outPutPath, fileName, CompressOptions.DEFAULT);
+    }
+
+    /**
+     * Compress tar.gz file with the given deflate level and compression thread count
+     *
+     * @param list
+     * @param outPutPath
+     * @param fileName
+     * @param level
+     * @param parallelism
+     */
+    public static File compressTar(List<File> list, String inPutPath, String outPutPath, String fileName, int level, int parallelism) throws Exception {
+        return compressTar(list, inPutPath, outPutPath, fileName, CompressOptions.builder().level(level).parallelism(parallelism).build());
+    }
 
+    /**
+     * Compress tar file in a single pass, the archive is written to a unique temporary file first,
+     * so that concurrent compressions of the same directory never see a partial archive
+     *
+     * @param list
+     * @param outPutPath
+     * @param fileName
+     * @param options
+     */
+    public static File compressTar(List<File> list, String inPutPath, String outPutPath, String fileName, CompressOptions options) throws Exception {
+        String suffix = options.getFormat().getSuffix();
+        File outPutFile = new File(outPutPath + File.separator + fileName + suffix);
+        Path tempFile = Files.createTempFile(Path.of(outPutPath), fileName, suffix + ".tmp");
         try {
-            Files.deleteIfExists(tempTar.toPath());
-        } catch (IOException e) {
-            LOGGER.error(e.getMessage());
-            throw new RuntimeException(e);
+            try (OutputStream out = Files.newOutputStream(tempFile)) {
+                writeArchive(list, inPutPath, out, options);
+            }
+            Files.move(tempFile, outPutFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
         }
         return outPutFile;
     }
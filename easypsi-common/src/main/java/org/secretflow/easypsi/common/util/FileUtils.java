@@ -16,6 +16,7 @@
 
 package org.secretflow.easypsi.common.util;
 
+import org.secretflow.easypsi.common.dto.CompressOptions;
 import org.secretflow.easypsi.common.dto.DownloadInfo;
 import org.secretflow.easypsi.common.errorcode.DataErrorCode;
 import org.secretflow.easypsi.common.errorcode.SystemErrorCode;
@@ -27,6 +28,7 @@ import org.springframework.util.FileCopyUtils;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.ResourceUtils;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
@@ -105,6 +107,23 @@ public class FileUtils {
         return FileCopyUtils.copyToString(new FileReader(file));
     }
 
+    /**
+     * Read the first line of file, a leading byte order mark is skipped
+     *
+     * @param file target file
+     * @return the first line, null if the file is empty
+     * @throws IOException
+     */
+    public static String readFirstLine(File file) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            reader.mark(1);
+            if (reader.read() != 0xFEFF) {
+                reader.reset();
+            }
+            return reader.readLine();
+        }
+    }
+
     /**
      * Delete all files in the directory
      *
@@ -210,6 +229,20 @@ public class FileUtils {
      * @return download information
      */
     public static DownloadInfo download(String filePath, String dir, String relativeUri) {
+        return download(filePath, dir, relativeUri, CompressOptions.DEFAULT);
+    }
+
+    /**
+     * Build download information, a directory is archived with the given compress options,
+     * either packaged on disk now or marked to be archived straight into the response
+     *
+     * @param filePath        download file path
+     * @param dir             download directory
+     * @param relativeUri     download relativeUri
+     * @param compressOptions directory compress options
+     * @return download information
+     */
+    public static DownloadInfo download(String filePath, String dir, String relativeUri, CompressOptions compressOptions) {
         File f = new File(filePath);
         try {
             if (!f.exists()) {
@@ -227,8 +260,18 @@ public class FileUtils {
             String fileName = null;
             if (f.isDirectory()) {
                 LOGGER.info("Download process got a dir to download, whose relative uri = {}", relativeUri);
-                CompressUtils.compress(filePath, dir, relativeUri);
-                fileName = relativeUri.contains(".tar.gz") ? relativeUri : relativeUri + ".tar.gz";
+                String suffix = compressOptions.getFormat().getSuffix();
+                fileName = relativeUri.contains(suffix) ? relativeUri : relativeUri + suffix;
+                if (compressOptions.isStreaming()) {
+                    // the directory is archived while being sent, nothing is packaged on disk
+                    return DownloadInfo.builder()
+                            .fileName(fileName)
+                            .filePath(filePath)
+                            .streaming(true)
+                            .compressOptions(compressOptions)
+                            .build();
+                }
+                CompressUtils.compress(filePath, dir, relativeUri, compressOptions);
                 // since it is a new compressed file, add a suffix
                 downloadFilePath = dir + fileName;
 
@@ -32,6 +32,8 @@ import com.fasterxml.jackson.datatype.jsr310.ser.LocalTimeSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Type;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
@@ -323,6 +325,35 @@ public class JsonUtils {
         }
     }
 
+    /**
+     * Convert json stream to java target class, the stream is read as it arrives and left open
+     *
+     * @param content
+     * @param clazz
+     * @param <T>
+     * @return target class
+     * @throws IOException
+     */
+    public static <T> T toJavaObject(InputStream content, Class<T> clazz) throws IOException {
+        return OM.readerFor(clazz).without(JsonParser.Feature.AUTO_CLOSE_SOURCE).readValue(content);
+    }
+
+    /**
+     * Convert object to json bytes in UTF-8
+     *
+     * @param value
+     * @return byte[]
+     * @throws RuntimeException
+     */
+    public static byte[] toJSONBytes(Object value) {
+        try {
+            return OM.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            LOGGER.error("object to json failed, error is {}", e);
+            throw new RuntimeException(e);
+        }
+    }
+
     /**
      * Convert string to java target class with javaType
      *
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.common.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Sha256 merkle tree over fixed size chunks of a file
+ * <p>
+ * Chunks are read through direct buffers and hashed in parallel, so large files hash at disk speed. Leaves are
+ * hashed as sha256(0x00 || chunk) and inner nodes as sha256(0x01 || left || right), a node without sibling is
+ * promoted unchanged. The root identifies the content, and any chunk can be verified against the root with its
+ * proof without hashing the rest of the file.
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+public final class MerkleTree {
+
+    public static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+
+    private static final byte LEAF_PREFIX = 0x00;
+
+    private static final byte NODE_PREFIX = 0x01;
+
+    private static final ForkJoinPool HASH_POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    private static final ThreadLocal<ByteBuffer> CHUNK_BUFFER = new ThreadLocal<>();
+
+    private final int chunkSize;
+
+    /**
+     * Levels from the leaves up to the root
+     */
+    private final List<byte[][]> levels;
+
+    private MerkleTree(int chunkSize, byte[][] leaves) {
+        this.chunkSize = chunkSize;
+        this.levels = new ArrayList<>();
+        byte[][] level = leaves;
+        levels.add(level);
+        while (level.length > 1) {
+            byte[][] parent = new byte[(level.length + 1) / 2][];
+            for (int i = 0; i < parent.length; i++) {
+                parent[i] = 2 * i + 1 < level.length ? nodeHash(level[2 * i], level[2 * i + 1]) : level[2 * i];
+            }
+            levels.add(parent);
+            level = parent;
+        }
+    }
+
+    /**
+     * Build the tree of a file with the default chunk size
+     *
+     * @param path file path
+     * @return merkle tree
+     * @throws IOException
+     */
+    public static MerkleTree ofFile(Path path) throws IOException {
+        return ofFile(path, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Build the tree of a file, an empty file has a single empty chunk
+     *
+     * @param path      file path
+     * @param chunkSize chunk size in bytes
+     * @return merkle tree
+     * @throws IOException
+     */
+    public static MerkleTree ofFile(Path path, int chunkSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int chunks = (int) Math.max(1, (size + chunkSize - 1) / chunkSize);
+            byte[][] leaves = HASH_POOL.submit(() -> IntStream.range(0, chunks).parallel()
+                    .mapToObj(i -> hashChunk(channel, (long) i * chunkSize, (int) Math.min(chunkSize, size - (long) i * chunkSize)))
+                    .toArray(byte[][]::new)).get();
+            return new MerkleTree(chunkSize, leaves);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof UncheckedIOException ? ((UncheckedIOException) cause).getCause() : new IOException(cause);
+        }
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public int getLeafCount() {
+        return levels.get(0).length;
+    }
+
+    public byte[] getLeaf(int index) {
+        return levels.get(0)[index].clone();
+    }
+
+    public byte[] getRoot() {
+        return levels.get(levels.size() - 1)[0].clone();
+    }
+
+    public String getRootHex() {
+        return HexFormat.of().formatHex(levels.get(levels.size() - 1)[0]);
+    }
+
+    /**
+     * Sibling hashes needed to recompute the root from one chunk, from the leaves up
+     *
+     * @param index chunk index
+     * @return proof of the chunk
+     */
+    public List<byte[]> proof(int index) {
+        List<byte[]> proof = new ArrayList<>();
+        for (int level = 0; level < levels.size() - 1; level++) {
+            byte[][] nodes = levels.get(level);
+            int sibling = index ^ 1;
+            if (sibling < nodes.length) {
+                proof.add(nodes[sibling].clone());
+            }
+            index /= 2;
+        }
+        return proof;
+    }
+
+    /**
+     * Verify one chunk against a root
+     *
+     * @param chunk     chunk content
+     * @param index     chunk index
+     * @param leafCount chunk count of the file
+     * @param proof     proof of the chunk
+     * @param root      expected root
+     * @return whether the chunk belongs to the file at the index
+     */
+    public static boolean verify(byte[] chunk, int index, int leafCount, List<byte[]> proof, byte[] root) {
+        if (index < 0 || index >= leafCount) {
+            return false;
+        }
+        byte[] hash = leafHash(chunk, 0, chunk.length);
+        int nodes = leafCount;
+        int next = 0;
+        while (nodes > 1) {
+            if (index % 2 == 1) {
+                if (next >= proof.size()) {
+                    return false;
+                }
+                hash = nodeHash(proof.get(next++), hash);
+            } else if (index + 1 < nodes) {
+                if (next >= proof.size()) {
+                    return false;
+                }
+                hash = nodeHash(hash, proof.get(next++));
+            }
+            index /= 2;
+            nodes = (nodes + 1) / 2;
+        }
+        return next == proof.size() && MessageDigest.isEqual(hash, root);
+    }
+
+    private static byte[] hashChunk(FileChannel channel, long position, int length) {
+        ByteBuffer buffer = CHUNK_BUFFER.get();
+        if (buffer == null || buffer.capacity() < length) {
+            buffer = ByteBuffer.allocateDirect(Math.max(length, 64 * 1024));
+            CHUNK_BUFFER.set(buffer);
+        }
+        buffer.clear().limit(length);
+        try {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    throw new IOException("file truncated while hashing");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.flip();
+        MessageDigest digest = newDigest();
+        digest.update(LEAF_PREFIX);
+        digest.update(buffer);
+        return digest.digest();
+    }
+
+    private static byte[] leafHash(byte[] chunk, int offset, int length) {
+        MessageDigest digest = newDigest();
+        digest.update(LEAF_PREFIX);
+        digest.update(chunk, offset, length);
+        return digest.digest();
+    }
+
+    private static byte[] nodeHash(byte[] left, byte[] right) {
+        MessageDigest digest = newDigest();
+        digest.update(NODE_PREFIX);
+        digest.update(left);
+        digest.update(right);
+        return digest.digest();
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MerkleTree{root=" + getRootHex() + ", leaves=" + getLeafCount() + ", chunkSize=" + chunkSize + "}";
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.common.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Gzip output stream compressing blocks on multiple threads, in the manner of pigz
+ * <p>
+ * The input is cut into fixed size blocks, every block is deflated independently with the tail of the
+ * previous block as preset dictionary and ended with a sync flush, so the concatenated blocks form one
+ * ordinary deflate stream readable by any gzip implementation. Blocks are written in order, and at most
+ * twice the thread count of blocks are buffered at a time. Blocks of all streams are deflated on one shared pool
+ * of at most one thread per processor. After a failed write the stream is closed without the last block and the
+ * trailer, so a truncated archive fails the gzip check of its reader.
+ *
+ * @author agent
+ * @date 2026/10/17
+ */
+public class ParallelGzipOutputStream extends FilterOutputStream {
+
+    private static final int BLOCK_SIZE = 1024 * 1024;
+
+    private static final int DICTIONARY_SIZE = 32 * 1024;
+
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private static final ExecutorService EXECUTOR = sharedExecutor();
+
+    private final int level;
+
+    private final int maxPending;
+
+    private final Deque<Future<byte[]>> pending = new ArrayDeque<>();
+
+    private final CRC32 crc = new CRC32();
+
+    private byte[] block = new byte[BLOCK_SIZE];
+
+    private int blockLength;
+
+    private byte[] dictionary;
+
+    private long totalIn;
+
+    private boolean closed;
+
+    private boolean failed;
+
+    /**
+     * Create parallel gzip output stream and write the gzip header
+     *
+     * @param out     underlying output stream
+     * @param level   deflate level, from -1 to 9
+     * @param threads blocks compressed at a time
+     * @throws IOException
+     */
+    public ParallelGzipOutputStream(OutputStream out, int level, int threads) throws IOException {
+        super(out);
+        this.level = level;
+        this.maxPending = threads * 2;
+        out.write(GZIP_HEADER);
+    }
+
+    private static ExecutorService sharedExecutor() {
+        int threads = Runtime.getRuntime().availableProcessors();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+            Thread thread = new Thread(r, "parallel-gzip-" + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (closed) {
+            throw new IOException("stream closed");
+        }
+        if (failed) {
+            throw new IOException("stream failed by an earlier write");
+        }
+        try {
+            crc.update(b, off, len);
+            totalIn += len;
+            while (len > 0) {
+                int n = Math.min(len, BLOCK_SIZE - blockLength);
+                System.arraycopy(b, off, block, blockLength, n);
+                blockLength += n;
+                off += n;
+                len -= n;
+                if (blockLength == BLOCK_SIZE) {
+                    submit(false);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            failed = true;
+            throw e;
+        }
+    }
+
+    /**
+     * Pending blocks are not flushed, as a sync point in the middle of a block would defeat parallelism
+     */
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (!failed) {
+                submit(true);
+                while (!pending.isEmpty()) {
+                    writeOldest();
+                }
+                writeInt((int) crc.getValue());
+                writeInt((int) totalIn);
+                out.flush();
+            }
+        } finally {
+            pending.forEach(future -> future.cancel(true));
+            pending.clear();
+            out.close();
+        }
+    }
+
+    private void submit(boolean last) throws IOException {
+        byte[] input = block;
+        int length = blockLength;
+        byte[] preset = dictionary;
+        if (length >= DICTIONARY_SIZE) {
+            dictionary = Arrays.copyOfRange(input, length - DICTIONARY_SIZE, length);
+        }
+        pending.add(EXECUTOR.submit(() -> deflate(input, length, preset, last)));
+        block = new byte[BLOCK_SIZE];
+        blockLength = 0;
+        while (pending.size() >= maxPending) {
+            writeOldest();
+        }
+    }
+
+    private void writeOldest() throws IOException {
+        try {
+            out.write(pending.poll().get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("gzip compression interrupted");
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private byte[] deflate(byte[] input, int length, byte[] preset, boolean last) {
+        Deflater deflater = new Deflater(level, true);
+        try {
+            if (preset != null) {
+                deflater.setDictionary(preset);
+            }
+            deflater.setInput(input, 0, length);
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(length / 2 + 64);
+            byte[] buffer = new byte[64 * 1024];
+            if (last) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    int n = deflater.deflate(buffer);
+                    compressed.write(buffer, 0, n);
+                }
+            } else {
+                int n;
+                // a full output buffer means the flush may not be complete yet
+                do {
+                    n = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                    compressed.write(buffer, 0, n);
+                } while (n == buffer.length);
+            }
+            return compressed.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private void writeInt(int value) throws IOException {
+        out.write(value & 0xff);
+        out.write((value >> 8) & 0xff);
+        out.write((value >> 16) & 0xff);
+        out.write((value >> 24) & 0xff);
+    }
+}
@@ -16,10 +16,12 @@
 
 package org.secretflow.easypsi.common.util;
 
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
@@ -31,6 +33,8 @@ import java.security.NoSuchAlgorithmException;
  */
 public class Sha256Utils {
 
+    private static final int FILE_BUFFER_SIZE = 1024 * 1024;
+
     /**
      * Convert hash string from content
      *
@@ -77,18 +81,19 @@ public class Sha256Utils {
     }
 
     /**
-     * Convert hash string from file
+     * Convert hash string from file content, read through a large direct buffer
      *
      * @param filePath
      * @return file hash string
      */
     public static String fileHash(String filePath) {
-        try (InputStream in = new FileInputStream(filePath)) {
+        try (FileChannel channel = FileChannel.open(Path.of(filePath), StandardOpenOption.READ)) {
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] buffer = new byte[1024];
-            int bytesRead;
-            while ((bytesRead = in.read(buffer)) != -1) {
-                digest.update(buffer, 0, bytesRead);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(FILE_BUFFER_SIZE);
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
             }
             return bytesToHex(digest.digest());
         } catch (NoSuchAlgorithmException | IOException e) {
@@ -96,5 +101,18 @@ public class Sha256Utils {
         }
     }
 
-
+    /**
+     * Convert content hash string from file, the root of the merkle tree over its chunks so that single chunks
+     * can be verified later, see {@link MerkleTree}
+     *
+     * @param filePath
+     * @return file merkle root hash string
+     */
+    public static String fileMerkleRoot(String filePath) {
+        try {
+            return MerkleTree.ofFile(Path.of(filePath)).getRootHex();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
 }
@@ -16,7 +16,9 @@
 
 package org.secretflow.easypsi.common.util;
 
+import com.github.luben.zstd.ZstdInputStream;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
@@ -24,6 +26,8 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.secretflow.easypsi.common.constant.CompressFormat;
+import org.secretflow.easypsi.common.dto.CompressOptions;
 import org.secretflow.easypsi.common.exception.EasyPsiException;
 import org.secretflow.easypsi.common.util.CompressUtils;
 
@@ -31,6 +35,7 @@ import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -92,6 +97,72 @@ public class CompressUtilsTest {
         CompressUtils.compressTar(fileList, tempDir.toString(), tempDir.toString(), "test.tar");
     }
 
+    @Test
+    public void compressTarParallelTest() throws Exception {
+        Path source = Files.createDirectories(tempDir.resolve("source"));
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 200000; i++) {
+            content.append(i).append(",").append(i * 31 % 997).append("\n");
+        }
+        Files.writeString(source.resolve("result.csv"), content);
+        Files.writeString(tempDir.resolve("source/file1.txt"), FILE_CONTENT);
+        String inPutPath = tempDir.resolve("source").toString();
+        List<File> fileList = CompressUtils.getFiles(inPutPath);
+        File archive = CompressUtils.compressTar(fileList, inPutPath, tempDir.toString(), "result", 1, 4);
+
+        String outputDirStr = tempDir.resolve("output").toString();
+        CompressUtils.decompressTarGz(archive, outputDirStr);
+        Assertions.assertEquals(content.toString(), Files.readString(Path.of(outputDirStr, "result.csv")));
+        Assertions.assertEquals(FILE_CONTENT, Files.readString(Path.of(outputDirStr, "file1.txt")));
+        try (InputStream in = new GZIPInputStream(new FileInputStream(archive))) {
+            Assertions.assertTrue(in.readAllBytes().length > content.length());
+        }
+    }
+
+    @Test
+    public void parallelGzipFailedWriteTest() throws Exception {
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        boolean[] broken = {false};
+        OutputStream out = new FilterOutputStream(written) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                if (broken[0]) {
+                    throw new IOException("connection reset");
+                }
+                written.write(b, off, len);
+            }
+        };
+        ParallelGzipOutputStream gzip = new ParallelGzipOutputStream(out, -1, 2);
+        byte[] block = new byte[1024 * 1024];
+        broken[0] = true;
+        Assertions.assertThrows(IOException.class, () -> {
+            for (int i = 0; i < 8; i++) {
+                gzip.write(block);
+            }
+        });
+        Assertions.assertThrows(IOException.class, () -> gzip.write(block));
+        broken[0] = false;
+        int size = written.size();
+        gzip.close();
+        // neither the last block nor the trailer follow a failed write
+        Assertions.assertEquals(size, written.size());
+    }
+
+    @Test
+    public void writeArchiveZstdTest() throws Exception {
+        Files.writeString(tempDir.resolve("file1.txt"), FILE_CONTENT);
+        List<File> fileList = CompressUtils.getFiles(tempDir.toString());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CompressOptions options = CompressOptions.builder().format(CompressFormat.ZSTD).parallelism(2).build();
+        CompressUtils.writeArchive(fileList, tempDir.toString(), out, options);
+
+        try (TarArchiveInputStream tarIn = new TarArchiveInputStream(new ZstdInputStream(new ByteArrayInputStream(out.toByteArray())))) {
+            TarArchiveEntry entry = tarIn.getNextTarEntry();
+            Assertions.assertTrue(entry.getName().endsWith("file1.txt"));
+            Assertions.assertEquals(FILE_CONTENT, new String(tarIn.readAllBytes()));
+        }
+    }
+
     @Test
     public void decompressTest() throws Exception {
         Files.createDirectories(tempDir.resolve("dir1/dir2"));
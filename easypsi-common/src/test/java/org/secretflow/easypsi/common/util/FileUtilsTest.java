@@ -19,6 +19,7 @@ package org.secretflow.easypsi.common.util;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.secretflow.easypsi.common.dto.DownloadInfo;
 import org.secretflow.easypsi.common.exception.EasyPsiException;
 
 import java.io.File;
@@ -81,6 +82,16 @@ public class FileUtilsTest {
 
     }
 
+    @Test
+    public void downloadDirectoryTest() throws IOException {
+        Path resultDir = Files.createDirectory(tempDir.resolve("result"));
+        Files.writeString(resultDir.resolve("test.csv"), FILE_CONTENT);
+        DownloadInfo downloadInfo = FileUtils.download(resultDir.toString(), tempDir + File.separator, "result");
+        Assertions.assertTrue(downloadInfo.isStreaming());
+        Assertions.assertEquals("result.tar.gz", downloadInfo.getFileName());
+        Assertions.assertFalse(Files.exists(tempDir.resolve("result.tar.gz")));
+    }
+
     @Test
     public void fileNameCheckTest() {
         // Valid case
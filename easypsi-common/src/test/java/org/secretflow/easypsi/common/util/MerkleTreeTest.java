@@ -0,0 +1,85 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.common.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Merkle Tree Test
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+public class MerkleTreeTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void singleChunkTest() throws Exception {
+        byte[] content = "job log".getBytes();
+        Path file = Files.write(tempDir.resolve("single.log"), content);
+        MerkleTree tree = MerkleTree.ofFile(file);
+
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        digest.update((byte) 0x00);
+        Assertions.assertArrayEquals(digest.digest(content), tree.getRoot());
+        Assertions.assertEquals(1, tree.getLeafCount());
+        Assertions.assertEquals(tree.getRootHex(), Sha256Utils.fileMerkleRoot(file.toString()));
+    }
+
+    @Test
+    public void chunkProofTest() throws Exception {
+        int chunkSize = 1024;
+        byte[] content = new byte[chunkSize * 4 + 100];
+        new Random(7).nextBytes(content);
+        Path file = Files.write(tempDir.resolve("chunks.log"), content);
+        MerkleTree tree = MerkleTree.ofFile(file, chunkSize);
+        Assertions.assertEquals(5, tree.getLeafCount());
+
+        for (int i = 0; i < tree.getLeafCount(); i++) {
+            byte[] chunk = Arrays.copyOfRange(content, i * chunkSize, Math.min(content.length, (i + 1) * chunkSize));
+            List<byte[]> proof = tree.proof(i);
+            Assertions.assertTrue(MerkleTree.verify(chunk, i, tree.getLeafCount(), proof, tree.getRoot()));
+            chunk[0] ^= 1;
+            Assertions.assertFalse(MerkleTree.verify(chunk, i, tree.getLeafCount(), proof, tree.getRoot()));
+        }
+
+        content[content.length - 1] ^= 1;
+        Files.write(file, content);
+        Assertions.assertNotEquals(tree.getRootHex(), MerkleTree.ofFile(file, chunkSize).getRootHex());
+    }
+
+    @Test
+    public void fileHashTest() throws Exception {
+        byte[] content = new byte[3 * 1024 * 1024 + 17];
+        new Random(11).nextBytes(content);
+        Path file = Files.write(tempDir.resolve("plain.log"), content);
+        String expected = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        Assertions.assertEquals(expected, Sha256Utils.fileHash(file.toString()));
+    }
+}
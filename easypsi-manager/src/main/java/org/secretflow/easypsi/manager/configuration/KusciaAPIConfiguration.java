@@ -16,14 +16,25 @@
 
 package org.secretflow.easypsi.manager.configuration;
 
+import io.grpc.ManagedChannel;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.secretflow.easypsi.manager.kuscia.grpc.KusciaChannelPool;
+import org.secretflow.easypsi.manager.kuscia.grpc.KusciaDeadlineInterceptor;
+import org.secretflow.easypsi.manager.kuscia.grpc.KusciaMetricsInterceptor;
 import org.secretflow.easypsi.manager.properties.KusciaAPIProperties;
 
 import org.secretflow.v1alpha1.factory.KusciaAPIChannelFactory;
 import org.secretflow.v1alpha1.kusciaapi.*;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 /**
  * ApiLiteConfiguration init apiLite client bean
  *
@@ -46,39 +57,98 @@ public class KusciaAPIConfiguration {
     }
 
     /**
-     * Create a new domain service blocking stub via apiLite channel factory
+     * Create the apiLite channel pool shared by every stub, channels are tuned with keepalive and idle timeout,
+     * and every call is given a default deadline and recorded per method
      *
      * @param channelFactory
+     * @param properties
+     * @param meterRegistry
+     * @return a new apiLite channel pool
+     */
+    @Bean(destroyMethod = "shutdown")
+    KusciaChannelPool kusciaChannelPool(KusciaAPIChannelFactory channelFactory, KusciaAPIProperties properties,
+                                        ObjectProvider<MeterRegistry> meterRegistry) {
+        KusciaMetricsInterceptor metricsInterceptor = new KusciaMetricsInterceptor(meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+        KusciaDeadlineInterceptor deadlineInterceptor = new KusciaDeadlineInterceptor(properties.getCallTimeout());
+        List<ManagedChannel> channels = new ArrayList<>();
+        for (int i = 0; i < Math.max(1, properties.getChannelPoolSize()); i++) {
+            channels.add(channelFactory.newClientChannel(builder -> builder
+                    .keepAliveTime(properties.getKeepAliveTime().toMillis(), TimeUnit.MILLISECONDS)
+                    .keepAliveTimeout(properties.getKeepAliveTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                    .idleTimeout(properties.getIdleTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                    // the last interceptor runs first, so the recorded call already carries its deadline
+                    .intercept(metricsInterceptor, deadlineInterceptor)));
+        }
+        return new KusciaChannelPool(channels);
+    }
+
+    /**
+     * Create a new domain service blocking stub on the shared apiLite channel pool
+     *
+     * @param channelPool
      * @return a new domain service blocking stub
      */
     @Bean
-    DomainServiceGrpc.DomainServiceBlockingStub domainServiceStub(KusciaAPIChannelFactory channelFactory) {
-        return DomainServiceGrpc.newBlockingStub(channelFactory.newClientChannel());
+    DomainServiceGrpc.DomainServiceBlockingStub domainServiceStub(KusciaChannelPool channelPool) {
+        return DomainServiceGrpc.newBlockingStub(channelPool);
     }
 
     /**
-     * Create a new job service blocking stub via apiLite channel factory
+     * Create a new domain service future stub on the shared apiLite channel pool, used to query many domains at once
      *
-     * @param channelFactory
+     * @param channelPool
+     * @return a new domain service future stub
+     */
+    @Bean
+    DomainServiceGrpc.DomainServiceFutureStub domainServiceFutureStub(KusciaChannelPool channelPool) {
+        return DomainServiceGrpc.newFutureStub(channelPool);
+    }
+
+    /**
+     * Create a new job service blocking stub on the shared apiLite channel pool
+     *
+     * @param channelPool
      * @return a new job service blocking stub
      */
     @Bean
-    JobServiceGrpc.JobServiceBlockingStub jobServiceStub(KusciaAPIChannelFactory channelFactory) {
-        return JobServiceGrpc.newBlockingStub(channelFactory.newClientChannel())
+    JobServiceGrpc.JobServiceBlockingStub jobServiceStub(KusciaChannelPool channelPool) {
+        return JobServiceGrpc.newBlockingStub(channelPool)
                 .withMaxInboundMessageSize(Integer.MAX_VALUE)
                 .withMaxOutboundMessageSize(Integer.MAX_VALUE);
     }
 
     /**
-     * Create a new domain route service blocking stub via apiLite channel factory
+     * Create a new job service async stub on the shared apiLite channel pool, used to watch job events
      *
-     * @param channelFactory
-     * @return a new domain route service blocking stub
+     * @param channelPool
+     * @return a new job service async stub
      */
     @Bean
-    DomainRouteServiceGrpc.DomainRouteServiceBlockingStub domainRouteServiceStub(KusciaAPIChannelFactory channelFactory) {
-        return DomainRouteServiceGrpc.newBlockingStub(channelFactory.newClientChannel());
+    JobServiceGrpc.JobServiceStub jobServiceAsyncStub(KusciaChannelPool channelPool) {
+        return JobServiceGrpc.newStub(channelPool)
+                .withMaxInboundMessageSize(Integer.MAX_VALUE)
+                .withMaxOutboundMessageSize(Integer.MAX_VALUE);
     }
 
+    /**
+     * Create a new domain route service blocking stub on the shared apiLite channel pool
+     *
+     * @param channelPool
+     * @return a new domain route service blocking stub
+     */
+    @Bean
+    DomainRouteServiceGrpc.DomainRouteServiceBlockingStub domainRouteServiceStub(KusciaChannelPool channelPool) {
+        return DomainRouteServiceGrpc.newBlockingStub(channelPool);
+    }
 
+    /**
+     * Create a new domain route service future stub on the shared apiLite channel pool, used to query many routes at once
+     *
+     * @param channelPool
+     * @return a new domain route service future stub
+     */
+    @Bean
+    DomainRouteServiceGrpc.DomainRouteServiceFutureStub domainRouteServiceFutureStub(KusciaChannelPool channelPool) {
+        return DomainRouteServiceGrpc.newFutureStub(channelPool);
+    }
 }
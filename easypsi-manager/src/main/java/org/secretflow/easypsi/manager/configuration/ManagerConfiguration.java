@@ -16,11 +16,15 @@
 
 package org.secretflow.easypsi.manager.configuration;
 
+import org.secretflow.easypsi.manager.integration.health.NodeHealthRegistry;
 import org.secretflow.easypsi.manager.integration.job.AbstractJobManager;
 import org.secretflow.easypsi.manager.integration.job.JobManager;
+import org.secretflow.easypsi.manager.integration.job.JobWatcher;
 import org.secretflow.easypsi.persistence.repository.ProjectJobRepository;
 
 import org.secretflow.v1alpha1.kusciaapi.JobServiceGrpc;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -48,4 +52,26 @@ public class ManagerConfiguration {
         return new JobManager(projectJobRepository, jobStub);
     }
 
+    /**
+     * Create a new job watcher which synchronizes watched job events into project jobs, and pushes whether kuscia
+     * answers into the node health registry
+     *
+     * @param jobAsyncStub
+     * @param jobManager
+     * @param nodeHealthRegistry
+     * @param nodeId
+     * @return job watcher
+     */
+    @Bean(destroyMethod = "stop")
+    @ConditionalOnProperty(name = "job.sync.enabled", havingValue = "true", matchIfMissing = true)
+    JobWatcher jobWatcher(
+            JobServiceGrpc.JobServiceStub jobAsyncStub,
+            AbstractJobManager jobManager,
+            NodeHealthRegistry nodeHealthRegistry,
+            @Value("${easypsi.node-id}") String nodeId
+    ) {
+        return new JobWatcher(jobAsyncStub, ((JobManager) jobManager)::syncJob,
+                connected -> nodeHealthRegistry.pushDomainHealth(nodeId, connected));
+    }
+
 }
@@ -15,7 +15,6 @@
  */
 package org.secretflow.easypsi.manager.integration.data;
 
-import org.apache.commons.lang3.ObjectUtils;
 import org.secretflow.easypsi.common.errorcode.DataErrorCode;
 import org.secretflow.easypsi.common.exception.EasyPsiException;
 import org.slf4j.Logger;
@@ -24,12 +23,22 @@ import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.AsyncResult;
 import org.springframework.stereotype.Service;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
+import java.util.stream.LongStream;
 
 /**
+ * Count data table lines in process, the file is split into chunks which are scanned in parallel
+ * through memory-mapped regions.
+ *
  * @author liujunhao
  * @date 2024/01/30
  */
@@ -38,27 +47,90 @@ public class DataManager extends AbstractDataManager {
 
     private final static Logger LOGGER = LoggerFactory.getLogger(DataManager.class);
 
+    private static final long CHUNK_SIZE = 64L * 1024 * 1024;
+
+    private static final byte LINE_FEED = '\n';
+
+    private static final long LINE_FEED_PATTERN = 0x0A0A0A0A0A0A0A0AL;
+
+    private static final long LOW_SEVEN_BITS = 0x7F7F7F7F7F7F7F7FL;
+
+    private static final ForkJoinPool COUNT_POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
     @Override
     @Async("asyncExecutor")
     public Future<String> countLinesByCommand(String filePath, String fileName) {
-        BufferedReader reader = null;
         try {
-            Process process = new ProcessBuilder("awk", "NR == 100000001 { print \"100000001\"; exit } END { if (NR < 100000001) print NR } ", filePath).start();
-
-            reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
-            return new AsyncResult<>(reader.readLine());
-
+            return new AsyncResult<>(String.valueOf(countLines(Path.of(filePath), CHUNK_SIZE)));
         } catch (IOException e) {
             LOGGER.error("data table read error, data table: {}", fileName);
             throw EasyPsiException.of(DataErrorCode.QUERY_DATA_ERROR, fileName);
-        } finally {
-            if (!ObjectUtils.isEmpty(reader)) {
-                try {
-                    reader.close();
-                } catch (IOException e) {
-                    LOGGER.error("Close stream error", e);
-                }
+        }
+    }
+
+    /**
+     * Count the lines of file, a last line without line feed is counted as well
+     *
+     * @param path      file path
+     * @param chunkSize size of each memory-mapped region
+     * @return exact line count
+     * @throws IOException
+     */
+    long countLines(Path path, long chunkSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0) {
+                return 0;
             }
+            long chunks = (size + chunkSize - 1) / chunkSize;
+            long lineFeeds = COUNT_POOL.submit(() -> LongStream.range(0, chunks).parallel()
+                    .map(i -> countLineFeeds(channel, i * chunkSize, Math.min(chunkSize, size - i * chunkSize)))
+                    .sum()).get();
+            boolean endsWithLineFeed = lastByte(channel, size) == LINE_FEED;
+            return endsWithLineFeed ? lineFeeds : lineFeeds + 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof UncheckedIOException ? ((UncheckedIOException) cause).getCause() : new IOException(cause);
         }
     }
+
+    /**
+     * Count line feeds of one mapped region, eight bytes a time
+     *
+     * @param channel  file channel
+     * @param position region start
+     * @param length   region length
+     * @return line feed count
+     */
+    private long countLineFeeds(FileChannel channel, long position, long length) {
+        MappedByteBuffer buffer;
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.order(ByteOrder.nativeOrder());
+        long count = 0;
+        int limit = buffer.limit();
+        int i = 0;
+        for (; i + Long.BYTES <= limit; i += Long.BYTES) {
+            long word = buffer.getLong(i) ^ LINE_FEED_PATTERN;
+            // high bit of every byte is set unless the byte is zero, i.e. a line feed before the xor
+            long nonZero = (((word & LOW_SEVEN_BITS) + LOW_SEVEN_BITS) | word) & ~LOW_SEVEN_BITS;
+            count += Long.BYTES - Long.bitCount(nonZero);
+        }
+        for (; i < limit; i++) {
+            if (buffer.get(i) == LINE_FEED) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private byte lastByte(FileChannel channel, long size) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, size - 1, 1).get(0);
+    }
 }
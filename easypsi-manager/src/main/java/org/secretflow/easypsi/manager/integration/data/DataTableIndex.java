@@ -0,0 +1,308 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.manager.integration.data;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.secretflow.easypsi.common.util.FileUtils;
+import org.secretflow.easypsi.manager.integration.job.JobManager;
+import org.secretflow.easypsi.manager.integration.model.DataTableDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory index of csv data tables under the data directory
+ * <p>
+ * The index is built once at startup and then kept current by a {@link WatchService}, readers always see an
+ * immutable snapshot so that table listings never touch the file system.
+ * A full rescan is done when events overflow and periodically as a safety net for file systems
+ * that do not deliver watch events, like some network storages. For the same reason a single table lookup
+ * checks the size and modification time of the file, a table missed by the index is loaded and a changed or
+ * removed one is reloaded or evicted.
+ *
+ * @author agent
+ * @date 2026/10/17
+ */
+@Component
+public class DataTableIndex {
+
+    private final static Logger LOGGER = LoggerFactory.getLogger(DataTableIndex.class);
+
+    private static final String CSV_SUFFIX = ".csv";
+
+    private static final long RESCAN_INTERVAL_SECONDS = 60;
+
+    private final Path directory;
+
+    /**
+     * Null when the data directory not exists
+     */
+    private volatile Map<String, DataTableDTO> snapshot;
+
+    private volatile boolean running;
+
+    private Thread watcher;
+
+    public DataTableIndex() {
+        this(Paths.get(JobManager.CSV_DATA_PATH));
+    }
+
+    DataTableIndex(Path directory) {
+        this.directory = directory;
+    }
+
+    @PostConstruct
+    public void start() {
+        rescan();
+        running = true;
+        watcher = new Thread(this::watch, "data-table-index");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (watcher != null) {
+            watcher.interrupt();
+        }
+    }
+
+    /**
+     * Whether the data directory exists
+     *
+     * @return whether the data directory exists
+     */
+    public boolean isAvailable() {
+        return snapshot != null;
+    }
+
+    /**
+     * List csv data table names
+     *
+     * @return data table names, null if the data directory not exists
+     */
+    public List<String> listTableNames() {
+        Map<String, DataTableDTO> tables = snapshot;
+        return tables == null ? null : new ArrayList<>(tables.keySet());
+    }
+
+    /**
+     * Whether the csv data table exists
+     *
+     * @param tableName data table name
+     * @return whether exists
+     */
+    public boolean contains(String tableName) {
+        return getTable(tableName).isPresent();
+    }
+
+    /**
+     * Get indexed csv data table, checked against the file on disk
+     *
+     * @param tableName data table name
+     * @return data table, empty if not exists
+     */
+    public Optional<DataTableDTO> getTable(String tableName) {
+        Map<String, DataTableDTO> tables = snapshot;
+        DataTableDTO table = tables == null ? null : tables.get(tableName);
+        if (table == null) {
+            return Optional.ofNullable(loadMissing(tableName));
+        }
+        return Optional.ofNullable(unchanged(table) ? table : reload(tableName));
+    }
+
+    private boolean unchanged(DataTableDTO table) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(directory.resolve(table.getName()), BasicFileAttributes.class);
+            return !attributes.isDirectory() && attributes.size() == table.getSize()
+                    && attributes.lastModifiedTime().toMillis() == table.getModified();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Load a table not in the index and add it, watch events are not delivered on some network file systems,
+     * so a table written there is found before the next rescan
+     */
+    private synchronized DataTableDTO loadMissing(String tableName) {
+        Path path = directory.resolve(tableName);
+        // only plain file names, a name with a path would reach out of the data directory
+        if (!tableName.endsWith(CSV_SUFFIX) || !tableName.equals(String.valueOf(path.getFileName())) || !directory.equals(path.getParent())) {
+            return null;
+        }
+        Map<String, DataTableDTO> current = snapshot;
+        if (current == null) {
+            // the data directory may have been created since the last scan
+            rescan();
+            current = snapshot;
+            return current == null ? null : current.get(tableName);
+        }
+        return reload(tableName);
+    }
+
+    /**
+     * Load an indexed table again, a changed file replaces the entry and a removed one evicts it
+     */
+    private synchronized DataTableDTO reload(String tableName) {
+        Map<String, DataTableDTO> current = snapshot;
+        if (current == null) {
+            return null;
+        }
+        DataTableDTO previous = current.get(tableName);
+        DataTableDTO table = load(directory.resolve(tableName), previous);
+        if (table != previous) {
+            Map<String, DataTableDTO> next = new HashMap<>(current);
+            if (table == null) {
+                next.remove(tableName);
+            } else {
+                next.put(tableName, table);
+            }
+            snapshot = Collections.unmodifiableMap(next);
+        }
+        return table;
+    }
+
+    private void watch() {
+        while (running) {
+            try (WatchService watchService = directory.getFileSystem().newWatchService()) {
+                if (!Files.isDirectory(directory)) {
+                    TimeUnit.SECONDS.sleep(RESCAN_INTERVAL_SECONDS);
+                    rescan();
+                    continue;
+                }
+                directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+                // rescan after registering, so that no change between the last scan and the registration is lost
+                rescan();
+                while (running) {
+                    WatchKey key = watchService.poll(RESCAN_INTERVAL_SECONDS, TimeUnit.SECONDS);
+                    if (key == null) {
+                        rescan();
+                        continue;
+                    }
+                    handleEvents(key.pollEvents());
+                    if (!key.reset()) {
+                        LOGGER.warn("data directory {} is no longer accessible", directory);
+                        rescan();
+                        break;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException | RuntimeException e) {
+                LOGGER.error("data table index watch error: {}", e.getMessage());
+                try {
+                    TimeUnit.SECONDS.sleep(RESCAN_INTERVAL_SECONDS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private synchronized void handleEvents(List<WatchEvent<?>> events) {
+        Map<String, DataTableDTO> current = snapshot;
+        if (current == null) {
+            rescan();
+            return;
+        }
+        Map<String, DataTableDTO> next = new HashMap<>(current);
+        for (WatchEvent<?> event : events) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                rescan();
+                return;
+            }
+            String name = event.context().toString();
+            if (!name.endsWith(CSV_SUFFIX)) {
+                continue;
+            }
+            DataTableDTO table = load(directory.resolve(name), current.get(name));
+            if (table == null) {
+                next.remove(name);
+            } else {
+                next.put(name, table);
+            }
+        }
+        snapshot = Collections.unmodifiableMap(next);
+    }
+
+    /**
+     * Rebuild the whole index, headers of unchanged files are reused
+     */
+    synchronized void rescan() {
+        if (!Files.isDirectory(directory)) {
+            snapshot = null;
+            return;
+        }
+        Map<String, DataTableDTO> current = snapshot == null ? Collections.emptyMap() : snapshot;
+        Map<String, DataTableDTO> next = new HashMap<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + CSV_SUFFIX)) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+                DataTableDTO table = load(path, current.get(name));
+                if (table != null) {
+                    next.put(name, table);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.error("data table index scan error: {}", e.getMessage());
+            return;
+        }
+        snapshot = Collections.unmodifiableMap(next);
+        LOGGER.debug("data table index rebuilt, {} tables", next.size());
+    }
+
+    private DataTableDTO load(Path path, DataTableDTO previous) {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            return null;
+        }
+        if (attributes.isDirectory()) {
+            return null;
+        }
+        long size = attributes.size();
+        long modified = attributes.lastModifiedTime().toMillis();
+        if (previous != null && previous.getSize() == size && previous.getModified() == modified) {
+            return previous;
+        }
+        String header = null;
+        try {
+            header = FileUtils.readFirstLine(path.toFile());
+        } catch (IOException e) {
+            LOGGER.warn("data table {} header read error: {}", path.getFileName(), e.getMessage());
+        }
+        return DataTableDTO.builder()
+                .name(path.getFileName().toString())
+                .size(size)
+                .modified(modified)
+                .header(header)
+                .build();
+    }
+}
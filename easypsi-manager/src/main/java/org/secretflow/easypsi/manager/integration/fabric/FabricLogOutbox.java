@@ -0,0 +1,251 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.manager.integration.fabric;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.secretflow.easypsi.persistence.entity.FabricLogDO;
+import org.secretflow.easypsi.persistence.repository.FabricLogRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Durable outbox of fabric log uploads
+ * <p>
+ * Callers only store the log in pending state, a single worker thread picks up due pending logs and hands them
+ * to the batching submitter with a bounded number in flight. A failed attempt is retried with exponential backoff
+ * until the attempts run out, and pending logs left by a restart are picked up again.
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+@Component
+public class FabricLogOutbox {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FabricLogOutbox.class);
+
+    private static final int MAX_MESSAGE_LENGTH = 500;
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+
+    private final FabricManager fabricManager;
+
+    private final FabricLogRepository fabricLogRepository;
+
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final BlockingQueue<Boolean> wakeup = new ArrayBlockingQueue<>(1);
+
+    private Thread worker;
+
+    private volatile boolean closed;
+
+    /**
+     * Most uploads in flight at a time
+     */
+    @Value("${fabric.outbox.concurrency:64}")
+    private int concurrency;
+
+    /**
+     * Attempts after which a log is marked failed
+     */
+    @Value("${fabric.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    /**
+     * Delay before the first retry, doubled on every further one
+     */
+    @Value("${fabric.outbox.retry-base-millis:5000}")
+    private long retryBaseMillis;
+
+    @Value("${fabric.outbox.retry-max-millis:600000}")
+    private long retryMaxMillis;
+
+    /**
+     * Interval of polling for due retries when nothing new is enqueued
+     */
+    @Value("${fabric.outbox.poll-millis:5000}")
+    private long pollMillis;
+
+    public FabricLogOutbox(FabricManager fabricManager, FabricLogRepository fabricLogRepository) {
+        this.fabricManager = fabricManager;
+        this.fabricLogRepository = fabricLogRepository;
+    }
+
+    @PostConstruct
+    public synchronized void start() {
+        if (!Boolean.TRUE.equals(fabricManager.isOpen()) || worker != null) {
+            return;
+        }
+        worker = new Thread(this::run, "fabric-outbox");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        closed = true;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(SHUTDOWN_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Store the log in pending state, it is uploaded in the background
+     *
+     * @param fabricLogDO log with path and hash
+     */
+    public void enqueue(FabricLogDO fabricLogDO) {
+        fabricManager.prepareTransaction(fabricLogDO);
+        fabricLogDO.setResult(FabricLogDO.RESULT_PENDING);
+        fabricLogDO.setMessage("pending");
+        fabricLogDO.setRetryCount(0);
+        fabricLogDO.setNextRetryTime(null);
+        fabricLogRepository.save(fabricLogDO);
+        wakeup.offer(Boolean.TRUE);
+    }
+
+    /**
+     * Store a log that could not be hashed or truncated in failed state, so the failure stays visible
+     *
+     * @param fabricLogDO log with the path known so far
+     * @param exception   cause of the failure
+     */
+    public void fail(FabricLogDO fabricLogDO, Exception exception) {
+        if (fabricLogDO.getLogPath() == null) {
+            fabricLogDO.setLogPath("");
+        }
+        if (fabricLogDO.getLogHash() == null) {
+            fabricLogDO.setLogHash("");
+        }
+        fabricManager.prepareTransaction(fabricLogDO);
+        fabricLogDO.setResult(FabricLogDO.RESULT_FAILED);
+        fabricLogDO.setMessage(truncate(String.valueOf(exception.getMessage())));
+        fabricLogDO.setRetryCount(0);
+        fabricLogDO.setNextRetryTime(null);
+        fabricLogRepository.save(fabricLogDO);
+    }
+
+    private void run() {
+        while (!closed) {
+            try {
+                drain();
+            } catch (RuntimeException e) {
+                LOGGER.error("fabric outbox drain error", e);
+            }
+            try {
+                wakeup.poll(pollMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Submit due pending logs until the in flight limit is reached
+     */
+    void drain() {
+        int capacity = concurrency - inFlight.size();
+        if (capacity <= 0) {
+            return;
+        }
+        // logs in flight are still pending, fetch enough to skip them
+        List<FabricLogDO> due = fabricLogRepository.findPendingDue(LocalDateTime.now(), PageRequest.of(0, capacity + inFlight.size()));
+        for (FabricLogDO fabricLogDO : due) {
+            if (inFlight.size() >= concurrency) {
+                return;
+            }
+            if (!inFlight.add(fabricLogDO.getAssetId())) {
+                continue;
+            }
+            if (alreadyOnChain(fabricLogDO)) {
+                complete(fabricLogDO, null);
+                continue;
+            }
+            fabricManager.submitTransactionAsync(fabricLogDO).whenComplete((result, exception) -> complete(fabricLogDO, exception));
+        }
+    }
+
+    /**
+     * A retried log may have been committed although its status was not received, the ledger is asked first so
+     * the retry does not fail on the existing asset
+     */
+    private boolean alreadyOnChain(FabricLogDO fabricLogDO) {
+        if (fabricLogDO.getRetryCount() == null || fabricLogDO.getRetryCount() == 0) {
+            return false;
+        }
+        try {
+            fabricManager.evaluateTransactionByAssetId(fabricLogDO.getAssetId());
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void complete(FabricLogDO fabricLogDO, Throwable exception) {
+        try {
+            if (exception == null) {
+                fabricLogDO.setResult(FabricLogDO.RESULT_SUCCESS);
+                fabricLogDO.setMessage("success");
+                fabricLogDO.setNextRetryTime(null);
+            } else {
+                Throwable cause = exception instanceof CompletionException && exception.getCause() != null ? exception.getCause() : exception;
+                String message = String.valueOf(cause.getMessage());
+                int attempts = (fabricLogDO.getRetryCount() == null ? 0 : fabricLogDO.getRetryCount()) + 1;
+                fabricLogDO.setRetryCount(attempts);
+                fabricLogDO.setMessage(truncate(message));
+                if (attempts >= maxAttempts) {
+                    fabricLogDO.setResult(FabricLogDO.RESULT_FAILED);
+                    fabricLogDO.setNextRetryTime(null);
+                    LOGGER.error("fabric log {} upload failed after {} attempts, {}", fabricLogDO.getLogPath(), attempts, message);
+                } else {
+                    long delay = Math.min(retryMaxMillis, retryBaseMillis << Math.min(attempts - 1, 20));
+                    fabricLogDO.setNextRetryTime(LocalDateTime.now().plus(delay, ChronoUnit.MILLIS));
+                    LOGGER.warn("fabric log {} upload attempt {} failed, retry in {} ms, {}", fabricLogDO.getLogPath(), attempts, delay, message);
+                }
+            }
+            fabricLogRepository.save(fabricLogDO);
+        } catch (RuntimeException e) {
+            LOGGER.error("fabric log {} outbox update error", fabricLogDO.getLogPath(), e);
+        } finally {
+            inFlight.remove(fabricLogDO.getAssetId());
+            wakeup.offer(Boolean.TRUE);
+        }
+    }
+
+    private static String truncate(String message) {
+        return message.length() > MAX_MESSAGE_LENGTH ? message.substring(0, MAX_MESSAGE_LENGTH) : message;
+    }
+}
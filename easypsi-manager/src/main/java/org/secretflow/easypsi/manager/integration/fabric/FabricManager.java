@@ -16,10 +16,12 @@
 
 package org.secretflow.easypsi.manager.integration.fabric;
 
+import io.grpc.ConnectivityState;
 import io.grpc.Grpc;
 import io.grpc.ManagedChannel;
 import io.grpc.TlsChannelCredentials;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -38,11 +40,25 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.InvalidKeyException;
 import java.security.cert.CertificateException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Manager fabric operation
+ * <p>
+ * One gateway connection is created lazily and shared by every call, it is rebuilt when the channel is shut down
+ * or the gateway reports the peer unavailable. Submissions are queued and sent in batches, every batch is endorsed
+ * and submitted back to back and its commit statuses are awaited on a separate thread, so the transactions of a
+ * batch are ordered into the same blocks.
  *
  * @author lihaixin
  * @date 2024/01/13
@@ -56,15 +72,33 @@ public class FabricManager {
 
     public String READ_ASSET = "ReadAsset";
 
+    private static final String CREATE_ASSET = "CreateAsset";
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
 
     private final FabricAPIProperties fabricAPIProperties;
 
+    private final Object connectionLock = new Object();
+
+    private volatile FabricConnection connection;
+
+    private BlockingQueue<PendingSubmission> submissions;
+
+    private Thread submitter;
+
+    private ExecutorService commitStatusExecutor;
+
+    private volatile boolean closed;
+
 
     @PostConstruct
     public void validateFile() {
         try {
             if (fabricAPIProperties.getIsOpen()) {
-                newContract();
+                getContract();
             }
         } catch (Exception e) {
             throw new IllegalStateException(e.getMessage());
@@ -91,47 +125,265 @@ public class FabricManager {
      */
 
     public String evaluateTransactionByAssetId(String assetId) throws CertificateException, IOException, InvalidKeyException, GatewayException {
-        Contract contract = newContract();
-        return new String(contract.evaluateTransaction(READ_ASSET, assetId));
+        FabricConnection current = getConnection();
+        try {
+            return new String(current.contract.evaluateTransaction(READ_ASSET, assetId));
+        } catch (GatewayException e) {
+            invalidateIfUnavailable(current, e);
+            throw e;
+        }
     }
 
 
     /**
-     * Submit transaction
+     * Submit transaction and wait for its commit
      *
      * @param fabricLogDO
      */
 
     public void submitTransaction(FabricLogDO fabricLogDO) throws CertificateException, IOException, InvalidKeyException, EndorseException, CommitException, SubmitException, CommitStatusException {
+        prepareTransaction(fabricLogDO);
+        FabricConnection current = getConnection();
+        try {
+            current.contract.submitTransaction(CREATE_ASSET, fabricLogDO.getAssetId(), fabricLogDO.getOwner(), fabricLogDO.getLogPath());
+        } catch (GatewayException e) {
+            invalidateIfUnavailable(current, e);
+            throw e;
+        }
+    }
+
+
+    /**
+     * Queue transaction to be submitted with the next batch
+     *
+     * @param fabricLogDO
+     * @return future completed once the transaction is committed, or failed with the cause
+     */
+
+    public CompletableFuture<Void> submitTransactionAsync(FabricLogDO fabricLogDO) {
+        prepareTransaction(fabricLogDO);
+        PendingSubmission submission = new PendingSubmission(fabricLogDO);
+        if (closed) {
+            submission.future.completeExceptionally(new IllegalStateException("fabric manager closed"));
+        } else if (!startSubmitter().offer(submission)) {
+            submission.future.completeExceptionally(new IllegalStateException("fabric submission queue full"));
+        }
+        return submission.future;
+    }
+
+
+    /**
+     * Get the shared contract, connecting first if needed
+     *
+     * @return {@link Contract }
+     */
+
+    public Contract getContract() throws IOException, CertificateException, InvalidKeyException {
+        return getConnection().contract;
+    }
+
+
+    @PreDestroy
+    public void close() {
+        closed = true;
+        synchronized (this) {
+            if (submitter != null) {
+                submitter.interrupt();
+                try {
+                    submitter.join(TimeUnit.SECONDS.toMillis(SHUTDOWN_TIMEOUT_SECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                List<PendingSubmission> remaining = new ArrayList<>();
+                submissions.drainTo(remaining);
+                remaining.forEach(submission -> submission.future.completeExceptionally(new IllegalStateException("fabric manager closed")));
+                commitStatusExecutor.shutdownNow();
+            }
+        }
+        synchronized (connectionLock) {
+            if (connection != null) {
+                connection.close();
+                connection = null;
+            }
+        }
+    }
+
+
+    /**
+     * Fill the ledger parameters of the transaction from configuration
+     *
+     * @param fabricLogDO
+     */
+
+    public void prepareTransaction(FabricLogDO fabricLogDO) {
         fabricLogDO.setChannelName(fabricAPIProperties.getChannelName());
         fabricLogDO.setChainCodeName(fabricAPIProperties.getChainCodeName());
         fabricLogDO.setMspId(fabricAPIProperties.getMspId());
         fabricLogDO.setOverrideAuth(fabricAPIProperties.getOverrideAuth());
-        Contract contract = newContract();
         if (StringUtils.isBlank(fabricLogDO.getOwner())) {
             fabricLogDO.setOwner(fabricAPIProperties.getOwner());
         }
         fabricLogDO.setOwner(fabricAPIProperties.getOwner());
-        contract.submitTransaction("CreateAsset", fabricLogDO.getLogHash(), fabricLogDO.getOwner(), fabricLogDO.getLogPath());
+        if (StringUtils.isBlank(fabricLogDO.getAssetId())) {
+            // identical log files share the hash, the suffix keeps every upload a new asset
+            fabricLogDO.setAssetId(fabricLogDO.getLogHash() + "-" + UUID.randomUUID());
+        }
+    }
+
+
+    private synchronized BlockingQueue<PendingSubmission> startSubmitter() {
+        if (submitter == null) {
+            submissions = new ArrayBlockingQueue<>(fabricAPIProperties.getQueueCapacity());
+            commitStatusExecutor = Executors.newFixedThreadPool(fabricAPIProperties.getCommitStatusThreads(), r -> {
+                Thread thread = new Thread(r, "fabric-commit-status-" + THREAD_COUNT.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            submitter = new Thread(this::runSubmitter, "fabric-submitter");
+            submitter.setDaemon(true);
+            submitter.start();
+        }
+        return submissions;
+    }
+
+
+    private void runSubmitter() {
+        while (!closed) {
+            List<PendingSubmission> batch = new ArrayList<>();
+            try {
+                batch.add(submissions.take());
+                // linger a moment so that submissions arriving together share endorse and commit rounds
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(fabricAPIProperties.getBatchLingerMillis());
+                while (batch.size() < fabricAPIProperties.getBatchSize()) {
+                    PendingSubmission next = submissions.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                batch.forEach(submission -> submission.future.completeExceptionally(new IllegalStateException("fabric manager closed")));
+                return;
+            }
+            submitBatch(batch);
+        }
     }
 
 
     /**
-     * Create a new contract
+     * Endorse and submit the batch without waiting for commits, then await every commit status asynchronously
      *
-     * @return {@link Contract }
+     * @param batch
+     */
+
+    private void submitBatch(List<PendingSubmission> batch) {
+        FabricConnection current;
+        try {
+            current = getConnection();
+        } catch (Exception e) {
+            batch.forEach(submission -> submission.future.completeExceptionally(e));
+            return;
+        }
+        List<PendingSubmission> submitted = new ArrayList<>(batch.size());
+        for (PendingSubmission submission : batch) {
+            FabricLogDO fabricLogDO = submission.fabricLogDO;
+            try {
+                submission.transaction = current.contract.newProposal(CREATE_ASSET)
+                        .addArguments(fabricLogDO.getAssetId(), fabricLogDO.getOwner(), fabricLogDO.getLogPath())
+                        .build()
+                        .endorse()
+                        .submitAsync();
+                submitted.add(submission);
+            } catch (GatewayException e) {
+                invalidateIfUnavailable(current, e);
+                submission.future.completeExceptionally(e);
+            } catch (RuntimeException e) {
+                submission.future.completeExceptionally(e);
+            }
+        }
+        if (submitted.isEmpty()) {
+            return;
+        }
+        try {
+            commitStatusExecutor.execute(() -> awaitCommits(current, submitted));
+        } catch (RuntimeException e) {
+            submitted.forEach(submission -> submission.future.completeExceptionally(e));
+        }
+    }
+
+
+    private void awaitCommits(FabricConnection current, List<PendingSubmission> submitted) {
+        for (PendingSubmission submission : submitted) {
+            try {
+                Status status = submission.transaction.getStatus();
+                if (status.isSuccessful()) {
+                    submission.future.complete(null);
+                } else {
+                    submission.future.completeExceptionally(new IllegalStateException(
+                            "transaction " + status.getTransactionId() + " failed to commit with status " + status.getCode()));
+                }
+            } catch (CommitStatusException e) {
+                invalidateIfUnavailable(current, e);
+                submission.future.completeExceptionally(e);
+            } catch (RuntimeException e) {
+                submission.future.completeExceptionally(e);
+            }
+        }
+    }
+
+
+    private FabricConnection getConnection() throws IOException, CertificateException, InvalidKeyException {
+        FabricConnection current = connection;
+        if (current != null && current.isHealthy()) {
+            return current;
+        }
+        synchronized (connectionLock) {
+            if (closed) {
+                throw new IllegalStateException("fabric manager closed");
+            }
+            if (connection != null && connection.isHealthy()) {
+                return connection;
+            }
+            if (connection != null) {
+                log.warn("fabric gateway connection unhealthy, reconnecting");
+                connection.close();
+            }
+            connection = connect();
+            return connection;
+        }
+    }
+
+
+    private void invalidateIfUnavailable(FabricConnection current, GatewayException e) {
+        if (e.getStatus().getCode() == io.grpc.Status.Code.UNAVAILABLE) {
+            current.broken = true;
+        }
+    }
+
+
+    /**
+     * Connect a new gateway
+     *
+     * @return {@link FabricConnection }
      */
 
-    public Contract newContract() throws IOException, CertificateException, InvalidKeyException {
+    private FabricConnection connect() throws IOException, CertificateException, InvalidKeyException {
         ManagedChannel channel = newChannel();
-        Gateway.Builder builder = Gateway.newInstance().identity(newIdentity()).signer(newSigner()).connection(channel)
-                // Default timeouts for different gRPC calls
-                .evaluateOptions(options -> options.withDeadlineAfter(5, TimeUnit.SECONDS)).endorseOptions(options -> options.withDeadlineAfter(15, TimeUnit.SECONDS)).submitOptions(options -> options.withDeadlineAfter(5, TimeUnit.SECONDS)).commitStatusOptions(options -> options.withDeadlineAfter(1, TimeUnit.MINUTES));
-        return builder.connect().getNetwork(fabricAPIProperties.getChannelName()).getContract(fabricAPIProperties.getChainCodeName());
+        try {
+            Gateway gateway = Gateway.newInstance().identity(newIdentity()).signer(newSigner()).connection(channel)
+                    // Default timeouts for different gRPC calls
+                    .evaluateOptions(options -> options.withDeadlineAfter(5, TimeUnit.SECONDS)).endorseOptions(options -> options.withDeadlineAfter(15, TimeUnit.SECONDS)).submitOptions(options -> options.withDeadlineAfter(5, TimeUnit.SECONDS)).commitStatusOptions(options -> options.withDeadlineAfter(1, TimeUnit.MINUTES))
+                    .connect();
+            Contract contract = gateway.getNetwork(fabricAPIProperties.getChannelName()).getContract(fabricAPIProperties.getChainCodeName());
+            return new FabricConnection(channel, gateway, contract);
+        } catch (IOException | CertificateException | InvalidKeyException | RuntimeException e) {
+            channel.shutdownNow();
+            throw e;
+        }
     }
 
 
-    public ManagedChannel newChannel() throws IOException {
+    private ManagedChannel newChannel() throws IOException {
         return Grpc.newChannelBuilder(fabricAPIProperties.getAddress(), TlsChannelCredentials.newBuilder().trustManager(new File(fabricAPIProperties.getTlsCertPath())).build()).overrideAuthority(fabricAPIProperties.getOverrideAuth()).build();
     }
 
@@ -142,9 +394,10 @@ public class FabricManager {
      */
 
     private Identity newIdentity() throws IOException, CertificateException {
-        var certReader = Files.newBufferedReader(Path.of(fabricAPIProperties.getSignCertPath()));
-        var certificate = Identities.readX509Certificate(certReader);
-        return new X509Identity(fabricAPIProperties.getMspId(), certificate);
+        try (var certReader = Files.newBufferedReader(Path.of(fabricAPIProperties.getSignCertPath()))) {
+            var certificate = Identities.readX509Certificate(certReader);
+            return new X509Identity(fabricAPIProperties.getMspId(), certificate);
+        }
     }
 
     /**
@@ -154,20 +407,77 @@ public class FabricManager {
      */
 
     private Signer newSigner() throws IOException, InvalidKeyException {
-        var keyReader = Files.newBufferedReader(Path.of(fabricAPIProperties.getKeystorePath()));
-        var privateKey = Identities.readPrivateKey(keyReader);
-        return Signers.newPrivateKeySigner(privateKey);
+        try (var keyReader = Files.newBufferedReader(Path.of(fabricAPIProperties.getKeystorePath()))) {
+            var privateKey = Identities.readPrivateKey(keyReader);
+            return Signers.newPrivateKeySigner(privateKey);
+        }
     }
 
     @Bean("fabricThreadPool")
     public ThreadPoolTaskExecutor fabricThreadPool() {
         ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
-        threadPoolTaskExecutor.setCorePoolSize(11);
-        threadPoolTaskExecutor.setMaxPoolSize(20);
-        threadPoolTaskExecutor.setQueueCapacity(10);
+        // only prepares logs for the outbox, ledger latency is not waited for here
+        threadPoolTaskExecutor.setCorePoolSize(2);
+        threadPoolTaskExecutor.setMaxPoolSize(4);
+        threadPoolTaskExecutor.setQueueCapacity(1000);
         threadPoolTaskExecutor.setThreadNamePrefix("fabricThreadPool-");
         threadPoolTaskExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
         threadPoolTaskExecutor.initialize();
         return threadPoolTaskExecutor;
     }
-}
\ No newline at end of file
+
+
+    /**
+     * Channel, gateway and contract living together
+     */
+    private static final class FabricConnection {
+
+        private final ManagedChannel channel;
+
+        private final Gateway gateway;
+
+        private final Contract contract;
+
+        private volatile boolean broken;
+
+        private FabricConnection(ManagedChannel channel, Gateway gateway, Contract contract) {
+            this.channel = channel;
+            this.gateway = gateway;
+            this.contract = contract;
+        }
+
+        private boolean isHealthy() {
+            return !broken && channel.getState(false) != ConnectivityState.SHUTDOWN;
+        }
+
+        private void close() {
+            gateway.close();
+            channel.shutdown();
+            try {
+                if (!channel.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    channel.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                channel.shutdownNow();
+            }
+        }
+    }
+
+
+    /**
+     * Queued submission and its outcome
+     */
+    private static final class PendingSubmission {
+
+        private final FabricLogDO fabricLogDO;
+
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private SubmittedTransaction transaction;
+
+        private PendingSubmission(FabricLogDO fabricLogDO) {
+            this.fabricLogDO = fabricLogDO;
+        }
+    }
+}
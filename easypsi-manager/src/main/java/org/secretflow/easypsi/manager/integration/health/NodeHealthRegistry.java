@@ -0,0 +1,368 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.manager.integration.health;
+
+import org.secretflow.easypsi.common.constant.DomainRouterConstants;
+import org.secretflow.easypsi.manager.integration.node.AbstractNodeManager;
+import org.secretflow.easypsi.manager.integration.noderoute.AbstractNodeRouteManager;
+
+import jakarta.annotation.PreDestroy;
+import org.apache.commons.lang3.StringUtils;
+import org.secretflow.v1alpha1.kusciaapi.DomainRoute;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Shared health of kuscia domains and domain routes
+ * <p>
+ * Reads are served from a concurrent map without locking. A fresh entry is returned as is, a stale healthy one is
+ * returned while it is checked again in the background, and a stale unhealthy, missing or too old entry makes the
+ * reader wait for a check, at most the check timeout. Concurrent checks of the same entry are single-flighted. Entries read recently are checked
+ * again on a schedule, and watch events and live route queries push their results in, so user actions seldom
+ * wait for kuscia.
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+@Component
+public class NodeHealthRegistry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NodeHealthRegistry.class);
+
+    private static final String DOMAIN_KEY_PREFIX = "domain/";
+
+    private static final String ROUTE_KEY_PREFIX = "route/";
+
+    private static final String ROUTE_KEY_SEPARATOR = "->";
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private final AbstractNodeManager nodeManager;
+
+    private final AbstractNodeRouteManager nodeRouteManager;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Map<String, CompletableFuture<Entry>> checking = new ConcurrentHashMap<>();
+
+    private final ExecutorService checkExecutor = Executors.newFixedThreadPool(4, r -> {
+        Thread thread = new Thread(r, "node-health-check-" + THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Age until which a healthy entry is returned without checking
+     */
+    @Value("${node.health.ttl-millis:30000}")
+    private long ttlMillis;
+
+    /**
+     * Age until which an unhealthy entry is returned without checking, short so recovery is seen soon
+     */
+    @Value("${node.health.failure-ttl-millis:3000}")
+    private long failureTtlMillis;
+
+    /**
+     * Age after which an entry is no longer returned and the reader waits for a check
+     */
+    @Value("${node.health.max-stale-millis:120000}")
+    private long maxStaleMillis;
+
+    /**
+     * Time after which an entry not read is dropped instead of checked in the background
+     */
+    @Value("${node.health.idle-millis:600000}")
+    private long idleMillis;
+
+    /**
+     * Longest wait of a reader for a check
+     */
+    @Value("${node.health.check-timeout-millis:5000}")
+    private long checkTimeoutMillis;
+
+    public NodeHealthRegistry(AbstractNodeManager nodeManager, AbstractNodeRouteManager nodeRouteManager) {
+        this.nodeManager = nodeManager;
+        this.nodeRouteManager = nodeRouteManager;
+    }
+
+    /**
+     * Whether the kuscia domain of the node can be queried
+     *
+     * @param nodeId node id
+     * @return whether the domain is reachable
+     */
+    public boolean isDomainReachable(String nodeId) {
+        return read(DOMAIN_KEY_PREFIX + nodeId).healthy;
+    }
+
+    /**
+     * Status of one direction of a domain route
+     *
+     * @param srcNodeId source node id
+     * @param dstNodeId destination node id
+     * @return route status, empty when unknown
+     */
+    public String getRouteStatus(String srcNodeId, String dstNodeId) {
+        return read(routeKey(srcNodeId, dstNodeId)).value;
+    }
+
+    /**
+     * Whether the domain routes of both directions are succeeded
+     *
+     * @param srcNodeId source node id
+     * @param dstNodeId destination node id
+     * @return whether the route is ready
+     */
+    public boolean isRouteReady(String srcNodeId, String dstNodeId) {
+        return isRouteReady(srcNodeId, dstNodeId, Duration.ofMillis(checkTimeoutMillis));
+    }
+
+    /**
+     * Whether the domain routes of both directions are succeeded, waiting for checks at most the timeout in total
+     *
+     * @param srcNodeId source node id
+     * @param dstNodeId destination node id
+     * @param timeout   longest wait for checks, a route not checked in time is not ready
+     * @return whether the route is ready
+     */
+    public boolean isRouteReady(String srcNodeId, String dstNodeId, Duration timeout) {
+        long deadlineNanos = System.nanoTime() + Math.min(timeout.toNanos(), TimeUnit.MILLISECONDS.toNanos(checkTimeoutMillis));
+        String succeeded = DomainRouterConstants.DomainRouterStatusEnum.Succeeded.name();
+        return succeeded.equals(read(routeKey(srcNodeId, dstNodeId), deadlineNanos).value)
+                && succeeded.equals(read(routeKey(dstNodeId, srcNodeId), deadlineNanos).value);
+    }
+
+    /**
+     * Push the observed reachability of a domain, e.g. from the kuscia watch
+     *
+     * @param nodeId    node id
+     * @param reachable whether the domain is reachable
+     */
+    public void pushDomainHealth(String nodeId, boolean reachable) {
+        String key = DOMAIN_KEY_PREFIX + nodeId;
+        Entry previous = entries.get(key);
+        // a watch event arrives per job change, skip rewriting an entry which is still fresh and unchanged
+        if (previous != null && previous.healthy == reachable && !previous.isOlderThan(System.nanoTime(), ttlMillis / 2)) {
+            return;
+        }
+        put(key, reachable ? Entry.healthy("") : Entry.unhealthy(""), previous);
+    }
+
+    /**
+     * Push a route status queried elsewhere
+     *
+     * @param srcNodeId source node id
+     * @param dstNodeId destination node id
+     * @param status    route status, null when unknown
+     */
+    public void pushRouteStatus(String srcNodeId, String dstNodeId, DomainRoute.RouteStatus status) {
+        String key = routeKey(srcNodeId, dstNodeId);
+        put(key, routeEntry(status), entries.get(key));
+    }
+
+    /**
+     * Forget both directions of a route, e.g. after it is changed
+     *
+     * @param srcNodeId source node id
+     * @param dstNodeId destination node id
+     */
+    public void invalidateRoute(String srcNodeId, String dstNodeId) {
+        entries.remove(routeKey(srcNodeId, dstNodeId));
+        entries.remove(routeKey(dstNodeId, srcNodeId));
+    }
+
+    /**
+     * Check stale entries in the background and drop entries nobody reads any more
+     */
+    @Scheduled(initialDelayString = "${node.health.refresh-millis:10000}", fixedDelayString = "${node.health.refresh-millis:10000}")
+    public void refresh() {
+        long now = System.nanoTime();
+        entries.forEach((key, entry) -> {
+            if (now - entry.lastReadNanos > TimeUnit.MILLISECONDS.toNanos(idleMillis)) {
+                entries.remove(key, entry);
+            } else if (entry.isOlderThan(now, ttlOf(entry) / 2)) {
+                check(key);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        checkExecutor.shutdownNow();
+    }
+
+    private Entry read(String key) {
+        return read(key, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(checkTimeoutMillis));
+    }
+
+    private Entry read(String key, long deadlineNanos) {
+        long now = System.nanoTime();
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            entry.lastReadNanos = now;
+            if (!entry.isOlderThan(now, ttlOf(entry))) {
+                return entry;
+            }
+            // a stale failure is checked while the reader waits, so a recovered node is not reported down
+            if (entry.healthy && !entry.isOlderThan(now, maxStaleMillis)) {
+                check(key);
+                return entry;
+            }
+        }
+        try {
+            return check(key).get(Math.max(0, deadlineNanos - now), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Entry.unhealthy("");
+        } catch (ExecutionException e) {
+            LOGGER.warn("check health of {} failed: {}", key, e.getCause().getMessage());
+            return Entry.unhealthy("");
+        } catch (TimeoutException e) {
+            LOGGER.warn("check health of {} timed out after {} ms", key, TimeUnit.NANOSECONDS.toMillis(deadlineNanos - now));
+            return Entry.unhealthy("");
+        }
+    }
+
+    /**
+     * Check the entry, joining the check in flight if there is one
+     */
+    private CompletableFuture<Entry> check(String key) {
+        CompletableFuture<Entry> inFlight = checking.get(key);
+        if (inFlight != null) {
+            return inFlight;
+        }
+        CompletableFuture<Entry> future = new CompletableFuture<>();
+        inFlight = checking.putIfAbsent(key, future);
+        if (inFlight != null) {
+            return inFlight;
+        }
+        Supplier<Entry> probe = probe(key);
+        try {
+            checkExecutor.execute(() -> {
+                Entry entry = null;
+                RuntimeException failure = null;
+                try {
+                    entry = probe.get();
+                    put(key, entry, entries.get(key));
+                } catch (RuntimeException e) {
+                    failure = e;
+                }
+                // leave the flight before waking the readers, so a later read never joins a finished check
+                checking.remove(key, future);
+                if (failure == null) {
+                    future.complete(entry);
+                } else {
+                    future.completeExceptionally(failure);
+                }
+            });
+        } catch (RuntimeException e) {
+            checking.remove(key, future);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private Supplier<Entry> probe(String key) {
+        if (key.startsWith(DOMAIN_KEY_PREFIX)) {
+            String nodeId = key.substring(DOMAIN_KEY_PREFIX.length());
+            return () -> {
+                try {
+                    nodeManager.getNodeNotCheck(nodeId);
+                    return Entry.healthy("");
+                } catch (Exception e) {
+                    LOGGER.warn("kuscia domain {} is unreachable: {}", nodeId, e.getMessage());
+                    return Entry.unhealthy("");
+                }
+            };
+        }
+        String[] nodeIds = key.substring(ROUTE_KEY_PREFIX.length()).split(ROUTE_KEY_SEPARATOR, 2);
+        return () -> {
+            try {
+                return routeEntry(nodeRouteManager.getRouteStatus(nodeIds[0], nodeIds[1]));
+            } catch (Exception e) {
+                LOGGER.warn("query domain route {} failed: {}", key, e.getMessage());
+                return Entry.unhealthy("");
+            }
+        };
+    }
+
+    private void put(String key, Entry entry, Entry previous) {
+        entry.lastReadNanos = previous == null ? entry.checkedNanos : previous.lastReadNanos;
+        entries.put(key, entry);
+    }
+
+    private long ttlOf(Entry entry) {
+        return entry.healthy ? ttlMillis : failureTtlMillis;
+    }
+
+    private static Entry routeEntry(DomainRoute.RouteStatus status) {
+        String value = status == null ? "" : StringUtils.defaultString(status.getStatus());
+        return DomainRouterConstants.DomainRouterStatusEnum.Succeeded.name().equals(value)
+                ? Entry.healthy(value) : Entry.unhealthy(value);
+    }
+
+    private static String routeKey(String srcNodeId, String dstNodeId) {
+        return ROUTE_KEY_PREFIX + srcNodeId + ROUTE_KEY_SEPARATOR + dstNodeId;
+    }
+
+    /**
+     * Immutable result of one check, only the last read time is updated
+     */
+    private static final class Entry {
+
+        private final String value;
+
+        private final boolean healthy;
+
+        private final long checkedNanos = System.nanoTime();
+
+        private volatile long lastReadNanos;
+
+        private Entry(String value, boolean healthy) {
+            this.value = value;
+            this.healthy = healthy;
+        }
+
+        static Entry healthy(String value) {
+            return new Entry(value, true);
+        }
+
+        static Entry unhealthy(String value) {
+            return new Entry(value, false);
+        }
+
+        boolean isOlderThan(long now, long millis) {
+            return now - checkedNanos >= TimeUnit.MILLISECONDS.toNanos(millis);
+        }
+    }
+}
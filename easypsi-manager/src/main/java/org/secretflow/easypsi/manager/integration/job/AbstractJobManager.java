@@ -28,11 +28,6 @@ import java.util.concurrent.Future;
  * @date 2023/5/23
  */
 public abstract class AbstractJobManager {
-    /**
-     * Start synchronized job
-     */
-    public abstract void startSync();
-
     /**
      * Create a new job
      *
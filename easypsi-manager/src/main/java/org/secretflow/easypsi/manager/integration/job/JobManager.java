@@ -17,6 +17,7 @@
 package org.secretflow.easypsi.manager.integration.job;
 
 import com.google.common.base.Strings;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.Nullable;
@@ -24,13 +25,12 @@ import org.secretflow.easypsi.common.errorcode.JobErrorCode;
 import org.secretflow.easypsi.common.exception.EasyPsiException;
 import org.secretflow.easypsi.common.util.DateTimes;
 import org.secretflow.easypsi.common.util.FileUtils;
-import org.secretflow.easypsi.common.util.JsonUtils;
 import org.secretflow.easypsi.common.util.Sha256Utils;
+import org.secretflow.easypsi.manager.integration.fabric.FabricLogOutbox;
 import org.secretflow.easypsi.manager.integration.fabric.FabricManager;
 import org.secretflow.easypsi.persistence.entity.FabricLogDO;
 import org.secretflow.easypsi.persistence.entity.ProjectJobDO;
 import org.secretflow.easypsi.persistence.model.GraphJobStatus;
-import org.secretflow.easypsi.persistence.repository.FabricLogRepository;
 import org.secretflow.easypsi.persistence.repository.ProjectJobRepository;
 import org.secretflow.v1alpha1.common.Common;
 import org.secretflow.v1alpha1.kusciaapi.Job;
@@ -46,11 +46,15 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.io.File;
 import java.io.FilenameFilter;
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static org.secretflow.easypsi.manager.integration.model.Constants.SUCCESS_STATUS_MESSAGE;
@@ -65,6 +69,8 @@ import static org.secretflow.easypsi.manager.integration.model.Constants.SUCCESS
 public class JobManager extends AbstractJobManager {
 
     private final static Logger LOGGER = LoggerFactory.getLogger(JobManager.class);
+
+    private static final long SYNC_RETRY_DELAY_MILLIS = 1000;
     private final ProjectJobRepository projectJobRepository;
 
     private final JobServiceGrpc.JobServiceBlockingStub jobStub;
@@ -77,11 +83,28 @@ public class JobManager extends AbstractJobManager {
     private ThreadPoolTaskExecutor threadPoolTaskExecutor;
 
     @Autowired
-    private FabricLogRepository fabricLogRepository;
+    private FabricLogOutbox fabricLogOutbox;
 
     @Value("${easypsi.node-id}")
     private String nodeId;
 
+    /**
+     * Window in which events of the same job are coalesced before saving
+     */
+    @Value("${job.sync.batch-window-millis:200}")
+    private long syncBatchWindowMillis;
+
+    /**
+     * Latest buffered event per job id
+     */
+    private final Map<String, Job.WatchJobEventResponse> pendingEvents = new LinkedHashMap<>();
+
+    private final ScheduledExecutorService syncExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "kuscia-job-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     public JobManager(ProjectJobRepository projectJobRepository,
                       JobServiceGrpc.JobServiceBlockingStub jobStub) {
         this.projectJobRepository = projectJobRepository;
@@ -112,53 +135,87 @@ public class JobManager extends AbstractJobManager {
     public static String PAUSE_JOB_API = "/api/v1alpha1/project/job/pause/kuscia";
 
     /**
-     * Start synchronized job
+     * Synchronize project job data via job event response, called by {@link JobWatcher}
      * <p>
-     * TODO: can be refactor to void watch(type, handler) ?
-     */
-    @Override
-    public void startSync() {
-        try {
-            Iterator<Job.WatchJobEventResponse> responses = jobStub.watchJob(Job.WatchJobRequest.newBuilder().setTimeoutSeconds(30).build());
-            LOGGER.info("starter jobEvent ... ");
-            responses.forEachRemaining(this::syncJob);
-        } catch (Exception e) {
-            LOGGER.error("startSync exception: {}, while restart", e.getMessage());
-        }
-    }
-
-    /**
-     * Synchronize project job data via job event response
+     * Events are buffered for a short window and only the latest event of each job is kept,
+     * the buffered jobs are then loaded and saved in one batch.
      *
      * @param it
      */
     public void syncJob(Job.WatchJobEventResponse it) {
-        if (it.getType() == Job.EventType.UNRECOGNIZED || it.getType() == Job.EventType.ERROR) {
+        if (it.getType() != Job.EventType.ADDED && it.getType() != Job.EventType.MODIFIED) {
             // do nothing
             return;
         }
-        LOGGER.info("watched jobEvent: jobId={}, jobState={}, task=[{}], endTime={}", it.getObject().getJobId(), it.getObject().getStatus().getState(),
-                it.getObject().getStatus().getTasksList().stream().map(t -> String.format("taskId=%s,state=%s", t.getTaskId(), t.getState())).collect(Collectors.joining("|")),
-                it.getObject().getStatus().getEndTime());
-        // delete tmp file
-        if (isFinishedState(it.getObject().getStatus().getState())) {
-            FileUtils.deleteAllFile(buildTmpDirPath(it.getObject().getJobId()));
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("watched jobEvent: jobId={}, jobState={}, task=[{}], endTime={}", it.getObject().getJobId(), it.getObject().getStatus().getState(),
+                    it.getObject().getStatus().getTasksList().stream().map(t -> String.format("taskId=%s,state=%s", t.getTaskId(), t.getState())).collect(Collectors.joining("|")),
+                    it.getObject().getStatus().getEndTime());
         }
-        Optional<ProjectJobDO> projectJobOpt = projectJobRepository.findByJobId(it.getObject().getJobId());
-        if (projectJobOpt.isEmpty()) {
-            LOGGER.info("watched jobEvent: jobId={}, but project job not exist, skip", it.getObject().getJobId());
-            return;
+        synchronized (pendingEvents) {
+            boolean scheduled = !pendingEvents.isEmpty();
+            pendingEvents.put(it.getObject().getJobId(), it);
+            if (!scheduled) {
+                syncExecutor.schedule(this::flushJobEvents, syncBatchWindowMillis, TimeUnit.MILLISECONDS);
+            }
         }
-        if (projectJobOpt.get().isFinished()) {
+    }
+
+    /**
+     * Save buffered job events in one batch
+     */
+    void flushJobEvents() {
+        Map<String, Job.WatchJobEventResponse> events;
+        synchronized (pendingEvents) {
+            events = new LinkedHashMap<>(pendingEvents);
+            pendingEvents.clear();
+        }
+        if (events.isEmpty()) {
             return;
         }
-        LOGGER.info("watched jobEvent: type={}, find project job={}, id={}, will update.", it.getType(),
-                JsonUtils.toJSONString(projectJobOpt.get()), projectJobOpt.get().getUpk().getJobId());
-        ProjectJobDO job = updateJob(it, projectJobOpt.get());
-        LOGGER.info("watched jobEvent: updated project job={}", JsonUtils.toJSONString(projectJobOpt.get()));
-        projectJobRepository.save(job);
-        //log to chain
-        uploadLogToChain(job);
+        try {
+            events.values().stream()
+                    .filter(it -> isFinishedState(it.getObject().getStatus().getState()))
+                    // delete tmp file
+                    .forEach(it -> FileUtils.deleteAllFile(buildTmpDirPath(it.getObject().getJobId())));
+            List<ProjectJobDO> jobs = projectJobRepository.findByJobIds(new ArrayList<>(events.keySet()));
+            List<ProjectJobDO> updatedJobs = new ArrayList<>(jobs.size());
+            for (ProjectJobDO projectJob : jobs) {
+                if (projectJob.isFinished()) {
+                    continue;
+                }
+                ProjectJobDO job = updateJob(events.get(projectJob.getUpk().getJobId()), projectJob);
+                if (job != null) {
+                    updatedJobs.add(job);
+                }
+            }
+            LOGGER.info("watched jobEvent: {} events coalesced, {} project jobs found, {} updated", events.size(), jobs.size(), updatedJobs.size());
+            if (updatedJobs.isEmpty()) {
+                return;
+            }
+            projectJobRepository.saveAll(updatedJobs);
+            //log to chain
+            updatedJobs.forEach(this::uploadLogToChain);
+        } catch (Exception e) {
+            LOGGER.error("watched jobEvent: save {} project jobs error: {}, retry later", events.size(), e.getMessage());
+            synchronized (pendingEvents) {
+                boolean scheduled = !pendingEvents.isEmpty();
+                // newer events buffered meanwhile win over the failed ones
+                events.forEach(pendingEvents::putIfAbsent);
+                if (!scheduled && !syncExecutor.isShutdown()) {
+                    syncExecutor.schedule(this::flushJobEvents, SYNC_RETRY_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+    }
+
+    /**
+     * Save buffered job events and stop the sync executor
+     */
+    @PreDestroy
+    public void shutdown() {
+        syncExecutor.shutdown();
+        flushJobEvents();
     }
 
 
@@ -173,7 +230,6 @@ public class JobManager extends AbstractJobManager {
             if (!fabricManager.isOpen()) {
                 return;
             }
-            FabricLogDO fabricLogDO = new FabricLogDO();
             String directoryPath = JobManager.PROJECT_JOB_LOGS;
             String fileName = getFileName(job, directoryPath);
             List<String> filePaths = FileUtils.traverseDirectories(new File(directoryPath + File.separator + fileName + File.separator + "secretflow"), ".log", FileUtils.FILE_PATH);
@@ -181,23 +237,20 @@ public class JobManager extends AbstractJobManager {
                 LOGGER.warn("job log upload error,{} task log path not exit", job.getId());
                 return;
             }
-            //get File
-            try {
-                //start truncate log
-                fabricLogDO.setLogPath(filePaths.get(0));
-                fabricLogDO.setLogHash(Sha256Utils.hash(filePaths.get(0)));
-                //upload to chain
-                if (Objects.nonNull(fabricLogDO) && StringUtils.isNotBlank(fabricLogDO.getLogHash())) {
-                    fabricManager.submitTransaction(fabricLogDO);
-                    fabricLogDO.setResult(1);
-                    fabricLogDO.setMessage("success");
+            //anchor the content of every log file of the job
+            for (String filePath : filePaths) {
+                FabricLogDO fabricLogDO = new FabricLogDO();
+                try {
+                    fabricLogDO.setLogPath(filePath);
+                    fabricLogDO.setLogHash(Sha256Utils.fileMerkleRoot(filePath));
+                } catch (Exception exception) {
+                    log.error("job log upload error, hash log {} error,{}", filePath, exception.getMessage());
+                    fabricLogOutbox.fail(fabricLogDO, exception);
+                    continue;
                 }
-            } catch (Exception exception) {
-                fabricLogDO.setResult(2);
-                fabricLogDO.setMessage(exception.getMessage().length() > 500 ? exception.getMessage().substring(0, 500) : exception.getMessage());
-                log.error("job log upload error, to fabric  error,{}", exception.getMessage());
+                //store in the outbox, uploaded to chain in the background
+                fabricLogOutbox.enqueue(fabricLogDO);
             }
-            fabricLogRepository.save(fabricLogDO);
         });
 
     }
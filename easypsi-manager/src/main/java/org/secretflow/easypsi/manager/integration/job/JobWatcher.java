@@ -0,0 +1,252 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.manager.integration.job;
+
+import io.grpc.Context;
+import io.grpc.stub.StreamObserver;
+import org.secretflow.v1alpha1.kusciaapi.Job;
+import org.secretflow.v1alpha1.kusciaapi.JobServiceGrpc;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Watch kuscia job events on a dedicated thread
+ * <p>
+ * The watch is opened with the async stub, all callbacks run on the single watch thread so events of a job are
+ * handled in order. A watch ending normally is reopened at once, a failed watch is reopened after a jittered
+ * exponential backoff. The kuscia watch api carries no resource version, so a reopened watch replays the current
+ * state of every job; the last status handled per job is remembered and replayed events which change nothing are
+ * dropped before they reach the handler.
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+public class JobWatcher {
+
+    private final static Logger LOGGER = LoggerFactory.getLogger(JobWatcher.class);
+
+    private static final long WATCH_TIMEOUT_SECONDS = 30;
+
+    private static final long MIN_BACKOFF_MILLIS = 1000;
+
+    private static final long MAX_BACKOFF_MILLIS = 60000;
+
+    private static final int MAX_REMEMBERED_JOBS = 10000;
+
+    private final JobServiceGrpc.JobServiceStub jobAsyncStub;
+
+    private final Consumer<Job.WatchJobEventResponse> handler;
+
+    private final Consumer<Boolean> connectionListener;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "kuscia-job-watch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Last handled status per job, only accessed on the watch thread
+     */
+    private final Map<String, Job.JobStatusDetail> handledStatus = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Job.JobStatusDetail> eldest) {
+            return size() > MAX_REMEMBERED_JOBS;
+        }
+    };
+
+    private volatile Context.CancellableContext watchContext;
+
+    private volatile boolean running;
+
+    private volatile boolean connected;
+
+    private volatile int consecutiveFailures;
+
+    private volatile long lastEventMillis;
+
+    private volatile String lastError;
+
+    public JobWatcher(JobServiceGrpc.JobServiceStub jobAsyncStub, Consumer<Job.WatchJobEventResponse> handler) {
+        this(jobAsyncStub, handler, connected -> {
+        });
+    }
+
+    /**
+     * @param jobAsyncStub       job async stub
+     * @param handler            handler of job events
+     * @param connectionListener told on the watch thread whether kuscia answered, on every event and every failure
+     */
+    public JobWatcher(JobServiceGrpc.JobServiceStub jobAsyncStub, Consumer<Job.WatchJobEventResponse> handler,
+                      Consumer<Boolean> connectionListener) {
+        this.jobAsyncStub = jobAsyncStub;
+        this.handler = handler;
+        this.connectionListener = connectionListener;
+    }
+
+    /**
+     * Start watching, returns at once
+     */
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        executor.execute(this::watch);
+    }
+
+    /**
+     * Stop watching and release the watch thread
+     */
+    public void stop() {
+        running = false;
+        Context.CancellableContext context = watchContext;
+        if (context != null) {
+            context.cancel(null);
+        }
+        executor.shutdownNow();
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public boolean isConnected() {
+        return connected;
+    }
+
+    public int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    public long getLastEventMillis() {
+        return lastEventMillis;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    private void watch() {
+        if (!running) {
+            return;
+        }
+        Context.CancellableContext previous = watchContext;
+        if (previous != null) {
+            previous.cancel(null);
+        }
+        Context.CancellableContext context = Context.current().withCancellation();
+        watchContext = context;
+        Job.WatchJobRequest request = Job.WatchJobRequest.newBuilder().setTimeoutSeconds(WATCH_TIMEOUT_SECONDS).build();
+        context.run(() -> jobAsyncStub.withExecutor(executor).watchJob(request, new StreamObserver<>() {
+            @Override
+            public void onNext(Job.WatchJobEventResponse event) {
+                connected = true;
+                consecutiveFailures = 0;
+                lastEventMillis = System.currentTimeMillis();
+                notifyConnection(true);
+                dispatch(event);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                connected = false;
+                lastError = t.getMessage();
+                notifyConnection(false);
+                int failures = ++consecutiveFailures;
+                long delay = backoffMillis(failures);
+                LOGGER.error("watch kuscia job error: {}, retry {} in {} ms", t.getMessage(), failures, delay);
+                reconnect(delay);
+            }
+
+            @Override
+            public void onCompleted() {
+                connected = false;
+                reconnect(0);
+            }
+        }));
+        LOGGER.info("starter jobEvent ... ");
+    }
+
+    private void dispatch(Job.WatchJobEventResponse event) {
+        switch (event.getType()) {
+            case ADDED:
+            case MODIFIED:
+                String jobId = event.getObject().getJobId();
+                Job.JobStatusDetail status = event.getObject().getStatus();
+                if (status.equals(handledStatus.get(jobId))) {
+                    return;
+                }
+                if (handle(event)) {
+                    handledStatus.put(jobId, status);
+                }
+                return;
+            case DELETED:
+                handledStatus.remove(event.getObject().getJobId());
+                handle(event);
+                return;
+            default:
+                // heartbeat, error and unrecognized events carry no job state
+        }
+    }
+
+    private boolean handle(Job.WatchJobEventResponse event) {
+        try {
+            handler.accept(event);
+            return true;
+        } catch (Exception e) {
+            LOGGER.error("handle kuscia job event error, jobId={}: {}", event.getObject().getJobId(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void notifyConnection(boolean connected) {
+        try {
+            connectionListener.accept(connected);
+        } catch (Exception e) {
+            LOGGER.warn("notify kuscia watch connection error: {}", e.getMessage());
+        }
+    }
+
+    private void reconnect(long delayMillis) {
+        if (!running) {
+            return;
+        }
+        try {
+            executor.schedule(this::watch, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            LOGGER.warn("watch kuscia job is stopped: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Exponential backoff with equal jitter, so that restarted nodes do not reconnect in lock step
+     */
+    static long backoffMillis(int failures) {
+        long ceiling = MIN_BACKOFF_MILLIS << Math.min(failures - 1, 16);
+        ceiling = Math.min(ceiling, MAX_BACKOFF_MILLIS);
+        return ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.manager.integration.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Data table data transfer object, an entry of the data table index
+ *
+ * @author agent
+ * @date 2026/10/17
+ */
+@Builder
+@Getter
+public class DataTableDTO {
+
+    /**
+     * Data table file name
+     */
+    private String name;
+
+    /**
+     * File size in bytes
+     */
+    private long size;
+
+    /**
+     * File last modified time in milliseconds
+     */
+    private long modified;
+
+    /**
+     * Header line, null if the file is empty or unreadable
+     */
+    private String header;
+}
@@ -23,6 +23,8 @@ import org.secretflow.easypsi.manager.integration.model.UpdateNodeParam;
 import org.secretflow.easypsi.persistence.entity.NodeDO;
 import org.secretflow.v1alpha1.kusciaapi.Domain;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * @author xiaonan
  * @date 2023/05/23
@@ -60,6 +62,14 @@ public abstract class AbstractNodeManager {
      */
     public abstract NodeDTO getNode(String nodeId);
 
+    /**
+     * Get node information without waiting for the kuscia domain query
+     *
+     * @param nodeId nodeId
+     * @return future of NodeDTO
+     */
+    public abstract CompletableFuture<NodeDTO> getNodeAsync(String nodeId);
+
     /**
      * Get node cert
      *
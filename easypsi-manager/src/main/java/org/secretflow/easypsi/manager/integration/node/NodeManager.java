@@ -42,6 +42,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 
 /**
@@ -165,6 +166,26 @@ public class NodeManager extends AbstractNodeManager {
         } catch (Exception e) {
             log.error("kuscia connect error: {}", e.getMessage());
         }
+        return toNodeDTO(nodeDO, response);
+    }
+
+    @Override
+    public CompletableFuture<NodeDTO> getNodeAsync(String nodeId) {
+        NodeDO nodeDO = nodeRepository.findByNodeId(nodeId);
+        if (ObjectUtils.isEmpty(nodeDO)) {
+            LOGGER.error("Cannot find node by nodeId {}.", nodeId);
+            throw EasyPsiException.of(NodeErrorCode.NODE_NOT_EXIST_ERROR);
+        }
+        Domain.QueryDomainRequest request = Domain.QueryDomainRequest.newBuilder().setDomainId(nodeId).build();
+        return kusciaDomainRpc.queryDomainNoCheckAsync(request)
+                .exceptionally(e -> {
+                    log.error("kuscia connect error: {}", e.getMessage());
+                    return null;
+                })
+                .thenApply(response -> toNodeDTO(nodeDO, response));
+    }
+
+    private NodeDTO toNodeDTO(NodeDO nodeDO, Domain.QueryDomainResponse response) {
         NodeDTO nodeDTO = NodeDTO.fromDo(nodeDO);
         nodeDTO.setNodeStatus(getNodeStatus(response) ? DomainConstants.DomainStatusEnum.NotReady.name() : DomainConstants.DomainStatusEnum.Ready.name());
         return nodeDTO;
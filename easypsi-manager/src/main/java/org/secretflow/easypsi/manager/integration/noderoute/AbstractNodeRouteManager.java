@@ -21,6 +21,8 @@ import org.secretflow.easypsi.manager.integration.model.UpdateNodeRouteParam;
 import org.secretflow.easypsi.persistence.entity.NodeDO;
 import org.secretflow.v1alpha1.kusciaapi.DomainRoute;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * @author yutu
  * @date 2023/08/07
@@ -37,6 +39,15 @@ public abstract class AbstractNodeRouteManager {
 
     public abstract DomainRoute.RouteStatus getRouteStatus(String srcNodeId, String dstNodeId);
 
+    /**
+     * Query the status of one route direction without blocking, so many routes are queried at once
+     *
+     * @param srcNodeId source node id
+     * @param dstNodeId destination node id
+     * @return future of route status, null when kuscia reports an error
+     */
+    public abstract CompletableFuture<DomainRoute.RouteStatus> getRouteStatusAsync(String srcNodeId, String dstNodeId);
+
     public abstract boolean testAddress(String address);
 
     public abstract void checkRouteNotExist(String srcNodeId, String dstNodeId);
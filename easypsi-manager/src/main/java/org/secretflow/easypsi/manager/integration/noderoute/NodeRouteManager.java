@@ -25,12 +25,15 @@ import org.secretflow.easypsi.common.errorcode.NodeRouteErrorCode;
 import org.secretflow.easypsi.common.exception.EasyPsiException;
 import org.secretflow.easypsi.manager.integration.model.CreateNodeRouteParam;
 import org.secretflow.easypsi.manager.integration.model.UpdateNodeRouteParam;
+import org.secretflow.easypsi.manager.kuscia.grpc.GrpcFutures;
+import org.secretflow.easypsi.manager.properties.KusciaAPIProperties;
 import org.secretflow.easypsi.persistence.entity.NodeDO;
 import org.secretflow.easypsi.persistence.entity.NodeRouteDO;
 import org.secretflow.easypsi.persistence.repository.NodeRepository;
 import org.secretflow.easypsi.persistence.repository.NodeRouteRepository;
 import org.secretflow.v1alpha1.kusciaapi.DomainRoute;
 import org.secretflow.v1alpha1.kusciaapi.DomainRouteServiceGrpc;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,6 +41,8 @@ import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author yutu
@@ -54,6 +59,12 @@ public class NodeRouteManager extends AbstractNodeRouteManager {
 
     private final DomainRouteServiceGrpc.DomainRouteServiceBlockingStub routeServiceBlockingStub;
 
+    @Autowired
+    private DomainRouteServiceGrpc.DomainRouteServiceFutureStub routeServiceFutureStub;
+
+    @Autowired
+    private KusciaAPIProperties kusciaAPIProperties;
+
     @Override
     @Transactional(rollbackFor = Exception.class)
     public Long createNodeRoute(CreateNodeRouteParam param, boolean check) {
@@ -166,6 +177,19 @@ public class NodeRouteManager extends AbstractNodeRouteManager {
         return status;
     }
 
+    @Override
+    public CompletableFuture<DomainRoute.RouteStatus> getRouteStatusAsync(String srcNodeId, String dstNodeId) {
+        DomainRoute.QueryDomainRouteRequest queryDomainRouteRequest =
+                DomainRoute.QueryDomainRouteRequest.newBuilder().setSource(srcNodeId).setDestination(dstNodeId).build();
+        return GrpcFutures.toCompletableFuture(routeServiceFutureStub
+                        .withDeadlineAfter(kusciaAPIProperties.getQueryTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                        .queryDomainRoute(queryDomainRouteRequest))
+                .thenApply(response -> {
+                    log.info("DomainRoute.RouteStatus response {}", response);
+                    return response.getStatus().getCode() == 0 ? response.getData().getStatus() : null;
+                });
+    }
+
     @Override
     public boolean testAddress(String address) {
         String[] split = address.split(":");
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.manager.kuscia.grpc;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Kuscia channels shared by every stub
+ * <p>
+ * Each channel holds one http2 connection, calls are spread over the channels round robin so that many
+ * concurrent queries are not bounded by the stream limit of a single connection.
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+public class KusciaChannelPool extends Channel {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(KusciaChannelPool.class);
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final List<ManagedChannel> channels;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    public KusciaChannelPool(List<ManagedChannel> channels) {
+        if (channels.isEmpty()) {
+            throw new IllegalArgumentException("kuscia channel pool needs at least one channel");
+        }
+        this.channels = List.copyOf(channels);
+    }
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(MethodDescriptor<ReqT, RespT> methodDescriptor, CallOptions callOptions) {
+        return channels.get(Math.floorMod(next.getAndIncrement(), channels.size())).newCall(methodDescriptor, callOptions);
+    }
+
+    @Override
+    public String authority() {
+        return channels.get(0).authority();
+    }
+
+    /**
+     * Shut down every channel, calls still running are cancelled after a short grace period
+     */
+    public void shutdown() {
+        channels.forEach(ManagedChannel::shutdown);
+        for (ManagedChannel channel : channels) {
+            try {
+                if (!channel.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    channel.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                channel.shutdownNow();
+            }
+        }
+        LOGGER.info("kuscia channel pool shut down");
+    }
+}
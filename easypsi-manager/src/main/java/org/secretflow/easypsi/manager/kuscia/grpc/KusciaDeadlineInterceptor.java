@@ -0,0 +1,51 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.manager.kuscia.grpc;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.MethodDescriptor;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Give unary kuscia calls without a deadline the default one, so no call waits forever
+ * <p>
+ * Streaming calls such as the job watch are left alone, they bound themselves.
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+public class KusciaDeadlineInterceptor implements ClientInterceptor {
+
+    private final long timeoutMillis;
+
+    public KusciaDeadlineInterceptor(Duration timeout) {
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+        if (callOptions.getDeadline() == null && method.getType() == MethodDescriptor.MethodType.UNARY) {
+            callOptions = callOptions.withDeadlineAfter(timeoutMillis, TimeUnit.MILLISECONDS);
+        }
+        return next.newCall(method, callOptions);
+    }
+}
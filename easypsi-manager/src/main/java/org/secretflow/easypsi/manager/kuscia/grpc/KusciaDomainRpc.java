@@ -18,6 +18,8 @@ package org.secretflow.easypsi.manager.kuscia.grpc;
 
 import org.secretflow.v1alpha1.kusciaapi.Domain;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * @author yutu
  * @date 2023/08/09
@@ -27,5 +29,13 @@ public interface KusciaDomainRpc extends KusciaRpc {
 
     Domain.QueryDomainResponse queryDomainNoCheck(Domain.QueryDomainRequest request);
 
+    /**
+     * Query domain without blocking, the call fails after the query timeout
+     *
+     * @param request query domain request
+     * @return future of query domain response
+     */
+    CompletableFuture<Domain.QueryDomainResponse> queryDomainNoCheckAsync(Domain.QueryDomainRequest request);
+
     Domain.DeleteDomainResponse deleteDomain(Domain.DeleteDomainRequest request);
 }
\ No newline at end of file
@@ -16,7 +16,9 @@
 
 package org.secretflow.easypsi.manager.kuscia.grpc.impl;
 
+import org.secretflow.easypsi.manager.kuscia.grpc.GrpcFutures;
 import org.secretflow.easypsi.manager.kuscia.grpc.KusciaDomainRpc;
+import org.secretflow.easypsi.manager.properties.KusciaAPIProperties;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +26,9 @@ import org.secretflow.v1alpha1.kusciaapi.Domain;
 import org.secretflow.v1alpha1.kusciaapi.DomainServiceGrpc;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 /**
  * @author yutu
  * @date 2023/08/09
@@ -35,6 +40,10 @@ public class KusciaDomainRpcImpl implements KusciaDomainRpc {
 
     private final DomainServiceGrpc.DomainServiceBlockingStub domainServiceBlockingStub;
 
+    private final DomainServiceGrpc.DomainServiceFutureStub domainServiceFutureStub;
+
+    private final KusciaAPIProperties kusciaAPIProperties;
+
     @Override
     public Domain.CreateDomainResponse createDomain(Domain.CreateDomainRequest request) {
         log.info("DomainServiceGrpc createDomain request{}", request);
@@ -52,6 +61,14 @@ public class KusciaDomainRpcImpl implements KusciaDomainRpc {
         return response;
     }
 
+    @Override
+    public CompletableFuture<Domain.QueryDomainResponse> queryDomainNoCheckAsync(Domain.QueryDomainRequest request) {
+        log.info("DomainServiceGrpc queryDomain async request{}", request);
+        return GrpcFutures.toCompletableFuture(domainServiceFutureStub
+                .withDeadlineAfter(kusciaAPIProperties.getQueryTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .queryDomain(request));
+    }
+
 
     @Override
     public Domain.DeleteDomainResponse deleteDomain(Domain.DeleteDomainRequest request) {
@@ -83,4 +83,24 @@ public class FabricAPIProperties {
      * owner
      */
     private String owner;
+
+    /**
+     * Most transactions endorsed and submitted in one batch
+     */
+    private int batchSize = 32;
+
+    /**
+     * Time a batch waits for more transactions after the first one arrived
+     */
+    private long batchLingerMillis = 50;
+
+    /**
+     * Most transactions waiting for a batch, further submissions fail
+     */
+    private int queueCapacity = 1024;
+
+    /**
+     * Threads waiting for commit statuses of submitted batches
+     */
+    private int commitStatusThreads = 2;
 }
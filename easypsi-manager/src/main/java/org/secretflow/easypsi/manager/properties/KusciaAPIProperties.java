@@ -20,6 +20,8 @@ import lombok.Data;
 import org.secretflow.v1alpha1.factory.TlsConfig;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 /**
  * ApiLite channel properties
  *
@@ -45,4 +47,28 @@ public class KusciaAPIProperties {
      * ApiLite tls config
      */
     private TlsConfig tls = new TlsConfig();
+    /**
+     * ApiLite deadline of async status queries
+     */
+    private Duration queryTimeout = Duration.ofSeconds(5);
+    /**
+     * ApiLite deadline of other unary calls without their own deadline
+     */
+    private Duration callTimeout = Duration.ofSeconds(30);
+    /**
+     * ApiLite channels shared by every stub, calls are spread over them round robin
+     */
+    private int channelPoolSize = 2;
+    /**
+     * ApiLite keepalive ping interval, kuscia rejects pings more often than every 5 minutes by default
+     */
+    private Duration keepAliveTime = Duration.ofMinutes(5);
+    /**
+     * ApiLite keepalive ping timeout after which the connection is closed
+     */
+    private Duration keepAliveTimeout = Duration.ofSeconds(20);
+    /**
+     * ApiLite idle time after which a channel without calls releases its connection
+     */
+    private Duration idleTimeout = Duration.ofMinutes(30);
 }
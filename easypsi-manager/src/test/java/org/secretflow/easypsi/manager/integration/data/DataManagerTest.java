@@ -25,6 +25,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
  * Data Manager Test
@@ -46,9 +49,18 @@ public class DataManagerTest {
 
 
     @Test
-    public void countLinesByCommandTest() throws IOException {
+    public void countLinesByCommandTest() throws IOException, ExecutionException, InterruptedException {
         Path path = Files.writeString(tempDir.resolve("test.txt"), FILE_CONTENT);
-        dataManager.countLinesByCommand(path.toFile().getParentFile().getPath(), path.getFileName().toString());
+        assertEquals("1", dataManager.countLinesByCommand(path.toString(), path.getFileName().toString()).get());
+    }
+
+    @Test
+    public void countLinesAcrossChunksTest() throws IOException {
+        Path path = Files.writeString(tempDir.resolve("chunks.csv"), "id,name\n1,a\n2,b\n3,c\n\n4,d");
+        assertEquals(6, dataManager.countLines(path, 3));
+        assertEquals(6, dataManager.countLines(path, 1024));
+        Path empty = Files.writeString(tempDir.resolve("empty.csv"), "");
+        assertEquals(0, dataManager.countLines(empty, 3));
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.manager.integration.data;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Data Table Index Test
+ *
+ * @author agent
+ * @date 2026/10/17
+ */
+public class DataTableIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void rescanTest() throws IOException {
+        Files.writeString(tempDir.resolve("alice.csv"), "id,age\n1,2\n");
+        Files.writeString(tempDir.resolve("readme.txt"), "ignored");
+        DataTableIndex index = new DataTableIndex(tempDir);
+        index.rescan();
+        assertTrue(index.isAvailable());
+        assertEquals(1, index.listTableNames().size());
+        assertEquals("id,age", index.getTable("alice.csv").get().getHeader());
+        assertFalse(index.contains("readme.txt"));
+
+        Files.delete(tempDir.resolve("alice.csv"));
+        Files.writeString(tempDir.resolve("bob.csv"), "id");
+        index.rescan();
+        assertFalse(index.contains("alice.csv"));
+        assertTrue(index.contains("bob.csv"));
+    }
+
+    @Test
+    public void missedTableTest() throws IOException {
+        DataTableIndex index = new DataTableIndex(tempDir);
+        index.rescan();
+        assertTrue(index.listTableNames().isEmpty());
+
+        // no watch event arrives, the lookup goes to disk and indexes the table
+        Files.writeString(tempDir.resolve("alice.csv"), "id,age\n");
+        assertEquals("id,age", index.getTable("alice.csv").get().getHeader());
+        assertEquals(1, index.listTableNames().size());
+        assertFalse(index.contains("bob.csv"));
+
+        Files.writeString(tempDir.resolve("secret.csv"), "id");
+        assertFalse(index.contains("../" + tempDir.getFileName() + "/secret.csv"));
+        assertFalse(index.contains("readme.txt"));
+    }
+
+    @Test
+    public void staleTableTest() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("alice.csv"), "id,age\n");
+        DataTableIndex index = new DataTableIndex(tempDir);
+        index.rescan();
+        assertEquals("id,age", index.getTable("alice.csv").get().getHeader());
+
+        // no watch event arrives, the lookup sees the file changed and reloads it
+        Files.writeString(file, "id,name,age\n1,a,2\n");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 1000));
+        assertEquals("id,name,age", index.getTable("alice.csv").get().getHeader());
+        assertEquals(Files.size(file), index.getTable("alice.csv").get().getSize());
+
+        Files.delete(file);
+        assertTrue(index.getTable("alice.csv").isEmpty());
+        assertTrue(index.listTableNames().isEmpty());
+    }
+
+    @Test
+    public void missingDirectoryTest() {
+        DataTableIndex index = new DataTableIndex(tempDir.resolve("missing"));
+        index.rescan();
+        assertFalse(index.isAvailable());
+        assertNull(index.listTableNames());
+        assertTrue(index.getTable("alice.csv").isEmpty());
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.manager.integration.fabric;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.secretflow.easypsi.persistence.entity.FabricLogDO;
+import org.secretflow.easypsi.persistence.repository.FabricLogRepository;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * @author agent
+ * @date 2026/10/18
+ */
+public class FabricLogOutboxTest {
+
+    private FabricManager fabricManager;
+
+    private FabricLogRepository fabricLogRepository;
+
+    private FabricLogOutbox fabricLogOutbox;
+
+    @BeforeEach
+    public void setUp() {
+        fabricManager = Mockito.mock(FabricManager.class);
+        fabricLogRepository = Mockito.mock(FabricLogRepository.class);
+        fabricLogOutbox = new FabricLogOutbox(fabricManager, fabricLogRepository);
+        ReflectionTestUtils.setField(fabricLogOutbox, "concurrency", 4);
+        ReflectionTestUtils.setField(fabricLogOutbox, "maxAttempts", 2);
+        ReflectionTestUtils.setField(fabricLogOutbox, "retryBaseMillis", 1000L);
+        ReflectionTestUtils.setField(fabricLogOutbox, "retryMaxMillis", 60000L);
+    }
+
+    @Test
+    public void enqueueTest() {
+        FabricLogDO fabricLogDO = FabricLogDO.builder().logHash("hash").logPath("path").build();
+        fabricLogOutbox.enqueue(fabricLogDO);
+
+        Mockito.verify(fabricManager).prepareTransaction(fabricLogDO);
+        Mockito.verify(fabricLogRepository).save(fabricLogDO);
+        Assertions.assertEquals(FabricLogDO.RESULT_PENDING, fabricLogDO.getResult());
+        Mockito.verify(fabricManager, Mockito.never()).submitTransactionAsync(Mockito.any());
+    }
+
+    @Test
+    public void failTest() {
+        FabricLogDO fabricLogDO = FabricLogDO.builder().logPath("path").build();
+        fabricLogOutbox.fail(fabricLogDO, new IllegalStateException("hash error"));
+
+        Mockito.verify(fabricManager).prepareTransaction(fabricLogDO);
+        Mockito.verify(fabricLogRepository).save(fabricLogDO);
+        Assertions.assertEquals(FabricLogDO.RESULT_FAILED, fabricLogDO.getResult());
+        Assertions.assertEquals("hash error", fabricLogDO.getMessage());
+        Assertions.assertEquals("", fabricLogDO.getLogHash());
+    }
+
+    @Test
+    public void drainSameHashTest() {
+        // two files with the same content are separate rows and are both uploaded
+        FabricLogDO first = pending();
+        FabricLogDO second = FabricLogDO.builder().logHash("hash").assetId("hash-2").logPath("other")
+                .result(FabricLogDO.RESULT_PENDING).retryCount(0).message("pending").build();
+        Mockito.when(fabricLogRepository.findPendingDue(Mockito.any(), Mockito.any())).thenReturn(List.of(first, second));
+        Mockito.when(fabricManager.submitTransactionAsync(Mockito.any())).thenReturn(new CompletableFuture<>());
+
+        fabricLogOutbox.drain();
+        Mockito.verify(fabricManager).submitTransactionAsync(first);
+        Mockito.verify(fabricManager).submitTransactionAsync(second);
+    }
+
+    @Test
+    public void drainSuccessTest() {
+        FabricLogDO fabricLogDO = pending();
+        Mockito.when(fabricLogRepository.findPendingDue(Mockito.any(), Mockito.any())).thenReturn(List.of(fabricLogDO));
+        Mockito.when(fabricManager.submitTransactionAsync(fabricLogDO)).thenReturn(CompletableFuture.completedFuture(null));
+
+        fabricLogOutbox.drain();
+        Assertions.assertEquals(FabricLogDO.RESULT_SUCCESS, fabricLogDO.getResult());
+        Mockito.verify(fabricLogRepository).save(fabricLogDO);
+    }
+
+    @Test
+    public void drainRetryTest() throws Exception {
+        FabricLogDO fabricLogDO = pending();
+        Mockito.when(fabricLogRepository.findPendingDue(Mockito.any(), Mockito.any())).thenReturn(List.of(fabricLogDO));
+        Mockito.when(fabricManager.submitTransactionAsync(fabricLogDO))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("peer unavailable")));
+        Mockito.when(fabricManager.evaluateTransactionByAssetId("hash-1")).thenThrow(new IllegalStateException("not found"));
+
+        fabricLogOutbox.drain();
+        Assertions.assertEquals(FabricLogDO.RESULT_PENDING, fabricLogDO.getResult());
+        Assertions.assertEquals(1, fabricLogDO.getRetryCount());
+        Assertions.assertNotNull(fabricLogDO.getNextRetryTime());
+        Assertions.assertEquals("peer unavailable", fabricLogDO.getMessage());
+
+        fabricLogOutbox.drain();
+        Assertions.assertEquals(FabricLogDO.RESULT_FAILED, fabricLogDO.getResult());
+        Assertions.assertEquals(2, fabricLogDO.getRetryCount());
+    }
+
+    @Test
+    public void drainAlreadyOnChainTest() throws Exception {
+        FabricLogDO fabricLogDO = pending();
+        fabricLogDO.setRetryCount(1);
+        Mockito.when(fabricLogRepository.findPendingDue(Mockito.any(), Mockito.any())).thenReturn(List.of(fabricLogDO));
+        Mockito.when(fabricManager.evaluateTransactionByAssetId("hash-1")).thenReturn("{}");
+
+        fabricLogOutbox.drain();
+        Assertions.assertEquals(FabricLogDO.RESULT_SUCCESS, fabricLogDO.getResult());
+        Mockito.verify(fabricManager, Mockito.never()).submitTransactionAsync(Mockito.any());
+    }
+
+    private FabricLogDO pending() {
+        return FabricLogDO.builder().logHash("hash").assetId("hash-1").logPath("path")
+                .result(FabricLogDO.RESULT_PENDING).retryCount(0).message("pending").build();
+    }
+}
@@ -16,9 +16,19 @@
 
 package org.secretflow.easypsi.manager.integration.fabric;
 
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+import org.hyperledger.fabric.client.*;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 import org.secretflow.easypsi.manager.properties.FabricAPIProperties;
+import org.secretflow.easypsi.persistence.entity.FabricLogDO;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Constructor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * @author chenmingliang
@@ -34,4 +44,82 @@ public class FabricManagerTest {
 
         Assertions.assertThrows(IllegalStateException.class,()->fabricManager.validateFile());
     }
+
+    @Test
+    public void testPrepareTransactionAssetId() {
+        FabricManager fabricManager = new FabricManager(new FabricAPIProperties());
+        FabricLogDO first = FabricLogDO.builder().logHash("hash").logPath("path1").build();
+        FabricLogDO second = FabricLogDO.builder().logHash("hash").logPath("path2").build();
+        fabricManager.prepareTransaction(first);
+        fabricManager.prepareTransaction(second);
+        Assertions.assertTrue(first.getAssetId().startsWith("hash-"));
+        Assertions.assertNotEquals(first.getAssetId(), second.getAssetId());
+
+        // a retried log keeps its asset id
+        String assetId = first.getAssetId();
+        fabricManager.prepareTransaction(first);
+        Assertions.assertEquals(assetId, first.getAssetId());
+    }
+
+    @Test
+    public void testSubmitTransactionAsync() throws Exception {
+        FabricAPIProperties fabricAPIProperties = new FabricAPIProperties();
+        fabricAPIProperties.setIsOpen(true);
+        fabricAPIProperties.setOwner("alice");
+        FabricManager fabricManager = new FabricManager(fabricAPIProperties);
+        Contract contract = mockContract(true);
+        ReflectionTestUtils.setField(fabricManager, "connection", newConnection(contract));
+
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[3];
+        for (int i = 0; i < futures.length; i++) {
+            FabricLogDO fabricLogDO = new FabricLogDO();
+            fabricLogDO.setLogHash("hash" + i);
+            fabricLogDO.setLogPath("path" + i);
+            futures[i] = fabricManager.submitTransactionAsync(fabricLogDO);
+        }
+        CompletableFuture.allOf(futures).join();
+        Mockito.verify(contract, Mockito.times(3)).newProposal("CreateAsset");
+        // the connection is reused rather than rebuilt for every transaction
+        Assertions.assertNotNull(fabricManager.getContract());
+        fabricManager.close();
+    }
+
+    @Test
+    public void testSubmitTransactionAsyncCommitFailed() throws Exception {
+        FabricAPIProperties fabricAPIProperties = new FabricAPIProperties();
+        fabricAPIProperties.setIsOpen(true);
+        FabricManager fabricManager = new FabricManager(fabricAPIProperties);
+        ReflectionTestUtils.setField(fabricManager, "connection", newConnection(mockContract(false)));
+
+        CompletableFuture<Void> future = fabricManager.submitTransactionAsync(new FabricLogDO());
+        Assertions.assertThrows(CompletionException.class, future::join);
+        fabricManager.close();
+        Assertions.assertTrue(fabricManager.submitTransactionAsync(new FabricLogDO()).isCompletedExceptionally());
+    }
+
+    private Contract mockContract(boolean successful) throws Exception {
+        Contract contract = Mockito.mock(Contract.class);
+        Proposal.Builder builder = Mockito.mock(Proposal.Builder.class);
+        Proposal proposal = Mockito.mock(Proposal.class);
+        Transaction transaction = Mockito.mock(Transaction.class);
+        SubmittedTransaction submitted = Mockito.mock(SubmittedTransaction.class);
+        Status status = Mockito.mock(Status.class);
+        Mockito.when(contract.newProposal(Mockito.anyString())).thenReturn(builder);
+        Mockito.when(builder.addArguments(Mockito.any(String[].class))).thenReturn(builder);
+        Mockito.when(builder.build()).thenReturn(proposal);
+        Mockito.when(proposal.endorse()).thenReturn(transaction);
+        Mockito.when(transaction.submitAsync()).thenReturn(submitted);
+        Mockito.when(submitted.getStatus()).thenReturn(status);
+        Mockito.when(status.isSuccessful()).thenReturn(successful);
+        return contract;
+    }
+
+    private Object newConnection(Contract contract) throws Exception {
+        ManagedChannel channel = Mockito.mock(ManagedChannel.class);
+        Mockito.when(channel.getState(false)).thenReturn(ConnectivityState.READY);
+        Class<?> connectionClass = Class.forName(FabricManager.class.getName() + "$FabricConnection");
+        Constructor<?> constructor = connectionClass.getDeclaredConstructor(ManagedChannel.class, Gateway.class, Contract.class);
+        constructor.setAccessible(true);
+        return constructor.newInstance(channel, Mockito.mock(Gateway.class), contract);
+    }
 }
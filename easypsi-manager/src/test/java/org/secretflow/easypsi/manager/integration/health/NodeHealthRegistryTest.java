@@ -0,0 +1,151 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.manager.integration.health;
+
+import org.secretflow.easypsi.manager.integration.node.AbstractNodeManager;
+import org.secretflow.easypsi.manager.integration.noderoute.AbstractNodeRouteManager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.secretflow.v1alpha1.kusciaapi.Domain;
+import org.secretflow.v1alpha1.kusciaapi.DomainRoute;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Node health registry test
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+public class NodeHealthRegistryTest {
+
+    private AbstractNodeManager nodeManager;
+
+    private AbstractNodeRouteManager nodeRouteManager;
+
+    private NodeHealthRegistry registry;
+
+    @BeforeEach
+    public void setUp() {
+        nodeManager = Mockito.mock(AbstractNodeManager.class);
+        nodeRouteManager = Mockito.mock(AbstractNodeRouteManager.class);
+        registry = new NodeHealthRegistry(nodeManager, nodeRouteManager);
+        ReflectionTestUtils.setField(registry, "ttlMillis", 60000L);
+        ReflectionTestUtils.setField(registry, "failureTtlMillis", 60000L);
+        ReflectionTestUtils.setField(registry, "maxStaleMillis", 120000L);
+        ReflectionTestUtils.setField(registry, "idleMillis", 600000L);
+        ReflectionTestUtils.setField(registry, "checkTimeoutMillis", 5000L);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        registry.close();
+    }
+
+    @Test
+    public void domainCheckedOnceTest() {
+        Mockito.when(nodeManager.getNodeNotCheck("alice")).thenReturn(Domain.QueryDomainResponse.getDefaultInstance());
+        Assertions.assertTrue(registry.isDomainReachable("alice"));
+        Assertions.assertTrue(registry.isDomainReachable("alice"));
+        Mockito.verify(nodeManager, Mockito.times(1)).getNodeNotCheck("alice");
+    }
+
+    @Test
+    public void domainUnreachableTest() {
+        Mockito.when(nodeManager.getNodeNotCheck("alice")).thenThrow(new RuntimeException("UNAVAILABLE"));
+        Assertions.assertFalse(registry.isDomainReachable("alice"));
+        registry.pushDomainHealth("alice", true);
+        Assertions.assertTrue(registry.isDomainReachable("alice"));
+    }
+
+    @Test
+    public void staleEntryTest() {
+        ReflectionTestUtils.setField(registry, "ttlMillis", 0L);
+        ReflectionTestUtils.setField(registry, "failureTtlMillis", 0L);
+        // a stale healthy entry is served while it is checked again
+        registry.pushDomainHealth("alice", true);
+        Mockito.when(nodeManager.getNodeNotCheck("alice")).thenThrow(new RuntimeException("UNAVAILABLE"));
+        Assertions.assertTrue(registry.isDomainReachable("alice"));
+        // a stale unhealthy entry is not, the reader waits for the check and sees the recovery
+        registry.pushDomainHealth("bob", false);
+        Mockito.when(nodeManager.getNodeNotCheck("bob")).thenReturn(Domain.QueryDomainResponse.getDefaultInstance());
+        Assertions.assertTrue(registry.isDomainReachable("bob"));
+    }
+
+    @Test
+    public void concurrentChecksSingleFlightTest() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Mockito.when(nodeManager.getNodeNotCheck("alice")).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Domain.QueryDomainResponse.getDefaultInstance();
+        });
+        ExecutorService readers = Executors.newFixedThreadPool(4);
+        try {
+            Future<Boolean> first = readers.submit(() -> registry.isDomainReachable("alice"));
+            Assertions.assertTrue(entered.await(5, TimeUnit.SECONDS));
+            Future<Boolean> second = readers.submit(() -> registry.isDomainReachable("alice"));
+            Future<Boolean> third = readers.submit(() -> registry.isDomainReachable("alice"));
+            release.countDown();
+            Assertions.assertTrue(first.get(5, TimeUnit.SECONDS));
+            Assertions.assertTrue(second.get(5, TimeUnit.SECONDS));
+            Assertions.assertTrue(third.get(5, TimeUnit.SECONDS));
+        } finally {
+            readers.shutdownNow();
+        }
+        Mockito.verify(nodeManager, Mockito.times(1)).getNodeNotCheck("alice");
+    }
+
+    @Test
+    public void routeReadyTest() {
+        DomainRoute.RouteStatus succeeded = DomainRoute.RouteStatus.newBuilder().setStatus("Succeeded").build();
+        Mockito.when(nodeRouteManager.getRouteStatus(Mockito.anyString(), Mockito.anyString())).thenReturn(succeeded);
+        Assertions.assertTrue(registry.isRouteReady("alice", "bob"));
+        registry.pushRouteStatus("bob", "alice", DomainRoute.RouteStatus.newBuilder().setStatus("Failed").build());
+        Assertions.assertFalse(registry.isRouteReady("alice", "bob"));
+        registry.invalidateRoute("alice", "bob");
+        Assertions.assertTrue(registry.isRouteReady("alice", "bob"));
+        Mockito.verify(nodeRouteManager, Mockito.times(2)).getRouteStatus("bob", "alice");
+    }
+
+    @Test
+    public void routeReadyDeadlineTest() {
+        CountDownLatch release = new CountDownLatch(1);
+        Mockito.when(nodeRouteManager.getRouteStatus(Mockito.anyString(), Mockito.anyString())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return DomainRoute.RouteStatus.newBuilder().setStatus("Succeeded").build();
+        });
+        long start = System.nanoTime();
+        try {
+            Assertions.assertFalse(registry.isRouteReady("alice", "bob", Duration.ofMillis(100)));
+        } finally {
+            release.countDown();
+        }
+        Assertions.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(2));
+    }
+}
@@ -23,9 +23,16 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.secretflow.easypsi.common.exception.EasyPsiException;
+import org.secretflow.easypsi.persistence.entity.ProjectJobDO;
+import org.secretflow.easypsi.persistence.model.GraphJobStatus;
+import org.secretflow.easypsi.persistence.repository.ProjectJobRepository;
 import org.secretflow.v1alpha1.common.Common;
 import org.secretflow.v1alpha1.kusciaapi.Job;
 import org.secretflow.v1alpha1.kusciaapi.JobServiceGrpc;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
 
 
 /**
@@ -38,12 +45,6 @@ public class JobManagerTest {
     @Mock
     JobServiceGrpc.JobServiceBlockingStub jobStub;
 
-    @Test
-    public void startSyncTest() {
-        JobManager jobManager = new JobManager(null,jobStub);
-        jobManager.startSync();
-    }
-
     @Test
     public void createJob() {
         JobManager jobManager = new JobManager(null,jobStub);
@@ -58,4 +59,34 @@ public class JobManagerTest {
         Mockito.when(jobStub.createJob(createJobRequestA)).thenReturn(createJobResponseA);
         Assertions.assertThrows(EasyPsiException.class,()->jobManager.createJob(createJobRequestA));
     }
+
+    @Test
+    public void syncJobCoalesceTest() {
+        ProjectJobRepository projectJobRepository = Mockito.mock(ProjectJobRepository.class);
+        JobManager jobManager = new JobManager(projectJobRepository, jobStub);
+        ReflectionTestUtils.setField(jobManager, "syncBatchWindowMillis", 60000L);
+        ReflectionTestUtils.setField(jobManager, "threadPoolTaskExecutor", Mockito.mock(ThreadPoolTaskExecutor.class));
+        ProjectJobDO projectJob = ProjectJobDO.builder().upk(new ProjectJobDO.UPK("ezpsi", "job")).build();
+        Mockito.when(projectJobRepository.findByJobIds(List.of("job"))).thenReturn(List.of(projectJob));
+
+        jobManager.syncJob(buildEvent(Job.EventType.ADDED, "Running"));
+        jobManager.syncJob(buildEvent(Job.EventType.MODIFIED, "Failed"));
+        jobManager.syncJob(buildEvent(Job.EventType.HEARTBEAT, "Running"));
+        jobManager.flushJobEvents();
+
+        Mockito.verify(projectJobRepository, Mockito.times(1)).findByJobIds(List.of("job"));
+        Mockito.verify(projectJobRepository, Mockito.times(1)).saveAll(List.of(projectJob));
+        Assertions.assertEquals(GraphJobStatus.FAILED, projectJob.getStatus());
+        jobManager.shutdown();
+    }
+
+    private Job.WatchJobEventResponse buildEvent(Job.EventType type, String state) {
+        return Job.WatchJobEventResponse.newBuilder()
+                .setType(type)
+                .setObject(Job.JobStatus.newBuilder()
+                        .setJobId("job")
+                        .setStatus(Job.JobStatusDetail.newBuilder().setState(state).build())
+                        .build())
+                .build();
+    }
 }
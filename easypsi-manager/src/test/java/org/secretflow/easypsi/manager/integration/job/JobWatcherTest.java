@@ -0,0 +1,86 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.manager.integration.job;
+
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.secretflow.v1alpha1.kusciaapi.Job;
+import org.secretflow.v1alpha1.kusciaapi.JobServiceGrpc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Job Watcher Test
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+public class JobWatcherTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void dispatchTest() {
+        JobServiceGrpc.JobServiceStub jobAsyncStub = Mockito.mock(JobServiceGrpc.JobServiceStub.class);
+        Mockito.when(jobAsyncStub.withExecutor(Mockito.any(Executor.class))).thenReturn(jobAsyncStub);
+        List<Job.WatchJobEventResponse> handled = new ArrayList<>();
+        JobWatcher jobWatcher = new JobWatcher(jobAsyncStub, handled::add);
+        try {
+            jobWatcher.start();
+            ArgumentCaptor<StreamObserver<Job.WatchJobEventResponse>> observer = ArgumentCaptor.forClass(StreamObserver.class);
+            Mockito.verify(jobAsyncStub, Mockito.timeout(5000)).watchJob(Mockito.any(), observer.capture());
+
+            Job.WatchJobEventResponse running = buildEvent(Job.EventType.MODIFIED, "Running");
+            observer.getValue().onNext(running);
+            // replayed after reconnect, nothing changed
+            observer.getValue().onNext(buildEvent(Job.EventType.ADDED, "Running"));
+            observer.getValue().onNext(buildEvent(Job.EventType.HEARTBEAT, "Running"));
+            observer.getValue().onNext(buildEvent(Job.EventType.MODIFIED, "Succeeded"));
+            Assertions.assertEquals(2, handled.size());
+            Assertions.assertTrue(jobWatcher.isConnected());
+
+            observer.getValue().onError(Status.UNAVAILABLE.asRuntimeException());
+            Assertions.assertFalse(jobWatcher.isConnected());
+            Assertions.assertEquals(1, jobWatcher.getConsecutiveFailures());
+        } finally {
+            jobWatcher.stop();
+        }
+    }
+
+    @Test
+    public void backoffTest() {
+        for (int failures = 1; failures < 40; failures++) {
+            long backoff = JobWatcher.backoffMillis(failures);
+            Assertions.assertTrue(backoff >= 500 && backoff <= 60000);
+        }
+    }
+
+    private Job.WatchJobEventResponse buildEvent(Job.EventType type, String state) {
+        return Job.WatchJobEventResponse.newBuilder()
+                .setType(type)
+                .setObject(Job.JobStatus.newBuilder()
+                        .setJobId("job")
+                        .setStatus(Job.JobStatusDetail.newBuilder().setState(state).build())
+                        .build())
+                .build();
+    }
+}
@@ -16,6 +16,7 @@
 
 package org.secretflow.easypsi.manager.integration.noderoute;
 
+import com.google.common.util.concurrent.Futures;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,12 +24,14 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.secretflow.easypsi.common.exception.EasyPsiException;
+import org.secretflow.easypsi.manager.properties.KusciaAPIProperties;
 import org.secretflow.easypsi.persistence.entity.NodeRouteDO;
 import org.secretflow.easypsi.persistence.repository.NodeRepository;
 import org.secretflow.easypsi.persistence.repository.NodeRouteRepository;
 import org.secretflow.v1alpha1.common.Common;
 import org.secretflow.v1alpha1.kusciaapi.DomainRoute;
 import org.secretflow.v1alpha1.kusciaapi.DomainRouteServiceGrpc;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
 
@@ -81,4 +84,24 @@ public class NodeRouteManagerTest {
         Assertions.assertThrows(EasyPsiException.class,()->nodeRouteManager.checkRouteNotExist("alice","bob"));
     }
 
+    @Test
+    public void testGetRouteStatusAsync() {
+        NodeRouteManager nodeRouteManager = new NodeRouteManager(nodeRouteRepository,nodeRepository,routeServiceBlockingStub);
+        DomainRouteServiceGrpc.DomainRouteServiceFutureStub routeServiceFutureStub = Mockito.mock(DomainRouteServiceGrpc.DomainRouteServiceFutureStub.class);
+        ReflectionTestUtils.setField(nodeRouteManager, "routeServiceFutureStub", routeServiceFutureStub);
+        ReflectionTestUtils.setField(nodeRouteManager, "kusciaAPIProperties", new KusciaAPIProperties());
+        DomainRoute.QueryDomainRouteResponse response = DomainRoute.QueryDomainRouteResponse.newBuilder()
+                .setStatus(Common.Status.newBuilder().setCode(0).build())
+                .setData(DomainRoute.QueryDomainRouteResponseData.newBuilder()
+                        .setStatus(DomainRoute.RouteStatus.newBuilder().setStatus("Succeeded").build()).build())
+                .build();
+        Mockito.when(routeServiceFutureStub.withDeadlineAfter(Mockito.anyLong(), Mockito.any())).thenReturn(routeServiceFutureStub);
+        Mockito.when(routeServiceFutureStub.queryDomainRoute(Mockito.any())).thenReturn(Futures.immediateFuture(response));
+        Assertions.assertEquals("Succeeded", nodeRouteManager.getRouteStatusAsync("alice","bob").join().getStatus());
+        DomainRoute.QueryDomainRouteResponse notFound = DomainRoute.QueryDomainRouteResponse.newBuilder()
+                .setStatus(Common.Status.newBuilder().setCode(11404).build()).build();
+        Mockito.when(routeServiceFutureStub.queryDomainRoute(Mockito.any())).thenReturn(Futures.immediateFuture(notFound));
+        Assertions.assertNull(nodeRouteManager.getRouteStatusAsync("alice","bob").join());
+    }
+
 }
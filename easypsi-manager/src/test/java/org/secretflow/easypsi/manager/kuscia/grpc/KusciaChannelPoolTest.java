@@ -0,0 +1,96 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.manager.kuscia.grpc;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.secretflow.v1alpha1.kusciaapi.Job;
+import org.secretflow.v1alpha1.kusciaapi.JobServiceGrpc;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * @author agent
+ * @date 2026/10/18
+ */
+public class KusciaChannelPoolTest {
+
+    @Test
+    public void roundRobinTest() {
+        ManagedChannel first = Mockito.mock(ManagedChannel.class);
+        ManagedChannel second = Mockito.mock(ManagedChannel.class);
+        KusciaChannelPool pool = new KusciaChannelPool(List.of(first, second));
+        for (int i = 0; i < 4; i++) {
+            pool.newCall(JobServiceGrpc.getQueryJobMethod(), CallOptions.DEFAULT);
+        }
+        Mockito.verify(first, Mockito.times(2)).newCall(Mockito.any(), Mockito.any());
+        Mockito.verify(second, Mockito.times(2)).newCall(Mockito.any(), Mockito.any());
+
+        pool.shutdown();
+        Mockito.verify(first).shutdown();
+        Mockito.verify(second).shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void deadlineTest() {
+        Channel channel = Mockito.mock(Channel.class);
+        KusciaDeadlineInterceptor interceptor = new KusciaDeadlineInterceptor(Duration.ofSeconds(30));
+        ArgumentCaptor<CallOptions> options = ArgumentCaptor.forClass(CallOptions.class);
+
+        interceptor.interceptCall(JobServiceGrpc.getQueryJobMethod(), CallOptions.DEFAULT, channel);
+        interceptor.interceptCall(JobServiceGrpc.getWatchJobMethod(), CallOptions.DEFAULT, channel);
+        Mockito.verify(channel, Mockito.times(2)).newCall(Mockito.any(MethodDescriptor.class), options.capture());
+        Assertions.assertNotNull(options.getAllValues().get(0).getDeadline());
+        Assertions.assertNull(options.getAllValues().get(1).getDeadline());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void metricsTest() {
+        Channel channel = Mockito.mock(Channel.class);
+        ClientCall<Job.QueryJobRequest, Job.QueryJobResponse> call = Mockito.mock(ClientCall.class);
+        Mockito.when(channel.newCall(Mockito.eq(JobServiceGrpc.getQueryJobMethod()), Mockito.any())).thenReturn(call);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        KusciaMetricsInterceptor interceptor = new KusciaMetricsInterceptor(meterRegistry);
+
+        ClientCall<Job.QueryJobRequest, Job.QueryJobResponse> intercepted =
+                interceptor.interceptCall(JobServiceGrpc.getQueryJobMethod(), CallOptions.DEFAULT, channel);
+        intercepted.start(Mockito.mock(ClientCall.Listener.class), new Metadata());
+        ArgumentCaptor<ClientCall.Listener<Job.QueryJobResponse>> listener = ArgumentCaptor.forClass(ClientCall.Listener.class);
+        Mockito.verify(call).start(listener.capture(), Mockito.any());
+        listener.getValue().onClose(Status.DEADLINE_EXCEEDED, new Metadata());
+
+        Timer timer = meterRegistry.find("easypsi.kuscia.rpc.requests")
+                .tag("method", JobServiceGrpc.getQueryJobMethod().getFullMethodName())
+                .tag("status", "DEADLINE_EXCEEDED").timer();
+        Assertions.assertNotNull(timer);
+        Assertions.assertEquals(1, timer.count());
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.persistence.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.secretflow.easypsi.persistence.datasource.SqliteRoutingDataSource;
+import org.secretflow.easypsi.persistence.properties.SqliteProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Sqlite in WAL mode, readers no longer wait behind the writer
+ * <p>
+ * Read only transactions, which includes the query methods of repositories, get connections of a read pool.
+ * Writes stay on one connection, so they are serialized without lock contention; with synchronous NORMAL a commit
+ * only appends to the WAL file and the fsync is left to checkpoints, which groups the durable writes of many
+ * transactions into one.
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+@Configuration
+@EnableConfigurationProperties(SqliteProperties.class)
+@ConditionalOnExpression("${easypsi.sqlite.wal:false} and '${spring.datasource.url:}'.startsWith('jdbc:sqlite:')")
+public class SqliteDataSourceConfiguration {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SqliteDataSourceConfiguration.class);
+
+    private static final String JOURNAL_MODE_WAL = "WAL";
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource sqliteWriteDataSource(DataSourceProperties dataSourceProperties,
+                                                  SqliteProperties sqliteProperties) throws SQLException {
+        HikariDataSource dataSource = pool(dataSourceProperties, sqliteProperties, "sqlite-writer", 1);
+        enableWal(dataSource);
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource sqliteReadDataSource(DataSourceProperties dataSourceProperties, SqliteProperties sqliteProperties) {
+        HikariDataSource dataSource = pool(dataSourceProperties, sqliteProperties, "sqlite-reader", sqliteProperties.getReadPoolSize());
+        // a write routed here by mistake fails instead of competing with the writer
+        dataSource.setConnectionInitSql("PRAGMA query_only = 1");
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("sqliteWriteDataSource") DataSource writer,
+                                 @Qualifier("sqliteReadDataSource") DataSource reader) {
+        return new LazyConnectionDataSourceProxy(new SqliteRoutingDataSource(writer, reader));
+    }
+
+    /**
+     * Spring holds the connection of a session until the session closes, and with open-in-view the session lives
+     * for the whole web request, so a write following a read only transaction would run on the reader. Releasing
+     * the connection after each transaction routes every transaction on its own
+     */
+    @Bean
+    public HibernatePropertiesCustomizer sqliteConnectionHandlingCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    /**
+     * The journal mode is persisted in the database file, so it is switched once instead of on every new connection.
+     * Switching needs the database to itself, when another process holds it the rollback journal is kept until the
+     * next start
+     */
+    private void enableWal(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            String journalMode;
+            try (ResultSet resultSet = statement.executeQuery("PRAGMA journal_mode")) {
+                journalMode = resultSet.next() ? resultSet.getString(1) : null;
+            }
+            if (JOURNAL_MODE_WAL.equalsIgnoreCase(journalMode)) {
+                return;
+            }
+            try {
+                statement.execute("PRAGMA journal_mode = " + JOURNAL_MODE_WAL);
+                LOGGER.info("sqlite journal mode switched from {} to WAL", journalMode);
+            } catch (SQLException e) {
+                LOGGER.warn("sqlite journal mode stays {}, switch to WAL failed: {}", journalMode, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Pragmas are passed as driver properties, so every new connection gets them
+     */
+    private HikariDataSource pool(DataSourceProperties dataSourceProperties, SqliteProperties sqliteProperties,
+                                  String poolName, int size) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(poolName);
+        dataSource.setMaximumPoolSize(size);
+        dataSource.setMinimumIdle(size);
+        dataSource.setConnectionTimeout(sqliteProperties.getConnectionTimeout());
+        dataSource.addDataSourceProperty("synchronous", sqliteProperties.getSynchronous());
+        dataSource.addDataSourceProperty("cache_size", String.valueOf(sqliteProperties.getCacheSize()));
+        dataSource.addDataSourceProperty("mmap_size", String.valueOf(sqliteProperties.getMmapSize()));
+        dataSource.addDataSourceProperty("busy_timeout", String.valueOf(sqliteProperties.getBusyTimeout()));
+        return dataSource;
+    }
+}
@@ -22,6 +22,8 @@ import jakarta.persistence.Converter;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
 
 /**
  * Interconvert Sqlite between LocalDateTime and String
@@ -35,6 +37,16 @@ public class SqliteLocalDateTimeConverter implements AttributeConverter<LocalDat
     private static final DateTimeFormatter SQLITE_DATETIME_FORMATTER = DateTimeFormatter
             .ofPattern("yyyy-MM-dd HH:mm:ss");
 
+    /**
+     * Server databases return fractional seconds of timestamp columns
+     */
+    private static final DateTimeFormatter DATETIME_PARSER = new DateTimeFormatterBuilder()
+            .appendPattern("yyyy-MM-dd HH:mm:ss")
+            .optionalStart()
+            .appendFraction(ChronoField.NANO_OF_SECOND, 0, 9, true)
+            .optionalEnd()
+            .toFormatter();
+
     /**
      * Convert Sqlite LocalDateTime to String
      *
@@ -60,6 +72,6 @@ public class SqliteLocalDateTimeConverter implements AttributeConverter<LocalDat
         if (Strings.isNullOrEmpty(s)) {
             return null;
         }
-        return LocalDateTime.parse(s, SQLITE_DATETIME_FORMATTER);
+        return LocalDateTime.parse(s, DATETIME_PARSER);
     }
 }
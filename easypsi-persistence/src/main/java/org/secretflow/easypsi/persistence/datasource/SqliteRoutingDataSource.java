@@ -0,0 +1,53 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.persistence.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Route read only transactions to the read pool and everything else to the writer
+ * <p>
+ * The transaction flags are only known after the transaction began, so this is wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} which fetches the connection on the
+ * first statement. Work outside transactions, such as schema scripts, goes to the writer.
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+public class SqliteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String WRITE = "write";
+
+    private static final String READ = "read";
+
+    public SqliteRoutingDataSource(DataSource writer, DataSource reader) {
+        setTargetDataSources(Map.of(WRITE, writer, READ, reader));
+        setDefaultTargetDataSource(writer);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        return readOnly ? READ : WRITE;
+    }
+}
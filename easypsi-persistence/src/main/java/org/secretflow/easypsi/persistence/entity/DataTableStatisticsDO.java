@@ -0,0 +1,128 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.secretflow.easypsi.persistence.converter.SqliteLocalDateTimeConverter;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Data table statistics data object
+ * <p>
+ * Local tables carry the file fingerprint (path, size, modified time and inode) the statistics were computed from,
+ * the statistics are reused as long as the fingerprint still matches the file on disk.
+ * Tables of partner nodes only carry the data interval reported by the partner.
+ *
+ * @author agent
+ * @date 2026/10/17
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "data_table_statistics")
+public class DataTableStatisticsDO extends SuperBaseAggregationRoot<DataTableStatisticsDO> {
+
+    /**
+     * Data table statistics unique primary key
+     */
+    @EmbeddedId
+    private DataTableStatisticsDO.UPK upk;
+
+    /**
+     * Data table file path
+     */
+    @Column(name = "file_path", length = 1000)
+    private String filePath;
+
+    /**
+     * Data table file size in bytes
+     */
+    @Column(name = "file_size")
+    private Long fileSize;
+
+    /**
+     * Data table file last modified time in milliseconds
+     */
+    @Column(name = "file_modified")
+    private Long fileModified;
+
+    /**
+     * Data table file key, contains device and inode on unix
+     */
+    @Column(name = "file_inode", length = 128)
+    private String fileInode;
+
+    /**
+     * Exact row count, header line included
+     */
+    @Column(name = "row_count")
+    private Long rowCount;
+
+    /**
+     * Data interval level, like L1
+     */
+    @Column(name = "data_interval", length = 16)
+    private String dataInterval;
+
+    /**
+     * The time when statistics computed
+     */
+    @Column(name = "count_time")
+    @Convert(converter = SqliteLocalDateTimeConverter.class)
+    private LocalDateTime countTime;
+
+    /**
+     * Whether statistics are computed from the file with the same fingerprint
+     *
+     * @param size     file size
+     * @param modified file last modified time in milliseconds
+     * @param inode    file key
+     * @return whether the fingerprint matches
+     */
+    public boolean matchFingerprint(long size, long modified, String inode) {
+        return Objects.equals(fileSize, size) && Objects.equals(fileModified, modified) && Objects.equals(fileInode, inode);
+    }
+
+    /**
+     * Data table statistics unique primary key
+     */
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    @Embeddable
+    public static class UPK implements Serializable {
+        /**
+         * Node id
+         */
+        @Column(name = "node_id", nullable = false, length = 64)
+        private String nodeId;
+        /**
+         * Data table name
+         */
+        @Column(name = "table_name", nullable = false, length = 256)
+        private String tableName;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+
+/**
+ * Download ticket data object
+ *
+ * @author agent
+ * @date 2026/10/17
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "download_ticket")
+public class DownloadTicketDO extends SuperBaseAggregationRoot<DownloadTicketDO> {
+
+    /**
+     * Ticket hash
+     */
+    @Id
+    @Column(name = "hash", nullable = false, unique = true, length = 64)
+    private String hash;
+
+    /**
+     * Result file path
+     */
+    @Column(name = "path", length = 1000)
+    private String path;
+
+    /**
+     * Result base directory
+     */
+    @Column(name = "dir", length = 1000)
+    private String dir;
+
+    /**
+     * Result relative uri
+     */
+    @Column(name = "relative_uri", length = 1000)
+    private String relativeUri;
+
+    /**
+     * Remaining uses, null means unlimited until expired
+     */
+    @Column(name = "remaining_uses")
+    private Integer remainingUses;
+
+    /**
+     * Expiration time in milliseconds
+     */
+    @Column(name = "expire_at", nullable = false)
+    private Long expireAt;
+}
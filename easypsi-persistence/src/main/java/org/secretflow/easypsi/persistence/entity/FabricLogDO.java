@@ -17,12 +17,16 @@
 package org.secretflow.easypsi.persistence.entity;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.*;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
+import org.secretflow.easypsi.persistence.converter.SqliteLocalDateTimeConverter;
+
+import java.time.LocalDateTime;
 
 /**
  * Fabric log data object
@@ -38,10 +42,25 @@ import org.hibernate.annotations.Where;
 @ToString
 @Getter
 @Setter
-@SQLDelete(sql = "update fabric_log set is_deleted = 1 where inst_id = ?")
+@SQLDelete(sql = "update fabric_log set is_deleted = 1 where asset_id = ?")
 @Where(clause = "is_deleted = 0")
 public class FabricLogDO extends BaseAggregationRoot<FabricLogDO> {
 
+    /**
+     * Waiting in the outbox to be uploaded
+     */
+    public static final int RESULT_PENDING = 0;
+
+    /**
+     * Committed on chain
+     */
+    public static final int RESULT_SUCCESS = 1;
+
+    /**
+     * Given up after the last attempt
+     */
+    public static final int RESULT_FAILED = 2;
+
     /**
      * Log path
      */
@@ -49,12 +68,18 @@ public class FabricLogDO extends BaseAggregationRoot<FabricLogDO> {
     private String logPath;
 
     /**
-     * Log hash
+     * Merkle root of the log content, files with the same content share it
      */
     @Column(name = "log_hash", nullable = false)
-    @Id
     private String logHash;
 
+    /**
+     * Ledger asset id, the log hash made unique per upload
+     */
+    @Column(name = "asset_id", nullable = false)
+    @Id
+    private String assetId;
+
     /**
      * Channel name
      */
@@ -86,7 +111,7 @@ public class FabricLogDO extends BaseAggregationRoot<FabricLogDO> {
     private String owner;
 
     /**
-     * Owner
+     * Result, see {@link #RESULT_PENDING}, {@link #RESULT_SUCCESS} and {@link #RESULT_FAILED}
      */
     @Column(name = "result", nullable = false)
     private Integer result;
@@ -96,4 +121,17 @@ public class FabricLogDO extends BaseAggregationRoot<FabricLogDO> {
      */
     @Column(name = "message", nullable = false)
     private String message;
+
+    /**
+     * Upload attempts failed so far
+     */
+    @Column(name = "retry_count", nullable = false)
+    private Integer retryCount;
+
+    /**
+     * Earliest time of the next upload attempt
+     */
+    @Column(name = "next_retry_time")
+    @Convert(converter = SqliteLocalDateTimeConverter.class)
+    private LocalDateTime nextRetryTime;
 }
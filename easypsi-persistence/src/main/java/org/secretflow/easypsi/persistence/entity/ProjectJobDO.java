@@ -20,11 +20,16 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
+import org.secretflow.easypsi.common.util.JsonUtils;
+import org.secretflow.easypsi.persistence.converter.Boolean2IntConverter;
 import org.secretflow.easypsi.persistence.converter.SqliteLocalDateTimeConverter;
 import org.secretflow.easypsi.persistence.model.GraphJobStatus;
+import org.secretflow.easypsi.persistence.model.PsiConfigDO;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 
 /**
  * Project job data object
@@ -41,6 +46,8 @@ import java.time.LocalDateTime;
 @Table(name = "project_job")
 @SQLDelete(sql = "update project_job set is_deleted = 1 where job_id = ? and project_id = ?")
 @Where(clause = "is_deleted = 0")
+@AttributeOverride(name = "gmtModified", column = @Column(name = "gmt_modified", nullable = false, insertable = false))
+@Convert(attributeName = "gmtModified", converter = SqliteLocalDateTimeConverter.class)
 public class ProjectJobDO extends BaseAggregationRoot<ProjectJobDO> {
 
     /**
@@ -122,6 +129,62 @@ public class ProjectJobDO extends BaseAggregationRoot<ProjectJobDO> {
     @Column(name = "partner_config", nullable = true)
     private String partnerConfig;
 
+    /**
+     * Initiator data table name, copied from initiator config for the job list
+     */
+    @Column(name = "initiator_data_table_name", nullable = true)
+    private String initiatorDataTableName;
+
+    /**
+     * Initiator data table count level, copied from initiator config for the job list
+     */
+    @Column(name = "initiator_data_table_count", nullable = true)
+    private String initiatorDataTableCount;
+
+    /**
+     * Partner data table name, copied from partner config for the job list
+     */
+    @Column(name = "partner_data_table_name", nullable = true)
+    private String partnerDataTableName;
+
+    /**
+     * Partner data table count level, copied from partner config for the job list
+     */
+    @Column(name = "partner_data_table_count", nullable = true)
+    private String partnerDataTableCount;
+
+    /**
+     * Whether recovery is enabled, copied from partner config for the job list
+     */
+    @Column(name = "recovery_enabled", nullable = false, length = 1)
+    @Convert(converter = Boolean2IntConverter.class)
+    @Builder.Default
+    private Boolean recoveryEnabled = false;
+
+    /**
+     * Whether the data table is confirmed, copied from initiator config for the job list
+     */
+    @Column(name = "data_table_confirmation", nullable = false, length = 1)
+    @Convert(converter = Boolean2IntConverter.class)
+    @Builder.Default
+    private Boolean dataTableConfirmation = false;
+
+    /**
+     * Whether the initiator gets the result, by broadcast or as receiver
+     */
+    @Column(name = "initiator_result_receiver", nullable = false, length = 1)
+    @Convert(converter = Boolean2IntConverter.class)
+    @Builder.Default
+    private Boolean initiatorResultReceiver = false;
+
+    /**
+     * Whether the partner gets the result, by broadcast or as receiver
+     */
+    @Column(name = "partner_result_receiver", nullable = false, length = 1)
+    @Convert(converter = Boolean2IntConverter.class)
+    @Builder.Default
+    private Boolean partnerResultReceiver = false;
+
     /**
      * Whether the graph job status is finished
      *
@@ -147,6 +210,43 @@ public class ProjectJobDO extends BaseAggregationRoot<ProjectJobDO> {
         this.setStatus(GraphJobStatus.PAUSED);
     }
 
+    /**
+     * Set the initiator and partner config, and copy the fields shown in the job list into their own columns,
+     * so the list is queried without parsing config json
+     *
+     * @param initiator initiator psi config
+     * @param partner   partner psi config
+     */
+    public void applyPsiConfig(PsiConfigDO initiator, PsiConfigDO partner) {
+        this.setInitiatorConfig(JsonUtils.toJSONString(initiator));
+        this.setPartnerConfig(JsonUtils.toJSONString(partner));
+        this.setInitiatorDataTableName(initiator.dataTableName());
+        this.setInitiatorDataTableCount(initiator.getDataTableCount());
+        this.setPartnerDataTableName(partner.dataTableName());
+        this.setPartnerDataTableCount(partner.getDataTableCount());
+        this.setRecoveryEnabled(partner.getRecoveryConfig() != null && Boolean.TRUE.equals(partner.getRecoveryConfig().getEnabled()));
+        this.setDataTableConfirmation(Boolean.TRUE.equals(initiator.getDataTableConfirmation()));
+        this.setInitiatorResultReceiver(initiator.receivesResult());
+        this.setPartnerResultReceiver(partner.receivesResult());
+    }
+
+    /**
+     * Refresh the modified time on every update, edge job sync reads changes since a modified time cursor
+     */
+    @PreUpdate
+    public void touch() {
+        this.setGmtModified(modifiedNow());
+    }
+
+    /**
+     * Current modified time, in UTC and truncated to seconds like the column default CURRENT_TIMESTAMP
+     *
+     * @return modified time
+     */
+    public static LocalDateTime modifiedNow() {
+        return LocalDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.SECONDS);
+    }
+
     /**
      * Project job unique primary key
      */
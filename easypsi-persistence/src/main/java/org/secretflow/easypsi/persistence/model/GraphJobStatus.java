@@ -16,8 +16,6 @@
 
 package org.secretflow.easypsi.persistence.model;
 
-import org.secretflow.easypsi.common.constant.JobConstants;
-import org.secretflow.easypsi.common.util.JsonUtils;
 import org.secretflow.easypsi.persistence.entity.ProjectJobDO;
 
 import org.apache.commons.lang3.StringUtils;
@@ -125,14 +123,26 @@ public enum GraphJobStatus {
     }
 
     public static List<GraphJobOperation> fromStatusToOperation(GraphJobStatus status, String nodeId, ProjectJobDO jobDO) {
+        return fromStatusToOperation(status, nodeId, jobDO.getInitiatorNodeId(), jobDO.getPartnerNodeId(),
+                jobDO.getInitiatorResultReceiver(), jobDO.getPartnerResultReceiver());
+    }
+
+    public static List<GraphJobOperation> fromStatusToOperation(GraphJobStatus status, String nodeId, ProjectJobListView job) {
+        return fromStatusToOperation(status, nodeId, job.getInitiatorNodeId(), job.getPartnerNodeId(),
+                job.getInitiatorResultReceiver(), job.getPartnerResultReceiver());
+    }
+
+    private static List<GraphJobOperation> fromStatusToOperation(GraphJobStatus status, String nodeId, String initiatorNodeId,
+                                                                 String partnerNodeId, Boolean initiatorResultReceiver,
+                                                                 Boolean partnerResultReceiver) {
         List<GraphJobOperation> operations = new ArrayList<>();
         switch (status) {
             case PENDING_REVIEW:
-                if (StringUtils.equals(nodeId, jobDO.getInitiatorNodeId())) {
+                if (StringUtils.equals(nodeId, initiatorNodeId)) {
                     operations.add(GraphJobOperation.CANCEL);
                     return operations;
                 }
-                if (StringUtils.equals(nodeId, jobDO.getPartnerNodeId())) {
+                if (StringUtils.equals(nodeId, partnerNodeId)) {
                     operations.add(GraphJobOperation.AGREE);
                     operations.add(GraphJobOperation.REJECT);
                     return operations;
@@ -167,21 +177,11 @@ public enum GraphJobStatus {
             case SUCCEEDED:
                 operations.add(GraphJobOperation.LOG);
                 operations.add(GraphJobOperation.DELETE);
-                if (StringUtils.equals(nodeId, jobDO.getPartnerNodeId())) {
-                    PsiConfigDO partnerPsiConfigDO = JsonUtils.toJavaObject(jobDO.getPartnerConfig(), PsiConfigDO.class);
-                    if (partnerPsiConfigDO.getProtocolConfig().getBroadcastResult()) {
-                        operations.add(GraphJobOperation.DOWNLOAD_RESULT);
-                    } else if (StringUtils.equals(partnerPsiConfigDO.getProtocolConfig().getRole().name(), JobConstants.RoleEnum.ROLE_RECEIVER.name())) {
-                        operations.add(GraphJobOperation.DOWNLOAD_RESULT);
-                    }
+                if (StringUtils.equals(nodeId, partnerNodeId) && Boolean.TRUE.equals(partnerResultReceiver)) {
+                    operations.add(GraphJobOperation.DOWNLOAD_RESULT);
                 }
-                if (StringUtils.equals(nodeId, jobDO.getInitiatorNodeId())) {
-                    PsiConfigDO initiatorPsiConfigDO = JsonUtils.toJavaObject(jobDO.getInitiatorConfig(), PsiConfigDO.class);
-                    if (initiatorPsiConfigDO.getProtocolConfig().getBroadcastResult()) {
-                        operations.add(GraphJobOperation.DOWNLOAD_RESULT);
-                    } else if (StringUtils.equals(initiatorPsiConfigDO.getProtocolConfig().getRole().name(), JobConstants.RoleEnum.ROLE_RECEIVER.name())) {
-                        operations.add(GraphJobOperation.DOWNLOAD_RESULT);
-                    }
+                if (StringUtils.equals(nodeId, initiatorNodeId) && Boolean.TRUE.equals(initiatorResultReceiver)) {
+                    operations.add(GraphJobOperation.DOWNLOAD_RESULT);
                 }
                 return operations;
             default:
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.persistence.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Project job list projection, only the columns shown in the job list without the config json
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+public interface ProjectJobListView {
+
+    String getJobId();
+
+    String getName();
+
+    GraphJobStatus getStatus();
+
+    LocalDateTime getGmtCreate();
+
+    LocalDateTime getFinishedTime();
+
+    String getErrMsg();
+
+    String getInitiatorNodeId();
+
+    String getPartnerNodeId();
+
+    String getInitiatorDataTableName();
+
+    String getInitiatorDataTableCount();
+
+    String getPartnerDataTableName();
+
+    String getPartnerDataTableCount();
+
+    Boolean getRecoveryEnabled();
+
+    Boolean getDataTableConfirmation();
+
+    Boolean getInitiatorResultReceiver();
+
+    Boolean getPartnerResultReceiver();
+}
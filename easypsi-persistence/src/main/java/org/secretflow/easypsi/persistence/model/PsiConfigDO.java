@@ -60,6 +60,31 @@ public class PsiConfigDO {
 
     private String dataTableCount;
 
+    /**
+     * Data table name, the last segment of the input path
+     *
+     * @return data table name, or null without input path
+     */
+    public String dataTableName() {
+        if (inputConfig == null || inputConfig.getPath() == null) {
+            return null;
+        }
+        String path = inputConfig.getPath();
+        return path.substring(path.lastIndexOf("/") + 1);
+    }
+
+    /**
+     * Whether this party gets the result, it is broadcast or this party is the receiver
+     *
+     * @return whether receives result
+     */
+    public boolean receivesResult() {
+        if (protocolConfig == null) {
+            return false;
+        }
+        return Boolean.TRUE.equals(protocolConfig.getBroadcastResult())
+                || protocolConfig.getRole() == JobConstants.RoleEnum.ROLE_RECEIVER;
+    }
 
     @Getter
     @Setter
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.persistence.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Sqlite WAL mode properties
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+@Data
+@ConfigurationProperties(prefix = "easypsi.sqlite")
+public class SqliteProperties {
+    /**
+     * Use WAL journal with a read pool and a single writer connection, otherwise the one pooled connection is kept
+     */
+    private boolean wal = false;
+    /**
+     * Connections of read only transactions
+     */
+    private int readPoolSize = 4;
+    /**
+     * Synchronous pragma, NORMAL only syncs on checkpoints in WAL mode
+     */
+    private String synchronous = "NORMAL";
+    /**
+     * Page cache of each connection, negative values are KiB
+     */
+    private int cacheSize = -65536;
+    /**
+     * Bytes of the database file read through memory mapping
+     */
+    private long mmapSize = 268435456L;
+    /**
+     * Milliseconds a connection waits for a lock held by another one
+     */
+    private int busyTimeout = 5000;
+    /**
+     * Milliseconds a caller waits for a pooled connection
+     */
+    private long connectionTimeout = 5000L;
+}
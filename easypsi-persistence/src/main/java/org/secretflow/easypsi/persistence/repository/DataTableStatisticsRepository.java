@@ -0,0 +1,47 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.persistence.repository;
+
+import org.secretflow.easypsi.persistence.entity.DataTableStatisticsDO;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Data table statistics repository
+ *
+ * @author agent
+ * @date 2026/10/17
+ */
+@Repository
+@Transactional(readOnly = true)
+public interface DataTableStatisticsRepository extends JpaRepository<DataTableStatisticsDO, DataTableStatisticsDO.UPK> {
+
+    /**
+     * Query data table statistics by nodeId and table name
+     *
+     * @param nodeId    target nodeId
+     * @param tableName target table name
+     * @return data table statistics
+     */
+    @Query("from DataTableStatisticsDO d where d.upk.nodeId=:nodeId and d.upk.tableName=:tableName")
+    Optional<DataTableStatisticsDO> findByNodeIdAndTableName(@Param("nodeId") String nodeId, @Param("tableName") String tableName);
+}
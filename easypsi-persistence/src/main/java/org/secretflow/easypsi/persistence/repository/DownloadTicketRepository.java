@@ -0,0 +1,68 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.persistence.repository;
+
+import org.secretflow.easypsi.persistence.entity.DownloadTicketDO;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Download ticket repository
+ *
+ * @author agent
+ * @date 2026/10/17
+ */
+@Transactional(readOnly = true)
+public interface DownloadTicketRepository extends JpaRepository<DownloadTicketDO, String> {
+
+    /**
+     * Consume one use of a ticket and extend its expiration, the uses of unlimited tickets are left untouched
+     *
+     * @param hash     ticket hash
+     * @param now      current time in milliseconds
+     * @param expireAt new expiration time in milliseconds
+     * @return 1 if the ticket is still valid, 0 if it is expired, used up or not exists
+     */
+    @Transactional
+    @Modifying
+    @Query("update DownloadTicketDO t set t.remainingUses = t.remainingUses - 1, t.expireAt = :expireAt " +
+            "where t.hash = :hash and t.expireAt > :now and (t.remainingUses is null or t.remainingUses > 0)")
+    int consumeUse(@Param("hash") String hash, @Param("now") long now, @Param("expireAt") long expireAt);
+
+    /**
+     * Delete expired tickets
+     *
+     * @param now current time in milliseconds
+     * @return deleted count
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from DownloadTicketDO t where t.expireAt <= :now")
+    int deleteExpired(@Param("now") long now);
+
+    /**
+     * Query the ticket which expires first
+     *
+     * @return the ticket which expires first
+     */
+    Optional<DownloadTicketDO> findFirstByOrderByExpireAtAsc();
+}
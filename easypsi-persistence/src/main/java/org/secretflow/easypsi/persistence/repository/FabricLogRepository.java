@@ -17,10 +17,15 @@
 package org.secretflow.easypsi.persistence.repository;
 
 import org.secretflow.easypsi.persistence.entity.FabricLogDO;
-import org.secretflow.easypsi.persistence.entity.NodeDO;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Fabric log repository
@@ -28,16 +33,37 @@ import org.springframework.data.jpa.repository.Query;
  * @author lihaixin
  * @date 2024/01/15
  */
+@Transactional(readOnly = true)
 public interface FabricLogRepository extends JpaRepository<FabricLogDO, String> {
 
     /**
-     * Find by log path
+     * Find by log path, latest upload first
      *
      * @param logPath
-     * @return {@link NodeDO }
+     * @return {@link FabricLogDO }
+     */
+
+    @Query("from FabricLogDO where logPath=:logPath order by gmtCreate desc")
+    List<FabricLogDO> findByLogPath(String logPath);
+
+    /**
+     * Find by log hash, latest upload first
+     *
+     * @param logHash
+     * @return {@link FabricLogDO }
      */
 
-    @Query("from FabricLogDO where logPath=:logPath")
-    FabricLogDO findByLogPath(String logPath);
+    @Query("from FabricLogDO where logHash=:logHash order by gmtCreate desc")
+    List<FabricLogDO> findByLogHash(String logHash);
+
+    /**
+     * Find pending logs due for an upload attempt, oldest first
+     *
+     * @param now      current time
+     * @param pageable page of logs to return
+     * @return pending logs
+     */
+    @Query("from FabricLogDO where result=0 and (nextRetryTime is null or nextRetryTime<=:now) order by gmtCreate")
+    List<FabricLogDO> findPendingDue(@Param("now") LocalDateTime now, Pageable pageable);
 
 }
@@ -23,6 +23,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -33,6 +34,7 @@ import java.util.List;
  * @date 2023/5/30
  */
 @Repository
+@Transactional(readOnly = true)
 public interface NodeRepository extends JpaRepository<NodeDO, String>, JpaSpecificationExecutor<NodeDO> {
 
     /**
@@ -39,6 +39,7 @@ import java.util.Set;
  * @date 2023/5/30
  */
 @Repository
+@Transactional(readOnly = true)
 public interface NodeRouteRepository extends JpaRepository<NodeRouteDO, Long>, JpaSpecificationExecutor<NodeRouteDO> {
     /**
      * Query node route results by nodeId of destination
@@ -74,8 +75,10 @@ public interface NodeRouteRepository extends JpaRepository<NodeRouteDO, Long>, J
     Optional<NodeRouteDO> findBySrcNodeIdAndDstNodeId(@Param("srcNodeId") String srcNodeId,
                                                       @Param("dstNodeId") String dstNodeId);
 
+    @Transactional
     void deleteBySrcNodeId(@Param("srcNodeId") String srcNodeId);
 
+    @Transactional
     void deleteByDstNodeId(@Param("dstNodeId") String dstNodeId);
 
     @Query(value = "from NodeRouteDO a join NodeDO b on a.dstNodeId=b.nodeId " +
@@ -87,7 +90,7 @@ public interface NodeRouteRepository extends JpaRepository<NodeRouteDO, Long>, J
 
     @Modifying
     @Transactional
-    @Query(nativeQuery = true,value = " update node_route set gmt_modified = datetime('now') where src_node_id = :srcNodeId and dst_node_id = :dstNodeId")
+    @Query(nativeQuery = true,value = " update node_route set gmt_modified = CURRENT_TIMESTAMP where src_node_id = :srcNodeId and dst_node_id = :dstNodeId")
     void updateGmtModified(String srcNodeId,String dstNodeId);
 
 }
\ No newline at end of file
@@ -17,6 +17,8 @@
 package org.secretflow.easypsi.persistence.repository;
 
 import org.secretflow.easypsi.persistence.entity.ProjectJobDO;
+import org.secretflow.easypsi.persistence.model.GraphJobStatus;
+import org.secretflow.easypsi.persistence.model.ProjectJobListView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -24,9 +26,11 @@ import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,6 +41,7 @@ import java.util.Optional;
  * @date 2023/5/31
  */
 @Repository
+@Transactional(readOnly = true)
 public interface ProjectJobRepository extends JpaRepository<ProjectJobDO, ProjectJobDO.UPK>, JpaSpecificationExecutor<ProjectJobDO> {
 
     /**
@@ -66,6 +71,27 @@ public interface ProjectJobRepository extends JpaRepository<ProjectJobDO, Projec
     @Query("from ProjectJobDO pj")
     Page<ProjectJobDO> page(Pageable pageable);
 
+    /**
+     * Paging query the job list projection, without reading the config json
+     *
+     * @param status   status filter
+     * @param search   like pattern matched against node ids and job name
+     * @param pageable page and sort
+     * @return project job list projections
+     */
+    @Query(value = "select pj.upk.jobId as jobId, pj.name as name, pj.status as status, pj.gmtCreate as gmtCreate," +
+            " pj.finishedTime as finishedTime, pj.errMsg as errMsg, pj.initiatorNodeId as initiatorNodeId," +
+            " pj.partnerNodeId as partnerNodeId, pj.initiatorDataTableName as initiatorDataTableName," +
+            " pj.initiatorDataTableCount as initiatorDataTableCount, pj.partnerDataTableName as partnerDataTableName," +
+            " pj.partnerDataTableCount as partnerDataTableCount, pj.recoveryEnabled as recoveryEnabled," +
+            " pj.dataTableConfirmation as dataTableConfirmation, pj.initiatorResultReceiver as initiatorResultReceiver," +
+            " pj.partnerResultReceiver as partnerResultReceiver from ProjectJobDO pj" +
+            " where pj.status in :status and (pj.initiatorNodeId like :search or pj.partnerNodeId like :search or pj.name like :search)",
+            countQuery = "select count(pj) from ProjectJobDO pj" +
+                    " where pj.status in :status and (pj.initiatorNodeId like :search or pj.partnerNodeId like :search or pj.name like :search)")
+    Page<ProjectJobListView> pageListView(@Param("status") Collection<GraphJobStatus> status, @Param("search") String search,
+                                          Pageable pageable);
+
     /**
      * Query project job results by nodeId
      *
@@ -75,9 +101,10 @@ public interface ProjectJobRepository extends JpaRepository<ProjectJobDO, Projec
     @Query("from ProjectJobDO pj where pj.initiatorNodeId=:nodeId or pj.partnerNodeId=:nodeId")
     List<ProjectJobDO> findByNodeId(@Param("nodeId") String nodeId);
 
-    @Query("update ProjectJobDO pj set pj.status='RUNNING', pj.startTime=:startTime where pj.upk.jobId=:jobId")
+    @Query("update ProjectJobDO pj set pj.status='RUNNING', pj.startTime=:startTime, pj.gmtModified=:gmtModified where pj.upk.jobId=:jobId")
     @Modifying
-    void startJob(@Param("jobId") String jobId, @Param("startTime") LocalDateTime startTime);
+    @Transactional
+    void startJob(@Param("jobId") String jobId, @Param("startTime") LocalDateTime startTime, @Param("gmtModified") LocalDateTime gmtModified);
 
 
     /**
@@ -90,6 +117,33 @@ public interface ProjectJobRepository extends JpaRepository<ProjectJobDO, Projec
     @Query("from ProjectJobDO pj where pj.hostNodeId=:hostNodeId and (pj.initiatorNodeId=:requestNodeId or pj.partnerNodeId=:requestNodeId)")
     List<ProjectJobDO> queryJobsByHostNodeIdAndRequestNodeId(@Param("hostNodeId") String hostNodeId, @Param("requestNodeId") String requestNodeId);
 
+    /**
+     * Query jobs by host nodeId modified after the cursor and before the settled time, in cursor order
+     *
+     * @param hostNodeId    target hostNodeId
+     * @param requestNodeId target requestNodeId
+     * @param since         cursor modified time
+     * @param sinceId       cursor id, breaks ties of the same modified time
+     * @param settledBefore exclusive upper bound of modified time
+     * @param pageable      page size
+     * @return project job results
+     */
+    @Query("from ProjectJobDO pj where pj.hostNodeId=:hostNodeId and (pj.initiatorNodeId=:requestNodeId or pj.partnerNodeId=:requestNodeId)" +
+            " and pj.gmtModified<:settledBefore and (pj.gmtModified>:since or (pj.gmtModified=:since and pj.id>:sinceId))" +
+            " order by pj.gmtModified, pj.id")
+    List<ProjectJobDO> queryJobsModifiedSince(@Param("hostNodeId") String hostNodeId, @Param("requestNodeId") String requestNodeId,
+                                              @Param("since") LocalDateTime since, @Param("sinceId") Long sinceId,
+                                              @Param("settledBefore") LocalDateTime settledBefore, Pageable pageable);
+
+    /**
+     * Query host nodeIds of jobs in status
+     *
+     * @param status target status list
+     * @return distinct host nodeIds
+     */
+    @Query("select distinct pj.hostNodeId from ProjectJobDO pj where pj.status in :status")
+    List<String> queryHostNodeIdsInStatus(@Param("status") List<GraphJobStatus> status);
+
     @Query("from ProjectJobDO pj where pj.status in :status and (pj.initiatorNodeId=:nodeId or pj.partnerNodeId=:nodeId)")
     List<ProjectJobDO> queryJobInStatus(List<String> status,@Param("nodeId") String nodeId);
 
@@ -20,6 +20,7 @@ import org.secretflow.easypsi.persistence.entity.FabricLogDO;
 import org.secretflow.easypsi.persistence.entity.RsaEncryptionKeyDO;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Rsa encryption key repository
@@ -27,6 +28,7 @@ import org.springframework.data.jpa.repository.Query;
  * @author lihaixin
  * @date 2024/02/04
  */
+@Transactional(readOnly = true)
 public interface RsaEncryptionKeyRepository extends JpaRepository<RsaEncryptionKeyDO, String> {
 
     /**
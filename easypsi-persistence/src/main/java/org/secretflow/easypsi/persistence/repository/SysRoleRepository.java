@@ -18,10 +18,12 @@ package org.secretflow.easypsi.persistence.repository;
 
 import org.secretflow.easypsi.persistence.entity.SysRoleDO;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * @author beiwei
  * @date 2023/9/13
  */
+@Transactional(readOnly = true)
 public interface SysRoleRepository extends JpaRepository<SysRoleDO, String> {
 }
@@ -20,6 +20,7 @@ import org.secretflow.easypsi.persistence.entity.SysRoleResourceRelDO;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -27,6 +28,7 @@ import java.util.List;
  * @author beiwei
  * @date 2023/9/13
  */
+@Transactional(readOnly = true)
 public interface SysRoleResourceRelRepository extends JpaRepository<SysRoleResourceRelDO, SysRoleResourceRelDO.UPK> {
 
     @Query("from SysRoleResourceRelDO rrr where rrr.upk.roleCode in (:roleCodes)")
@@ -22,6 +22,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -29,11 +30,13 @@ import java.util.List;
  * @author beiwei
  * @date 2023/9/13
  */
+@Transactional(readOnly = true)
 public interface SysUserPermissionRelRepository extends JpaRepository<SysUserPermissionRelDO, SysUserPermissionRelDO.UPK> {
     @Query("from SysUserPermissionRelDO rrr where rrr.upk.userKey = :userName")
     List<SysUserPermissionRelDO> findByName(@Param("userName") String userName);
 
     @Modifying
+    @Transactional
     @Query(nativeQuery = true,value = "delete from sys_user_permission_rel where user_key =:userKey")
     void deleteByUserKey(String userKey);
 }
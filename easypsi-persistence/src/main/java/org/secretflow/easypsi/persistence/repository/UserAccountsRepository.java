@@ -21,6 +21,7 @@ import org.secretflow.easypsi.persistence.entity.AccountsDO;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -31,6 +32,7 @@ import java.util.Optional;
  * @author : xiaonan.fhn
  * @date 2023/5/25
  */
+@Transactional(readOnly = true)
 public interface UserAccountsRepository extends JpaRepository<AccountsDO, String> {
 
     /**
@@ -22,7 +22,9 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
@@ -31,6 +33,7 @@ import java.util.Optional;
  * @author : xiaonan.fhn
  * @date 2023/5/25
  */
+@Transactional(readOnly = true)
 public interface UserTokensRepository extends JpaRepository<TokensDO, String> {
 
     /**
@@ -50,6 +53,7 @@ public interface UserTokensRepository extends JpaRepository<TokensDO, String> {
      */
     @Query("delete from TokensDO td where td.name=:name and td.token=:token")
     @Modifying
+    @Transactional
     void deleteByNameAndToken(@Param("name") String name, @Param("token") String token);
 
 
@@ -60,5 +64,18 @@ public interface UserTokensRepository extends JpaRepository<TokensDO, String> {
      */
     @Query("delete from TokensDO td where td.name=:name")
     @Modifying
+    @Transactional
     void deleteByName(@Param("name") String name);
+
+    /**
+     * Update the last use time of token
+     *
+     * @param token    user token
+     * @param gmtToken the time when user uses token
+     * @return updated count
+     */
+    @Transactional
+    @Modifying
+    @Query("update TokensDO td set td.gmtToken=:gmtToken where td.token=:token")
+    int updateGmtToken(@Param("token") String token, @Param("gmtToken") LocalDateTime gmtToken);
 }
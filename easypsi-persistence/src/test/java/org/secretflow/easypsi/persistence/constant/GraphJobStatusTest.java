@@ -17,8 +17,11 @@
 package org.secretflow.easypsi.persistence.constant;
 
 import org.junit.jupiter.api.Test;
+import org.secretflow.easypsi.common.constant.JobConstants;
+import org.secretflow.easypsi.persistence.entity.ProjectJobDO;
 import org.secretflow.easypsi.persistence.model.GraphJobOperation;
 import org.secretflow.easypsi.persistence.model.GraphJobStatus;
+import org.secretflow.easypsi.persistence.model.PsiConfigDO;
 
 import java.util.List;
 
@@ -87,4 +90,31 @@ public class GraphJobStatusTest {
         assertTrue(GraphJobStatus.checkOperation(GraphJobStatus.SUCCEEDED, GraphJobOperation.DOWNLOAD_RESULT));
         assertFalse(GraphJobStatus.checkOperation(GraphJobStatus.RUNNING, GraphJobOperation.DOWNLOAD_RESULT));
     }
+
+    @Test
+    public void testFromStatusToOperationByResultReceiver() {
+        PsiConfigDO initiator = psiConfig("/home/kuscia/var/storage/data/alice.csv", JobConstants.RoleEnum.ROLE_SENDER, false);
+        PsiConfigDO partner = psiConfig("bob.csv", JobConstants.RoleEnum.ROLE_RECEIVER, false);
+        ProjectJobDO jobDO = ProjectJobDO.builder().initiatorNodeId("alice").partnerNodeId("bob").build();
+        jobDO.applyPsiConfig(initiator, partner);
+
+        assertEquals("alice.csv", jobDO.getInitiatorDataTableName());
+        assertEquals("bob.csv", jobDO.getPartnerDataTableName());
+        assertFalse(jobDO.getInitiatorResultReceiver());
+        assertTrue(jobDO.getPartnerResultReceiver());
+        assertFalse(GraphJobStatus.fromStatusToOperation(GraphJobStatus.SUCCEEDED, "alice", jobDO).contains(GraphJobOperation.DOWNLOAD_RESULT));
+        assertTrue(GraphJobStatus.fromStatusToOperation(GraphJobStatus.SUCCEEDED, "bob", jobDO).contains(GraphJobOperation.DOWNLOAD_RESULT));
+
+        jobDO.applyPsiConfig(psiConfig("alice.csv", JobConstants.RoleEnum.ROLE_SENDER, true), partner);
+        assertTrue(GraphJobStatus.fromStatusToOperation(GraphJobStatus.SUCCEEDED, "alice", jobDO).contains(GraphJobOperation.DOWNLOAD_RESULT));
+    }
+
+    private PsiConfigDO psiConfig(String path, JobConstants.RoleEnum role, boolean broadcastResult) {
+        PsiConfigDO.InputConfig inputConfig = new PsiConfigDO.InputConfig();
+        inputConfig.setPath(path);
+        PsiConfigDO.ProtocolConfig protocolConfig = new PsiConfigDO.ProtocolConfig();
+        protocolConfig.setRole(role);
+        protocolConfig.setBroadcastResult(broadcastResult);
+        return PsiConfigDO.builder().inputConfig(inputConfig).protocolConfig(protocolConfig).build();
+    }
 }
\ No newline at end of file
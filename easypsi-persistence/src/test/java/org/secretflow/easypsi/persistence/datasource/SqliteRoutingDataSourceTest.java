@@ -0,0 +1,96 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.persistence.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.secretflow.easypsi.persistence.configuration.SqliteDataSourceConfiguration;
+import org.secretflow.easypsi.persistence.properties.SqliteProperties;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Sqlite routing data source test
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+public class SqliteRoutingDataSourceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    public void clear() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    public void testRouteByTransactionReadOnly() throws SQLException {
+        DataSource writer = Mockito.mock(DataSource.class);
+        DataSource reader = Mockito.mock(DataSource.class);
+        SqliteRoutingDataSource dataSource = new SqliteRoutingDataSource(writer, reader);
+
+        dataSource.getConnection();
+        Mockito.verify(writer).getConnection();
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        dataSource.getConnection();
+        Mockito.verify(writer, Mockito.times(2)).getConnection();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        dataSource.getConnection();
+        Mockito.verify(reader).getConnection();
+    }
+
+    @Test
+    public void testWalWriterAndQueryOnlyReader() throws SQLException {
+        DataSourceProperties dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl("jdbc:sqlite:" + tempDir.resolve("easypsi.sqlite"));
+        SqliteProperties sqliteProperties = new SqliteProperties();
+        SqliteDataSourceConfiguration configuration = new SqliteDataSourceConfiguration();
+
+        try (HikariDataSource writer = configuration.sqliteWriteDataSource(dataSourceProperties, sqliteProperties);
+             HikariDataSource reader = configuration.sqliteReadDataSource(dataSourceProperties, sqliteProperties);
+             Connection write = writer.getConnection(); Statement writeStatement = write.createStatement();
+             Connection read = reader.getConnection(); Statement readStatement = read.createStatement()) {
+            try (ResultSet resultSet = writeStatement.executeQuery("PRAGMA journal_mode")) {
+                Assertions.assertTrue(resultSet.next());
+                Assertions.assertEquals("wal", resultSet.getString(1));
+            }
+            writeStatement.execute("create table t (id integer)");
+            writeStatement.execute("insert into t values (1)");
+            try (ResultSet resultSet = readStatement.executeQuery("select count(*) from t")) {
+                Assertions.assertTrue(resultSet.next());
+                Assertions.assertEquals(1, resultSet.getInt(1));
+            }
+            Assertions.assertThrows(SQLException.class, () -> readStatement.execute("insert into t values (2)"));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.service;
+
+import org.secretflow.easypsi.persistence.entity.DataTableStatisticsDO;
+
+/**
+ * Data table statistics service interface
+ *
+ * @author agent
+ * @date 2026/10/17
+ */
+public interface DataTableStatisticsService {
+
+    /**
+     * Get row count and header of local data table, the file is only rescanned when its fingerprint changed
+     *
+     * @param tableName data table name
+     * @return data table statistics
+     */
+    DataTableStatisticsDO getLocalStatistics(String tableName);
+
+    /**
+     * Save data interval reported by partner node
+     *
+     * @param nodeId       partner node id
+     * @param tableName    data table name
+     * @param dataInterval data interval level
+     */
+    void savePartnerDataInterval(String nodeId, String tableName, String dataInterval);
+
+    /**
+     * Query known data interval of node data table
+     *
+     * @param nodeId    node id
+     * @param tableName data table name
+     * @return data interval level, null if unknown
+     */
+    String queryDataInterval(String nodeId, String tableName);
+}
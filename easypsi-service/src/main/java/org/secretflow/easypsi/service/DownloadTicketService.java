@@ -0,0 +1,90 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.service;
+
+import org.secretflow.easypsi.service.model.project.ProjectJobResultVO;
+
+import java.util.Optional;
+
+/**
+ * Download ticket service interface
+ * <p>
+ * A ticket authorizes downloading a job result for a limited time and a limited number of uses. A redeemed ticket
+ * stays valid for resuming its downloads by range requests, even after its last use.
+ *
+ * @author agent
+ * @date 2026/10/17
+ */
+public interface DownloadTicketService {
+
+    /**
+     * Issue a ticket for job result, expiration time and remaining uses are set by the service
+     *
+     * @param ticket ticket with hash and result location
+     * @return ticket hash
+     */
+    String issue(ProjectJobResultVO ticket);
+
+    /**
+     * Redeem a ticket, one use is consumed and the ticket is kept for resuming until the resume ttl passed
+     *
+     * @param hash ticket hash
+     * @return the ticket, empty if not exists, expired or used up
+     */
+    Optional<ProjectJobResultVO> redeem(String hash);
+
+    /**
+     * Resume a download of a redeemed ticket, no use is consumed
+     *
+     * @param hash ticket hash
+     * @return the ticket, empty if not exists, expired or not redeemed yet
+     */
+    Optional<ProjectJobResultVO> resume(String hash);
+
+    /**
+     * Remove expired tickets
+     */
+    void purge();
+
+    /**
+     * Count of tickets held
+     *
+     * @return ticket count
+     */
+    long size();
+
+    /**
+     * Count of successful redemptions
+     *
+     * @return hit count
+     */
+    long hitCount();
+
+    /**
+     * Count of failed redemptions
+     *
+     * @return miss count
+     */
+    long missCount();
+
+    /**
+     * Count of tickets removed for expiration or capacity
+     *
+     * @return eviction count
+     */
+    long evictionCount();
+}
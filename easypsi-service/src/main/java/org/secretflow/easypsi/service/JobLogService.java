@@ -15,12 +15,56 @@
  */
 package org.secretflow.easypsi.service;
 
-import java.util.List;
+import org.secretflow.easypsi.service.model.project.JobLogPage;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.function.BooleanSupplier;
 
 /**
  * @author beiwei
  * @date 2024/03/01
  */
 public interface JobLogService {
-    List<String> queryJobLog(String jobId);
+
+    /**
+     * Read the whole job log
+     *
+     * @param jobId    job id
+     * @param complete whether the job stopped writing its log, an unterminated last line is only returned then
+     * @return log page of every line, its next position is the end of the log
+     */
+    JobLogPage queryJobLog(String jobId, boolean complete);
+
+    /**
+     * Read log lines of the job from a byte offset in a log file, only whole lines are returned unless one line fills the limit
+     *
+     * @param jobId    job id
+     * @param file     log file name to read from, the first file when absent
+     * @param offset   byte offset in the file
+     * @param limit    most bytes to read
+     * @param complete whether the job stopped writing its log, an unterminated last line is only returned then
+     * @return log page
+     */
+    JobLogPage readJobLog(String jobId, String file, long offset, int limit, boolean complete);
+
+    /**
+     * Read the last lines of the job log
+     *
+     * @param jobId    job id
+     * @param lines    line count
+     * @param complete whether the job stopped writing its log, an unterminated last line is only returned then
+     * @return log page ending at the end of the last log file
+     */
+    JobLogPage tailJobLog(String jobId, int lines, boolean complete);
+
+    /**
+     * Stream the job log from a byte offset in a log file as server sent events until the job stops running
+     *
+     * @param jobId   job id
+     * @param file    log file name to start from, the first file when absent
+     * @param offset  byte offset in the file
+     * @param running whether the job is still writing its log
+     * @return emitter of "log" events carrying log pages, ended by an "end" event carrying the final position
+     */
+    SseEmitter followJobLog(String jobId, String file, long offset, BooleanSupplier running);
 }
@@ -22,8 +22,10 @@ import org.secretflow.easypsi.service.model.graph.GrapDataHeaderVO;
 import org.secretflow.easypsi.service.model.graph.GrapDataTableVO;
 import org.secretflow.easypsi.service.model.graph.GraphNodeJobLogsVO;
 import org.secretflow.easypsi.service.model.project.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Project service interface
@@ -64,6 +66,16 @@ public interface ProjectService {
      */
     GraphNodeJobLogsVO getProjectJobInFeilLogs(GetProjectJobLogRequest request);
 
+    /**
+     * Follow project job logs as server sent events until the job stops running
+     *
+     * @param jobId  job id
+     * @param file   log file to start from, the first file when absent
+     * @param offset byte offset in the file to start from
+     * @return emitter of log pages
+     */
+    SseEmitter followProjectJobLogs(String jobId, String file, long offset);
+
     /**
      * Get project job csv header
      *
@@ -129,6 +141,13 @@ public interface ProjectService {
      */
     void syncHostNodeProjectJobs(List<ProjectJobVO> jobs);
 
+    /**
+     * Synchronize host node project job changes
+     *
+     * @param jobs changed job status list
+     */
+    void syncHostNodeProjectJobDelta(List<EdgeJobStatusVO> jobs);
+
     /**
      * Query edge project jobs by request node id
      *
@@ -137,6 +156,22 @@ public interface ProjectService {
      */
     List<ProjectJobVO> queryEdgeProjectJobs(String requestNodeId);
 
+    /**
+     * Query edge project jobs changed after the request cursor
+     *
+     * @param requestNodeId target request node id
+     * @param request       cursor request
+     * @return changed jobs and next cursor
+     */
+    EdgeJobDeltaVO queryEdgeProjectJobDelta(String requestNodeId, ListEdgeJobDeltaRequest request);
+
+    /**
+     * Query host node ids of the jobs running or pending
+     *
+     * @return host node id set
+     */
+    Set<String> queryActiveHostNodeIds();
+
     /**
      * Reject the project job by reject project job task request
      *
@@ -154,9 +189,10 @@ public interface ProjectService {
     /**
      * Download project result
      *
-     * @param hash target jobId
+     * @param hash   target jobId
+     * @param resume whether the request resumes a started download by a byte range
      */
-    DownloadInfo getloadProjectResult(String hash);
+    DownloadInfo getloadProjectResult(String hash, boolean resume);
 
     /**
      * Stop the project job by stop project job task request
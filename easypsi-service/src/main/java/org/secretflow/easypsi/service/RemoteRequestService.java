@@ -17,7 +17,8 @@ package org.secretflow.easypsi.service;
 
 import org.secretflow.easypsi.service.model.common.EasyPsiResponse;
 
-import java.util.concurrent.Future;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author liujunhao
@@ -28,7 +29,14 @@ public interface RemoteRequestService {
 
     EasyPsiResponse sendPostJson(Object request, String partnerNodeId, String url);
 
-    Future<EasyPsiResponse> asyncSendPostJson(Object request, String partnerNodeId, String url);
-
-    Future<Boolean> asynCheckBothSidesNodeRouteIsReady(String srcNodeId, String dstNodeId);
+    /**
+     * Send post json to the partner node without blocking, the future fails once the deadline passes
+     *
+     * @param request       request body
+     * @param partnerNodeId partner node id
+     * @param url           request url
+     * @param deadline      longest time for the whole call
+     * @return future of a successful response
+     */
+    CompletableFuture<EasyPsiResponse> sendPostJsonAsync(Object request, String partnerNodeId, String url, Duration deadline);
 }
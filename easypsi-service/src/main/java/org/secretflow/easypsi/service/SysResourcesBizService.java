@@ -31,4 +31,10 @@ public interface SysResourcesBizService {
     List<SysResourceDO> queryResourceByUserName(PermissionUserType userType, String userId);
     Set<String> queryResourceCodeByUserName(PermissionUserType userType, ResourceType resourceType, String userId);
 
+    /**
+     * Drop the compiled permissions after the user permission or role tables change, after the current transaction
+     * commits if there is one
+     */
+    void invalidatePermissions();
+
 }
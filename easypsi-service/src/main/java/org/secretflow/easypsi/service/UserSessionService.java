@@ -0,0 +1,58 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.service;
+
+import org.secretflow.easypsi.service.model.auth.UserSession;
+
+/**
+ * User login session service interface
+ * <p>
+ * Sessions are cached by token and expire after a period without use. The last use is written back to the
+ * token record in the background, so checking a session does not touch the database.
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+public interface UserSessionService {
+
+    /**
+     * Check the session of token and extend its expiry
+     *
+     * @param token user token
+     * @return valid session
+     */
+    UserSession touch(String token);
+
+    /**
+     * Drop the cached session of token, after the current transaction commits if there is one
+     *
+     * @param token user token
+     */
+    void invalidate(String token);
+
+    /**
+     * Drop all cached sessions of user, after the current transaction commits if there is one
+     *
+     * @param name user name
+     */
+    void invalidateByName(String name);
+
+    /**
+     * Write back last uses to the token records and drop expired sessions
+     */
+    void flush();
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.service.auth;
+
+import org.secretflow.easypsi.common.constant.PermissionTargetType;
+import org.secretflow.easypsi.common.constant.PermissionUserType;
+import org.secretflow.easypsi.common.constant.ResourceType;
+import org.secretflow.easypsi.persistence.entity.SysResourceDO;
+import org.secretflow.easypsi.persistence.entity.SysRoleResourceRelDO;
+import org.secretflow.easypsi.persistence.entity.SysUserPermissionRelDO;
+
+import java.util.AbstractSet;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Permission table compiled from the user permission, role resource and resource tables
+ * <p>
+ * Every resource is numbered, and the resources granted to a user through its roles are kept as one bit set per
+ * resource type. Grants are nested by user type, user key and resource type, so a lookup builds no key. The table
+ * is immutable, a change of the tables is applied by compiling a new one.
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+public final class PermissionTable {
+
+    private final Map<String, Integer> resourceIndex;
+
+    private final String[] resourceCodes;
+
+    private final Map<PermissionUserType, Map<String, Map<ResourceType, Set<String>>>> grants = new EnumMap<>(PermissionUserType.class);
+
+    private PermissionTable(Map<String, Integer> resourceIndex, String[] resourceCodes) {
+        this.resourceIndex = resourceIndex;
+        this.resourceCodes = resourceCodes;
+    }
+
+    /**
+     * Compile the permission table
+     *
+     * @param permissions   user permission relations
+     * @param roleResources role resource relations
+     * @param resources     resources
+     * @return permission table
+     */
+    public static PermissionTable compile(List<SysUserPermissionRelDO> permissions, List<SysRoleResourceRelDO> roleResources,
+                                          List<SysResourceDO> resources) {
+        Map<String, Integer> resourceIndex = new HashMap<>();
+        String[] resourceCodes = new String[resources.size()];
+        Map<String, ResourceType> resourceTypes = new HashMap<>();
+        for (SysResourceDO resource : resources) {
+            if (resourceIndex.putIfAbsent(resource.getResourceCode(), resourceIndex.size()) == null) {
+                resourceCodes[resourceIndex.size() - 1] = resource.getResourceCode();
+                resourceTypes.put(resource.getResourceCode(), resource.getResourceType());
+            }
+        }
+
+        Map<String, BitSet> roleBits = new HashMap<>();
+        for (SysRoleResourceRelDO roleResource : roleResources) {
+            Integer index = resourceIndex.get(roleResource.getUpk().getResourceCode());
+            if (index != null) {
+                roleBits.computeIfAbsent(roleResource.getUpk().getRoleCode(), k -> new BitSet()).set(index);
+            }
+        }
+
+        Map<PermissionUserType, Map<String, BitSet>> userBits = new EnumMap<>(PermissionUserType.class);
+        for (SysUserPermissionRelDO permission : permissions) {
+            BitSet bits = roleBits.get(permission.getUpk().getTargetCode());
+            if (PermissionTargetType.ROLE.equals(permission.getTargetType()) && permission.getUserType() != null && bits != null) {
+                userBits.computeIfAbsent(permission.getUserType(), k -> new HashMap<>())
+                        .computeIfAbsent(permission.getUpk().getUserKey(), k -> new BitSet()).or(bits);
+            }
+        }
+
+        PermissionTable table = new PermissionTable(resourceIndex, resourceCodes);
+        userBits.forEach((userType, users) -> {
+            Map<String, Map<ResourceType, Set<String>>> userGrants = new HashMap<>();
+            users.forEach((userKey, bits) -> {
+                Map<ResourceType, BitSet> byType = new EnumMap<>(ResourceType.class);
+                for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+                    ResourceType resourceType = resourceTypes.get(resourceCodes[i]);
+                    if (resourceType != null) {
+                        byType.computeIfAbsent(resourceType, k -> new BitSet()).set(i);
+                    }
+                }
+                Map<ResourceType, Set<String>> typeGrants = new EnumMap<>(ResourceType.class);
+                byType.forEach((resourceType, typeBits) -> typeGrants.put(resourceType, table.new ResourceCodeSet(typeBits)));
+                userGrants.put(userKey, typeGrants);
+            });
+            table.grants.put(userType, userGrants);
+        });
+        return table;
+    }
+
+    /**
+     * Resource codes granted to user
+     *
+     * @param userType     user type
+     * @param resourceType resource type
+     * @param userKey      user name or node id
+     * @return read only resource codes, membership is tested by the number of the code and one bit
+     */
+    public Set<String> resourceCodes(PermissionUserType userType, ResourceType resourceType, String userKey) {
+        Map<String, Map<ResourceType, Set<String>>> users = grants.get(userType);
+        Map<ResourceType, Set<String>> userGrants = users == null ? null : users.get(userKey);
+        Set<String> codes = userGrants == null ? null : userGrants.get(resourceType);
+        return codes == null ? Collections.emptySet() : codes;
+    }
+
+    /**
+     * Read only resource code set backed by a bit set over the resource numbering of the table
+     */
+    private final class ResourceCodeSet extends AbstractSet<String> {
+
+        private final BitSet bits;
+
+        private final int size;
+
+        private ResourceCodeSet(BitSet bits) {
+            this.bits = bits;
+            this.size = bits.cardinality();
+        }
+
+        @Override
+        public boolean contains(Object code) {
+            Integer index = resourceIndex.get(code);
+            return index != null && bits.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            return bits.stream().mapToObj(i -> resourceCodes[i]).iterator();
+        }
+    }
+}
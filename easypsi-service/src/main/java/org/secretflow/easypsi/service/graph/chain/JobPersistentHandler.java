@@ -17,6 +17,7 @@
 package org.secretflow.easypsi.service.graph.chain;
 
 import org.secretflow.easypsi.manager.integration.job.JobManager;
+import org.secretflow.easypsi.persistence.entity.ProjectJobDO;
 import org.secretflow.easypsi.persistence.repository.ProjectJobRepository;
 import org.secretflow.easypsi.service.model.graph.ProjectPsiJob;
 import org.slf4j.Logger;
@@ -50,7 +51,7 @@ public class JobPersistentHandler extends AbstractJobHandler<ProjectPsiJob> {
      */
     @Override
     public void doHandler(ProjectPsiJob job) {
-        projectJobRepository.startJob(job.getJobId(), job.getStartTime());
+        projectJobRepository.startJob(job.getJobId(), job.getStartTime(), ProjectJobDO.modifiedNow());
         if (next != null) {
             next.doHandler(job);
         }
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.service.impl;
+
+import org.secretflow.easypsi.service.DownloadTicketService;
+import org.secretflow.easypsi.service.model.project.ProjectJobResultVO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Download ticket service base, holds the ticket settings and counters shared by the stores
+ *
+ * @author agent
+ * @date 2026/10/17
+ */
+public abstract class AbstractDownloadTicketService implements DownloadTicketService {
+
+    @Value("${easypsi.download-ticket.ttl:30s}")
+    protected Duration ttl;
+
+    /**
+     * Time a redeemed ticket stays valid for resuming its downloads
+     */
+    @Value("${easypsi.download-ticket.resume-ttl:30m}")
+    protected Duration resumeTtl;
+
+    @Value("${easypsi.download-ticket.max-size:10000}")
+    protected long maxSize;
+
+    /**
+     * Uses of a ticket, 0 or less means unlimited until expired
+     */
+    @Value("${easypsi.download-ticket.max-uses:1}")
+    protected int maxUses;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    protected final LongAdder evictions = new LongAdder();
+
+    @Override
+    public String issue(ProjectJobResultVO ticket) {
+        ticket.setExpirationTime(new Date(System.currentTimeMillis() + ttl.toMillis()));
+        ticket.setRemainingUses(maxUses > 0 ? maxUses : null);
+        store(ticket);
+        return ticket.getHash();
+    }
+
+    @Override
+    public Optional<ProjectJobResultVO> redeem(String hash) {
+        Optional<ProjectJobResultVO> ticket = hash == null ? Optional.empty() : consume(hash);
+        if (ticket.isPresent()) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return ticket;
+    }
+
+    @Override
+    public Optional<ProjectJobResultVO> resume(String hash) {
+        return Optional.ofNullable(hash).flatMap(this::find).filter(this::redeemed);
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${easypsi.download-ticket.purge-interval:60000}", fixedDelayString = "${easypsi.download-ticket.purge-interval:60000}")
+    public void purge() {
+        evictions.add(removeInvalid());
+    }
+
+    @Override
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    @Override
+    public long missCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Store an issued ticket, evicting tickets when the store is full
+     *
+     * @param ticket ticket
+     */
+    protected abstract void store(ProjectJobResultVO ticket);
+
+    /**
+     * Expiration of a ticket redeemed now, extended so its downloads can be resumed
+     *
+     * @param expirationTime current expiration time in milliseconds
+     * @return expiration time in milliseconds
+     */
+    protected long resumeExpiration(long expirationTime) {
+        return Math.max(expirationTime, System.currentTimeMillis() + resumeTtl.toMillis());
+    }
+
+    /**
+     * Unlimited tickets are never consumed, so any of them may be resumed
+     */
+    private boolean redeemed(ProjectJobResultVO ticket) {
+        return ticket.getRemainingUses() == null || ticket.getRemainingUses() < maxUses;
+    }
+
+    /**
+     * Consume one use of a valid ticket, extending its expiration to the resume ttl
+     *
+     * @param hash ticket hash
+     * @return the ticket, empty if not exists, expired or used up
+     */
+    protected abstract Optional<ProjectJobResultVO> consume(String hash);
+
+    /**
+     * Find a valid ticket without consuming it
+     *
+     * @param hash ticket hash
+     * @return the ticket, empty if not exists or expired
+     */
+    protected abstract Optional<ProjectJobResultVO> find(String hash);
+
+    /**
+     * Remove expired tickets
+     *
+     * @return removed count
+     */
+    protected abstract long removeInvalid();
+}
@@ -34,9 +34,9 @@ import org.secretflow.easypsi.common.util.DateTimes;
 import org.secretflow.easypsi.common.util.RsaUtils;
 import org.secretflow.easypsi.common.util.Sha256Utils;
 import org.secretflow.easypsi.common.util.UUIDUtils;
+import org.secretflow.easypsi.manager.integration.fabric.FabricLogOutbox;
 import org.secretflow.easypsi.manager.integration.fabric.FabricManager;
 import org.secretflow.easypsi.persistence.entity.*;
-import org.secretflow.easypsi.persistence.repository.FabricLogRepository;
 import org.secretflow.easypsi.persistence.repository.ProjectJobRepository;
 import org.secretflow.easypsi.persistence.repository.UserAccountsRepository;
 import org.secretflow.easypsi.persistence.repository.UserTokensRepository;
@@ -101,11 +101,14 @@ public class AuthServiceImpl implements AuthService {
     private FabricManager fabricManager;
 
     @Autowired
-    private FabricLogRepository fabricLogRepository;
+    private FabricLogOutbox fabricLogOutbox;
 
     @Autowired
     private RsaEncryptionKeyService rsaEncryptionKeyService;
 
+    @Autowired
+    private UserSessionService userSessionService;
+
     @Autowired(required = false)
     @Qualifier("fabricThreadPool")
     private ThreadPoolTaskExecutor threadPoolTaskExecutor;
@@ -146,6 +149,7 @@ public class AuthServiceImpl implements AuthService {
         userContextDTO.setInterfaceResources(resourceCodeSet);
 
         userTokensRepository.deleteByName(user.getName());
+        userSessionService.invalidateByName(user.getName());
 
         TokensDO tokensDO = TokensDO.builder()
                 .name(user.getName())
@@ -161,24 +165,22 @@ public class AuthServiceImpl implements AuthService {
     @Override
     public void logout(String name, String token) {
         userTokensRepository.deleteByNameAndToken(name, token);
+        userSessionService.invalidate(token);
         threadPoolTaskExecutor.execute(() -> {
             if (fabricManager.isOpen()) {
                 FabricLogDO fabricLogDO = new FabricLogDO();
                 try {
                     //start truncate log
                     truncateLog(fabricLogDO);
-                    //upload to chain
-                    if (Objects.nonNull(fabricLogDO) && StringUtils.isNotBlank(fabricLogDO.getLogHash())) {
-                        fabricManager.submitTransaction(fabricLogDO);
-                        fabricLogDO.setResult(1);
-                        fabricLogDO.setMessage("success");
-                    }
                 } catch (Exception exception) {
-                    fabricLogDO.setResult(2);
-                    fabricLogDO.setMessage(exception.getMessage().length() > 500 ? exception.getMessage().substring(0, 500) : exception.getMessage());
                     log.error("truncate log to fabric  error,{}", exception.getMessage());
+                    fabricLogOutbox.fail(fabricLogDO, exception);
+                    return;
+                }
+                //store in the outbox, uploaded to chain in the background
+                if (StringUtils.isNotBlank(fabricLogDO.getLogHash())) {
+                    fabricLogOutbox.enqueue(fabricLogDO);
                 }
-                fabricLogRepository.save(fabricLogDO);
             }
         });
     }
@@ -201,6 +203,7 @@ public class AuthServiceImpl implements AuthService {
         if (Objects.isNull(oldFile)) {
             return;
         }
+        fabricLogDO.setLogPath(oldFile.getPath());
         //get policy rule
         TimeBasedRollingPolicy<ILoggingEvent> policy = (TimeBasedRollingPolicy<ILoggingEvent>) rollingAppender.getRollingPolicy();
         //get encoder rule
@@ -228,7 +231,7 @@ public class AuthServiceImpl implements AuthService {
             rootLogger.addAppender(rollingFileAppender);
             rollingFileAppender.start();
             fabricLogDO.setLogPath(newFile.getPath());
-            fabricLogDO.setLogHash(Sha256Utils.hash(newFile.getPath()));
+            fabricLogDO.setLogHash(Sha256Utils.fileMerkleRoot(newFile.getPath()));
         }
     }
 
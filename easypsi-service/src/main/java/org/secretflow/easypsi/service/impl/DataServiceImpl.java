@@ -22,10 +22,12 @@ import org.secretflow.easypsi.common.errorcode.DataErrorCode;
 import org.secretflow.easypsi.common.exception.EasyPsiException;
 import org.secretflow.easypsi.common.util.FileUtils;
 import org.secretflow.easypsi.common.util.JsonUtils;
-import org.secretflow.easypsi.manager.integration.data.DataManager;
+import org.secretflow.easypsi.manager.integration.data.DataTableIndex;
 import org.secretflow.easypsi.manager.integration.job.AbstractJobManager;
 import org.secretflow.easypsi.manager.integration.job.JobManager;
+import org.secretflow.easypsi.persistence.entity.DataTableStatisticsDO;
 import org.secretflow.easypsi.service.DataService;
+import org.secretflow.easypsi.service.DataTableStatisticsService;
 import org.secretflow.easypsi.service.EnvService;
 import org.secretflow.easypsi.service.RemoteRequestService;
 import org.secretflow.easypsi.service.model.common.EasyPsiResponse;
@@ -39,12 +41,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.io.File;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Objects;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Data service implementation class
@@ -74,9 +73,13 @@ public class DataServiceImpl implements DataService {
     @Value("${easypsi.gateway}")
     private String gateway;
 
-    private static final String QUERY_DATA_TABLE_INFORMATION = "/api/v1alpha1/data/count/kuscia";
+    /**
+     * Longest wait for the partner data table information, a hung partner fails the query after it
+     */
+    @Value("${easypsi.data.partner-query-timeout-millis:10000}")
+    private long partnerQueryTimeoutMillis;
 
-    public static HashMap<String, String> dataTableCountCache = new HashMap<>();
+    private static final String QUERY_DATA_TABLE_INFORMATION = "/api/v1alpha1/data/count/kuscia";
 
     @Autowired
     private RemoteRequestService remoteRequestService;
@@ -88,7 +91,10 @@ public class DataServiceImpl implements DataService {
     private AbstractJobManager jobManager;
 
     @Autowired
-    private DataManager dataManager;
+    private DataTableStatisticsService dataTableStatisticsService;
+
+    @Autowired
+    private DataTableIndex dataTableIndex;
 
     @Override
     public DataSourceVO queryDataPath() {
@@ -106,22 +112,22 @@ public class DataServiceImpl implements DataService {
 
     @Override
     public DataTableInformationVo queryDataTableInformation(GetDataTableInformatinoRequest request) {
-        remoteRequestService.asynCheckBothSidesNodeRouteIsReady(envService.getPlatformNodeId(), request.getDstNodeId());
         checkDataTableName(request);
         LOGGER.info("Asynchronously request the data table of the other party, request:{}", request);
-        Future<EasyPsiResponse> dataTableInformationFuture = remoteRequestService.asyncSendPostJson(request, request.getDstNodeId(), JobManager.HTTP_HEADER + gateway + QUERY_DATA_TABLE_INFORMATION);
+        CompletableFuture<EasyPsiResponse> dataTableInformationFuture = remoteRequestService.sendPostJsonAsync(request, request.getDstNodeId(),
+                JobManager.HTTP_HEADER + gateway + QUERY_DATA_TABLE_INFORMATION, Duration.ofMillis(partnerQueryTimeoutMillis));
 
         DataTableInformationVo.DataTableInformation srcDataTableInformation = getDataTabelInformation(request);
         LOGGER.debug("Query our data table information, data table information: {}", srcDataTableInformation);
         DataTableInformationVo.DataTableInformation dstDataTableInformation;
         try {
-            EasyPsiResponse easyPsiResponse = dataTableInformationFuture.get();
+            EasyPsiResponse easyPsiResponse = dataTableInformationFuture.join();
             LOGGER.debug("Query data information response: {},msg: {}", easyPsiResponse.getData(), easyPsiResponse.getStatus().getMsg());
             dstDataTableInformation = JsonUtils.toJavaObject(easyPsiResponse.getData().toString(), DataTableInformationVo.DataTableInformation.class);
             LOGGER.debug("Query opposite data table information, data table information: {}", dstDataTableInformation);
-            dataTableCountCache.put(spliceNodeTable(dstDataTableInformation.getNodeId(), request.getDstDataTableName()), dstDataTableInformation.getDataTableCount());
-        } catch (ExecutionException | InterruptedException e) {
-            LOGGER.error("Querying opposite data table information is abnormal，opposite node id: {} error: {}", request.getDstDataTableName(), e.getMessage());
+            dataTableStatisticsService.savePartnerDataInterval(dstDataTableInformation.getNodeId(), request.getDstDataTableName(), dstDataTableInformation.getDataTableCount());
+        } catch (CompletionException e) {
+            LOGGER.error("Querying opposite data table information is abnormal，opposite node id: {} error: {}", request.getDstNodeId(), String.valueOf(e.getCause()));
             throw EasyPsiException.of(DataErrorCode.QUERY_DATA_ERROR, request.getDstDataTableName());
         }
         return DataTableInformationVo.builder()
@@ -140,19 +146,9 @@ public class DataServiceImpl implements DataService {
         } else {
             dataTableName = request.getSrcDataTableName();
         }
-        String csvFilePath = JobManager.CSV_DATA_PATH + File.separator + dataTableName;
-        Future<String> dataLineFuture = dataManager.countLinesByCommand(csvFilePath, dataTableName);
-        String dataLine;
-        try {
-            dataLine = dataLineFuture.get();
-        } catch (InterruptedException | ExecutionException e) {
-            LOGGER.error("data table read error, data table: {}", dataTableName);
-            throw EasyPsiException.of(DataErrorCode.QUERY_DATA_ERROR, dataTableName);
-        }
-        long lineCount = Long.parseLong(Objects.requireNonNull(dataLine));
-        String dataInterval = getDataInterval(lineCount);
+        DataTableStatisticsDO statistics = dataTableStatisticsService.getLocalStatistics(dataTableName);
+        String dataInterval = statistics.getDataInterval();
         LOGGER.info("data table name: {}, data interval: {}", dataTableName, dataInterval);
-        dataTableCountCache.put(spliceNodeTable(platformNodeId, dataTableName), dataInterval);
         return DataTableInformationVo.DataTableInformation.builder()
                 .nodeId(platformNodeId)
                 .dataTableName(dataTableName)
@@ -183,45 +179,22 @@ public class DataServiceImpl implements DataService {
         }
     }
 
-    private String getDataInterval(Long dataCount) {
-        if (dataCount < 0) {
-            return "L0";
-        } else if (dataCount < 10000) {
-            return "L1";
-        } else if (dataCount < 100000) {
-            return "L2";
-        } else if (dataCount < 1000000) {
-            return "L3";
-        } else if (dataCount < 10000000) {
-            return "L4";
-        } else if (dataCount < 100000000) {
-            return "L5";
-        } else {
-            return "L6";
-        }
-    }
-
-    public static String spliceNodeTable(String node, String tableName) {
-        return node + "_" + tableName;
-    }
-
     private void checkDataTableName(GetDataTableInformatinoRequest request) {
         LOGGER.info("verify the data table exists check table name:{}", request.getSrcDataTableName());
         FileUtils.fileNameCheck(request.getSrcDataTableName());
         LOGGER.info("verify the data table exists check table name:{}", request.getDstDataTableName());
         FileUtils.fileNameCheck(request.getDstDataTableName());
-        List<String> tableNames = FileUtils.traverseDirectories(new File(JobManager.CSV_DATA_PATH), ".csv", FileUtils.FILE_NAME);
-        if (tableNames == null) {
+        if (!dataTableIndex.isAvailable()) {
             LOGGER.error("file to be verified not found:{}", request.getSrcDataTableName());
             throw EasyPsiException.of(DataErrorCode.FILE_NOT_EXISTS_ERROR, request.getSrcDataTableName());
         }
         if (envService.getPlatformNodeId().equals(request.getDstNodeId())) {
-            if (!tableNames.contains(request.getDstDataTableName())) {
+            if (!dataTableIndex.contains(request.getDstDataTableName())) {
                 LOGGER.error("file to be verified not found:{}", request.getDstDataTableName());
                 throw EasyPsiException.of(DataErrorCode.FILE_NOT_EXISTS_ERROR, request.getDstDataTableName());
             }
         } else {
-            if (!tableNames.contains(request.getSrcDataTableName())) {
+            if (!dataTableIndex.contains(request.getSrcDataTableName())) {
                 LOGGER.error("file to be verified not found:{}", request.getSrcDataTableName());
                 throw EasyPsiException.of(DataErrorCode.FILE_NOT_EXISTS_ERROR, request.getSrcDataTableName());
             }
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.service.impl;
+
+import org.secretflow.easypsi.common.errorcode.DataErrorCode;
+import org.secretflow.easypsi.common.exception.EasyPsiException;
+import org.secretflow.easypsi.manager.integration.data.DataManager;
+import org.secretflow.easypsi.manager.integration.job.JobManager;
+import org.secretflow.easypsi.persistence.entity.DataTableStatisticsDO;
+import org.secretflow.easypsi.persistence.repository.DataTableStatisticsRepository;
+import org.secretflow.easypsi.service.DataTableStatisticsService;
+import org.secretflow.easypsi.service.EnvService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * Data table statistics service implementation class
+ *
+ * @author agent
+ * @date 2026/10/17
+ */
+@Service
+public class DataTableStatisticsServiceImpl implements DataTableStatisticsService {
+
+    private final static Logger LOGGER = LoggerFactory.getLogger(DataTableStatisticsServiceImpl.class);
+
+    @Autowired
+    private DataTableStatisticsRepository dataTableStatisticsRepository;
+
+    @Autowired
+    private EnvService envService;
+
+    @Autowired
+    private DataManager dataManager;
+
+    private Path dataPath = Paths.get(JobManager.CSV_DATA_PATH);
+
+    @Override
+    public DataTableStatisticsDO getLocalStatistics(String tableName) {
+        String nodeId = envService.getPlatformNodeId();
+        File file = dataPath.resolve(tableName).toFile();
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+        } catch (IOException e) {
+            LOGGER.error("data table not exists, data table: {}", tableName);
+            throw EasyPsiException.of(DataErrorCode.FILE_NOT_EXISTS_ERROR, tableName);
+        }
+        long size = attributes.size();
+        long modified = attributes.lastModifiedTime().toMillis();
+        String inode = String.valueOf(attributes.fileKey());
+
+        Optional<DataTableStatisticsDO> statisticsOpt = dataTableStatisticsRepository.findByNodeIdAndTableName(nodeId, tableName);
+        if (statisticsOpt.isPresent() && statisticsOpt.get().matchFingerprint(size, modified, inode)) {
+            LOGGER.debug("data table {} not changed, reuse statistics", tableName);
+            return statisticsOpt.get();
+        }
+        DataTableStatisticsDO statistics = statisticsOpt.orElseGet(() -> DataTableStatisticsDO.builder()
+                .upk(new DataTableStatisticsDO.UPK(nodeId, tableName)).build());
+        long rowCount = countLines(file, tableName);
+        LocalDateTime countTime = LocalDateTime.now();
+        LOGGER.info("data table {} statistics refreshed, row count: {}", tableName, rowCount);
+        return save(statistics, target -> {
+            target.setFilePath(file.getPath());
+            target.setFileSize(size);
+            target.setFileModified(modified);
+            target.setFileInode(inode);
+            target.setRowCount(rowCount);
+            target.setDataInterval(getDataInterval(rowCount));
+            target.setCountTime(countTime);
+        });
+    }
+
+    @Override
+    public void savePartnerDataInterval(String nodeId, String tableName, String dataInterval) {
+        DataTableStatisticsDO statistics = dataTableStatisticsRepository.findByNodeIdAndTableName(nodeId, tableName)
+                .orElseGet(() -> DataTableStatisticsDO.builder().upk(new DataTableStatisticsDO.UPK(nodeId, tableName)).build());
+        LocalDateTime countTime = LocalDateTime.now();
+        save(statistics, target -> {
+            target.setDataInterval(dataInterval);
+            target.setCountTime(countTime);
+        });
+    }
+
+    @Override
+    public String queryDataInterval(String nodeId, String tableName) {
+        return dataTableStatisticsRepository.findByNodeIdAndTableName(nodeId, tableName)
+                .map(DataTableStatisticsDO::getDataInterval)
+                .orElse(null);
+    }
+
+    /**
+     * The first statistics of a table may be inserted by a concurrent request, the unique key rejects the later insert,
+     * which then updates the row inserted first
+     */
+    private DataTableStatisticsDO save(DataTableStatisticsDO statistics, Consumer<DataTableStatisticsDO> update) {
+        update.accept(statistics);
+        try {
+            return dataTableStatisticsRepository.save(statistics);
+        } catch (DataIntegrityViolationException e) {
+            DataTableStatisticsDO.UPK upk = statistics.getUpk();
+            DataTableStatisticsDO stored = dataTableStatisticsRepository.findByNodeIdAndTableName(upk.getNodeId(), upk.getTableName())
+                    .orElseThrow(() -> e);
+            LOGGER.debug("data table {} statistics inserted concurrently, update the stored row", upk.getTableName());
+            update.accept(stored);
+            return dataTableStatisticsRepository.save(stored);
+        }
+    }
+
+    private long countLines(File file, String tableName) {
+        try {
+            return Long.parseLong(Objects.requireNonNull(dataManager.countLinesByCommand(file.getPath(), tableName).get()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.error("data table read interrupted, data table: {}", tableName, e);
+            throw EasyPsiException.of(DataErrorCode.QUERY_DATA_ERROR, tableName);
+        } catch (ExecutionException e) {
+            LOGGER.error("data table read error, data table: {}", tableName, e);
+            throw EasyPsiException.of(DataErrorCode.QUERY_DATA_ERROR, tableName);
+        }
+    }
+
+    private String getDataInterval(Long dataCount) {
+        if (dataCount < 0) {
+            return "L0";
+        } else if (dataCount < 10000) {
+            return "L1";
+        } else if (dataCount < 100000) {
+            return "L2";
+        } else if (dataCount < 1000000) {
+            return "L3";
+        } else if (dataCount < 10000000) {
+            return "L4";
+        } else if (dataCount < 100000000) {
+            return "L5";
+        } else {
+            return "L6";
+        }
+    }
+}
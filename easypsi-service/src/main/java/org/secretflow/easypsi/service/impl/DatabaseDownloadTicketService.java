@@ -0,0 +1,114 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.service.impl;
+
+import org.secretflow.easypsi.persistence.entity.DownloadTicketDO;
+import org.secretflow.easypsi.persistence.repository.DownloadTicketRepository;
+import org.secretflow.easypsi.service.model.project.ProjectJobResultVO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * Download ticket service keeping tickets in the database, tickets survive restarts and are shared by
+ * instances on the same database
+ *
+ * @author agent
+ * @date 2026/10/17
+ */
+@Service
+@ConditionalOnProperty(name = "easypsi.download-ticket.store", havingValue = "db")
+public class DatabaseDownloadTicketService extends AbstractDownloadTicketService {
+
+    private final static Logger LOGGER = LoggerFactory.getLogger(DatabaseDownloadTicketService.class);
+
+    @Autowired
+    private DownloadTicketRepository downloadTicketRepository;
+
+    @Override
+    protected void store(ProjectJobResultVO ticket) {
+        if (downloadTicketRepository.count() >= maxSize) {
+            purge();
+            while (downloadTicketRepository.count() >= maxSize) {
+                Optional<DownloadTicketDO> oldest = downloadTicketRepository.findFirstByOrderByExpireAtAsc();
+                if (oldest.isEmpty()) {
+                    break;
+                }
+                LOGGER.warn("download ticket store is full, evict ticket expiring at {}", new Date(oldest.get().getExpireAt()));
+                downloadTicketRepository.delete(oldest.get());
+                evictions.increment();
+            }
+        }
+        downloadTicketRepository.save(DownloadTicketDO.builder()
+                .hash(ticket.getHash())
+                .path(ticket.getPath())
+                .dir(ticket.getDir())
+                .relativeUri(ticket.getRelativeUri())
+                .remainingUses(ticket.getRemainingUses())
+                .expireAt(ticket.getExpirationTime().getTime())
+                .build());
+    }
+
+    @Override
+    protected Optional<ProjectJobResultVO> consume(String hash) {
+        Optional<DownloadTicketDO> ticket = downloadTicketRepository.findById(hash);
+        if (ticket.isEmpty()) {
+            return Optional.empty();
+        }
+        DownloadTicketDO ticketDO = ticket.get();
+        long expireAt = resumeExpiration(ticketDO.getExpireAt());
+        // the conditional update decides the winner when the same ticket is redeemed concurrently, a used up ticket
+        // is kept until it expires, so the downloads it started can be resumed
+        if (downloadTicketRepository.consumeUse(hash, System.currentTimeMillis(), expireAt) == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(toTicket(ticketDO, ticketDO.getRemainingUses() == null ? null : ticketDO.getRemainingUses() - 1, expireAt));
+    }
+
+    @Override
+    protected Optional<ProjectJobResultVO> find(String hash) {
+        return downloadTicketRepository.findById(hash)
+                .filter(ticketDO -> ticketDO.getExpireAt() > System.currentTimeMillis())
+                .map(ticketDO -> toTicket(ticketDO, ticketDO.getRemainingUses(), ticketDO.getExpireAt()));
+    }
+
+    @Override
+    protected long removeInvalid() {
+        return downloadTicketRepository.deleteExpired(System.currentTimeMillis());
+    }
+
+    private ProjectJobResultVO toTicket(DownloadTicketDO ticketDO, Integer remainingUses, long expireAt) {
+        return ProjectJobResultVO.builder()
+                .hash(ticketDO.getHash())
+                .path(ticketDO.getPath())
+                .dir(ticketDO.getDir())
+                .relativeUri(ticketDO.getRelativeUri())
+                .remainingUses(remainingUses)
+                .expirationTime(new Date(expireAt))
+                .build();
+    }
+
+    @Override
+    public long size() {
+        return downloadTicketRepository.count();
+    }
+}
@@ -15,25 +15,44 @@
  */
 package org.secretflow.easypsi.service.impl;
 
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.secretflow.easypsi.common.util.FileUtils;
 import org.secretflow.easypsi.manager.integration.job.JobManager;
 import org.secretflow.easypsi.service.EnvService;
 import org.secretflow.easypsi.service.JobLogService;
+import org.secretflow.easypsi.service.model.project.JobLogPage;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.util.ObjectUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.File;
 import java.io.FilenameFilter;
-import java.nio.file.Files;
-import java.nio.file.Paths;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
 
 /**
+ * Job logs read from local files
+ * <p>
+ * The log files of a job are read one after another in path order, and pages are addressed by a file name and a byte offset in it,
+ * so a file appearing later does not move the position of a cursor.
+ * Reads go through {@link RandomAccessFile} with a bounded buffer, so memory does not grow with the log size.
+ *
  * @author beiwei
  * @date 2024/03/01
  */
@@ -41,24 +60,373 @@ import java.util.stream.Collectors;
 //@ConditionalOnProperty(name = "easypsi.job-log.type", havingValue = "sls", matchIfMissing = true)
 @Slf4j
 public class JobLogLocalService implements JobLogService {
+
+    /**
+     * Largest page, a longer limit is cut to it
+     */
+    static final int MAX_PAGE_BYTES = 1024 * 1024;
+
+    /**
+     * Most bytes scanned back for tail lines
+     */
+    static final int MAX_TAIL_BYTES = 4 * 1024 * 1024;
+
+    private static final int SCAN_BLOCK_BYTES = 64 * 1024;
+
+    private static final byte LINE_FEED = '\n';
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
     @Autowired
     private EnvService envService;
 
+    /**
+     * Interval of polling a followed log for new lines
+     */
+    @Value("${easypsi.job-log.follow-interval-millis:500}")
+    private long followIntervalMillis;
+
+    /**
+     * Longest time a log is followed by one connection
+     */
+    @Value("${easypsi.job-log.follow-timeout-millis:1800000}")
+    private long followTimeoutMillis;
+
+    private final ScheduledExecutorService followExecutor = Executors.newScheduledThreadPool(2, r -> {
+        Thread thread = new Thread(r, "job-log-follow-" + THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Override
+    public JobLogPage queryJobLog(String jobId, boolean complete) {
+        List<Path> files = getProjectJobLogFiles(jobId);
+        try {
+            return readAll(files, complete);
+        } catch (IOException e) {
+            log.error("{} task log read error, {}", jobId, e.getMessage());
+            return JobLogPage.empty();
+        }
+    }
+
     @Override
-    public List<String> queryJobLog(String jobId) {
-        return getProjectJobLogs(jobId);
+    public JobLogPage readJobLog(String jobId, String file, long offset, int limit, boolean complete) {
+        List<Path> files = getProjectJobLogFiles(jobId);
+        try {
+            return read(files, file, offset, limit, complete);
+        } catch (IOException e) {
+            log.error("{} task log read error, {}", jobId, e.getMessage());
+            return JobLogPage.empty();
+        }
     }
 
-    private List<String> getProjectJobLogs(String jobId) {
+    @Override
+    public JobLogPage tailJobLog(String jobId, int lines, boolean complete) {
+        List<Path> files = getProjectJobLogFiles(jobId);
+        try {
+            return tail(files, lines, complete);
+        } catch (IOException e) {
+            log.error("{} task log read error, {}", jobId, e.getMessage());
+            return JobLogPage.empty();
+        }
+    }
+
+    @Override
+    public SseEmitter followJobLog(String jobId, String file, long offset, BooleanSupplier running) {
+        FileUtils.fileNameCheck(jobId);
+        SseEmitter emitter = new SseEmitter(followTimeoutMillis);
+        AtomicReference<ScheduledFuture<?>> task = new AtomicReference<>();
+        AtomicReference<JobLogPage> cursor = new AtomicReference<>(new JobLogPage(List.of(), file, Math.max(0, offset), file, Math.max(0, offset)));
+        Runnable poll = () -> {
+            try {
+                // checked before reading, so every line written before the job stopped is read below
+                boolean complete = !running.getAsBoolean();
+                JobLogPage page;
+                do {
+                    page = read(getProjectJobLogFiles(jobId), cursor.get().getNextFile(), cursor.get().getNextOffset(), MAX_PAGE_BYTES, complete);
+                    if (!page.getLines().isEmpty()) {
+                        emitter.send(SseEmitter.event().name("log").data(page, MediaType.APPLICATION_JSON));
+                        cursor.set(page);
+                    }
+                } while (!page.getLines().isEmpty());
+                if (complete) {
+                    JobLogPage last = cursor.get();
+                    emitter.send(SseEmitter.event().name("end")
+                            .data(new JobLogPage(List.of(), last.getNextFile(), last.getNextOffset(), last.getNextFile(), last.getNextOffset()), MediaType.APPLICATION_JSON));
+                    emitter.complete();
+                    cancel(task);
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("{} task log follow stopped, {}", jobId, e.getMessage());
+                emitter.completeWithError(e);
+                cancel(task);
+            }
+        };
+        emitter.onCompletion(() -> cancel(task));
+        emitter.onTimeout(() -> cancel(task));
+        emitter.onError(e -> cancel(task));
+        task.set(followExecutor.scheduleWithFixedDelay(poll, 0, followIntervalMillis, TimeUnit.MILLISECONDS));
+        return emitter;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        followExecutor.shutdownNow();
+    }
+
+    private static void cancel(AtomicReference<ScheduledFuture<?>> task) {
+        ScheduledFuture<?> future = task.get();
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+
+    /**
+     * Read the whole log page by page
+     *
+     * @param files    log files sorted by path
+     * @param complete whether the job stopped writing, an unterminated last line is only returned then
+     * @return log page of every line
+     * @throws IOException
+     */
+    JobLogPage readAll(List<Path> files, boolean complete) throws IOException {
+        if (files.isEmpty()) {
+            return JobLogPage.empty();
+        }
+        JobLogPage page = read(files, null, 0, MAX_PAGE_BYTES, complete);
+        List<String> lines = new ArrayList<>(page.getLines());
+        while (!page.getLines().isEmpty()) {
+            page = read(files, page.getNextFile(), page.getNextOffset(), MAX_PAGE_BYTES, complete);
+            lines.addAll(page.getLines());
+        }
+        return new JobLogPage(lines, fileName(files.get(0)), 0, page.getNextFile(), page.getNextOffset());
+    }
+
+    /**
+     * Read whole lines from a byte offset in a log file, going on with the following files
+     * <p>
+     * A line longer than the limit is returned cut, only when it fills the whole buffer, so that reading always advances.
+     * The unterminated last line of a running job is left for a later read, and the cursor stays put when no line is read.
+     *
+     * @param files    log files sorted by path
+     * @param file     name of the file the offset belongs to, the first file when absent
+     * @param offset   byte offset in the file
+     * @param limit    most bytes to read
+     * @param complete whether the job stopped writing, an unterminated last line is only returned then
+     * @return log page
+     * @throws IOException
+     */
+    JobLogPage read(List<Path> files, String file, long offset, int limit, boolean complete) throws IOException {
+        int index = file == null ? 0 : indexOf(files, file);
+        if (files.isEmpty() || index < 0) {
+            return new JobLogPage(List.of(), file, offset, file, offset);
+        }
+        return readLines(files, index, Math.max(0, offset), Math.max(1, Math.min(limit, MAX_PAGE_BYTES)), complete);
+    }
+
+    /**
+     * Read the last lines, scanning back at most {@link #MAX_TAIL_BYTES}
+     *
+     * @param files    log files sorted by path
+     * @param lines    line count
+     * @param complete whether the job stopped writing, an unterminated last line is only counted and returned then
+     * @return log page ending at the end of the last file
+     * @throws IOException
+     */
+    JobLogPage tail(List<Path> files, int lines, boolean complete) throws IOException {
+        if (files.isEmpty()) {
+            return JobLogPage.empty();
+        }
+        int last = files.size() - 1;
+        long lastEnd = complete ? size(files.get(last)) : lastLineEnd(files.get(last));
+        int startIndex = last;
+        long start = lastEnd;
+        long budget = MAX_TAIL_BYTES;
+        int found = 0;
+        byte[] block = new byte[SCAN_BLOCK_BYTES];
+        scan:
+        for (int index = last; index >= 0 && found < lines && budget > 0; index--) {
+            long end = index == last ? lastEnd : size(files.get(index));
+            if (end == 0) {
+                continue;
+            }
+            // a line feed ending the file does not start another line
+            long position = end - 1;
+            while (position > 0) {
+                if (budget <= 0) {
+                    break scan;
+                }
+                int length = (int) Math.min(Math.min(SCAN_BLOCK_BYTES, position), budget);
+                long blockStart = position - length;
+                int read = readFully(files.get(index), blockStart, block, length);
+                for (int i = read - 1; i >= 0; i--) {
+                    if (block[i] == LINE_FEED) {
+                        startIndex = index;
+                        start = blockStart + i + 1;
+                        if (++found == lines) {
+                            break scan;
+                        }
+                    }
+                }
+                budget -= length;
+                position = blockStart;
+            }
+            // the first line of the file
+            startIndex = index;
+            start = 0;
+            found++;
+        }
+        // the line feeds ending the files are not counted in the scan budget
+        JobLogPage page = readLines(files, startIndex, start, MAX_TAIL_BYTES + files.size(), complete);
+        if (page.getLines().isEmpty()) {
+            return new JobLogPage(List.of(), fileName(files.get(last)), lastEnd, fileName(files.get(last)), lastEnd);
+        }
+        return page;
+    }
+
+    private JobLogPage readLines(List<Path> files, int index, long offset, int limit, boolean complete) throws IOException {
+        String file = fileName(files.get(index));
+        long start = offset;
+        long position = offset;
+        int budget = limit;
+        List<String> lines = new ArrayList<>();
+        while (budget > 0) {
+            long size = size(files.get(index));
+            boolean lastFile = index == files.size() - 1;
+            if (position >= size) {
+                if (lastFile) {
+                    break;
+                }
+                // a file is only left at its end, it is not written any more once the next one exists
+                index++;
+                position = 0;
+                if (lines.isEmpty()) {
+                    file = fileName(files.get(index));
+                    start = 0;
+                }
+                continue;
+            }
+            int length = (int) Math.min(budget, size - position);
+            byte[] buffer = new byte[length];
+            int read = readFully(files.get(index), position, buffer, length);
+            boolean endOfFile = position + read >= size;
+            int end = 0;
+            for (int i = read - 1; i >= 0; i--) {
+                if (buffer[i] == LINE_FEED) {
+                    end = i + 1;
+                    break;
+                }
+            }
+            if (endOfFile && (!lastFile || complete)) {
+                end = read;
+            } else if (end == 0 && lines.isEmpty() && read == limit) {
+                end = read;
+            }
+            if (end == 0) {
+                break;
+            }
+            lines.addAll(splitLines(buffer, end));
+            position += end;
+            budget -= end;
+            if (end < read || read < length) {
+                break;
+            }
+        }
+        if (lines.isEmpty()) {
+            return new JobLogPage(List.of(), fileName(files.get(index)), position, fileName(files.get(index)), position);
+        }
+        return new JobLogPage(lines, file, start, fileName(files.get(index)), position);
+    }
+
+    /**
+     * Byte offset after the last line feed, scanning back at most {@link #MAX_TAIL_BYTES}
+     */
+    private static long lastLineEnd(Path file) throws IOException {
+        long size = size(file);
+        long floor = Math.max(0, size - MAX_TAIL_BYTES);
+        byte[] block = new byte[SCAN_BLOCK_BYTES];
+        long position = size;
+        while (position > floor) {
+            int length = (int) Math.min(SCAN_BLOCK_BYTES, position - floor);
+            long blockStart = position - length;
+            int read = readFully(file, blockStart, block, length);
+            for (int i = read - 1; i >= 0; i--) {
+                if (block[i] == LINE_FEED) {
+                    return blockStart + i + 1;
+                }
+            }
+            position = blockStart;
+        }
+        return floor;
+    }
+
+    private static int indexOf(List<Path> files, String file) {
+        for (int i = 0; i < files.size(); i++) {
+            if (fileName(files.get(i)).equals(file)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String fileName(Path file) {
+        return file.getFileName().toString();
+    }
+
+    private static long size(Path file) {
+        return file.toFile().length();
+    }
+
+    /**
+     * Read bytes of a file from a position, fewer when the file ends first
+     *
+     * @return bytes read
+     */
+    private static int readFully(Path path, long position, byte[] buffer, int length) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "r")) {
+            file.seek(position);
+            int read = 0;
+            while (read < length) {
+                int n = file.read(buffer, read, length - read);
+                if (n < 0) {
+                    break;
+                }
+                read += n;
+            }
+            return read;
+        }
+    }
+
+    private static List<String> splitLines(byte[] buffer, int length) {
+        List<String> lines = new ArrayList<>();
+        int lineStart = 0;
+        for (int i = 0; i < length; i++) {
+            if (buffer[i] == LINE_FEED) {
+                lines.add(decode(buffer, lineStart, i));
+                lineStart = i + 1;
+            }
+        }
+        if (lineStart < length) {
+            lines.add(decode(buffer, lineStart, length));
+        }
+        return lines;
+    }
+
+    private static String decode(byte[] buffer, int start, int end) {
+        if (end > start && buffer[end - 1] == '\r') {
+            end--;
+        }
+        return new String(buffer, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    private List<Path> getProjectJobLogFiles(String jobId) {
         String directoryPath = JobManager.PROJECT_JOB_LOGS;
-        log.info("get project job logs check job id: {}", jobId);
         FileUtils.fileNameCheck(jobId);
         String pattern = envService.getPlatformNodeId() + "_" + jobId + "-0";
         File directory = new File(directoryPath);
         FilenameFilter filenameFilter = (dir, name) -> name.startsWith(pattern);
         File[] matchingFiles = directory.listFiles(filenameFilter);
         String fileName = null;
-        List<String> projectJobLogs = new ArrayList<>();
         long lastModified = 0L;
         if (matchingFiles != null) {
             for (File file : matchingFiles) {
@@ -68,25 +436,15 @@ public class JobLogLocalService implements JobLogService {
                 }
             }
         }
+        if (ObjectUtils.isEmpty(fileName)) {
+            log.warn("{} task log not exit", jobId);
+            return Collections.emptyList();
+        }
         List<String> filePaths = FileUtils.traverseDirectories(new File(directoryPath + File.separator + fileName + File.separator + "secretflow"), ".log", FileUtils.FILE_PATH);
         if (filePaths == null) {
             log.warn("{} task log path not exit", jobId);
             return Collections.emptyList();
         }
-        try {
-            for (String filePath : filePaths) {
-                projectJobLogs.addAll(Files.lines(Paths.get(filePath)).collect(Collectors.toList()));
-            }
-        } catch (Exception e) {
-            log.error("{} task log not exit", jobId);
-            return Collections.emptyList();
-        }
-
-        if (ObjectUtils.isEmpty(fileName)) {
-            log.warn("{} task log not exit", jobId);
-            return Collections.emptyList();
-        }
-        return projectJobLogs;
+        return filePaths.stream().sorted().map(Path::of).toList();
     }
-
 }
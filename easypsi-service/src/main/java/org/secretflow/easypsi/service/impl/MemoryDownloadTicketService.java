@@ -0,0 +1,113 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.service.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import jakarta.annotation.PostConstruct;
+import org.secretflow.easypsi.service.model.project.ProjectJobResultVO;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Download ticket service keeping tickets in a size bounded cache, expired tickets are removed by the purge
+ *
+ * @author agent
+ * @date 2026/10/17
+ */
+@Service
+@ConditionalOnProperty(name = "easypsi.download-ticket.store", havingValue = "memory", matchIfMissing = true)
+public class MemoryDownloadTicketService extends AbstractDownloadTicketService {
+
+    private Cache<String, ProjectJobResultVO> tickets;
+
+    @PostConstruct
+    public void init() {
+        tickets = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                // a redeemed ticket lives up to the resume ttl, the cache only drops tickets no longer valid either way
+                .expireAfterWrite(ttl.compareTo(resumeTtl) > 0 ? ttl : resumeTtl)
+                .removalListener((RemovalNotification<String, ProjectJobResultVO> notification) -> {
+                    if (notification.wasEvicted()) {
+                        evictions.increment();
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    protected void store(ProjectJobResultVO ticket) {
+        tickets.put(ticket.getHash(), ticket);
+    }
+
+    @Override
+    protected Optional<ProjectJobResultVO> consume(String hash) {
+        AtomicReference<ProjectJobResultVO> redeemed = new AtomicReference<>();
+        tickets.asMap().computeIfPresent(hash, (key, ticket) -> {
+            if (expired(ticket)) {
+                return null;
+            }
+            Integer remaining = ticket.getRemainingUses();
+            // a used up ticket is kept until it expires, so the downloads it started can be resumed
+            if (remaining != null && remaining <= 0) {
+                return ticket;
+            }
+            ProjectJobResultVO next = ticket.toBuilder()
+                    .remainingUses(remaining == null ? null : remaining - 1)
+                    .expirationTime(new Date(resumeExpiration(ticket.getExpirationTime().getTime())))
+                    .build();
+            redeemed.set(next);
+            return next;
+        });
+        return Optional.ofNullable(redeemed.get());
+    }
+
+    @Override
+    protected Optional<ProjectJobResultVO> find(String hash) {
+        return Optional.ofNullable(tickets.getIfPresent(hash)).filter(ticket -> !expired(ticket));
+    }
+
+    @Override
+    protected long removeInvalid() {
+        long removed = 0;
+        Iterator<ProjectJobResultVO> iterator = tickets.asMap().values().iterator();
+        while (iterator.hasNext()) {
+            if (expired(iterator.next())) {
+                iterator.remove();
+                removed++;
+            }
+        }
+        // entries dropped by the cache itself are counted by the removal listener
+        tickets.cleanUp();
+        return removed;
+    }
+
+    private boolean expired(ProjectJobResultVO ticket) {
+        return ticket.getExpirationTime().getTime() <= System.currentTimeMillis();
+    }
+
+    @Override
+    public long size() {
+        return tickets.size();
+    }
+}
@@ -19,7 +19,9 @@ package org.secretflow.easypsi.service.impl;
 import org.secretflow.easypsi.common.constant.DomainRouterConstants;
 import org.secretflow.easypsi.common.errorcode.NodeRouteErrorCode;
 import org.secretflow.easypsi.common.exception.EasyPsiException;
+import org.secretflow.easypsi.manager.integration.health.NodeHealthRegistry;
 import org.secretflow.easypsi.manager.integration.model.CreateNodeRouteParam;
+import org.secretflow.easypsi.manager.integration.model.NodeDTO;
 import org.secretflow.easypsi.manager.integration.model.UpdateNodeRouteParam;
 import org.secretflow.easypsi.manager.integration.node.NodeManager;
 import org.secretflow.easypsi.manager.integration.noderoute.AbstractNodeRouteManager;
@@ -43,7 +45,11 @@ import org.springframework.util.ObjectUtils;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -64,17 +70,21 @@ public class NodeRouterServiceImpl implements NodeRouterService {
     private NodeManager nodeManager;
     @Autowired
     private EnvService envService;
+    @Autowired
+    private NodeHealthRegistry nodeHealthRegistry;
 
     @Override
     public String createNodeRouter(CreateNodeRouterRequest request) {
         LOGGER.info("create node route:{}", request);
-        return String.valueOf(nodeRouteManager.createNodeRoute(CreateNodeRouteParam.builder()
+        Long routeId = nodeRouteManager.createNodeRoute(CreateNodeRouteParam.builder()
                 .srcNodeId(request.getSrcNodeId())
                 .dstNodeId(request.getDstNodeId())
                 .routeType(request.getRouteType())
                 .srcNetAddress(replaceNetAddressProtocol(request.getSrcNetAddress()))
                 .dstNetAddress(replaceNetAddressProtocol(request.getDstNetAddress()))
-                .build(), false));
+                .build(), false);
+        nodeHealthRegistry.invalidateRoute(request.getSrcNodeId(), request.getDstNodeId());
+        return String.valueOf(routeId);
     }
 
     @Override
@@ -82,11 +92,17 @@ public class NodeRouterServiceImpl implements NodeRouterService {
         String platformNodeId = envService.getPlatformNodeId();
         List<NodeRouteDO> nodeRouteDO = nodeRouteRepository.listQuery(platformNodeId);
         List<NodeRouterVO> data = nodeRouteDO.stream().map(NodeRouterVO::fromDo).collect(Collectors.toList());
+        // every domain is queried once and every route direction at the same time, so the list waits one round trip
+        Map<String, CompletableFuture<NodeDTO>> nodes = new HashMap<>();
+        List<CompletableFuture<?>> queries = new ArrayList<>();
         data.forEach(d -> {
-            d.setSrcNode(NodeVO.from(nodeManager.getNode(d.getSrcNodeId())));
-            d.setDstNode(NodeVO.from(nodeManager.getNode(d.getDstNodeId())));
-            d.setStatus(getNodeRouteStatus(d.getSrcNodeId(), d.getDstNodeId()));
+            queries.add(nodes.computeIfAbsent(d.getSrcNodeId(), nodeManager::getNodeAsync)
+                    .thenAccept(node -> d.setSrcNode(NodeVO.from(node))));
+            queries.add(nodes.computeIfAbsent(d.getDstNodeId(), nodeManager::getNodeAsync)
+                    .thenAccept(node -> d.setDstNode(NodeVO.from(node))));
+            queries.add(getNodeRouteStatusAsync(d.getSrcNodeId(), d.getDstNodeId()).thenAccept(d::setStatus));
         });
+        CompletableFuture.allOf(queries.toArray(new CompletableFuture[0])).join();
         return data;
     }
 
@@ -106,6 +122,7 @@ public class NodeRouterServiceImpl implements NodeRouterService {
                 .nodeRouteId(Long.parseLong(request.getRouterId()))
                 .dstNetAddress(replaceNetAddressProtocol(request.getDstNetAddress()))
                 .build());
+        nodeHealthRegistry.invalidateRoute(byRouteId.getSrcNodeId(), byRouteId.getDstNodeId());
     }
 
     @Override
@@ -116,9 +133,10 @@ public class NodeRouterServiceImpl implements NodeRouterService {
             throw EasyPsiException.of(NodeRouteErrorCode.NODE_ROUTE_NOT_EXIST_ERROR, "route not exist");
         }
         NodeRouterVO nodeRouterVO = NodeRouterVO.fromDo(byRouteId);
+        CompletableFuture<String> status = getNodeRouteStatusAsync(nodeRouterVO.getSrcNodeId(), nodeRouterVO.getDstNodeId());
         nodeRouterVO.setSrcNode(NodeVO.from(nodeManager.getNode(nodeRouterVO.getSrcNodeId())));
         nodeRouterVO.setDstNode(NodeVO.from(nodeManager.getNode(nodeRouterVO.getDstNodeId())));
-        nodeRouterVO.setStatus(getNodeRouteStatus(nodeRouterVO.getSrcNodeId(), nodeRouterVO.getDstNodeId()));
+        nodeRouterVO.setStatus(status.join());
         return nodeRouterVO;
     }
     @Override
@@ -127,18 +145,32 @@ public class NodeRouterServiceImpl implements NodeRouterService {
         if (ObjectUtils.isEmpty(srcNodeNodeId) || ObjectUtils.isEmpty(dstNodeNodeId)) {
             return null;
         }
+        return getNodeRouteStatusAsync(srcNodeNodeId, dstNodeNodeId).join();
+    }
+
+    /**
+     * Query both directions of the route at the same time
+     */
+    private CompletableFuture<String> getNodeRouteStatusAsync(String srcNodeNodeId, String dstNodeNodeId) {
         nodeRouteManager.checkRouteNotExist(srcNodeNodeId, dstNodeNodeId);
-        DomainRoute.RouteStatus routeStatusGo = null ,routeStatusCome = null;
-        try {
-            routeStatusGo = nodeRouteManager.getRouteStatus(srcNodeNodeId, dstNodeNodeId);
-            routeStatusCome = nodeRouteManager.getRouteStatus(dstNodeNodeId, srcNodeNodeId);
-        }catch (Exception e){
-            log.error("get node route srcNode:{} dstNode:{} error", srcNodeNodeId, dstNodeNodeId);
-        }
-        if (!ObjectUtils.isEmpty(routeStatusCome) && !ObjectUtils.isEmpty(routeStatusGo)) {
-            return routeStatusGo.getStatus().equals(routeStatusCome.getStatus()) ? routeStatusGo.getStatus() : DomainRouterConstants.DomainRouterStatusEnum.Failed.name();
-        }
-        return DomainRouterConstants.DomainRouterStatusEnum.Failed.name();
+        return getRouteStatusAsync(srcNodeNodeId, dstNodeNodeId).thenCombine(getRouteStatusAsync(dstNodeNodeId, srcNodeNodeId),
+                (routeStatusGo, routeStatusCome) -> {
+                    if (!ObjectUtils.isEmpty(routeStatusCome) && !ObjectUtils.isEmpty(routeStatusGo)) {
+                        return routeStatusGo.getStatus().equals(routeStatusCome.getStatus()) ? routeStatusGo.getStatus() : DomainRouterConstants.DomainRouterStatusEnum.Failed.name();
+                    }
+                    return DomainRouterConstants.DomainRouterStatusEnum.Failed.name();
+                });
+    }
+
+    private CompletableFuture<DomainRoute.RouteStatus> getRouteStatusAsync(String srcNodeNodeId, String dstNodeNodeId) {
+        return nodeRouteManager.getRouteStatusAsync(srcNodeNodeId, dstNodeNodeId).handle((routeStatus, e) -> {
+            if (e != null) {
+                log.error("get node route srcNode:{} dstNode:{} error: {}", srcNodeNodeId, dstNodeNodeId, e.getMessage());
+                return null;
+            }
+            nodeHealthRegistry.pushRouteStatus(srcNodeNodeId, dstNodeNodeId, routeStatus);
+            return routeStatus;
+        });
     }
 
     @Override
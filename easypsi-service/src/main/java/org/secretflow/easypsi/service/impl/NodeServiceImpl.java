@@ -40,6 +40,7 @@ import org.secretflow.easypsi.persistence.repository.SysUserPermissionRelReposit
 import org.secretflow.easypsi.service.EnvService;
 import org.secretflow.easypsi.service.NodeRouterService;
 import org.secretflow.easypsi.service.NodeService;
+import org.secretflow.easypsi.service.SysResourcesBizService;
 import org.secretflow.easypsi.service.model.node.*;
 import org.secretflow.easypsi.service.model.noderoute.CreateNodeRouterRequest;
 import org.secretflow.v1alpha1.kusciaapi.Domain;
@@ -85,6 +86,9 @@ public class NodeServiceImpl implements NodeService {
     @Autowired
     private SysUserPermissionRelRepository permissionRelRepository;
 
+    @Autowired
+    private SysResourcesBizService sysResourcesBizService;
+
     @Override
     @Transactional(rollbackFor = Exception.class)
     public String createNode(CreateNodeRequest request) {
@@ -133,6 +137,7 @@ public class NodeServiceImpl implements NodeService {
         nodeManager.deleteNode(byRouteId.getDstNodeId());
         nodeRouteManager.deleteNodeRoute(id);
         permissionRelRepository.deleteByUserKey(byRouteId.getDstNodeId());
+        sysResourcesBizService.invalidatePermissions();
     }
 
     @Override
@@ -190,6 +195,7 @@ public class NodeServiceImpl implements NodeService {
         upk.setTargetCode(RoleCodeConstants.P2P_NODE);
         sysUserPermission.setUpk(upk);
         permissionRelRepository.save(sysUserPermission);
+        sysResourcesBizService.invalidatePermissions();
     }
 
     private X509Certificate parseCertificate(String certText) {
@@ -16,22 +16,29 @@
 
 package org.secretflow.easypsi.service.impl;
 
-import jakarta.persistence.criteria.Predicate;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
+import org.secretflow.easypsi.common.constant.CompressFormat;
 import org.secretflow.easypsi.common.constant.JobConstants;
+import org.secretflow.easypsi.common.dto.CompressOptions;
 import org.secretflow.easypsi.common.dto.DownloadInfo;
 import org.secretflow.easypsi.common.errorcode.JobErrorCode;
+import org.secretflow.easypsi.common.errorcode.SystemErrorCode;
 import org.secretflow.easypsi.common.exception.EasyPsiException;
 import org.secretflow.easypsi.common.util.*;
+import org.secretflow.easypsi.manager.integration.data.DataTableIndex;
 import org.secretflow.easypsi.manager.integration.job.AbstractJobManager;
 import org.secretflow.easypsi.manager.integration.job.JobManager;
+import org.secretflow.easypsi.manager.integration.model.DataTableDTO;
 import org.secretflow.easypsi.manager.integration.node.NodeManager;
 import org.secretflow.easypsi.persistence.entity.ProjectJobDO;
 import org.secretflow.easypsi.persistence.model.GraphJobOperation;
 import org.secretflow.easypsi.persistence.model.GraphJobStatus;
+import org.secretflow.easypsi.persistence.model.ProjectJobListView;
 import org.secretflow.easypsi.persistence.model.PsiConfigDO;
 import org.secretflow.easypsi.persistence.repository.ProjectJobRepository;
+import org.secretflow.easypsi.service.DataTableStatisticsService;
+import org.secretflow.easypsi.service.DownloadTicketService;
 import org.secretflow.easypsi.service.EnvService;
 import org.secretflow.easypsi.service.JobLogService;
 import org.secretflow.easypsi.service.ProjectService;
@@ -55,16 +62,15 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ObjectUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
-import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.concurrent.Future;
 import java.util.stream.Collectors;
@@ -104,44 +110,53 @@ public class ProjectServiceImpl implements ProjectService {
     @Autowired
     private JobLogService jobLogService;
 
-    private static Map<String, ProjectJobResultVO> jobResult = new HashMap<>();
+    @Autowired
+    private DataTableStatisticsService dataTableStatisticsService;
+
+    @Autowired
+    private DataTableIndex dataTableIndex;
+
+    @Autowired
+    private DownloadTicketService downloadTicketService;
+
+    private static final LocalDateTime EDGE_JOB_CURSOR_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final int EDGE_JOB_DELTA_LIMIT = 200;
+
+    private static final long EDGE_JOB_SETTLE_SECONDS = 2;
+
     @Value("${easypsi.data.dir-path:/app/data/}")
     private String storeDir;
 
     @Value("${easypsi.gateway}")
     private String gateway;
 
+    @Value("${easypsi.compress.level:-1}")
+    private int compressLevel;
+
+    @Value("${easypsi.compress.parallelism:1}")
+    private int compressParallelism;
+
+    @Value("${easypsi.compress.format:GZIP}")
+    private CompressFormat compressFormat;
+
+    @Value("${easypsi.compress.streaming:true}")
+    private boolean compressStreaming;
+
+    @Value("${easypsi.job-log.page-bytes:65536}")
+    private int jobLogPageBytes;
+
 
     @Override
     public EasyPsiPageResponse<ProjectJobListVO> listProjectJob(ListProjectJobRequest request) {
         Sort.Direction direction = StringUtils.equals(Sort.Direction.ASC.name(), request.getSortType()) ? Sort.Direction.ASC
                 : Sort.Direction.DESC;
-        Specification<ProjectJobDO> specification = (root, criteriaQuery, criteriaBuilder) -> {
-            List<Predicate> predicates = new ArrayList<Predicate>();
-            if (!CollectionUtils.isEmpty(request.getStatusFilter())) {
-                predicates.add(root.get("status").in(request.getStatusFilter()));
-            }
-            Predicate[] array_and = predicates.toArray(new Predicate[predicates.size()]);
-            Predicate pre_and = criteriaBuilder.and(array_and);
-            Predicate pre_or = null;
-            if (StringUtils.isNotBlank(request.getSearch())) {
-                List<Predicate> predicateList = new ArrayList<Predicate>();
-                predicateList.add(criteriaBuilder.like(root.get("initiatorNodeId"), "%" + request.getSearch() + "%"));
-                predicateList.add(criteriaBuilder.like(root.get("partnerNodeId"), "%" + request.getSearch() + "%"));
-                predicateList.add(criteriaBuilder.like(root.get("name"), "%" + request.getSearch() + "%"));
-                Predicate[] array_or = predicateList.toArray(new Predicate[predicateList.size()]);
-                pre_or = criteriaBuilder.or(array_or);
-            }
-            if (null == pre_or) {
-                criteriaQuery.where(pre_and);
-            } else {
-                criteriaQuery.where(pre_and, pre_or);
-            }
-            return criteriaQuery.getRestriction();
-        };
+        Collection<GraphJobStatus> status = CollectionUtils.isEmpty(request.getStatusFilter())
+                ? EnumSet.allOf(GraphJobStatus.class) : request.getStatusFilter();
+        String search = StringUtils.isBlank(request.getSearch()) ? "%" : "%" + request.getSearch() + "%";
         Pageable pageable = PageRequest.of(request.getPageNum() - 1, request.getPageSize(), direction, request.getSortKey());
 
-        Page<ProjectJobDO> page = projectJobRepository.findAll(specification, pageable);
+        Page<ProjectJobListView> page = projectJobRepository.pageListView(status, search, pageable);
         if (ObjectUtils.isEmpty(page) || page.getTotalElements() == 0) {
             return EasyPsiPageResponse.toPage(null, 0);
         }
@@ -247,6 +262,10 @@ public class ProjectServiceImpl implements ProjectService {
 
         String jobId = UUIDUtils.random(8);
         CreateProjectJobTaskRequest taskRequest = CreateProjectJobTaskRequest.fromJobRequest(request, jobId);
+        if (Boolean.TRUE.equals(request.getAdvancedConfig().getDataTableConfirmation())) {
+            fillDataTableCount(taskRequest.getInitiatorConfig(), request.getInitiatorConfig());
+            fillDataTableCount(taskRequest.getPartnerConfig(), request.getPartnerConfig());
+        }
         ProjectJobDO jobDO = saveJob(taskRequest);
         createFile(jobDO);
         taskRequest.setJobId(jobId);
@@ -260,6 +279,10 @@ public class ProjectServiceImpl implements ProjectService {
                 .build();
     }
 
+    private void fillDataTableCount(CreateProjectJobTaskRequest.PsiConfig taskPsiConfig, CreateProjectJobRequest.PsiConfig psiConfig) {
+        taskPsiConfig.setDataTableCount(dataTableStatisticsService.queryDataInterval(psiConfig.getNodeId(), psiConfig.getPath()));
+    }
+
     private void createJobFileNameCheck(CreateProjectJobRequest request) {
         LOGGER.info("check initiatorConfig file name: {}", request.getInitiatorConfig().getPath());
         FileUtils.fileNameCheck(request.getInitiatorConfig().getPath());
@@ -281,11 +304,10 @@ public class ProjectServiceImpl implements ProjectService {
 
         CreateProjectJobTaskRequest.PsiConfig partnerConfig = request.getPartnerConfig();
         PsiConfigDO partnerPsiConfigDO = convertPsiConfig(partnerConfig, jobDO.getUpk().getJobId());
-        jobDO.setPartnerConfig(JsonUtils.toJSONString(partnerPsiConfigDO));
 
         CreateProjectJobTaskRequest.PsiConfig initiatorConfig = request.getInitiatorConfig();
         PsiConfigDO initatorPsiConfigDO = convertPsiConfig(initiatorConfig, jobDO.getUpk().getJobId());
-        jobDO.setInitiatorConfig(JsonUtils.toJSONString(initatorPsiConfigDO));
+        jobDO.applyPsiConfig(initatorPsiConfigDO, partnerPsiConfigDO);
 
         jobDO.setInitiatorNodeId(request.getInitiatorConfig().getNodeId());
         jobDO.setPartnerNodeId(request.getPartnerConfig().getNodeId());
@@ -557,14 +579,7 @@ public class ProjectServiceImpl implements ProjectService {
         jobDOListNotFinished.forEach(job -> {
             List<ProjectJobVO> jobVOList = jobs.stream().filter(t -> StringUtils.equalsIgnoreCase(t.getJobId(), job.getUpk().getJobId())).toList();
             ProjectJobVO projectJobVO = jobVOList.get(0);
-            job.setStatus(projectJobVO.getStatus());
-            if (StringUtils.isNotBlank(projectJobVO.getGmtFinished())) {
-                job.setFinishedTime(DateTimes.eightUtcFromRfc3339(projectJobVO.getGmtFinished()));
-            }
-            if (StringUtils.isNotBlank(projectJobVO.getStartTime())) {
-                job.setStartTime(DateTimes.eightUtcFromRfc3339(projectJobVO.getStartTime()));
-            }
-            job.setErrMsg(projectJobVO.getErrMsg());
+            applyEdgeJobStatus(job, projectJobVO.getStatus(), projectJobVO.getStartTime(), projectJobVO.getGmtFinished(), projectJobVO.getErrMsg());
             // delete tmp file
             if ((StringUtils.equalsIgnoreCase(GraphJobStatus.FAILED.name(), projectJobVO.getStatus().name()) && !projectJobVO.getInitiatorConfig().getRecoveryConfig().getEnabled())) {
                 LOGGER.info("delete not finished jobs tmp file");
@@ -574,6 +589,54 @@ public class ProjectServiceImpl implements ProjectService {
         projectJobRepository.saveAll(jobDOListNotFinished);
     }
 
+    @Override
+    public void syncHostNodeProjectJobDelta(List<EdgeJobStatusVO> jobs) {
+        if (CollectionUtils.isEmpty(jobs)) {
+            return;
+        }
+        Map<String, EdgeJobStatusVO> jobStatusMap = jobs.stream()
+                .collect(Collectors.toMap(EdgeJobStatusVO::getJobId, t -> t, (older, newer) -> newer));
+        List<ProjectJobDO> projectJobDOList = projectJobRepository.findByJobIds(new ArrayList<>(jobStatusMap.keySet()));
+        List<ProjectJobDO> jobDOListNotFinished = new ArrayList<>();
+        for (ProjectJobDO job : projectJobDOList) {
+            String jobId = job.getUpk().getJobId();
+            if (job.isFinished()) {
+                deleteFile(jobId);
+                continue;
+            }
+            EdgeJobStatusVO jobStatus = jobStatusMap.get(jobId);
+            applyEdgeJobStatus(job, jobStatus.getStatus(), jobStatus.getStartTime(), jobStatus.getGmtFinished(), jobStatus.getErrMsg());
+            if (jobStatus.getStatus() == GraphJobStatus.FAILED && !isRecoveryEnabled(job)) {
+                LOGGER.info("delete failed job {} tmp file", jobId);
+                deleteFile(jobId);
+            }
+            jobDOListNotFinished.add(job);
+        }
+        LOGGER.info("sync edge job delta, received {} jobs, updated {} jobs", jobs.size(), jobDOListNotFinished.size());
+        if (!jobDOListNotFinished.isEmpty()) {
+            projectJobRepository.saveAll(jobDOListNotFinished);
+        }
+    }
+
+    private void applyEdgeJobStatus(ProjectJobDO job, GraphJobStatus status, String startTime, String gmtFinished, String errMsg) {
+        job.setStatus(status);
+        if (StringUtils.isNotBlank(gmtFinished)) {
+            job.setFinishedTime(DateTimes.eightUtcFromRfc3339(gmtFinished));
+        }
+        if (StringUtils.isNotBlank(startTime)) {
+            job.setStartTime(DateTimes.eightUtcFromRfc3339(startTime));
+        }
+        job.setErrMsg(errMsg);
+    }
+
+    private boolean isRecoveryEnabled(ProjectJobDO job) {
+        if (StringUtils.isBlank(job.getInitiatorConfig())) {
+            return false;
+        }
+        PsiConfigDO.RecoveryConfig recoveryConfig = JsonUtils.toJavaObject(job.getInitiatorConfig(), PsiConfigDO.class).getRecoveryConfig();
+        return recoveryConfig != null && Boolean.TRUE.equals(recoveryConfig.getEnabled());
+    }
+
 
     private void deleteFile(String jobId) {
         FileUtils.deleteAllFile(storeDir + JobManager.PROJECT_JOB_TASK_TMP + jobId);
@@ -613,28 +676,26 @@ public class ProjectServiceImpl implements ProjectService {
         String dir = storeDir;
         String relativeUri = path.replace(dir, "");
 
-        String hash = UUIDUtils.newUUID();
-        Date date = new Date();
-        jobResult.put(hash, ProjectJobResultVO.builder().hash(hash).path(path).dir(dir).relativeUri(relativeUri)
-                .expirationTime(new Date(date.getTime() + 30000)).build());
-        ProjectJobResultVO.builder().build();
-        return hash;
+        return downloadTicketService.issue(ProjectJobResultVO.builder().hash(UUIDUtils.newUUID()).path(path).dir(dir).relativeUri(relativeUri).build());
     }
 
     @Override
-    public DownloadInfo getloadProjectResult(String hash) {
-        ProjectJobResultVO projectJobResultVO = jobResult.get(hash);
-        Date date = new Date();
-        if (ObjectUtils.isEmpty(projectJobResultVO) || date.compareTo(projectJobResultVO.getExpirationTime()) > 0) {
-            jobResult.remove(hash);
-            throw EasyPsiException.of(JobErrorCode.PROJECT_JOB_RESULT_HASH_EXPIRED_ERROR);
-        }
+    public DownloadInfo getloadProjectResult(String hash, boolean resume) {
+        // a range request continues the download of a redeemed ticket, a ticket not redeemed yet is redeemed by it
+        Optional<ProjectJobResultVO> resumed = resume ? downloadTicketService.resume(hash) : Optional.empty();
+        ProjectJobResultVO projectJobResultVO = resumed.or(() -> downloadTicketService.redeem(hash))
+                .orElseThrow(() -> EasyPsiException.of(JobErrorCode.PROJECT_JOB_RESULT_HASH_EXPIRED_ERROR));
         LOGGER.debug("load project result : {}", projectJobResultVO);
-        jobResult.remove(hash);
         String path = projectJobResultVO.getPath();
         String dir = projectJobResultVO.getDir();
         String relativeUri = projectJobResultVO.getRelativeUri();
-        return FileUtils.download(path, dir, relativeUri);
+        CompressOptions compressOptions = CompressOptions.builder()
+                .format(compressFormat)
+                .level(compressLevel)
+                .parallelism(compressParallelism)
+                .streaming(compressStreaming)
+                .build();
+        return FileUtils.download(path, dir, relativeUri, compressOptions);
     }
 
 
@@ -648,6 +709,50 @@ public class ProjectServiceImpl implements ProjectService {
         return projectJobDOS.stream().map(t -> this.buildProjectJobVO(t, requestNodeId)).collect(Collectors.toList());
     }
 
+    @Override
+    public EdgeJobDeltaVO queryEdgeProjectJobDelta(String requestNodeId, ListEdgeJobDeltaRequest request) {
+        LocalDateTime since = EDGE_JOB_CURSOR_START;
+        if (StringUtils.isNotBlank(request.getSince())) {
+            try {
+                since = LocalDateTime.parse(request.getSince(), DateTimes.LOCAL_DATE_TIME_FORMATTER);
+            } catch (DateTimeParseException e) {
+                throw EasyPsiException.of(SystemErrorCode.VALIDATION_ERROR, "invalid edge job cursor " + request.getSince());
+            }
+        }
+        long sinceId = ObjectUtils.isEmpty(request.getSinceId()) ? 0L : request.getSinceId();
+        EdgeJobDeltaVO delta = EdgeJobDeltaVO.builder().jobs(Collections.emptyList())
+                .since(DateTimes.localDateTimeString(since)).sinceId(sinceId).hasMore(false).build();
+        String platformNodeId = envService.getPlatformNodeId();
+        if (StringUtils.equalsIgnoreCase(requestNodeId, platformNodeId)) {
+            return delta;
+        }
+        int limit = ObjectUtils.isEmpty(request.getLimit()) ? EDGE_JOB_DELTA_LIMIT : request.getLimit();
+        // a second still being written may get rows with a smaller id than the cursor, so only settled seconds are returned
+        LocalDateTime settledBefore = ProjectJobDO.modifiedNow().minusSeconds(EDGE_JOB_SETTLE_SECONDS);
+        List<ProjectJobDO> projectJobDOS = projectJobRepository.queryJobsModifiedSince(platformNodeId, requestNodeId,
+                since, sinceId, settledBefore, PageRequest.of(0, limit + 1));
+        if (projectJobDOS.isEmpty()) {
+            return delta;
+        }
+        boolean hasMore = projectJobDOS.size() > limit;
+        if (hasMore) {
+            projectJobDOS = projectJobDOS.subList(0, limit);
+        }
+        ProjectJobDO last = projectJobDOS.get(projectJobDOS.size() - 1);
+        delta.setJobs(projectJobDOS.stream().map(EdgeJobStatusVO::from).toList());
+        delta.setSince(DateTimes.localDateTimeString(last.getGmtModified()));
+        delta.setSinceId(last.getId());
+        delta.setHasMore(hasMore);
+        return delta;
+    }
+
+    @Override
+    public Set<String> queryActiveHostNodeIds() {
+        // paused and failed jobs wait for an operation, which reaches this node as well, so they need no fast poll
+        List<GraphJobStatus> activeStatus = List.of(GraphJobStatus.RUNNING, GraphJobStatus.PENDING_CERT, GraphJobStatus.PENDING_REVIEW);
+        return new HashSet<>(projectJobRepository.queryHostNodeIdsInStatus(activeStatus));
+    }
+
     @Override
     public GraphNodeJobLogsVO getProjectJobInFeilLogs(GetProjectJobLogRequest request) {
         ProjectJobDO job = openProjectJob(request.getJobId());
@@ -657,9 +762,30 @@ public class ProjectServiceImpl implements ProjectService {
             throw EasyPsiException.of(JobErrorCode.PROJECT_JOB_ACTION_NOT_ALLOWED, GraphJobStatus.getName(job.getStatus()), GraphJobOperation.getName(GraphJobOperation.LOG));
         }
 
-        List<String> strings = jobLogService.queryJobLog(request.getJobId());
-        return new GraphNodeJobLogsVO(job.getStatus(),
-                strings);
+        boolean complete = job.getStatus() != GraphJobStatus.RUNNING;
+        JobLogPage page;
+        if (request.getFile() != null || request.getOffset() != null || request.getLimit() != null) {
+            page = jobLogService.readJobLog(request.getJobId(), request.getFile(), request.getOffset() == null ? 0 : request.getOffset(),
+                    request.getLimit() == null ? jobLogPageBytes : request.getLimit(), complete);
+        } else if (request.getTail() != null) {
+            page = jobLogService.tailJobLog(request.getJobId(), request.getTail(), complete);
+        } else {
+            // no paging parameter, the whole log as before
+            page = jobLogService.queryJobLog(request.getJobId(), complete);
+        }
+        return new GraphNodeJobLogsVO(job.getStatus(), page.getLines(), page.getFile(), page.getOffset(), page.getNextFile(), page.getNextOffset());
+    }
+
+    @Override
+    public SseEmitter followProjectJobLogs(String jobId, String file, long offset) {
+        ProjectJobDO job = openProjectJob(jobId);
+        Boolean checkOperation = GraphJobStatus.checkOperation(job.getStatus(), GraphJobOperation.LOG);
+        if (!checkOperation) {
+            throw EasyPsiException.of(JobErrorCode.PROJECT_JOB_ACTION_NOT_ALLOWED, GraphJobStatus.getName(job.getStatus()), GraphJobOperation.getName(GraphJobOperation.LOG));
+        }
+        return jobLogService.followJobLog(jobId, file, offset, () -> projectJobRepository.findByJobId(jobId)
+                .map(current -> current.getStatus() == GraphJobStatus.RUNNING)
+                .orElse(false));
     }
 
 
@@ -703,11 +829,11 @@ public class ProjectServiceImpl implements ProjectService {
                 .build();
     }
 
-    private List<ProjectJobListVO> convert2ListVO(Page<ProjectJobDO> page, String nodeId) {
+    private List<ProjectJobListVO> convert2ListVO(Page<ProjectJobListView> page, String nodeId) {
         List<ProjectJobListVO> projectJobListVOS = new ArrayList<>();
         page.forEach(it -> {
             ProjectJobListVO vo = new ProjectJobListVO();
-            vo.setJobId(it.getUpk().getJobId());
+            vo.setJobId(it.getJobId());
             vo.setName(it.getName());
             vo.setStatus(it.getStatus());
             vo.setGmtCreate(DateTimes.toRfc3339(it.getGmtCreate()));
@@ -716,22 +842,18 @@ public class ProjectServiceImpl implements ProjectService {
             }
             vo.setSrcNodeId(it.getInitiatorNodeId());
             vo.setDstNodeId(it.getPartnerNodeId());
-            //TODO:It will be optimized later.
-            PsiConfigDO initiatorConfig = JsonUtils.toJavaObject(it.getInitiatorConfig(), PsiConfigDO.class);
-            PsiConfigDO partnerConfig = JsonUtils.toJavaObject(it.getPartnerConfig(), PsiConfigDO.class);
             vo.setInitiatorDataTableInformation(DataTableInformationVo.DataTableInformation.builder()
                     .nodeId(it.getInitiatorNodeId())
-                    .dataTableName(getTableName(initiatorConfig.getInputConfig().getPath()))
-                    .dataTableCount(initiatorConfig.getDataTableCount())
+                    .dataTableName(it.getInitiatorDataTableName())
+                    .dataTableCount(it.getInitiatorDataTableCount())
                     .build());
             vo.setPartnerdstDataTableInformation(DataTableInformationVo.DataTableInformation.builder()
                     .nodeId(it.getPartnerNodeId())
-                    .dataTableName(getTableName(partnerConfig.getInputConfig().getPath()))
-                    .dataTableCount(partnerConfig.getDataTableCount())
+                    .dataTableName(it.getPartnerDataTableName())
+                    .dataTableCount(it.getPartnerDataTableCount())
                     .build());
-            PsiConfigDO partnerPsiConfigDO = JsonUtils.toJavaObject(it.getPartnerConfig(), PsiConfigDO.class);
-            vo.setEnabled(partnerPsiConfigDO.getRecoveryConfig().getEnabled());
-            vo.setDataTableConfirmation(initiatorConfig.getDataTableConfirmation());
+            vo.setEnabled(it.getRecoveryEnabled());
+            vo.setDataTableConfirmation(it.getDataTableConfirmation());
             if (StringUtils.isNotBlank(it.getErrMsg())) {
                 vo.setErrMsg(it.getErrMsg());
             }
@@ -743,13 +865,6 @@ public class ProjectServiceImpl implements ProjectService {
         return projectJobListVOS;
     }
 
-    private String getTableName(String path) {
-        if (!path.contains("/")) {
-            return path;
-        }
-        return path.substring(path.lastIndexOf("/") + 1);
-    }
-
     private ProjectJobVO buildProjectJobVO(ProjectJobDO job, String nodeId) {
         ProjectJobVO vo = new ProjectJobVO();
         vo.setJobId(job.getUpk().getJobId());
@@ -853,11 +968,10 @@ public class ProjectServiceImpl implements ProjectService {
 
         CreateProjectJobTaskRequest.PsiConfig partnerConfig = request.getPartnerConfig();
         PsiConfigDO partnerPsiConfigDO = convertPsiConfig(partnerConfig, jobDO.getUpk().getJobId());
-        jobDO.setPartnerConfig(JsonUtils.toJSONString(partnerPsiConfigDO));
 
         CreateProjectJobTaskRequest.PsiConfig initiatorConfig = request.getInitiatorConfig();
         PsiConfigDO initatorPsiConfigDO = convertPsiConfig(initiatorConfig, request.getJobId());
-        jobDO.setInitiatorConfig(JsonUtils.toJSONString(initatorPsiConfigDO));
+        jobDO.applyPsiConfig(initatorPsiConfigDO, partnerPsiConfigDO);
 
         jobDO.setInitiatorNodeId(request.getInitiatorConfig().getNodeId());
         jobDO.setPartnerNodeId(request.getPartnerConfig().getNodeId());
@@ -873,7 +987,7 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     public GrapDataTableVO getDataTable() {
-        List<String> data = FileUtils.traverseDirectories(new File(JobManager.CSV_DATA_PATH), ".csv", FileUtils.FILE_NAME);
+        List<String> data = dataTableIndex.listTableNames();
         if (data == null) {
             throw EasyPsiException.of(JobErrorCode.PROJECT_DATA_PATH_NOT_EXISTS_ERROR);
         }
@@ -902,25 +1016,12 @@ public class ProjectServiceImpl implements ProjectService {
     private GrapDataHeaderVO getDataHeader(GetProjectJobDataHeaderRequest request) {
         LOGGER.info("get data header check data name: {}", request.getTableName());
         FileUtils.fileNameCheck(request.getTableName());
-        String filepath = JobManager.CSV_DATA_PATH + File.separator + request.getTableName();
-        File file = new File(filepath);
-        if (!file.exists()) {
-            throw EasyPsiException.of(JobErrorCode.PROJECT_DATA_NOT_EXISTS_ERROR, request.getTableName() + " csv data not exists");
-        }
-        BufferedReader reader;
-        List<String> collect;
-        try (FileReader fileReader = new FileReader(filepath)) {
-            reader = new BufferedReader(fileReader);
-            reader.mark(1);
-            if (reader.read() != 0xFEFF) {
-                reader.reset();
-            }
-            collect = Arrays.stream(reader.readLine().split(",")).collect(Collectors.toList());
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        DataTableDTO dataTable = dataTableIndex.getTable(request.getTableName())
+                .orElseThrow(() -> EasyPsiException.of(JobErrorCode.PROJECT_DATA_NOT_EXISTS_ERROR, request.getTableName() + " csv data not exists"));
+        String header = dataTable.getHeader();
+        List<String> collect = ObjectUtils.isEmpty(header) ? new ArrayList<>() : Arrays.stream(header.split(",")).collect(Collectors.toList());
         return GrapDataHeaderVO.builder()
-                .tableName(file.getName())
+                .tableName(dataTable.getName())
                 .dataHeader(removeExtraCharacters(collect))
                 .build();
     }
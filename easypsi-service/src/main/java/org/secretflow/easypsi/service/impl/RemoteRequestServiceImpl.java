@@ -15,24 +15,22 @@
  */
 package org.secretflow.easypsi.service.impl;
 
-import com.google.common.collect.ImmutableMap;
 import org.secretflow.easypsi.common.errorcode.JobErrorCode;
 import org.secretflow.easypsi.common.errorcode.KusciaGrpcErrorCode;
 import org.secretflow.easypsi.common.exception.EasyPsiException;
 import org.secretflow.easypsi.common.util.JsonUtils;
-import org.secretflow.easypsi.common.util.RestTemplateUtil;
-import org.secretflow.easypsi.service.NodeRouterService;
-import org.secretflow.easypsi.service.NodeService;
+import org.secretflow.easypsi.manager.integration.health.NodeHealthRegistry;
+import org.secretflow.easypsi.service.EnvService;
 import org.secretflow.easypsi.service.RemoteRequestService;
 import org.secretflow.easypsi.service.model.common.EasyPsiResponse;
+import org.secretflow.easypsi.service.rpc.NodeRpcClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.annotation.Async;
-import org.springframework.scheduling.annotation.AsyncResult;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.Future;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author liujunhao
@@ -44,45 +42,41 @@ public class RemoteRequestServiceImpl implements RemoteRequestService {
     private final static Logger LOGGER = LoggerFactory.getLogger(RemoteRequestService.class);
 
     @Autowired
-    private NodeRouterService nodeRouterService;
+    private NodeHealthRegistry nodeHealthRegistry;
 
     @Autowired
-    private NodeService nodeService;
+    private EnvService envService;
+
+    @Autowired
+    private NodeRpcClient nodeRpcClient;
 
 
     @Override
     public boolean checkBothSidesNodeRouteIsReady(String srcNodeId, String dstNodeId) {
-        LOGGER.info("check node nodeRoute status");
-        try {
-            nodeService.getNodeNotCheck();
-        } catch (Exception e) {
+        if (!nodeHealthRegistry.isDomainReachable(envService.getPlatformNodeId())) {
             throw EasyPsiException.of(KusciaGrpcErrorCode.KUSCIA_CPMMECT_ERROR);
         }
         return true;
     }
 
-    @Async
     @Override
-    public Future<Boolean> asynCheckBothSidesNodeRouteIsReady(String srcNodeId, String dstNodeId) {
-        return new AsyncResult<>(checkBothSidesNodeRouteIsReady(srcNodeId, dstNodeId));
+    public EasyPsiResponse sendPostJson(Object request, String partnerNodeId, String url) {
+        return checkResponse(nodeRpcClient.post(partnerNodeId, url, request, EasyPsiResponse.class));
     }
 
     @Override
-    public EasyPsiResponse sendPostJson(Object request, String partnerNodeId, String url) {
-        String svc = "secretpad." + partnerNodeId + ".svc";
-        ImmutableMap<String, String> immutableMap = ImmutableMap.of("Host", svc);
-        EasyPsiResponse easyPsiResponse = RestTemplateUtil.sendPostJson(url, request, immutableMap, EasyPsiResponse.class);
-        LOGGER.info("EasyPsiResponse={}", JsonUtils.toJSONString(easyPsiResponse));
+    public CompletableFuture<EasyPsiResponse> sendPostJsonAsync(Object request, String partnerNodeId, String url, Duration deadline) {
+        return nodeRpcClient.postAsync(partnerNodeId, url, request, EasyPsiResponse.class, deadline).thenApply(this::checkResponse);
+    }
+
+    private EasyPsiResponse checkResponse(EasyPsiResponse easyPsiResponse) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("EasyPsiResponse={}", JsonUtils.toJSONString(easyPsiResponse));
+        }
         if (easyPsiResponse.getStatus().getCode() != 0) {
             LOGGER.error("EasyPsiResponse error msg={}", easyPsiResponse.getStatus().getMsg());
             throw EasyPsiException.of(JobErrorCode.PROJECT_JOB_RPC_ERROR, easyPsiResponse.getStatus().getMsg());
         }
         return easyPsiResponse;
     }
-
-    @Async
-    @Override
-    public Future<EasyPsiResponse> asyncSendPostJson(Object request, String partnerNodeId, String url) {
-        return new AsyncResult<>(sendPostJson(request, partnerNodeId, url));
-    }
 }
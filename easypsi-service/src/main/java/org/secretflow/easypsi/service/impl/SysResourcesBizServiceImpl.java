@@ -16,6 +16,7 @@
 
 package org.secretflow.easypsi.service.impl;
 
+import lombok.extern.slf4j.Slf4j;
 import org.secretflow.easypsi.common.constant.PermissionTargetType;
 import org.secretflow.easypsi.common.constant.PermissionUserType;
 import org.secretflow.easypsi.common.constant.ResourceType;
@@ -26,19 +27,30 @@ import org.secretflow.easypsi.persistence.repository.SysResourceRepository;
 import org.secretflow.easypsi.persistence.repository.SysRoleResourceRelRepository;
 import org.secretflow.easypsi.persistence.repository.SysUserPermissionRelRepository;
 import org.secretflow.easypsi.service.SysResourcesBizService;
+import org.secretflow.easypsi.service.auth.PermissionTable;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
+ * Resource codes of users are answered from a {@link PermissionTable} compiled from the permission tables, which is
+ * built at startup and compiled again after the tables change.
+ *
  * @author beiwei
  * @date 2023/9/15
  */
+@Slf4j
 @Service
-public class SysResourcesBizServiceImpl implements SysResourcesBizService {
+public class SysResourcesBizServiceImpl implements SysResourcesBizService, ApplicationListener<ApplicationReadyEvent> {
 
 
     @Autowired
@@ -50,6 +62,20 @@ public class SysResourcesBizServiceImpl implements SysResourcesBizService {
     @Autowired
     private SysUserPermissionRelRepository userPermissionRelRepository;
 
+    /**
+     * Compiled permission table, null until compiled again after an invalidation
+     */
+    private volatile PermissionTable permissionTable;
+
+    /**
+     * Bumped on every invalidation, a table compiled across an invalidation is not installed
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Held while compiling on demand, so readers arriving after an invalidation wait for one compile
+     */
+    private final Object compileLock = new Object();
 
     private List<SysResourceDO> queryResourceByRoles(List<String> roles) {
         List<SysRoleResourceRelDO> byRoleIds = roleResourceRelRepository.findByRoleCodes(roles);
@@ -85,11 +111,71 @@ public class SysResourcesBizServiceImpl implements SysResourcesBizService {
      */
     @Override
     public Set<String> queryResourceCodeByUserName(PermissionUserType userType, ResourceType resourceType, String userId) {
-        List<SysResourceDO> sysResourceDOS = queryResourceByUserName(userType, userId);
-        Set<String> resourceCode = sysResourceDOS.stream()
-                .filter(t -> t.getResourceType().equals(ResourceType.INTERFACE))
-                .map(t -> t.getResourceCode())
-                .collect(Collectors.toSet());
-        return resourceCode;
+        return permissionTable().resourceCodes(userType, resourceType, userId);
+    }
+
+    @Override
+    public void invalidatePermissions() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            drop();
+            return;
+        }
+        // compiled before commit, the table would miss the change
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                drop();
+            }
+        });
+    }
+
+    /**
+     * Compile again on a fixed interval, so changes made outside the application are picked up as well
+     */
+    @Scheduled(initialDelayString = "${easypsi.permission.refresh-millis:300000}", fixedDelayString = "${easypsi.permission.refresh-millis:300000}")
+    public void refreshPermissions() {
+        long current = generation.get();
+        try {
+            install(current, compile());
+        } catch (Exception e) {
+            log.warn("compile permission table error, keep the last one, {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        refreshPermissions();
+    }
+
+    private PermissionTable permissionTable() {
+        PermissionTable table = permissionTable;
+        if (table != null) {
+            return table;
+        }
+        synchronized (compileLock) {
+            table = permissionTable;
+            if (table != null) {
+                return table;
+            }
+            long current = generation.get();
+            table = compile();
+            install(current, table);
+            return table;
+        }
+    }
+
+    private synchronized void install(long compiledGeneration, PermissionTable table) {
+        if (generation.get() == compiledGeneration) {
+            permissionTable = table;
+        }
+    }
+
+    private synchronized void drop() {
+        generation.incrementAndGet();
+        permissionTable = null;
+    }
+
+    private PermissionTable compile() {
+        return PermissionTable.compile(userPermissionRelRepository.findAll(), roleResourceRelRepository.findAll(), resourceRepository.findAll());
     }
 }
@@ -28,6 +28,7 @@ import org.secretflow.easypsi.persistence.repository.UserAccountsRepository;
 import org.secretflow.easypsi.persistence.repository.UserTokensRepository;
 import org.secretflow.easypsi.service.RsaEncryptionKeyService;
 import org.secretflow.easypsi.service.UserService;
+import org.secretflow.easypsi.service.UserSessionService;
 import org.secretflow.easypsi.service.model.auth.UserUpdatePwdRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -55,6 +56,9 @@ public class UserServiceImpl implements UserService {
     @Autowired
     private UserTokensRepository userTokensRepository;
 
+    @Autowired
+    private UserSessionService userSessionService;
+
     @Value("${easypsi.reset-password-error-max-attempts:5}")
     private Integer resetPasswordMaxAttempts;
 
@@ -116,6 +120,7 @@ public class UserServiceImpl implements UserService {
                 userAccountsRepository.save(userDO);
                 //after remove need remove user all token
                 userTokensRepository.deleteByName(request.getName());
+                userSessionService.invalidateByName(request.getName());
             }
             return;
         }
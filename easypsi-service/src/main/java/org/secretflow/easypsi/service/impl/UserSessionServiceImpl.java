@@ -0,0 +1,150 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.secretflow.easypsi.common.dto.UserContextDTO;
+import org.secretflow.easypsi.common.errorcode.AuthErrorCode;
+import org.secretflow.easypsi.common.exception.EasyPsiException;
+import org.secretflow.easypsi.persistence.entity.AccountsDO;
+import org.secretflow.easypsi.persistence.entity.TokensDO;
+import org.secretflow.easypsi.persistence.repository.UserAccountsRepository;
+import org.secretflow.easypsi.persistence.repository.UserTokensRepository;
+import org.secretflow.easypsi.service.UserSessionService;
+import org.secretflow.easypsi.service.model.auth.UserSession;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * User login sessions cached in memory
+ * <p>
+ * A token is read from the database the first time it is used, later requests only update the last use in
+ * memory. Last uses are written back on a fixed interval, so a restart loses at most one interval of expiry.
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+@Service
+@Slf4j
+public class UserSessionServiceImpl implements UserSessionService {
+
+    private final Map<String, UserSession> sessions = new ConcurrentHashMap<>();
+
+    @Autowired
+    private UserTokensRepository userTokensRepository;
+
+    @Autowired
+    private UserAccountsRepository userAccountsRepository;
+
+    /**
+     * Session expires after this long without use
+     */
+    @Value("${easypsi.session.expire:24h}")
+    private Duration expire;
+
+    @Override
+    public UserSession touch(String token) {
+        if (StringUtils.isBlank(token)) {
+            throw EasyPsiException.of(AuthErrorCode.AUTH_FAILED, "Cannot find token in db, user not login in.");
+        }
+        // loaded inside the map, so an invalidation waits for a concurrent load instead of being overwritten by it
+        UserSession session = sessions.computeIfAbsent(token, this::load);
+        LocalDateTime now = LocalDateTime.now();
+        if (session.getLastAccess().plus(expire).isBefore(now)) {
+            sessions.remove(token, session);
+            throw EasyPsiException.of(AuthErrorCode.AUTH_FAILED, "The login session is expire, please login again.");
+        }
+        session.setLastAccess(now);
+        return session;
+    }
+
+    @Override
+    public void invalidate(String token) {
+        afterCommit(() -> sessions.remove(token));
+    }
+
+    @Override
+    public void invalidateByName(String name) {
+        afterCommit(() -> sessions.values().removeIf(session -> StringUtils.equals(name, session.getUserContext().getName())));
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${easypsi.session.persist-interval-millis:60000}", fixedDelayString = "${easypsi.session.persist-interval-millis:60000}")
+    public void flush() {
+        LocalDateTime expireBefore = LocalDateTime.now().minus(expire);
+        sessions.forEach((token, session) -> {
+            LocalDateTime lastAccess = session.getLastAccess();
+            if (lastAccess.isBefore(expireBefore)) {
+                sessions.remove(token, session);
+                return;
+            }
+            if (!lastAccess.isAfter(session.getPersistedAccess())) {
+                return;
+            }
+            try {
+                userTokensRepository.updateGmtToken(token, lastAccess);
+                session.setPersistedAccess(lastAccess);
+            } catch (Exception e) {
+                log.warn("write back token last use error, user: {}, {}", session.getUserContext().getName(), e.getMessage());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    private UserSession load(String token) {
+        TokensDO tokensDO = userTokensRepository.findByToken(token)
+                .orElseThrow(() -> EasyPsiException.of(AuthErrorCode.AUTH_FAILED, "Cannot find token in db, user not login in."));
+        if (StringUtils.isBlank(tokensDO.getSessionData())) {
+            throw EasyPsiException.of(AuthErrorCode.AUTH_FAILED, "The login session is null, please login again.");
+        }
+        AccountsDO user = userAccountsRepository.findByName(tokensDO.getName())
+                .orElseThrow(() -> EasyPsiException.of(AuthErrorCode.USER_NOT_FOUND));
+        return new UserSession(UserContextDTO.fromJson(tokensDO.getSessionData()), user.getInitial(), tokensDO.getGmtToken());
+    }
+
+    /**
+     * Run after the current transaction commits, a session dropped before the token record is deleted could be
+     * loaded again from the record still visible
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
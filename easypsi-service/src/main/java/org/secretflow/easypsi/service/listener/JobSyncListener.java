@@ -16,9 +16,7 @@
 
 package org.secretflow.easypsi.service.listener;
 
-import org.secretflow.easypsi.common.errorcode.SystemErrorCode;
-import org.secretflow.easypsi.common.exception.EasyPsiException;
-import org.secretflow.easypsi.manager.integration.job.JobManager;
+import org.secretflow.easypsi.manager.integration.job.JobWatcher;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -36,24 +34,16 @@ import org.springframework.stereotype.Component;
 @ConditionalOnProperty(name = "job.sync.enabled", havingValue = "true", matchIfMissing = true)
 public class JobSyncListener implements ApplicationListener<ApplicationReadyEvent> {
     @Autowired
-    private JobManager jobManager;
+    private JobWatcher jobWatcher;
 
 
     /**
-     * Start to synchronize the job in ApiLite to easyPsi
+     * Start to synchronize the job in ApiLite to easyPsi, the watch runs on its own thread and reconnects by itself
      *
      * @param event application ready event
      */
     @Override
     public void onApplicationEvent(ApplicationReadyEvent event) {
-        // todo: use backoff
-        try {
-            while (true) {
-                jobManager.startSync();
-                Thread.sleep(3000);
-            }
-        } catch (Exception e) {
-            throw EasyPsiException.of(SystemErrorCode.UNKNOWN_ERROR, e);
-        }
+        jobWatcher.start();
     }
 }
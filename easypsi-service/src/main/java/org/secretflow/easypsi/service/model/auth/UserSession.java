@@ -0,0 +1,62 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.service.model.auth;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.secretflow.easypsi.common.dto.UserContextDTO;
+
+import java.time.LocalDateTime;
+
+/**
+ * Login session held in memory, built once from the token record
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+@Getter
+public class UserSession {
+
+    /**
+     * Parsed session data
+     */
+    private final UserContextDTO userContext;
+
+    /**
+     * Whether the user has not changed the initial password yet
+     */
+    private final boolean initial;
+
+    /**
+     * The time when the token is last used
+     */
+    @Setter
+    private volatile LocalDateTime lastAccess;
+
+    /**
+     * The time last written back to the token record
+     */
+    @Setter
+    private volatile LocalDateTime persistedAccess;
+
+    public UserSession(UserContextDTO userContext, boolean initial, LocalDateTime gmtToken) {
+        this.userContext = userContext;
+        this.initial = initial;
+        this.lastAccess = gmtToken;
+        this.persistedAccess = gmtToken;
+    }
+}
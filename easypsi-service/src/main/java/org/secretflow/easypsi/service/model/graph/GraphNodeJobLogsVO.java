@@ -20,4 +20,20 @@ public class GraphNodeJobLogsVO {
      * Task logs
      */
     private List<String> logs;
+    /**
+     * Log file of the first log line
+     */
+    private String file;
+    /**
+     * Byte offset of the first log line in its file
+     */
+    private long offset;
+    /**
+     * Log file to read the following lines from
+     */
+    private String nextFile;
+    /**
+     * Byte offset in the next file to read the following lines from
+     */
+    private long nextOffset;
 }
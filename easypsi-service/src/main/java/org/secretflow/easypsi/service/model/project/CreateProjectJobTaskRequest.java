@@ -21,7 +21,6 @@ import jakarta.validation.constraints.NotBlank;
 import lombok.*;
 import org.secretflow.easypsi.common.constant.JobConstants;
 import org.secretflow.easypsi.manager.integration.job.JobManager;
-import org.secretflow.easypsi.service.impl.DataServiceImpl;
 
 import java.io.File;
 import java.util.List;
@@ -315,8 +314,6 @@ public class CreateProjectJobTaskRequest {
                     .advancedJoinType(requestAdvancedConfig.getAdvancedJoinType())
                     .leftSide(requestAdvancedConfig.getLeftSide())
                     .dataTableConfirmation(requestAdvancedConfig.getDataTableConfirmation())
-                    .dataTableCount(requestAdvancedConfig.getDataTableConfirmation() ?
-                            DataServiceImpl.dataTableCountCache.get(DataServiceImpl.spliceNodeTable(reauestPsiConfig.getNodeId(), reauestPsiConfig.getPath())) : null)
                     .build();
         }
     }
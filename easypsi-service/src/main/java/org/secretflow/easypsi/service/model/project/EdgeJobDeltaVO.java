@@ -0,0 +1,60 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.service.model.project;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Edge job delta view object
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+@Setter
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EdgeJobDeltaVO {
+
+    /**
+     * Jobs changed after the request cursor
+     */
+    @Schema(description = "changed jobs")
+    private List<EdgeJobStatusVO> jobs;
+
+    /**
+     * Cursor modified time of the next request
+     */
+    @Schema(description = "next cursor modified time")
+    private String since;
+
+    /**
+     * Cursor id of the next request
+     */
+    @Schema(description = "next cursor id")
+    private Long sinceId;
+
+    /**
+     * Whether more changed jobs are left after this delta
+     */
+    @Schema(description = "has more")
+    private Boolean hasMore;
+}
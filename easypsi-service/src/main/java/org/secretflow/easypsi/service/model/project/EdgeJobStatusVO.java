@@ -0,0 +1,80 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.service.model.project;
+
+import org.secretflow.easypsi.common.util.DateTimes;
+import org.secretflow.easypsi.persistence.entity.ProjectJobDO;
+import org.secretflow.easypsi.persistence.model.GraphJobStatus;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * Edge job status view object, the fields the host node synchronizes to its partner
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+@Setter
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EdgeJobStatusVO {
+
+    /**
+     * Job id
+     */
+    @Schema(description = "job id")
+    private String jobId;
+
+    /**
+     * Job status
+     */
+    @Schema(description = "job status")
+    private GraphJobStatus status;
+
+    /**
+     * Job error message
+     */
+    @Schema(description = "job error message")
+    private String errMsg;
+
+    /**
+     * Job start time
+     */
+    @Schema(description = "job start time")
+    private String startTime;
+
+    /**
+     * Job finish time
+     */
+    @Schema(description = "job finish time")
+    private String gmtFinished;
+
+    public static EdgeJobStatusVO from(ProjectJobDO job) {
+        EdgeJobStatusVOBuilder builder = EdgeJobStatusVO.builder()
+                .jobId(job.getUpk().getJobId())
+                .status(job.getStatus())
+                .errMsg(job.getErrMsg())
+                .startTime(DateTimes.toRfc3339(job.getStartTime()));
+        if (job.getStatus() == GraphJobStatus.FAILED || job.getStatus() == GraphJobStatus.SUCCEEDED) {
+            builder.gmtFinished(DateTimes.toRfc3339(job.getFinishedTime()));
+        }
+        return builder.build();
+    }
+}
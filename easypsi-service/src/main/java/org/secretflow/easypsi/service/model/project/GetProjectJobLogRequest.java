@@ -2,6 +2,8 @@ package org.secretflow.easypsi.service.model.project;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -18,4 +20,27 @@ public class GetProjectJobLogRequest {
     @Schema(description = "job id")
     @NotBlank
     private String jobId;
+    /**
+     * Log file to read from, usually the next file of the last page, the first file when absent
+     */
+    @Schema(description = "log file to read from, the first file when absent")
+    private String file;
+    /**
+     * Byte offset in the file to read log lines from, the whole log is returned when no paging parameter is given
+     */
+    @Schema(description = "byte offset in the file to read from, the whole log is returned when no paging parameter is given")
+    @PositiveOrZero
+    private Long offset;
+    /**
+     * Most bytes read from the offset
+     */
+    @Schema(description = "most bytes read from the offset")
+    @Positive
+    private Integer limit;
+    /**
+     * Last lines returned when no file, offset or limit is given
+     */
+    @Schema(description = "last lines returned when no file, offset or limit is given")
+    @Positive
+    private Integer tail;
 }
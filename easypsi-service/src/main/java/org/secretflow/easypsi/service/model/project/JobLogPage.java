@@ -0,0 +1,61 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.service.model.project;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a job log, positions are a log file name with a byte offset in that file
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobLogPage {
+    /**
+     * Log lines of the page
+     */
+    private List<String> lines;
+    /**
+     * Log file of the first line
+     */
+    private String file;
+    /**
+     * Byte offset of the first line in its file
+     */
+    private long offset;
+    /**
+     * Log file to read the next page from
+     */
+    private String nextFile;
+    /**
+     * Byte offset in the next file to read the next page from
+     */
+    private long nextOffset;
+
+    public static JobLogPage empty() {
+        return new JobLogPage(List.of(), null, 0, null, 0);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.service.model.project;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.*;
+
+/**
+ * List edge job delta request, an empty cursor lists from the beginning
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+@Setter
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ListEdgeJobDeltaRequest {
+
+    /**
+     * Cursor modified time, format yyyy-MM-dd HH:mm:ss
+     */
+    @Schema(description = "cursor modified time")
+    private String since;
+
+    /**
+     * Cursor job id of database
+     */
+    @Schema(description = "cursor id")
+    private Long sinceId;
+
+    /**
+     * Max job count of one delta
+     */
+    @Schema(description = "max job count")
+    @Min(1)
+    @Max(1000)
+    private Integer limit;
+}
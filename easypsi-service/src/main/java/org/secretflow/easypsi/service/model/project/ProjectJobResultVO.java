@@ -24,7 +24,7 @@ import java.util.Date;
  * @author liujunhao
  * @date 2024/01/17
  */
-@Builder
+@Builder(toBuilder = true)
 @Setter
 @Getter
 @ToString
@@ -55,6 +55,12 @@ public class ProjectJobResultVO {
     @Schema(description = "relativeUri")
     private String relativeUri;
 
+    /**
+     * remainingUses, null means unlimited until expired
+     */
+    @Schema(description = "remainingUses")
+    private Integer remainingUses;
+
     /**
      * expirationTime
      */
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.service.rpc;
+
+import org.secretflow.easypsi.common.util.JsonUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Node to node rpc client, posts json to partner nodes through the Kuscia gateway
+ * <p>
+ * Connections are pooled and kept alive, each partner node may hold only a share of the pool. The request
+ * body is serialized to bytes once and the response is decoded by Jackson straight from the connection.
+ * Only requests that failed to connect are retried with backoff, once sent a request may have been applied by
+ * the partner and calls like createJob are not idempotent. Failures are thrown as the RestTemplate exceptions
+ * callers already handle. Latency is recorded per node, uri and outcome. Async
+ * calls run on a small bounded pool of the client and are bounded by a deadline.
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+@Component
+@EnableConfigurationProperties({NodeRpcProperties.class})
+public class NodeRpcClient {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NodeRpcClient.class);
+
+    private final NodeRpcProperties properties;
+
+    private final MeterRegistry meterRegistry;
+
+    private final RequestConfig defaultRequestConfig;
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+
+    private final CloseableHttpClient httpClient;
+
+    private final Map<String, Semaphore> nodePermits = new ConcurrentHashMap<>();
+
+    private final ThreadPoolExecutor asyncExecutor;
+
+    public NodeRpcClient(NodeRpcProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        this.defaultRequestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(properties.getConnectionRequestTimeout()))
+                .setResponseTimeout(Timeout.of(properties.getResponseTimeout()))
+                .build();
+        this.connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxConnections())
+                // every partner is reached through the same gateway, so one route carries the whole pool
+                .setMaxConnPerRoute(properties.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(properties.getResponseTimeout()))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(defaultRequestConfig)
+                .evictIdleConnections(TimeValue.of(properties.getIdleTimeout()))
+                .evictExpiredConnections()
+                .disableAutomaticRetries()
+                .disableCookieManagement()
+                .build();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.asyncExecutor = new ThreadPoolExecutor(properties.getAsyncThreads(), properties.getAsyncThreads(),
+                60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(properties.getAsyncQueueCapacity()), r -> {
+            Thread thread = new Thread(r, "node-rpc-async-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.asyncExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Post json to the partner node
+     *
+     * @param nodeId       partner node id
+     * @param url          request url on the gateway
+     * @param request      request body
+     * @param responseType response class
+     * @return response body
+     */
+    public <T> T post(String nodeId, String url, Object request, Class<T> responseType) {
+        return post(nodeId, url, request, responseType, null);
+    }
+
+    /**
+     * Post json to the partner node, every wait for response bytes gives up after the timeout
+     *
+     * @param nodeId       partner node id
+     * @param url          request url on the gateway
+     * @param request      request body
+     * @param responseType response class
+     * @param timeout      response timeout, null for the configured one
+     * @return response body
+     */
+    public <T> T post(String nodeId, String url, Object request, Class<T> responseType, Duration timeout) {
+        return execute(newPost(nodeId, url, request, timeout), nodeId, url, responseType, 0);
+    }
+
+    /**
+     * Post json to the partner node without blocking the caller
+     * <p>
+     * The whole call, waits for a permit, retries and backoff included, must finish before the deadline, or the
+     * future completes with a {@link TimeoutException} and the request is aborted, so a hung partner frees its
+     * connection and worker thread too. A full worker queue fails the future at once.
+     *
+     * @param nodeId       partner node id
+     * @param url          request url on the gateway
+     * @param request      request body
+     * @param responseType response class
+     * @param deadline     longest time for the whole call
+     * @return future of response body
+     */
+    public <T> CompletableFuture<T> postAsync(String nodeId, String url, Object request, Class<T> responseType, Duration deadline) {
+        HttpPost post = newPost(nodeId, url, request, deadline);
+        long deadlineNanos = System.nanoTime() + deadline.toNanos();
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> execute(post, nodeId, url, responseType, deadlineNanos), asyncExecutor);
+        } catch (RejectedExecutionException e) {
+            record(nodeId, URI.create(url).getPath(), "REJECTED", 0);
+            return CompletableFuture.failedFuture(new ResourceAccessException("too many async requests in flight to node " + nodeId));
+        }
+        return future.orTimeout(deadline.toMillis(), TimeUnit.MILLISECONDS).whenComplete((response, e) -> {
+            if (e instanceof TimeoutException) {
+                post.cancel();
+            }
+        });
+    }
+
+    private HttpPost newPost(String nodeId, String url, Object request, Duration timeout) {
+        HttpPost post = new HttpPost(url);
+        post.setHeader(HttpHeaders.HOST, "secretpad." + nodeId + ".svc");
+        post.setEntity(new ByteArrayEntity(JsonUtils.toJSONBytes(request), ContentType.APPLICATION_JSON));
+        if (timeout != null) {
+            post.setConfig(RequestConfig.copy(defaultRequestConfig).setResponseTimeout(Timeout.of(timeout)).build());
+        }
+        return post;
+    }
+
+    /**
+     * Execute the post with retries
+     *
+     * @param deadlineNanos {@link System#nanoTime()} after which no more waits or retries are started, 0 for none
+     */
+    private <T> T execute(HttpPost post, String nodeId, String url, Class<T> responseType, long deadlineNanos) {
+        String uri = URI.create(url).getPath();
+        Semaphore permits = nodePermits.computeIfAbsent(nodeId, t -> new Semaphore(properties.getMaxConnectionsPerNode()));
+        acquire(permits, nodeId, uri, remainingMillis(properties.getConnectionRequestTimeout().toMillis(), deadlineNanos));
+        try {
+            for (int attempt = 0; ; attempt++) {
+                long start = System.nanoTime();
+                String outcome = "IO_ERROR";
+                boolean retryable;
+                RuntimeException failure;
+                try {
+                    T response = httpClient.execute(post, httpResponse -> decode(httpResponse, responseType));
+                    outcome = "SUCCESS";
+                    return response;
+                } catch (RestClientResponseException e) {
+                    outcome = e.getStatusCode().is4xxClientError() ? "HTTP_4XX" : "HTTP_5XX";
+                    retryable = false;
+                    failure = e;
+                } catch (IOException e) {
+                    outcome = post.isCancelled() ? "CANCELLED" : outcome;
+                    retryable = e instanceof ConnectException || e instanceof ConnectTimeoutException;
+                    failure = new ResourceAccessException("I/O error on POST request for \"" + url + "\": " + e.getMessage(), e);
+                } finally {
+                    record(nodeId, uri, outcome, System.nanoTime() - start);
+                }
+                long backoff = properties.getRetryBackoff().toMillis() << attempt;
+                if (!retryable || attempt >= properties.getMaxRetries() || pastDeadline(backoff, deadlineNanos)) {
+                    throw failure;
+                }
+                LOGGER.warn("request {} of node {} failed, retry {}: {}", uri, nodeId, attempt + 1, failure.getMessage());
+                Counter.builder("easypsi.node.rpc.retries").tag("node", nodeId).tag("uri", uri)
+                        .description("Node rpc retries").register(meterRegistry).increment();
+                sleep(backoff);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private boolean pastDeadline(long delayMillis, long deadlineNanos) {
+        return deadlineNanos != 0 && System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis) >= deadlineNanos;
+    }
+
+    private long remainingMillis(long millis, long deadlineNanos) {
+        if (deadlineNanos == 0) {
+            return millis;
+        }
+        return Math.max(0, Math.min(millis, TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime())));
+    }
+
+    @PreDestroy
+    public void close() {
+        asyncExecutor.shutdownNow();
+        httpClient.close(CloseMode.GRACEFUL);
+    }
+
+    private <T> T decode(ClassicHttpResponse response, Class<T> responseType) throws IOException {
+        int code = response.getCode();
+        if (code >= 200 && code < 300) {
+            if (response.getEntity() == null) {
+                return null;
+            }
+            return JsonUtils.toJavaObject(response.getEntity().getContent(), responseType);
+        }
+        byte[] body = response.getEntity() == null ? new byte[0] : EntityUtils.toByteArray(response.getEntity());
+        HttpStatusCode status = HttpStatusCode.valueOf(code);
+        if (status.is4xxClientError()) {
+            throw HttpClientErrorException.create(status, response.getReasonPhrase(), null, body, StandardCharsets.UTF_8);
+        }
+        throw HttpServerErrorException.create(status, response.getReasonPhrase(), null, body, StandardCharsets.UTF_8);
+    }
+
+    private void acquire(Semaphore permits, String nodeId, String uri, long waitMillis) {
+        try {
+            if (!permits.tryAcquire(waitMillis, TimeUnit.MILLISECONDS)) {
+                record(nodeId, uri, "REJECTED", 0);
+                throw new ResourceAccessException("too many requests in flight to node " + nodeId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("interrupted waiting for node " + nodeId, new InterruptedIOException());
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("interrupted before retry", new InterruptedIOException());
+        }
+    }
+
+    private void record(String nodeId, String uri, String outcome, long nanos) {
+        Timer.builder("easypsi.node.rpc.requests").tag("node", nodeId).tag("uri", uri).tag("outcome", outcome)
+                .description("Node rpc requests").register(meterRegistry).record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
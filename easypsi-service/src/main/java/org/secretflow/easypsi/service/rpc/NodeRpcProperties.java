@@ -0,0 +1,73 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.service.rpc;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Node to node rpc client properties
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+@Data
+@ConfigurationProperties(prefix = "easypsi.node-rpc")
+public class NodeRpcProperties {
+    /**
+     * Connect timeout
+     */
+    private Duration connectTimeout = Duration.ofSeconds(3);
+    /**
+     * Response timeout, the longest wait for the next response bytes
+     */
+    private Duration responseTimeout = Duration.ofSeconds(30);
+    /**
+     * Longest wait for a pooled connection
+     */
+    private Duration connectionRequestTimeout = Duration.ofSeconds(5);
+    /**
+     * Idle time after which pooled connections are closed
+     */
+    private Duration idleTimeout = Duration.ofSeconds(60);
+    /**
+     * Pooled connections at most
+     */
+    private int maxConnections = 64;
+    /**
+     * Concurrent requests to one partner node at most, so a slow partner can not hold the whole pool
+     */
+    private int maxConnectionsPerNode = 8;
+    /**
+     * Retries of requests that could not connect, refused connections or connect timeouts
+     */
+    private int maxRetries = 2;
+    /**
+     * Backoff before the first retry, doubled on every further retry
+     */
+    private Duration retryBackoff = Duration.ofMillis(200);
+    /**
+     * Worker threads of async requests
+     */
+    private int asyncThreads = 16;
+    /**
+     * Async requests waiting for a worker at most, further ones fail at once
+     */
+    private int asyncQueueCapacity = 256;
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.service;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.secretflow.easypsi.service.impl.MemoryDownloadTicketService;
+import org.secretflow.easypsi.service.model.project.ProjectJobResultVO;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+/**
+ * Download ticket service test
+ *
+ * @author agent
+ * @date 2026/10/17
+ */
+public class DownloadTicketServiceTest {
+
+    private MemoryDownloadTicketService buildService(int maxUses, long maxSize) {
+        MemoryDownloadTicketService service = new MemoryDownloadTicketService();
+        ReflectionTestUtils.setField(service, "ttl", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(service, "resumeTtl", Duration.ofMinutes(30));
+        ReflectionTestUtils.setField(service, "maxSize", maxSize);
+        ReflectionTestUtils.setField(service, "maxUses", maxUses);
+        service.init();
+        return service;
+    }
+
+    @Test
+    public void singleUseTest() {
+        MemoryDownloadTicketService service = buildService(1, 10);
+        String hash = service.issue(ProjectJobResultVO.builder().hash("hash").path("/app/data/result.csv").build());
+        Assertions.assertEquals("/app/data/result.csv", service.redeem(hash).get().getPath());
+        Assertions.assertTrue(service.redeem(hash).isEmpty());
+        Assertions.assertTrue(service.redeem("unknown").isEmpty());
+        Assertions.assertEquals(1, service.hitCount());
+        Assertions.assertEquals(2, service.missCount());
+    }
+
+    @Test
+    public void multiUseTest() {
+        MemoryDownloadTicketService service = buildService(3, 10);
+        String hash = service.issue(ProjectJobResultVO.builder().hash("hash").build());
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertTrue(service.redeem(hash).isPresent());
+        }
+        Assertions.assertTrue(service.redeem(hash).isEmpty());
+        // kept for resuming until it expires
+        Assertions.assertEquals(1, service.size());
+    }
+
+    @Test
+    public void resumeTest() {
+        MemoryDownloadTicketService service = buildService(1, 10);
+        String hash = service.issue(ProjectJobResultVO.builder().hash("hash").path("/app/data/result.csv").build());
+        Assertions.assertTrue(service.resume(hash).isEmpty());
+        ProjectJobResultVO redeemed = service.redeem(hash).get();
+        Assertions.assertTrue(redeemed.getExpirationTime().getTime() > System.currentTimeMillis() + Duration.ofMinutes(29).toMillis());
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals("/app/data/result.csv", service.resume(hash).get().getPath());
+        }
+        Assertions.assertTrue(service.redeem(hash).isEmpty());
+        Assertions.assertTrue(service.resume("unknown").isEmpty());
+        Assertions.assertEquals(1, service.hitCount());
+        Assertions.assertEquals(1, service.missCount());
+    }
+
+    @Test
+    public void evictionTest() {
+        MemoryDownloadTicketService service = buildService(0, 2);
+        for (int i = 0; i < 5; i++) {
+            service.issue(ProjectJobResultVO.builder().hash("hash" + i).build());
+        }
+        Assertions.assertTrue(service.size() <= 2);
+        Assertions.assertEquals(5 - service.size(), service.evictionCount());
+        Assertions.assertTrue(service.redeem("hash4").isPresent());
+        Assertions.assertTrue(service.redeem("hash4").isPresent());
+    }
+}
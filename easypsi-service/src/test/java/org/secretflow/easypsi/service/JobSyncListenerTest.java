@@ -18,8 +18,9 @@ package org.secretflow.easypsi.service;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
-import org.secretflow.easypsi.manager.integration.job.JobManager;
+import org.secretflow.easypsi.manager.integration.job.JobWatcher;
 import org.secretflow.easypsi.service.listener.JobSyncListener;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -30,23 +31,20 @@ import org.springframework.boot.test.mock.mockito.MockBean;
  * @author lihaixin
  * @date 2024/03/08
  */
-@SpringBootTest(classes = {JobManager.class, JobSyncListener.class})
+@SpringBootTest(classes = {JobSyncListener.class})
 public class JobSyncListenerTest {
 
     @MockBean
-    private JobManager jobManager;
+    private JobWatcher jobWatcher;
 
-    @MockBean
+    @Autowired
     private JobSyncListener jobSyncListener;
 
 
     @Test
     public void testOnApplicationEvent() {
         ApplicationReadyEvent event = Mockito.mock(ApplicationReadyEvent.class);
-        Mockito.doNothing().when(jobManager).startSync();
-        jobSyncListener.onApplicationEvent(event);
-        //exception
-        Mockito.doThrow(new RuntimeException()).when(jobManager).startSync();
         jobSyncListener.onApplicationEvent(event);
+        Mockito.verify(jobWatcher, Mockito.atLeastOnce()).start();
     }
 }
\ No newline at end of file
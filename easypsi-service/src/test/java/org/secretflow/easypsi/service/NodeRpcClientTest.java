@@ -0,0 +1,195 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.service;
+
+import org.secretflow.easypsi.common.util.JsonUtils;
+import org.secretflow.easypsi.service.model.common.EasyPsiResponse;
+import org.secretflow.easypsi.service.rpc.NodeRpcClient;
+import org.secretflow.easypsi.service.rpc.NodeRpcProperties;
+
+import com.google.common.collect.ImmutableMap;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Node rpc client test
+ *
+ * @author agent
+ * @date 2026/10/18
+ */
+public class NodeRpcClientTest {
+
+    private HttpServer server;
+
+    private NodeRpcClient client;
+
+    private MeterRegistry meterRegistry;
+
+    private final List<String> hosts = new CopyOnWriteArrayList<>();
+
+    private final AtomicInteger unavailable = new AtomicInteger();
+
+    private final AtomicInteger dropped = new AtomicInteger();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ok", exchange -> {
+            hosts.add(exchange.getRequestHeaders().getFirst("Host"));
+            byte[] request = exchange.getRequestBody().readAllBytes();
+            respond(exchange, 200, JsonUtils.toJSONBytes(EasyPsiResponse.success(new String(request, StandardCharsets.UTF_8))));
+        });
+        server.createContext("/flaky", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            if (unavailable.getAndDecrement() > 0) {
+                respond(exchange, 503, "{}".getBytes(StandardCharsets.UTF_8));
+            } else {
+                respond(exchange, 200, JsonUtils.toJSONBytes(EasyPsiResponse.success("recovered")));
+            }
+        });
+        server.createContext("/drop", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            dropped.incrementAndGet();
+            // the connection goes away after the request was read, without a response
+            exchange.close();
+        });
+        server.createContext("/hang", exchange -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.close();
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        NodeRpcProperties properties = new NodeRpcProperties();
+        properties.setRetryBackoff(Duration.ofMillis(1));
+        meterRegistry = new SimpleMeterRegistry();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        client = new NodeRpcClient(properties, beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        client.close();
+        server.stop(0);
+    }
+
+    @Test
+    public void postTest() {
+        EasyPsiResponse response = client.post("alice", url("/ok"), ImmutableMap.of("k", "v"), EasyPsiResponse.class);
+        Assertions.assertEquals(0, response.getStatus().getCode());
+        Assertions.assertEquals("{\"k\":\"v\"}", response.getData());
+        Assertions.assertEquals("secretpad.alice.svc", hosts.get(0));
+        Assertions.assertEquals(1, meterRegistry.get("easypsi.node.rpc.requests")
+                .tags("node", "alice", "uri", "/ok", "outcome", "SUCCESS").timer().count());
+    }
+
+    @Test
+    public void notFoundTest() {
+        Assertions.assertThrows(HttpClientErrorException.NotFound.class,
+                () -> client.post("alice", url("/missing"), ImmutableMap.of(), EasyPsiResponse.class, Duration.ofSeconds(5)));
+        Assertions.assertEquals(1, meterRegistry.get("easypsi.node.rpc.requests").tag("outcome", "HTTP_4XX").timer().count());
+    }
+
+    @Test
+    public void retryConnectFailureTest() throws IOException {
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        Assertions.assertThrows(ResourceAccessException.class,
+                () -> client.post("bob", "http://127.0.0.1:" + closedPort + "/ok", ImmutableMap.of(), EasyPsiResponse.class));
+        Assertions.assertEquals(2, meterRegistry.get("easypsi.node.rpc.retries").tag("node", "bob").counter().count());
+    }
+
+    @Test
+    public void noRetryUnavailableTest() {
+        unavailable.set(1);
+        Assertions.assertThrows(HttpServerErrorException.ServiceUnavailable.class,
+                () -> client.post("bob", url("/flaky"), ImmutableMap.of(), EasyPsiResponse.class));
+        Assertions.assertEquals(0, unavailable.get());
+        Assertions.assertTrue(meterRegistry.find("easypsi.node.rpc.retries").counters().isEmpty());
+    }
+
+    @Test
+    public void noRetryNoResponseTest() {
+        // the partner may have applied the request before the connection dropped
+        Assertions.assertThrows(ResourceAccessException.class,
+                () -> client.post("bob", url("/drop"), ImmutableMap.of(), EasyPsiResponse.class));
+        Assertions.assertEquals(1, dropped.get());
+        Assertions.assertTrue(meterRegistry.find("easypsi.node.rpc.retries").counters().isEmpty());
+    }
+
+    @Test
+    public void postAsyncTest() {
+        CompletableFuture<EasyPsiResponse> future = client.postAsync("alice", url("/ok"), ImmutableMap.of("k", "v"),
+                EasyPsiResponse.class, Duration.ofSeconds(5));
+        Assertions.assertEquals("{\"k\":\"v\"}", future.join().getData());
+    }
+
+    @Test
+    public void postAsyncDeadlineTest() {
+        CompletableFuture<EasyPsiResponse> future = client.postAsync("carol", url("/hang"), ImmutableMap.of(),
+                EasyPsiResponse.class, Duration.ofMillis(200));
+        ExecutionException e = Assertions.assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(TimeoutException.class, e.getCause());
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    private static void respond(HttpExchange exchange, int code, byte[] body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(code, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.service.auth;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.secretflow.easypsi.common.constant.PermissionTargetType;
+import org.secretflow.easypsi.common.constant.PermissionUserType;
+import org.secretflow.easypsi.common.constant.ResourceType;
+import org.secretflow.easypsi.persistence.entity.SysResourceDO;
+import org.secretflow.easypsi.persistence.entity.SysRoleResourceRelDO;
+import org.secretflow.easypsi.persistence.entity.SysUserPermissionRelDO;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * @author agent
+ * @date 2026/10/18
+ */
+public class PermissionTableTest {
+
+    @Test
+    public void compileTest() {
+        PermissionTable table = PermissionTable.compile(
+                List.of(permission(PermissionUserType.NODE, "alice", "P2P_NODE"),
+                        permission(PermissionUserType.USER, "admin", "ADMIN")),
+                List.of(roleResource("P2P_NODE", "PRJ_JOB_GET"), roleResource("P2P_NODE", "PRJ_EDGE_JOB_LIST"),
+                        roleResource("P2P_NODE", "NODE_ID"), roleResource("P2P_NODE", "NOT_A_RESOURCE"),
+                        roleResource("ADMIN", "ALL_INTERFACE_RESOURCE")),
+                List.of(resource(ResourceType.INTERFACE, "ALL_INTERFACE_RESOURCE"), resource(ResourceType.INTERFACE, "PRJ_JOB_GET"),
+                        resource(ResourceType.INTERFACE, "PRJ_EDGE_JOB_LIST"), resource(ResourceType.NODE_ID, "NODE_ID")));
+
+        Set<String> alice = table.resourceCodes(PermissionUserType.NODE, ResourceType.INTERFACE, "alice");
+        Assertions.assertEquals(Set.of("PRJ_JOB_GET", "PRJ_EDGE_JOB_LIST"), alice);
+        Assertions.assertTrue(alice.contains("PRJ_JOB_GET"));
+        Assertions.assertFalse(alice.contains("ALL_INTERFACE_RESOURCE"));
+        Assertions.assertFalse(alice.contains("NOT_A_RESOURCE"));
+        Assertions.assertEquals(Set.of("NODE_ID"), table.resourceCodes(PermissionUserType.NODE, ResourceType.NODE_ID, "alice"));
+
+        Assertions.assertEquals(Set.of("ALL_INTERFACE_RESOURCE"), table.resourceCodes(PermissionUserType.USER, ResourceType.INTERFACE, "admin"));
+        // the user type is part of the key
+        Assertions.assertTrue(table.resourceCodes(PermissionUserType.NODE, ResourceType.INTERFACE, "admin").isEmpty());
+        Assertions.assertTrue(table.resourceCodes(PermissionUserType.NODE, ResourceType.INTERFACE, "bob").isEmpty());
+    }
+
+    private SysUserPermissionRelDO permission(PermissionUserType userType, String userKey, String roleCode) {
+        SysUserPermissionRelDO permission = new SysUserPermissionRelDO();
+        permission.setUserType(userType);
+        permission.setTargetType(PermissionTargetType.ROLE);
+        SysUserPermissionRelDO.UPK upk = new SysUserPermissionRelDO.UPK();
+        upk.setUserKey(userKey);
+        upk.setTargetCode(roleCode);
+        permission.setUpk(upk);
+        return permission;
+    }
+
+    private SysRoleResourceRelDO roleResource(String roleCode, String resourceCode) {
+        SysRoleResourceRelDO roleResource = new SysRoleResourceRelDO();
+        SysRoleResourceRelDO.UPK upk = new SysRoleResourceRelDO.UPK();
+        upk.setRoleCode(roleCode);
+        upk.setResourceCode(resourceCode);
+        roleResource.setUpk(upk);
+        return roleResource;
+    }
+
+    private SysResourceDO resource(ResourceType resourceType, String resourceCode) {
+        SysResourceDO resource = new SysResourceDO();
+        resource.setResourceType(resourceType);
+        resource.setResourceCode(resourceCode);
+        return resource;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.service.impl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.secretflow.easypsi.common.exception.EasyPsiException;
+import org.secretflow.easypsi.manager.integration.data.DataManager;
+import org.secretflow.easypsi.persistence.entity.DataTableStatisticsDO;
+import org.secretflow.easypsi.persistence.repository.DataTableStatisticsRepository;
+import org.secretflow.easypsi.service.EnvService;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * @author agent
+ * @date 2026/10/18
+ */
+public class DataTableStatisticsServiceImplTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final DataTableStatisticsRepository dataTableStatisticsRepository = Mockito.mock(DataTableStatisticsRepository.class);
+
+    private final DataManager dataManager = Mockito.mock(DataManager.class);
+
+    private final EnvService envService = Mockito.mock(EnvService.class);
+
+    private final DataTableStatisticsServiceImpl dataTableStatisticsService = new DataTableStatisticsServiceImpl();
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(dataTableStatisticsService, "dataTableStatisticsRepository", dataTableStatisticsRepository);
+        ReflectionTestUtils.setField(dataTableStatisticsService, "dataManager", dataManager);
+        ReflectionTestUtils.setField(dataTableStatisticsService, "envService", envService);
+        ReflectionTestUtils.setField(dataTableStatisticsService, "dataPath", tempDir);
+        Mockito.when(envService.getPlatformNodeId()).thenReturn("alice");
+        Mockito.when(dataTableStatisticsRepository.save(Mockito.any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    public void scanNewTableTest() throws Exception {
+        Path file = Files.writeString(tempDir.resolve("table.csv"), "id,name\n1,a\n2,b\n");
+        Mockito.when(dataTableStatisticsRepository.findByNodeIdAndTableName("alice", "table.csv")).thenReturn(Optional.empty());
+        Mockito.when(dataManager.countLinesByCommand(file.toString(), "table.csv")).thenReturn(CompletableFuture.completedFuture("2"));
+
+        DataTableStatisticsDO statistics = dataTableStatisticsService.getLocalStatistics("table.csv");
+
+        Assertions.assertEquals(2L, statistics.getRowCount());
+        Assertions.assertEquals("L1", statistics.getDataInterval());
+        Assertions.assertEquals(Files.size(file), statistics.getFileSize());
+        Mockito.verify(dataTableStatisticsRepository).save(statistics);
+    }
+
+    @Test
+    public void reuseUnchangedTableTest() throws Exception {
+        Path file = Files.writeString(tempDir.resolve("table.csv"), "id,name\n1,a\n");
+        DataTableStatisticsDO stored = stored(file, 1L);
+        Mockito.when(dataTableStatisticsRepository.findByNodeIdAndTableName("alice", "table.csv")).thenReturn(Optional.of(stored));
+
+        Assertions.assertSame(stored, dataTableStatisticsService.getLocalStatistics("table.csv"));
+        Mockito.verifyNoInteractions(dataManager);
+        Mockito.verify(dataTableStatisticsRepository, Mockito.never()).save(Mockito.any());
+    }
+
+    @Test
+    public void rescanChangedTableTest() throws Exception {
+        Path file = Files.writeString(tempDir.resolve("table.csv"), "id,name\n1,a\n");
+        DataTableStatisticsDO stored = stored(file, 1L);
+        Files.writeString(file, "id,age\n1,10\n2,20\n");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(stored.getFileModified() + 1000));
+        Mockito.when(dataTableStatisticsRepository.findByNodeIdAndTableName("alice", "table.csv")).thenReturn(Optional.of(stored));
+        Mockito.when(dataManager.countLinesByCommand(file.toString(), "table.csv")).thenReturn(CompletableFuture.completedFuture("2"));
+
+        DataTableStatisticsDO statistics = dataTableStatisticsService.getLocalStatistics("table.csv");
+
+        Assertions.assertSame(stored, statistics);
+        Assertions.assertEquals(2L, statistics.getRowCount());
+        Assertions.assertEquals(Files.size(file), statistics.getFileSize());
+        Mockito.verify(dataTableStatisticsRepository).save(stored);
+    }
+
+    @Test
+    public void concurrentInsertTest() throws Exception {
+        Path file = Files.writeString(tempDir.resolve("table.csv"), "id,name\n1,a\n2,b\n");
+        DataTableStatisticsDO inserted = DataTableStatisticsDO.builder().upk(new DataTableStatisticsDO.UPK("alice", "table.csv")).build();
+        Mockito.when(dataTableStatisticsRepository.findByNodeIdAndTableName("alice", "table.csv"))
+                .thenReturn(Optional.empty(), Optional.of(inserted));
+        Mockito.when(dataManager.countLinesByCommand(file.toString(), "table.csv")).thenReturn(CompletableFuture.completedFuture("2"));
+        Mockito.when(dataTableStatisticsRepository.save(Mockito.any()))
+                .thenThrow(new DataIntegrityViolationException("upk_statistics_node_table"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        DataTableStatisticsDO statistics = dataTableStatisticsService.getLocalStatistics("table.csv");
+
+        Assertions.assertSame(inserted, statistics);
+        Assertions.assertEquals(2L, statistics.getRowCount());
+        Assertions.assertEquals(Files.size(file), statistics.getFileSize());
+        Mockito.verify(dataTableStatisticsRepository).save(inserted);
+    }
+
+    @Test
+    public void interruptedCountTest() throws Exception {
+        Files.writeString(tempDir.resolve("table.csv"), "id,name\n1,a\n");
+        Mockito.when(dataTableStatisticsRepository.findByNodeIdAndTableName("alice", "table.csv")).thenReturn(Optional.empty());
+        CompletableFuture<String> count = new CompletableFuture<>();
+        Mockito.when(dataManager.countLinesByCommand(Mockito.anyString(), Mockito.eq("table.csv"))).thenReturn(count);
+
+        Thread.currentThread().interrupt();
+        try {
+            Assertions.assertThrows(EasyPsiException.class, () -> dataTableStatisticsService.getLocalStatistics("table.csv"));
+            Assertions.assertTrue(Thread.interrupted());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    public void missingTableTest() {
+        Assertions.assertThrows(EasyPsiException.class, () -> dataTableStatisticsService.getLocalStatistics("missing.csv"));
+        Mockito.verifyNoInteractions(dataTableStatisticsRepository);
+    }
+
+    private DataTableStatisticsDO stored(Path file, long rowCount) throws Exception {
+        return DataTableStatisticsDO.builder()
+                .upk(new DataTableStatisticsDO.UPK("alice", file.getFileName().toString()))
+                .filePath(file.toString())
+                .fileSize(Files.size(file))
+                .fileModified(Files.getLastModifiedTime(file).toMillis())
+                .fileInode(String.valueOf(Files.readAttributes(file, BasicFileAttributes.class).fileKey()))
+                .rowCount(rowCount)
+                .dataInterval("L1")
+                .build();
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.service.impl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.secretflow.easypsi.service.model.project.JobLogPage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * @author agent
+ * @date 2026/10/18
+ */
+public class JobLogLocalServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final JobLogLocalService jobLogLocalService = new JobLogLocalService();
+
+    @Test
+    public void readPagesTest() throws Exception {
+        List<Path> files = List.of(
+                Files.writeString(tempDir.resolve("a.log"), "line1\nline2\n"),
+                Files.writeString(tempDir.resolve("b.log"), "line3\r\nline4\n"));
+
+        JobLogPage first = jobLogLocalService.read(files, null, 0, 10, false);
+        Assertions.assertEquals(List.of("line1"), first.getLines());
+        Assertions.assertEquals("a.log", first.getFile());
+        Assertions.assertEquals("a.log", first.getNextFile());
+        Assertions.assertEquals(6, first.getNextOffset());
+
+        // the page crosses into the second file
+        JobLogPage second = jobLogLocalService.read(files, first.getNextFile(), first.getNextOffset(), 14, false);
+        Assertions.assertEquals(List.of("line2", "line3"), second.getLines());
+        Assertions.assertEquals("b.log", second.getNextFile());
+        Assertions.assertEquals(7, second.getNextOffset());
+
+        JobLogPage last = jobLogLocalService.read(files, second.getNextFile(), second.getNextOffset(), 100, false);
+        Assertions.assertEquals(List.of("line4"), last.getLines());
+        Assertions.assertEquals(13, last.getNextOffset());
+
+        JobLogPage end = jobLogLocalService.read(files, last.getNextFile(), last.getNextOffset(), 100, false);
+        Assertions.assertTrue(end.getLines().isEmpty());
+        Assertions.assertEquals("b.log", end.getNextFile());
+        Assertions.assertEquals(13, end.getNextOffset());
+    }
+
+    @Test
+    public void partialLineTest() throws Exception {
+        Path file = Files.writeString(tempDir.resolve("a.log"), "line1\nli");
+        List<Path> files = List.of(file);
+
+        JobLogPage page = jobLogLocalService.read(files, null, 0, 100, false);
+        Assertions.assertEquals(List.of("line1"), page.getLines());
+        Assertions.assertEquals(6, page.getNextOffset());
+
+        // the running job is mid-line, nothing is returned and the cursor stays put
+        JobLogPage held = jobLogLocalService.read(files, page.getNextFile(), page.getNextOffset(), 100, false);
+        Assertions.assertTrue(held.getLines().isEmpty());
+        Assertions.assertEquals("a.log", held.getNextFile());
+        Assertions.assertEquals(6, held.getNextOffset());
+
+        Files.writeString(file, "ne2\n", StandardOpenOption.APPEND);
+        JobLogPage next = jobLogLocalService.read(files, held.getNextFile(), held.getNextOffset(), 100, false);
+        Assertions.assertEquals(List.of("line2"), next.getLines());
+
+        // once the job stopped, the unterminated last line is returned as well
+        Files.writeString(file, "line3", StandardOpenOption.APPEND);
+        JobLogPage complete = jobLogLocalService.read(files, next.getNextFile(), next.getNextOffset(), 100, true);
+        Assertions.assertEquals(List.of("line3"), complete.getLines());
+        Assertions.assertEquals(17, complete.getNextOffset());
+    }
+
+    @Test
+    public void longLineTest() throws Exception {
+        List<Path> files = List.of(Files.writeString(tempDir.resolve("long.log"), "abcdefghij\n"));
+        JobLogPage page = jobLogLocalService.read(files, null, 0, 4, false);
+        Assertions.assertEquals(List.of("abcd"), page.getLines());
+        Assertions.assertEquals(4, page.getNextOffset());
+
+        // a line shorter than the limit is not cut
+        List<Path> running = List.of(Files.writeString(tempDir.resolve("running.log"), "abc"));
+        Assertions.assertTrue(jobLogLocalService.read(running, null, 0, 4, false).getLines().isEmpty());
+    }
+
+    @Test
+    public void fileAppearsTest() throws Exception {
+        Files.writeString(tempDir.resolve("b.log"), "line1\nline2\n");
+        List<Path> files = List.of(tempDir.resolve("b.log"));
+        JobLogPage page = jobLogLocalService.read(files, null, 0, 6, false);
+        Assertions.assertEquals(List.of("line1"), page.getLines());
+
+        // a file sorting earlier does not move the cursor
+        Files.writeString(tempDir.resolve("a.log"), "other\n");
+        files = List.of(tempDir.resolve("a.log"), tempDir.resolve("b.log"));
+        JobLogPage next = jobLogLocalService.read(files, page.getNextFile(), page.getNextOffset(), 100, false);
+        Assertions.assertEquals(List.of("line2"), next.getLines());
+    }
+
+    @Test
+    public void readAllTest() throws Exception {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 200000; i++) {
+            content.append("line").append(i).append('\n');
+        }
+        List<Path> files = List.of(
+                Files.writeString(tempDir.resolve("a.log"), content),
+                Files.writeString(tempDir.resolve("b.log"), "last"));
+
+        JobLogPage page = jobLogLocalService.readAll(files, true);
+        Assertions.assertEquals(200001, page.getLines().size());
+        Assertions.assertEquals("last", page.getLines().get(200000));
+        Assertions.assertEquals("b.log", page.getNextFile());
+        Assertions.assertEquals(4, page.getNextOffset());
+        Assertions.assertEquals(200000, jobLogLocalService.readAll(files, false).getLines().size());
+        Assertions.assertTrue(jobLogLocalService.readAll(List.of(), true).getLines().isEmpty());
+    }
+
+    @Test
+    public void tailTest() throws Exception {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 50000; i++) {
+            content.append("line").append(i).append('\n');
+        }
+        List<Path> files = List.of(Files.writeString(tempDir.resolve("tail.log"), content));
+        long size = Files.size(files.get(0));
+
+        JobLogPage page = jobLogLocalService.tail(files, 3, false);
+        Assertions.assertEquals(List.of("line49997", "line49998", "line49999"), page.getLines());
+        Assertions.assertEquals(size, page.getNextOffset());
+
+        JobLogPage next = jobLogLocalService.read(files, page.getFile(), page.getOffset(), 10, false);
+        Assertions.assertEquals(List.of("line49997"), next.getLines());
+
+        Assertions.assertEquals(50000, jobLogLocalService.tail(files, 60000, false).getLines().size());
+        Assertions.assertTrue(jobLogLocalService.tail(List.of(), 3, false).getLines().isEmpty());
+    }
+
+    @Test
+    public void tailFilesTest() throws Exception {
+        List<Path> files = List.of(
+                Files.writeString(tempDir.resolve("a.log"), "line1\nline2"),
+                Files.writeString(tempDir.resolve("b.log"), "line3\nline4\npart"));
+
+        JobLogPage page = jobLogLocalService.tail(files, 3, false);
+        Assertions.assertEquals(List.of("line2", "line3", "line4"), page.getLines());
+        Assertions.assertEquals("a.log", page.getFile());
+        Assertions.assertEquals(6, page.getOffset());
+        Assertions.assertEquals("b.log", page.getNextFile());
+        Assertions.assertEquals(12, page.getNextOffset());
+
+        JobLogPage complete = jobLogLocalService.tail(files, 2, true);
+        Assertions.assertEquals(List.of("line4", "part"), complete.getLines());
+        Assertions.assertEquals(16, complete.getNextOffset());
+    }
+}
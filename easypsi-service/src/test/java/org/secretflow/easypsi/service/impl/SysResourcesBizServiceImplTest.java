@@ -0,0 +1,81 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.secretflow.easypsi.service.impl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.secretflow.easypsi.common.constant.PermissionUserType;
+import org.secretflow.easypsi.common.constant.ResourceType;
+import org.secretflow.easypsi.persistence.repository.SysResourceRepository;
+import org.secretflow.easypsi.persistence.repository.SysRoleResourceRelRepository;
+import org.secretflow.easypsi.persistence.repository.SysUserPermissionRelRepository;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author agent
+ * @date 2026/10/18
+ */
+public class SysResourcesBizServiceImplTest {
+
+    private final SysUserPermissionRelRepository userPermissionRelRepository = Mockito.mock(SysUserPermissionRelRepository.class);
+
+    private final SysRoleResourceRelRepository roleResourceRelRepository = Mockito.mock(SysRoleResourceRelRepository.class);
+
+    private final SysResourceRepository resourceRepository = Mockito.mock(SysResourceRepository.class);
+
+    @Test
+    public void compileSingleFlightTest() throws Exception {
+        SysResourcesBizServiceImpl service = new SysResourcesBizServiceImpl();
+        ReflectionTestUtils.setField(service, "userPermissionRelRepository", userPermissionRelRepository);
+        ReflectionTestUtils.setField(service, "roleResourceRelRepository", roleResourceRelRepository);
+        ReflectionTestUtils.setField(service, "resourceRepository", resourceRepository);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Mockito.when(userPermissionRelRepository.findAll()).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+
+        ExecutorService readers = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> reads = new ArrayList<>();
+            reads.add(readers.submit(() -> service.queryResourceCodeByUserName(PermissionUserType.NODE, ResourceType.INTERFACE, "alice")));
+            Assertions.assertTrue(entered.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 3; i++) {
+                reads.add(readers.submit(() -> service.queryResourceCodeByUserName(PermissionUserType.NODE, ResourceType.INTERFACE, "alice")));
+            }
+            release.countDown();
+            for (Future<?> read : reads) {
+                read.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            readers.shutdownNow();
+        }
+        Mockito.verify(userPermissionRelRepository, Mockito.times(1)).findAll();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.secretflow.easypsi.service.impl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.secretflow.easypsi.common.dto.UserContextDTO;
+import org.secretflow.easypsi.common.exception.EasyPsiException;
+import org.secretflow.easypsi.persistence.entity.AccountsDO;
+import org.secretflow.easypsi.persistence.entity.TokensDO;
+import org.secretflow.easypsi.persistence.repository.UserAccountsRepository;
+import org.secretflow.easypsi.persistence.repository.UserTokensRepository;
+import org.secretflow.easypsi.service.model.auth.UserSession;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * @author agent
+ * @date 2026/10/18
+ */
+public class UserSessionServiceImplTest {
+
+    private final UserTokensRepository userTokensRepository = Mockito.mock(UserTokensRepository.class);
+
+    private final UserAccountsRepository userAccountsRepository = Mockito.mock(UserAccountsRepository.class);
+
+    private final UserSessionServiceImpl userSessionService = new UserSessionServiceImpl();
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(userSessionService, "userTokensRepository", userTokensRepository);
+        ReflectionTestUtils.setField(userSessionService, "userAccountsRepository", userAccountsRepository);
+        ReflectionTestUtils.setField(userSessionService, "expire", Duration.ofHours(24));
+        AccountsDO accountsDO = new AccountsDO();
+        accountsDO.setName("admin");
+        accountsDO.setInitial(false);
+        Mockito.when(userAccountsRepository.findByName("admin")).thenReturn(Optional.of(accountsDO));
+    }
+
+    @Test
+    public void touchLoadsOnceTest() {
+        mockToken("token", LocalDateTime.now().minusMinutes(10));
+
+        UserSession first = userSessionService.touch("token");
+        UserSession second = userSessionService.touch("token");
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals("admin", second.getUserContext().getName());
+        Assertions.assertFalse(second.isInitial());
+        Mockito.verify(userTokensRepository, Mockito.times(1)).findByToken("token");
+        Mockito.verify(userTokensRepository, Mockito.never()).updateGmtToken(Mockito.anyString(), Mockito.any());
+    }
+
+    @Test
+    public void flushWritesLastUseOnceTest() {
+        mockToken("token", LocalDateTime.now().minusMinutes(10));
+        UserSession session = userSessionService.touch("token");
+
+        userSessionService.flush();
+        userSessionService.flush();
+
+        Mockito.verify(userTokensRepository, Mockito.times(1)).updateGmtToken("token", session.getLastAccess());
+        Assertions.assertEquals(session.getLastAccess(), session.getPersistedAccess());
+    }
+
+    @Test
+    public void expiredAndInvalidatedTest() {
+        mockToken("expired", LocalDateTime.now().minusHours(25));
+        Assertions.assertThrows(EasyPsiException.class, () -> userSessionService.touch("expired"));
+
+        mockToken("token", LocalDateTime.now());
+        userSessionService.touch("token");
+        userSessionService.invalidateByName("admin");
+        Mockito.when(userTokensRepository.findByToken("token")).thenReturn(Optional.empty());
+        Assertions.assertThrows(EasyPsiException.class, () -> userSessionService.touch("token"));
+        Assertions.assertThrows(EasyPsiException.class, () -> userSessionService.touch(null));
+    }
+
+    private void mockToken(String token, LocalDateTime gmtToken) {
+        UserContextDTO userContextDTO = new UserContextDTO();
+        userContextDTO.setName("admin");
+        userContextDTO.setToken(token);
+        Mockito.when(userTokensRepository.findByToken(token)).thenReturn(Optional.of(TokensDO.builder()
+                .name("admin")
+                .token(token)
+                .gmtToken(gmtToken)
+                .sessionData(userContextDTO.toJsonStr())
+                .build()));
+    }
+}
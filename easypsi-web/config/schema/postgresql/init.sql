@@ -0,0 +1,328 @@
+/*
+ * Copyright 2024 Ant Group Co., Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+-- schema of server databases, PostgreSQL, or H2 in PostgreSQL mode.
+-- every statement can run again on an existing database, so the script is applied on every start.
+-- datetime values written as strings by the converters need `stringtype=unspecified` on the PostgreSQL jdbc url.
+
+create table if not exists project_job
+(
+    id                bigserial primary key,
+    project_id        varchar(64) not null,
+    job_id            varchar(64) not null,
+    name              varchar(40) not null,                          -- Job name
+    status            varchar(32) not null,                          -- Job status
+    err_msg           text,                                          -- err_msg
+    finished_time     timestamp   default null,                      -- finished_time
+    is_deleted        smallint    default 0 not null,                -- delete flag
+    gmt_create        timestamp   default CURRENT_TIMESTAMP not null, -- create time
+    gmt_modified      timestamp   default CURRENT_TIMESTAMP not null, -- modified time
+    initiator_node_id varchar(64) not null,                          -- initiator node id
+    partner_node_id   varchar(64) not null,                          -- partner node id
+    host_node_id      varchar(64) not null,                          -- host node id
+    description       varchar(64) default '',                        -- description
+    start_time        timestamp,                                     -- start time
+    initiator_config  text        default '',                        -- initiator config
+    partner_config    text        default '',                        -- partner config
+    initiator_data_table_name  varchar(256) default null,            -- initiator data table name
+    initiator_data_table_count varchar(16)  default null,            -- initiator data table count level
+    partner_data_table_name    varchar(256) default null,            -- partner data table name
+    partner_data_table_count   varchar(16)  default null,            -- partner data table count level
+    recovery_enabled           smallint     default 0 not null,      -- partner recovery enabled
+    data_table_confirmation    smallint     default 0 not null,      -- initiator data table confirmed
+    initiator_result_receiver  smallint     default 0 not null,      -- initiator gets the result
+    partner_result_receiver    smallint     default 0 not null       -- partner gets the result
+);
+create unique index if not exists upk_project_job_id on project_job (project_id, job_id);
+create unique index if not exists upk_job_id on project_job (job_id); -- Kuscia，Job unique
+create index if not exists idx_project_job_status on project_job (status, gmt_create);
+
+create table if not exists user_accounts
+(
+    id                           bigserial primary key,
+    name                         varchar(128) not null,                         -- username
+    password_hash                varchar(128) not null,                         -- password_hash
+    is_deleted                   smallint     default 0 not null,               -- delete flag
+    gmt_create                   timestamp    default CURRENT_TIMESTAMP not null, -- create time
+    gmt_modified                 timestamp    default CURRENT_TIMESTAMP not null, -- modified time
+    failed_attempts              integer      default null,                     -- failed attempts
+    locked_invalid_time          timestamp    default null,                     -- invalid time
+    passwd_reset_failed_attempts integer      default null,                     -- passwd reset failed attempts
+    gmt_passwd_reset_release     timestamp    default null,                     -- passwd reset invalid time
+    owner_type                   varchar(16)  default 'CENTER' not null,        -- owner type
+    owner_id                     varchar(64)  default 'kuscia-system' not null, -- owner id
+    initial                      smallint     default 1 not null                -- initial
+);
+create unique index if not exists upk_user_accounts_name on user_accounts (name);
+
+create table if not exists user_tokens
+(
+    id           bigserial primary key,
+    name         varchar(128) not null,                          -- username
+    token        varchar(64)  default null,                      -- login token
+    gmt_token    timestamp    default null,                      -- token effective time
+    is_deleted   smallint     default 0 not null,                -- delete flag
+    gmt_create   timestamp    default CURRENT_TIMESTAMP not null, -- create time
+    gmt_modified timestamp    default CURRENT_TIMESTAMP not null, -- modified time
+    session_data text         null                               -- session data
+);
+create unique index if not exists upk_user_tokens_token on user_tokens (token);
+
+--------------------------------------------------------------------------------------------------------------------------------
+
+create table if not exists node
+(
+    id              bigserial primary key,
+    node_id         varchar(64)  not null,
+    name            varchar(256) not null,
+    auth            text,                                           -- ca
+    description     text         default '',                        -- description
+    control_node_id varchar(64)  not null,                          -- node control id
+    net_address     varchar(100),                                   -- node net address
+    is_deleted      smallint     default 0 not null,                -- delete flag
+    gmt_create      timestamp    default CURRENT_TIMESTAMP not null, -- create time
+    gmt_modified    timestamp    default CURRENT_TIMESTAMP not null, -- modified time
+    cert_text       text         default '' not null,               -- cert text
+    node_remark     varchar(256),                                   -- node remark
+    trust           smallint     default 1 not null                 -- trust
+);
+create unique index if not exists upk_node_id on node (node_id);
+create index if not exists key_node_name on node (name);
+
+create table if not exists node_route
+(
+    id              bigserial primary key,
+    src_node_id     varchar(64) not null,
+    dst_node_id     varchar(64) not null,
+    src_net_address varchar(100),                                  -- node net address
+    dst_net_address varchar(100),                                  -- cooperate node net address
+    is_deleted      smallint    default 0 not null,                -- delete flag
+    gmt_create      timestamp   default CURRENT_TIMESTAMP not null, -- create time
+    gmt_modified    timestamp   default CURRENT_TIMESTAMP not null  -- modified time
+);
+create unique index if not exists upk_route_src_dst on node_route (src_node_id, dst_node_id);
+create index if not exists key_router_src on node_route (src_node_id);
+create index if not exists key_router_dst on node_route (dst_node_id);
+
+create table if not exists sys_resource
+(
+    id            bigserial primary key,
+    resource_type varchar(16) not null,                          -- INTERFACE|NODE
+    resource_code varchar(64) not null unique,                   -- {Code} or ALL
+    resource_name varchar(64),
+    is_deleted    smallint    default 0 not null,                -- delete flag
+    gmt_create    timestamp   default CURRENT_TIMESTAMP not null, -- create time
+    gmt_modified  timestamp   default CURRENT_TIMESTAMP not null  -- modified time
+);
+
+create table if not exists sys_role
+(
+    id           bigserial primary key,
+    role_code    varchar(64) unique not null,
+    role_name    varchar(64),
+    is_deleted   smallint    default 0 not null,                -- delete flag
+    gmt_create   timestamp   default CURRENT_TIMESTAMP not null, -- create time
+    gmt_modified timestamp   default CURRENT_TIMESTAMP not null  -- modified time
+);
+
+create table if not exists sys_role_resource_rel
+(
+    id            bigserial primary key,
+    role_code     varchar(64) not null,
+    resource_code varchar(64) not null,
+    gmt_create    timestamp   default CURRENT_TIMESTAMP not null, -- create time
+    gmt_modified  timestamp   default CURRENT_TIMESTAMP not null  -- modified time
+);
+create unique index if not exists uniq_role_code_resource_code on sys_role_resource_rel (role_code, resource_code);
+
+create table if not exists sys_user_permission_rel
+(
+    id           bigserial primary key,
+    user_type    varchar(16) not null,
+    user_key     varchar(64) not null,
+    target_type  varchar(16) not null default 'ROLE',
+    target_code  varchar(16) not null,
+    gmt_create   timestamp   default CURRENT_TIMESTAMP not null, -- create time
+    gmt_modified timestamp   default CURRENT_TIMESTAMP not null  -- modified time
+);
+create unique index if not exists uniq_user_key_target_code on sys_user_permission_rel (user_key, target_code);
+
+create table if not exists fabric_log
+(
+    id              bigserial primary key,
+    log_path        varchar(1000) not null,                       -- log path
+    log_hash        varchar(128)  not null,                       -- log hash
+    channel_name    varchar(128)  not null,                       -- channel name
+    chain_code_name varchar(128)  not null,                       -- chaincode name
+    msp_id          varchar(128)  not null,                       -- msp id
+    override_auth   varchar(128)  not null,                       -- override auth
+    owner           varchar(128)  not null,                       -- owner
+    result          smallint      default 0 not null,             -- result
+    message         varchar(500)  not null,                       -- message
+    is_deleted      smallint      default 0 not null,             -- delete flag
+    gmt_create      timestamp     default CURRENT_TIMESTAMP not null, -- create time
+    gmt_modified    timestamp     default CURRENT_TIMESTAMP not null, -- modified time
+    retry_count     integer       default 0 not null,             -- failed upload attempts
+    next_retry_time timestamp     default null,                   -- earliest next upload attempt
+    asset_id        varchar(256)  not null                        -- ledger asset id
+);
+create unique index if not exists uniq_fabric_log_asset_id on fabric_log (asset_id);
+create index if not exists idx_fabric_log_result on fabric_log (result, next_retry_time);
+
+create table if not exists rsa_encryption_key
+(
+    id               bigserial primary key,
+    public_key       varchar(1000) not null,                       -- public key
+    private_key      varchar(128)  not null,                       -- private key
+    key_invalid_time timestamp     default null,                   -- invalid time
+    is_deleted       smallint      default 0 not null,             -- delete flag
+    gmt_create       timestamp     default CURRENT_TIMESTAMP not null, -- create time
+    gmt_modified     timestamp     default CURRENT_TIMESTAMP not null  -- modified time
+);
+
+create table if not exists data_table_statistics
+(
+    id            bigserial primary key,
+    node_id       varchar(64)   not null,                        -- node id
+    table_name    varchar(256)  not null,                        -- data table name
+    file_path     varchar(1000) default null,                    -- data table file path
+    file_size     bigint        default null,                    -- file size in bytes
+    file_modified bigint        default null,                    -- file last modified time in milliseconds
+    file_inode    varchar(128)  default null,                    -- file key, device and inode
+    row_count     bigint        default null,                    -- exact row count
+    data_interval varchar(16)   default null,                    -- data interval level
+    count_time    timestamp     default null,                    -- the time statistics computed
+    gmt_create    timestamp     default CURRENT_TIMESTAMP not null, -- create time
+    gmt_modified  timestamp     default CURRENT_TIMESTAMP not null  -- modified time
+);
+create unique index if not exists upk_statistics_node_table on data_table_statistics (node_id, table_name);
+
+--------------------------------------------------------------------------------------------------------------------------------
+
+create table if not exists download_ticket
+(
+    id             bigserial primary key,
+    hash           varchar(64)   not null,                        -- ticket hash
+    path           varchar(1000) default null,                    -- result file path
+    dir            varchar(1000) default null,                    -- result base directory
+    relative_uri   varchar(1000) default null,                    -- result relative uri
+    remaining_uses integer       default null,                    -- remaining uses, null means unlimited until expired
+    expire_at      bigint        not null,                        -- expiration time in milliseconds
+    gmt_create     timestamp     default CURRENT_TIMESTAMP not null, -- create time
+    gmt_modified   timestamp     default CURRENT_TIMESTAMP not null  -- modified time
+);
+create unique index if not exists upk_download_ticket_hash on download_ticket (hash);
+create index if not exists key_download_ticket_expire on download_ticket (expire_at);
+
+--------------------------------------------------------------------------------------------------------------------------------
+
+-- resource
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'ALL_INTERFACE_RESOURCE','ALL_INTERFACE_RESOURCE') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'NODE_UPDATE','NODE_UPDATE') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'NODE_CREATE','NODE_CREATE') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'NODE_PAGE','NODE_PAGE') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'NODE_GET','NODE_GET') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'NODE_DELETE','NODE_DELETE') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'NODE_TOKEN','NODE_TOKEN') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'NODE_NEW_TOKEN','NODE_NEW_TOKEN') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'NODE_REFRESH','NODE_REFRESH') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'NODE_LIST','NODE_LIST') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'NODE_RESULT_LIST','NODE_RESULT_LIST') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'NODE_RESULT_DETAIL','NODE_RESULT_DETAIL') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'DATA_CREATE','DATA_CREATE') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'DATA_CREATE_DATA','DATA_CREATE_DATA') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'DATA_UPLOAD','DATA_UPLOAD') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'DATA_DOWNLOAD','DATA_DOWNLOAD') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'DATA_LIST_DATASOURCE','DATA_LIST_DATASOURCE') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'DATATABLE_LIST','DATATABLE_LIST') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'DATATABLE_GET','DATATABLE_GET') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'DATATABLE_DELETE','DATATABLE_DELETE') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'GRAPH_COMM_I18N','GRAPH_COMM_I18N') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'GRAPH_COMM_LIST','GRAPH_COMM_LIST') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'GRAPH_COMM_GET','GRAPH_COMM_GET') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'GRAPH_COMM_BATH','GRAPH_COMM_BATH') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'GRAPH_CREATE','GRAPH_CREATE') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'GRAPH_DELETE','GRAPH_DELETE') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'GRAPH_META_UPDATE','GRAPH_META_UPDATE') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'GRAPH_UPDATE','GRAPH_UPDATE') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'GRAPH_LIST','GRAPH_LIST') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'GRAPH_NODE_UPDATE','GRAPH_NODE_UPDATE') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'GRAPH_START','GRAPH_START') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'GRAPH_NODE_STATUS','GRAPH_NODE_STATUS') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'GRAPH_STOP','GRAPH_STOP') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'GRAPH_DETAIL','GRAPH_DETAIL') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'GRAPH_NODE_OUTPUT','GRAPH_NODE_OUTPUT') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'GRAPH_NODE_LOGS','GRAPH_NODE_LOGS') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'INDEX','INDEX') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'NODE_ROUTE_CREATE','NODE_ROUTE_CREATE') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'NODE_ROUTE_PAGE','NODE_ROUTE_PAGE') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'NODE_ROUTE_GET','NODE_ROUTE_GET') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'NODE_ROUTE_UPDATE','NODE_ROUTE_UPDATE') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'NODE_ROUTE_LIST_NODE','NODE_ROUTE_LIST_NODE') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'NODE_ROUTE_REFRESH','NODE_ROUTE_REFRESH') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'NODE_ROUTE_DELETE','NODE_ROUTE_DELETE') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'PRJ_CREATE','PRJ_CREATE') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'PRJ_LIST','PRJ_LIST') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'PRJ_GET','PRJ_GET') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'PRJ_UPDATE','PRJ_UPDATE') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'PRJ_DELETE','PRJ_DELETE') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'PRJ_ADD_INST','PRJ_ADD_INST') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'PRJ_ADD_NODE','PRJ_ADD_NODE') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'PRJ_ADD_TABLE','PRJ_ADD_TABLE') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'PRJ_DATATABLE_DELETE','PRJ_DATATABLE_DELETE') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'PRJ_DATATABLE_GET','PRJ_DATATABLE_GET') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'PRJ_JOB_LIST','PRJ_JOB_LIST') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'PRJ_JOB_GET','PRJ_JOB_GET') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'PRJ_JOB_STOP','PRJ_JOB_STOP') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'PRJ_TASK_LOGS','PRJ_TASK_LOGS') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'PRJ_TASK_OUTPUT','PRJ_TASK_OUTPUT') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'USER_CREATE','USER_CREATE') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'USER_GET','USER_GET') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'REMOTE_USER_RESET_PWD','REMOTE_USER_RESET_PWD') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'REMOTE_USER_CREATE','REMOTE_USER_CREATE') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'REMOTE_USER_LIST_BY_NODE','REMOTE_USER_LIST_BY_NODE') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'NODE_USER_RESET_PWD','NODE_USER_RESET_PWD') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'NODE_USER_CREATE','NODE_USER_CREATE') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'NODE_USER_LIST_BY_NODE','NODE_USER_LIST_BY_NODE') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'AUTH_LOGIN','AUTH_LOGIN') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'AUTH_LOGOUT','AUTH_LOGOUT') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'ENV_GET','ENV_GET') on conflict do nothing;
+
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'NODE_CERTIFICATE_DOWNLOAD','NODE_CERTIFICATE_DOWNLOAD') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'NODE_CERTIFICATE_UPLOAD','NODE_CERTIFICATE_UPLOAD') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'PRJ_JOB_DELETE','PRJ_JOB_DELETE') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'PRJ_JOB_STOP_KUSCIA','PRJ_JOB_STOP_KUSCIA') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'PRJ_JOB_CREATE_KUSCIA','PRJ_JOB_CREATE_KUSCIA') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'PRJ_JOB_PAUSE_KUSCIA','PRJ_JOB_PAUSE_KUSCIA') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'PRJ_JOB_CONTINUE_KUSCIA','PRJ_JOB_CONTINUE_KUSCIA') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'PRJ_EDGE_JOB_LIST','PRJ_EDGE_JOB_LIST') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'NODE_ROUTE_STATUS','NODE_ROUTE_STATUS') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'DATA_COUNT','DATA_COUNT') on conflict do nothing;
+insert into sys_resource(resource_type, resource_code, resource_name) values('INTERFACE', 'DATA_COUNT_KUSCIA','DATA_COUNT_KUSCIA') on conflict do nothing;
+
+-----------
+--  role --
+insert into sys_role(role_code, role_name) values('P2P_NODE', 'P2P 用户') on conflict do nothing;
+
+insert into sys_role_resource_rel(role_code, resource_code) values('P2P_NODE', 'PRJ_JOB_STOP') on conflict do nothing;
+insert into sys_role_resource_rel(role_code, resource_code) values('P2P_NODE', 'PRJ_JOB_GET') on conflict do nothing;
+insert into sys_role_resource_rel(role_code, resource_code) values('P2P_NODE', 'PRJ_JOB_CREATE_KUSCIA') on conflict do nothing;
+insert into sys_role_resource_rel(role_code, resource_code) values('P2P_NODE', 'PRJ_JOB_STOP_KUSCIA') on conflict do nothing;
+insert into sys_role_resource_rel(role_code, resource_code) values('P2P_NODE', 'PRJ_JOB_CONTINUE_KUSCIA') on conflict do nothing;
+insert into sys_role_resource_rel(role_code, resource_code) values('P2P_NODE', 'PRJ_JOB_PAUSE_KUSCIA') on conflict do nothing;
+insert into sys_role_resource_rel(role_code, resource_code) values('P2P_NODE', 'PRJ_EDGE_JOB_LIST') on conflict do nothing;
+insert into sys_role_resource_rel(role_code, resource_code) values('P2P_NODE', 'NODE_ROUTE_STATUS') on conflict do nothing;
+insert into sys_role_resource_rel(role_code, resource_code) values('P2P_NODE', 'DATA_COUNT_KUSCIA') on conflict do nothing;